@@ -0,0 +1,45 @@
+package com.example.jackpot.adapter.out.messaging.kafka;
+
+import com.example.jackpot.domain.model.Bet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BetMessageBenchmark {
+
+    private BetMessage message;
+    private Bet bet;
+
+    @Setup
+    public void setUp() {
+        message = new BetMessage(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("105.55"),
+                "EUR"
+        );
+        bet = message.toDomain();
+    }
+
+    @Benchmark
+    public Bet toDomain() {
+        return message.toDomain();
+    }
+
+    @Benchmark
+    public BetMessage from() {
+        return BetMessage.from(bet);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.jackpot.adapter.out.persistence.jdbc;
+
+import com.example.jackpot.JackpotApplication;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotJpaRepository;
+import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Saves a batch of bets and their contributions in one transaction, as the batch listener does.
+ * <p>
+ * {@code jpa-unbatched} sends one statement per row, {@code jpa-batched} lets Hibernate batch the entities with the
+ * high-throughput profile, and {@code jdbc} inserts the rows with {@link JdbcBulkWriter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkInsertBenchmark {
+
+    private static final Map<String, List<String>> MODES = Map.of(
+            "jpa-unbatched", List.of("--spring.jpa.properties.hibernate.jdbc.batch_size=1"),
+            "jpa-batched", List.of("--spring.profiles.active=high-throughput", "--jackpot.persistence.bulk-writer.mode=jpa"),
+            "jdbc", List.of("--spring.profiles.active=high-throughput")
+    );
+
+    @Param({"jpa-unbatched", "jpa-batched", "jdbc"})
+    private String mode;
+
+    @Param({"500"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private BetRepository betRepository;
+    private JackpotContributionRepository contributionRepository;
+    private JackpotId jackpotId;
+
+    private List<Bet> bets;
+    private List<JackpotContribution> contributions;
+
+    @Setup
+    public void startApplication() {
+        context = new SpringApplicationBuilder(JackpotApplication.class)
+                .run(Stream.concat(MODES.get(mode).stream(), Stream.of(
+                        "--spring.main.web-application-type=none",
+                        "--spring.kafka.listener.auto-startup=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN"
+                )).toArray(String[]::new));
+
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        betRepository = context.getBean(BetRepository.class);
+        contributionRepository = context.getBean(JackpotContributionRepository.class);
+        jackpotId = JackpotId.of(context.getBean(JackpotJpaRepository.class).findAll().getFirst().getId());
+    }
+
+    @Setup(Level.Invocation)
+    public void createBatch() {
+        bets = new ArrayList<>(size);
+        contributions = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Bet bet = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), jackpotId, Money.of("100.00", "EUR"));
+            bets.add(bet);
+            contributions.add(new JackpotContribution(
+                    bet.betId(),
+                    bet.userId(),
+                    JackpotCycle.of(jackpotId, CycleNumber.of(1)),
+                    bet.betAmount(),
+                    Money.of("5.00", "EUR"),
+                    Money.of("105.00", "EUR")
+            ));
+        }
+    }
+
+    @TearDown
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public void saveAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            betRepository.saveAll(bets);
+            contributionRepository.saveAll(contributions);
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jackpot.adapter.out.persistence.jpa.config;
+
+import com.example.jackpot.adapter.out.persistence.cache.JackpotStrategyCache;
+import com.example.jackpot.adapter.out.persistence.jpa.config.contribution.ContributionConfigMapper;
+import com.example.jackpot.adapter.out.persistence.jpa.config.reward.RewardConfigMapper;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigMapperBenchmark {
+
+    private static final String FIXED_CONTRIBUTION = "{\"type\":\"FIXED\",\"schemaVersion\":1,\"config\":{\"rate\":\"5.00\"}}";
+    private static final String VARIABLE_CONTRIBUTION = "{\"type\":\"VARIABLE\",\"schemaVersion\":1,\"config\":{\"startingRate\":\"8.00\",\"minimumRate\":\"2.00\",\"decayFactor\":\"0.15\"}}";
+    private static final String FIXED_REWARD = "{\"type\":\"FIXED_CHANCE\",\"schemaVersion\":1,\"config\":{\"chancePercent\":\"2.50\"}}";
+    private static final String VARIABLE_REWARD = "{\"type\":\"VARIABLE_CHANCE\",\"schemaVersion\":1,\"config\":{\"minPercent\":\"0.50\",\"maxPercent\":\"25.00\",\"minPool\":{\"amount\":\"500.00\",\"currency\":\"EUR\"},\"maxPool\":{\"amount\":\"5000.00\",\"currency\":\"EUR\"}}}";
+
+    private final UUID jackpotId = UUID.randomUUID();
+    private JackpotStrategyCache strategyCache;
+
+    @Setup
+    public void setUp() {
+        strategyCache = new JackpotStrategyCache(16);
+        strategyCache.get(jackpotId, VARIABLE_CONTRIBUTION, VARIABLE_REWARD);
+    }
+
+    @Benchmark
+    public ContributionCalculator fixedContribution() {
+        return ContributionConfigMapper.toDomain(FIXED_CONTRIBUTION);
+    }
+
+    @Benchmark
+    public ContributionCalculator variableContribution() {
+        return ContributionConfigMapper.toDomain(VARIABLE_CONTRIBUTION);
+    }
+
+    @Benchmark
+    public RewardEvaluator fixedReward() {
+        return RewardConfigMapper.toDomain(FIXED_REWARD);
+    }
+
+    @Benchmark
+    public RewardEvaluator variableReward() {
+        return RewardConfigMapper.toDomain(VARIABLE_REWARD);
+    }
+
+    @Benchmark
+    public JackpotStrategyCache.Strategies cachedStrategies() {
+        return strategyCache.get(jackpotId, VARIABLE_CONTRIBUTION, VARIABLE_REWARD);
+    }
+}
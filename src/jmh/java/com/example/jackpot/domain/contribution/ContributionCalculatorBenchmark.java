@@ -0,0 +1,50 @@
+package com.example.jackpot.domain.contribution;
+
+import com.example.jackpot.domain.model.vo.DecayFactor;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.model.vo.Percentage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContributionCalculatorBenchmark {
+
+    /**
+     * Pool growth above the initial pool; 0 keeps the variable rate at its start, 5000 decays it to the minimum.
+     */
+    @Param({"0", "50.00", "5000.00"})
+    public String poolGrowth;
+
+    private ContributionCalculator fixed;
+    private ContributionCalculator variable;
+    private ContributionContext ctx;
+
+    @Setup
+    public void setUp() {
+        fixed = new FixedContributionCalculator(Percentage.of("5.00"));
+        variable = new VariableContributionCalculator(Percentage.of("8.00"), Percentage.of("2.00"), DecayFactor.of("0.15"));
+
+        Money initialPool = Money.of("1000.00", "EUR");
+        ctx = new ContributionContext(Money.of("105.55", "EUR"), initialPool.plus(Money.of(poolGrowth, "EUR")), initialPool);
+    }
+
+    @Benchmark
+    public Money fixed() {
+        return fixed.calculate(ctx);
+    }
+
+    @Benchmark
+    public Money variable() {
+        return variable.calculate(ctx);
+    }
+}
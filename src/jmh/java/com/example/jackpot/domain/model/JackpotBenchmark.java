@@ -0,0 +1,72 @@
+package com.example.jackpot.domain.model;
+
+import com.example.jackpot.domain.contribution.FixedContributionCalculator;
+import com.example.jackpot.domain.contribution.VariableContributionCalculator;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.DecayFactor;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.model.vo.Percentage;
+import com.example.jackpot.domain.reward.FixedChanceRewardEvaluator;
+import com.example.jackpot.domain.reward.VariableChanceRewardEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One bet through a resident jackpot: contribution, reward evaluation and, on a win, the next cycle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JackpotBenchmark {
+
+    @Param({"FIXED", "VARIABLE"})
+    public String strategies;
+
+    private Jackpot jackpot;
+    private Bet bet;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Money initialPool = Money.of("1000.00", "EUR");
+
+        jackpot = switch (strategies) {
+            case "FIXED" -> new Jackpot(jackpotId, CycleNumber.of(1), initialPool,
+                    new FixedContributionCalculator(Percentage.of("5.00")),
+                    new FixedChanceRewardEvaluator(Percentage.of("0.10"), random::nextDouble));
+            case "VARIABLE" -> new Jackpot(jackpotId, CycleNumber.of(1), initialPool,
+                    new VariableContributionCalculator(Percentage.of("8.00"), Percentage.of("2.00"), DecayFactor.of("0.15")),
+                    new VariableChanceRewardEvaluator(Percentage.of("0.10"), Percentage.of("10.00"),
+                            Money.of("1000.00", "EUR"), Money.of("100000.00", "EUR"), random::nextDouble));
+            default -> throw new IllegalArgumentException(strategies);
+        };
+        bet = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), jackpotId, Money.of("105.55", "EUR"));
+    }
+
+    @Benchmark
+    public Optional<JackpotReward> contributeAndEvaluate() {
+        jackpot.contribute(bet);
+
+        Optional<JackpotReward> reward = jackpot.evaluateRewardFor(bet);
+        if (reward.isPresent()) {
+            jackpot.startNextCycle();
+        }
+
+        return reward;
+    }
+}
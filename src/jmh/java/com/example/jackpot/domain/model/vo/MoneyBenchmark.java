@@ -0,0 +1,58 @@
+package com.example.jackpot.domain.model.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private final Money pool = Money.of("12345.67", "EUR");
+    private final Money bet = Money.of("105.55", "EUR");
+    private final Percentage rate = Percentage.of("7.5");
+    private final BigDecimal factor = rate.fractionalValue();
+    private final BigDecimal rawAmount = new BigDecimal("105.555");
+
+    @Benchmark
+    public Money of() {
+        return Money.of(rawAmount, pool.currency());
+    }
+
+    @Benchmark
+    public Money plus() {
+        return pool.plus(bet);
+    }
+
+    @Benchmark
+    public Money minus() {
+        return pool.minus(bet);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return pool.compareTo(bet);
+    }
+
+    @Benchmark
+    public Money share() {
+        return bet.share(rate);
+    }
+
+    @Benchmark
+    public Money times() {
+        return bet.times(factor);
+    }
+
+    @Benchmark
+    public BigDecimal amount() {
+        return pool.amount();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.jackpot.domain.reward;
+
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.model.vo.Percentage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RewardEvaluatorBenchmark {
+
+    /**
+     * Current pool relative to the variable evaluator's [500, 5000] range: below, inside and at the cap.
+     */
+    @Param({"100.00", "2750.00", "5000.00"})
+    public String currentPool;
+
+    private RewardEvaluator fixed;
+    private RewardEvaluator variable;
+    private RewardContext ctx;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        fixed = new FixedChanceRewardEvaluator(Percentage.of("2.50"), random::nextDouble);
+        variable = new VariableChanceRewardEvaluator(
+                Percentage.of("0.50"),
+                Percentage.of("25.00"),
+                Money.of("500.00", "EUR"),
+                Money.of("5000.00", "EUR"),
+                random::nextDouble
+        );
+        ctx = new RewardContext(Money.of(currentPool, "EUR"));
+    }
+
+    @Benchmark
+    public boolean fixed() {
+        return fixed.evaluate(ctx);
+    }
+
+    @Benchmark
+    public boolean variable() {
+        return variable.evaluate(ctx);
+    }
+}
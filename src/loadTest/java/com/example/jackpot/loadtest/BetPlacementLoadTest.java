@@ -0,0 +1,146 @@
+package com.example.jackpot.loadtest;
+
+import com.example.jackpot.JackpotApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Measures throughput and latency of {@code POST /api/bets} for one thread configuration.
+ * <p>
+ * Starts an embedded Kafka broker and the application on a random port with the given arguments, warms it up and
+ * then sends {@code load.requests} bets from {@code load.concurrency} clients. The result is printed and written to
+ * {@code load.results-dir/<mode>.txt}. Run through {@code ./gradlew loadTest}, which starts one JVM per mode so
+ * that the virtual thread scheduler is configured from scratch each time.
+ * <p>
+ * Arguments: the mode name followed by application arguments.
+ */
+public final class BetPlacementLoadTest {
+
+    private static final String TOPIC = "jackpot-bets";
+    private static final int PARTITIONS = 4;
+    private static final String JACKPOT_ID = "11111111-1111-1111-1111-111111111111";
+
+    private BetPlacementLoadTest() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = args[0];
+        String[] applicationArgs = Arrays.copyOfRange(args, 1, args.length);
+
+        int requests = Integer.getInteger("load.requests", 20_000);
+        int warmup = Integer.getInteger("load.warmup", 5_000);
+        int concurrency = Integer.getInteger("load.concurrency", 64);
+        Path resultsDir = Path.of(System.getProperty("load.results-dir", "build/results/loadTest"));
+
+        EmbeddedKafkaKraftBroker broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JackpotApplication.class)
+                .run(Stream.concat(Arrays.stream(applicationArgs), Stream.of(
+                        "--server.port=0",
+                        "--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN"
+                )).toArray(String[]::new))) {
+
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/bets");
+
+            run(uri, warmup, concurrency);
+            Result result = run(uri, requests, concurrency);
+
+            String report = "%-16s requests=%d concurrency=%d errors=%d throughput=%.0f/s p50=%.2fms p99=%.2fms".formatted(
+                    mode, requests, concurrency, result.errors(), result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99));
+
+            System.out.println(report);
+            Files.createDirectories(resultsDir);
+            Files.writeString(resultsDir.resolve(mode + ".txt"), report + System.lineSeparator());
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    private static Result run(URI uri, int requests, int concurrency) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        // platform threads, so that the client does not start the virtual thread scheduler before the application
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try (HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build()) {
+            long start = System.nanoTime();
+
+            for (int i = 0; i < concurrency; i++) {
+                clients.execute(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long sent = System.nanoTime();
+                        if (!place(http, uri)) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - sent;
+                    }
+                });
+            }
+
+            clients.shutdown();
+            if (!clients.awaitTermination(10, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("Load test did not finish within 10 minutes");
+            }
+
+            return new Result(latencies, errors.get(), System.nanoTime() - start);
+        }
+    }
+
+    private static boolean place(HttpClient http, URI uri) {
+        String body = """
+                {"betId":"%s","userId":"%s","jackpotId":"%s","betAmount":{"amount":"10.00","currency":"EUR"}}
+                """.formatted(UUID.randomUUID(), UUID.randomUUID(), JACKPOT_ID);
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 202;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Result(long[] latencies, int errors, long elapsedNanos) {
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
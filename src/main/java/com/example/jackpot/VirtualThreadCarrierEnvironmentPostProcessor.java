@@ -0,0 +1,52 @@
+package com.example.jackpot;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+
+/**
+ * Bounds the carrier threads virtual threads are scheduled on.
+ * <p>
+ * The JDK reads the scheduler size from system properties once, when the first virtual thread starts, so
+ * {@code jackpot.threads.carrier.*} is copied to them before any bean is created. Values given as JVM options
+ * take precedence, and 0 keeps the JDK default.
+ */
+public class VirtualThreadCarrierEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PARALLELISM = "jdk.virtualThreadScheduler.parallelism";
+    static final String MAX_POOL_SIZE = "jdk.virtualThreadScheduler.maxPoolSize";
+
+    private final Log log;
+
+    public VirtualThreadCarrierEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(VirtualThreadCarrierEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        bound(environment, "jackpot.threads.carrier.parallelism", PARALLELISM);
+        bound(environment, "jackpot.threads.carrier.max-pool-size", MAX_POOL_SIZE);
+    }
+
+    private void bound(ConfigurableEnvironment environment, String property, String systemProperty) {
+        int value = environment.getProperty(property, Integer.class, 0);
+        isTrue(value >= 0, "%s must not be negative".formatted(property));
+
+        if (value == 0) {
+            return;
+        }
+
+        String current = System.getProperty(systemProperty);
+        if (current != null) {
+            log.info("Keeping %s=%s, ignoring %s=%d".formatted(systemProperty, current, property, value));
+            return;
+        }
+
+        System.setProperty(systemProperty, Integer.toString(value));
+        log.info("Virtual thread carriers bounded with %s=%d".formatted(systemProperty, value));
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.jackpot.adapter.in.cli;
+
+import com.example.jackpot.adapter.out.persistence.jpa.config.JsonJackpotStrategyFactory;
+import com.example.jackpot.application.port.in.BetSizeDistribution;
+import com.example.jackpot.application.port.in.SimulationParameters;
+import com.example.jackpot.application.port.in.SimulationReport;
+import com.example.jackpot.application.port.in.SimulationReport.Percentiles;
+import com.example.jackpot.application.service.DefaultJackpotSimulationService;
+import com.example.jackpot.domain.model.vo.Money;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Command line front end of the jackpot simulator, run without starting the application:
+ * <pre>
+ * ./gradlew simulate --args="--contribution=contribution.json --reward=reward.json --initial-pool=1000.00 --currency=EUR \
+ *     --bet-size=log-normal:2.00:1.0 --bets=10000000 [--workers=16] [--seed=42] [--parallelism=0]"
+ * </pre>
+ * {@code --contribution} and {@code --reward} take the path of a config JSON file, or the JSON itself.
+ * {@code --bet-size} is one of {@code fixed:<amount>}, {@code uniform:<min>:<max>} or {@code log-normal:<median>:<sigma>}.
+ */
+public final class JackpotSimulationCli {
+
+    static final int DEFAULT_WORKERS = 16;
+    static final long DEFAULT_SEED = 42;
+
+    private static final Set<String> OPTIONS = Set.of("contribution", "reward", "initial-pool", "currency", "bet-size",
+            "bets", "workers", "seed", "parallelism");
+
+    private JackpotSimulationCli() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static void main(String[] args) {
+        LoggingSystem.get(JackpotSimulationCli.class.getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.INFO);
+
+        Map<String, String> options;
+        SimulationParameters parameters;
+        try {
+            options = options(args);
+            parameters = parameters(options);
+        } catch (RuntimeException ex) {
+            System.err.println(ex.getMessage());
+            System.err.println("Usage: --contribution=<file|json> --reward=<file|json> --initial-pool=<amount> --currency=<code> "
+                    + "--bet-size=<fixed:amount|uniform:min:max|log-normal:median:sigma> --bets=<count> "
+                    + "[--workers=<count>] [--seed=<seed>] [--parallelism=<threads>]");
+            System.exit(2);
+            return;
+        }
+
+        int parallelism = Integer.parseInt(options.getOrDefault("parallelism", "0"));
+        SimulationReport report = new DefaultJackpotSimulationService(new JsonJackpotStrategyFactory(), parallelism).simulate(parameters);
+
+        System.out.print(format(parameters, report));
+    }
+
+    static Map<String, String> options(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --<option>=<value> but got '%s'".formatted(arg));
+            }
+
+            String name = arg.substring(2, separator);
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option '--%s'".formatted(name));
+            }
+            options.put(name, arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    static SimulationParameters parameters(Map<String, String> options) {
+        String currency = required(options, "currency");
+
+        return new SimulationParameters(
+                config(required(options, "contribution")),
+                config(required(options, "reward")),
+                Money.of(required(options, "initial-pool"), currency),
+                betSizes(required(options, "bet-size"), currency),
+                Long.parseLong(required(options, "bets")),
+                Integer.parseInt(options.getOrDefault("workers", Integer.toString(DEFAULT_WORKERS))),
+                Long.parseLong(options.getOrDefault("seed", Long.toString(DEFAULT_SEED)))
+        );
+    }
+
+    static BetSizeDistribution betSizes(String value, String currency) {
+        String[] parts = value.split(":");
+
+        return switch (parts[0].toLowerCase()) {
+            case "fixed" -> {
+                expectParts(value, parts, 2);
+                yield new BetSizeDistribution.Fixed(Money.of(parts[1], currency));
+            }
+            case "uniform" -> {
+                expectParts(value, parts, 3);
+                yield new BetSizeDistribution.Uniform(Money.of(parts[1], currency), Money.of(parts[2], currency));
+            }
+            case "log-normal" -> {
+                expectParts(value, parts, 3);
+                yield new BetSizeDistribution.LogNormal(Money.of(parts[1], currency), Double.parseDouble(parts[2]));
+            }
+            default -> throw new IllegalArgumentException("Unsupported bet size distribution: '%s'".formatted(parts[0]));
+        };
+    }
+
+    static String format(SimulationParameters parameters, SimulationReport report) {
+        StringBuilder out = new StringBuilder()
+                .append("bets                        %d (%d workers, seed %d)%n".formatted(report.bets(), parameters.workers(), parameters.seed()))
+                .append("cycles                      %d%n".formatted(report.cycles()))
+                .append("staked                      %s%n".formatted(money(report.staked())))
+                .append("contributed                 %s%n".formatted(money(report.contributed())))
+                .append("paid out                    %s%n".formatted(money(report.paidOut())))
+                .append("effective contribution rate %s%n".formatted(report.effectiveContributionRate().toPlainString()))
+                .append("return to player            %s%n".formatted(report.returnToPlayer().toPlainString()));
+
+        append(out, "cycle length (bets)", report.cycleLength());
+        append(out, "payout (%s)".formatted(parameters.initialPool().currency().getCurrencyCode()), report.payout());
+
+        return out.append("elapsed                     %d ms%n".formatted(report.elapsed().toMillis())).toString();
+    }
+
+    private static void append(StringBuilder out, String title, Optional<Percentiles> percentiles) {
+        out.append("%-28s".formatted(title));
+        percentiles.ifPresentOrElse(
+                p -> out.append("mean %s  min %s  p50 %s  p90 %s  p99 %s  max %s%n".formatted(
+                        p.mean().toPlainString(), p.min().toPlainString(), p.p50().toPlainString(),
+                        p.p90().toPlainString(), p.p99().toPlainString(), p.max().toPlainString())),
+                () -> out.append("no completed cycle").append(System.lineSeparator()));
+    }
+
+    private static String money(Money money) {
+        return "%s %s".formatted(money.amount().toPlainString(), money.currency().getCurrencyCode());
+    }
+
+    private static String config(String value) {
+        if (value.stripLeading().startsWith("{")) {
+            return value;
+        }
+
+        try {
+            return Files.readString(Path.of(value));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read config %s".formatted(value), ex);
+        }
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing option '--%s'".formatted(name));
+        }
+        return value;
+    }
+
+    private static void expectParts(String value, String[] parts, int count) {
+        if (parts.length != count) {
+            throw new IllegalArgumentException("Malformed bet size distribution: '%s'".formatted(value));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.jackpot.adapter.in.messaging.kafka;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import com.example.jackpot.application.port.in.BetBatchConsumer;
+import com.example.jackpot.application.port.in.BetBatchProcessingService;
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch variant of {@link KafkaBetConsumer}, enabled with {@code jackpot.kafka.consumer.mode=batch}.
+ * <p>
+ * When some bets of a poll fail, the lowest failed index is reported through {@link BatchListenerFailedException}:
+ * offsets before it are committed and only the remainder is redelivered, where already processed bets are skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "batch")
+public class KafkaBetBatchConsumer implements BetBatchConsumer {
+
+    private final BetBatchProcessingService betBatchProcessingService;
+
+    @KafkaListener(
+            topics = "${jackpot.kafka.topic.bets:jackpot-bets}",
+            groupId = "${spring.kafka.consumer.group-id:jackpot-bet-processing-group}",
+            containerFactory = "betBatchListenerContainerFactory"
+    )
+    @Override
+    public void onMessages(@Payload List<BetMessage> messages) {
+        log.info("Consumed batch of {} BetMessages", messages.size());
+
+        List<Bet> bets = new ArrayList<>(messages.size());
+        Map<BetId, Integer> indexByBetId = new HashMap<>();
+        int firstFailedIndex = -1;
+        RuntimeException firstFailure = null;
+
+        for (int i = 0; i < messages.size(); i++) {
+            BetMessage msg = messages.get(i);
+            try {
+                Bet bet = msg.toDomain();
+
+                bets.add(bet);
+                indexByBetId.putIfAbsent(bet.betId(), i);
+            } catch (RuntimeException ex) {
+                log.error("Failed to map BetMessage (betId={}, jackpotId={}): {}", msg.betId(), msg.jackpotId(), ex.getMessage(), ex);
+
+                if (firstFailedIndex < 0) {
+                    firstFailedIndex = i;
+                    firstFailure = ex;
+                }
+            }
+        }
+
+        BetBatchResult result = betBatchProcessingService.processAll(bets);
+
+        for (Map.Entry<BetId, RuntimeException> failure : result.failures().entrySet()) {
+            int index = indexByBetId.get(failure.getKey());
+
+            if (firstFailedIndex < 0 || index < firstFailedIndex) {
+                firstFailedIndex = index;
+                firstFailure = failure.getValue();
+            }
+        }
+
+        if (firstFailure != null) {
+            BetMessage failed = messages.get(firstFailedIndex);
+
+            throw new BatchListenerFailedException("Failed to process BetMessage (betId=%s, jackpotId=%s)".formatted(failed.betId(), failed.jackpotId()), firstFailure, firstFailedIndex);
+        }
+    }
+}
@@ -4,18 +4,34 @@ import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
 import com.example.jackpot.application.port.in.BetConsumer;
 import com.example.jackpot.application.port.in.BetProcessingService;
 import com.example.jackpot.domain.model.Bet;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+/**
+ * Processes one bet per record, timing each as {@code jackpot.bet.processing{outcome}}.
+ * Consumer lag is reported by the Kafka client metrics ({@code kafka.consumer.fetch.manager.records.lag.max}).
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "record", matchIfMissing = true)
 public class KafkaBetConsumer implements BetConsumer {
 
     private final BetProcessingService betProcessingService;
+    private final MeterRegistry registry;
+    private final Timer processingSuccess;
+    private final Timer processingFailure;
+
+    public KafkaBetConsumer(BetProcessingService betProcessingService, MeterRegistry registry) {
+        this.betProcessingService = betProcessingService;
+        this.registry = registry;
+        this.processingSuccess = processingTimer(registry, "success");
+        this.processingFailure = processingTimer(registry, "failure");
+    }
 
     @KafkaListener(
             topics = "${jackpot.kafka.topic.bets:jackpot-bets}",
@@ -25,13 +41,26 @@ public class KafkaBetConsumer implements BetConsumer {
     public void onMessage(@Payload BetMessage msg) {
         log.info("Consumed BetMessage: {}", msg);
 
+        Timer.Sample sample = Timer.start(registry);
         try {
             Bet bet = msg.toDomain();
 
             betProcessingService.process(bet);
+
+            sample.stop(processingSuccess);
         } catch (Exception ex) {
+            sample.stop(processingFailure);
+
             log.error("Failed to process BetMessage (betId={}, jackpotId={}): {}", msg.betId(), msg.jackpotId(), ex.getMessage(), ex);
             throw ex;
         }
     }
+
+    private static Timer processingTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("jackpot.bet.processing")
+                .description("Time to process a single consumed bet")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
 }
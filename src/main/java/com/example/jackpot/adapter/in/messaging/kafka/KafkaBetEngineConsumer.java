@@ -0,0 +1,122 @@
+package com.example.jackpot.adapter.in.messaging.kafka;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.application.port.in.JackpotEngine;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine variant of {@link KafkaBetConsumer}, enabled with {@code jackpot.kafka.consumer.mode=engine}.
+ * <p>
+ * Each poll is split by partition and handed to the {@link JackpotEngine} owning that partition's jackpots. A partition
+ * that fails does not keep the others from being applied. Bets that cannot be mapped, whose jackpot does not exist or
+ * that the domain rejects are logged and skipped, as they would fail again. For any other failure, the lowest failed
+ * index is reported through {@link BatchListenerFailedException} once every partition has been handed off: offsets
+ * before it are committed and the remainder is redelivered, where bets the engine already applied are skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "engine")
+public class KafkaBetEngineConsumer {
+
+    private final JackpotEngine jackpotEngine;
+
+    @KafkaListener(
+            topics = "${jackpot.kafka.topic.bets:jackpot-bets}",
+            groupId = "${spring.kafka.consumer.group-id:jackpot-bet-processing-group}",
+            containerFactory = "betEngineListenerContainerFactory"
+    )
+    public void onRecords(List<ConsumerRecord<String, BetMessage>> records) {
+        log.info("Consumed batch of {} BetMessages", records.size());
+
+        Map<Integer, List<Bet>> betsByPartition = new LinkedHashMap<>();
+        Map<Integer, Long> lastOffsets = new HashMap<>();
+        Map<Integer, Integer> firstIndexByPartition = new HashMap<>();
+        Map<BetId, Integer> indexByBetId = new HashMap<>();
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, BetMessage> record = records.get(i);
+            lastOffsets.merge(record.partition(), record.offset(), Math::max);
+            firstIndexByPartition.putIfAbsent(record.partition(), i);
+
+            BetMessage msg = record.value();
+            try {
+                Bet bet = msg.toDomain();
+
+                betsByPartition.computeIfAbsent(record.partition(), p -> new ArrayList<>()).add(bet);
+                indexByBetId.putIfAbsent(bet.betId(), i);
+            } catch (RuntimeException ex) {
+                log.error("Skipping unmappable BetMessage (betId={}, jackpotId={}) at {}-{}@{}: {}", msg.betId(), msg.jackpotId(), record.topic(), record.partition(), record.offset(), ex.getMessage(), ex);
+            }
+        }
+
+        int firstFailedIndex = -1;
+        RuntimeException firstFailure = null;
+
+        for (Map.Entry<Integer, List<Bet>> entry : betsByPartition.entrySet()) {
+            int partition = entry.getKey();
+            List<Bet> bets = entry.getValue();
+
+            BetBatchResult result;
+            try {
+                result = jackpotEngine.apply(partition, bets, lastOffsets.get(partition));
+            } catch (RuntimeException ex) {
+                log.error("Failed to apply {} bets on partition={}, they will be redelivered: {}", bets.size(), partition, ex.getMessage(), ex);
+
+                int index = firstIndexByPartition.get(partition);
+                if (firstFailedIndex < 0 || index < firstFailedIndex) {
+                    firstFailedIndex = index;
+                    firstFailure = ex;
+                }
+                continue;
+            }
+
+            int skipped = 0;
+            for (Map.Entry<BetId, RuntimeException> failure : result.failures().entrySet()) {
+                if (isPermanent(failure.getValue())) {
+                    skipped++;
+                    continue;
+                }
+
+                int index = indexByBetId.get(failure.getKey());
+                if (firstFailedIndex < 0 || index < firstFailedIndex) {
+                    firstFailedIndex = index;
+                    firstFailure = failure.getValue();
+                }
+            }
+
+            if (skipped > 0) {
+                log.warn("Skipped {} of {} bets on partition={}", skipped, bets.size(), partition);
+            }
+        }
+
+        if (firstFailure != null) {
+            BetMessage failed = records.get(firstFailedIndex).value();
+
+            throw new BatchListenerFailedException("Failed to process BetMessage (betId=%s, jackpotId=%s)".formatted(failed.betId(), failed.jackpotId()), firstFailure, firstFailedIndex);
+        }
+    }
+
+    /**
+     * Whether the bet would fail the same way when redelivered: its jackpot does not exist or the domain rejects it.
+     */
+    private static boolean isPermanent(RuntimeException ex) {
+        return ex instanceof JackpotNotFoundException || ex instanceof IllegalArgumentException;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.jackpot.adapter.in.messaging.kafka;
+
+import com.example.jackpot.application.port.in.JackpotEngine;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Keeps {@link JackpotEngine} ownership in line with the partitions assigned to this consumer.
+ * <p>
+ * Ownership of a jackpot follows the default producer partitioner applied to its key (the jackpot id),
+ * which is how {@code KafkaBetProducer} routes bets. The engine is told the position consumption resumes at, so it can
+ * tell bets that will be redelivered from those it must recover itself.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "engine")
+public class KafkaEngineRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final JackpotEngine jackpotEngine;
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        partitions.forEach(tp -> jackpotEngine.revoke(tp.partition()));
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        partitions.forEach(tp -> jackpotEngine.revoke(tp.partition()));
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        for (TopicPartition tp : partitions) {
+            int partitionCount = consumer.partitionsFor(tp.topic()).size();
+
+            log.info("Rebuilding jackpot ownership for {} of {} partitions", tp, partitionCount);
+
+            jackpotEngine.assign(tp.partition(), jackpotId -> partitionFor(jackpotId, partitionCount) == tp.partition(), consumer.position(tp));
+        }
+    }
+
+    static int partitionFor(JackpotId jackpotId, int partitionCount) {
+        byte[] key = jackpotId.value().toString().getBytes(StandardCharsets.UTF_8);
+
+        return Utils.toPositive(Utils.murmur2(key)) % partitionCount;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.jackpot.adapter.in.messaging.kafka.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * Listener container factory delivering a whole poll to {@code KafkaBetBatchConsumer}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "batch")
+public class KafkaBatchListenerConfig {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> betBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+
+        return factory;
+    }
+}
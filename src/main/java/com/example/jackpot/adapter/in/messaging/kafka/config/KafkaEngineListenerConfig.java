@@ -0,0 +1,40 @@
+package com.example.jackpot.adapter.in.messaging.kafka.config;
+
+import com.example.jackpot.adapter.in.messaging.kafka.KafkaEngineRebalanceListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+/**
+ * Listener container factory delivering a whole poll to {@code KafkaBetEngineConsumer},
+ * with partition ownership tracked by {@link KafkaEngineRebalanceListener}.
+ * <p>
+ * The engine writes whole jackpot rows, so it refuses to start with {@code jackpot.persistence.pool-update=striped}
+ * or {@code event-sourced}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "engine")
+public class KafkaEngineListenerConfig {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> betEngineListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            KafkaEngineRebalanceListener rebalanceListener,
+            @Value("${jackpot.persistence.pool-update:versioned}") String poolUpdate) {
+        if (poolUpdate.equals("striped") || poolUpdate.equals("event-sourced")) {
+            throw new IllegalStateException("jackpot.kafka.consumer.mode=engine does not support jackpot.persistence.pool-update=%s".formatted(poolUpdate));
+        }
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setConsumerRebalanceListener(rebalanceListener);
+
+        return factory;
+    }
+}
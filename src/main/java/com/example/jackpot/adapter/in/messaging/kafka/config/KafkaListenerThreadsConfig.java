@@ -0,0 +1,37 @@
+package com.example.jackpot.adapter.in.messaging.kafka.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+
+/**
+ * Runs each listener consumer on a virtual thread.
+ * <p>
+ * Every listener container, whatever the consumer mode, starts {@code jackpot.threads.listener-concurrency}
+ * consumers. With one consumer per partition of the bets topic, each partition is polled and processed on its own
+ * virtual thread, and a consumer blocked on the database no longer holds a platform thread.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jackpot.threads.listener", havingValue = "virtual")
+public class KafkaListenerThreadsConfig {
+
+    @Bean
+    public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> virtualThreadContainerCustomizer(
+            @Value("${jackpot.threads.listener-concurrency:1}") int concurrency) {
+        isTrue(concurrency > 0, "concurrency must be positive");
+
+        return container -> {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("jackpot-kafka-");
+            executor.setVirtualThreads(true);
+
+            container.setConcurrency(concurrency);
+            container.getContainerProperties().setListenerTaskExecutor(executor);
+        };
+    }
+}
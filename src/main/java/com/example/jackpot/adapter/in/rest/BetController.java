@@ -1,19 +1,36 @@
 package com.example.jackpot.adapter.in.rest;
 
+import com.example.jackpot.adapter.in.rest.dto.BetBatchItemResponse;
+import com.example.jackpot.adapter.in.rest.dto.BetBatchResponse;
 import com.example.jackpot.adapter.in.rest.dto.BetRequest;
 import com.example.jackpot.adapter.in.rest.dto.RewardResponse;
 import com.example.jackpot.adapter.in.rest.dto.mapper.BetMapper;
 import com.example.jackpot.adapter.in.rest.dto.mapper.MoneyMapper;
+import com.example.jackpot.application.port.in.BetPlacementResult;
 import com.example.jackpot.application.port.in.PlaceBetService;
 import com.example.jackpot.application.port.in.RewardQueryService;
-import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
 import com.example.jackpot.domain.model.id.BetId;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Optional;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/bets")
@@ -22,6 +39,14 @@ public class BetController {
 
     private final PlaceBetService placeBetService;
     private final RewardQueryService rewardQueryService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${jackpot.rest.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${jackpot.rest.reward.max-wait:25s}")
+    private Duration maxRewardWait;
 
     @PostMapping
     public ResponseEntity<Void> place(@Valid @RequestBody BetRequest request) {
@@ -30,11 +55,190 @@ public class BetController {
         return ResponseEntity.accepted().build();
     }
 
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BetBatchResponse> placeBatch(@RequestBody List<JsonNode> elements) {
+        checkBatchSize(elements.size());
+
+        List<BetRequest> requests = new ArrayList<>(elements.size());
+        for (JsonNode element : elements) {
+            requests.add(parseElement(element));
+        }
+
+        return ResponseEntity.accepted().body(placeAll(requests));
+    }
+
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BetBatchResponse> placeBatchNdjson(Reader body) throws IOException {
+        List<BetRequest> requests = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(body)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                checkBatchSize(requests.size() + 1);
+
+                requests.add(parseLine(line));
+            }
+        }
+
+        return ResponseEntity.accepted().body(placeAll(requests));
+    }
+
     @GetMapping("/{betId}/reward")
     public ResponseEntity<RewardResponse> reward(@PathVariable String betId) {
-        Optional<JackpotReward> reward = rewardQueryService.findByBetId(BetId.of(betId));
+        Optional<BetOutcome> outcome = rewardQueryService.findOutcomeByBetId(BetId.of(betId));
+
+        return ResponseEntity.ok(toResponse(outcome));
+    }
+
+    /**
+     * Long-poll variant: answers as soon as the bet is processed, or after {@code wait} seconds at the latest, then
+     * possibly still {@code PENDING}.
+     */
+    @GetMapping(path = "/{betId}/reward", params = "wait")
+    public CompletableFuture<ResponseEntity<RewardResponse>> awaitReward(@PathVariable String betId, @RequestParam("wait") int waitSeconds) {
+        return rewardQueryService.awaitOutcomeByBetId(BetId.of(betId), rewardWait(waitSeconds))
+                .thenApply(outcome -> ResponseEntity.ok(toResponse(outcome)));
+    }
+
+    /**
+     * Server-Sent Events variant: sends a single {@code reward} event once the bet is processed, or after
+     * {@code wait} seconds at the latest, and closes the stream.
+     */
+    @GetMapping(path = "/{betId}/reward/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReward(@PathVariable String betId, @RequestParam(name = "wait", required = false) Integer waitSeconds) {
+        Duration wait = waitSeconds == null ? maxRewardWait : rewardWait(waitSeconds);
+        CompletableFuture<Optional<BetOutcome>> outcome = rewardQueryService.awaitOutcomeByBetId(BetId.of(betId), wait);
+
+        SseEmitter emitter = new SseEmitter(wait.plusSeconds(5).toMillis());
+        outcome.whenComplete((o, ex) -> {
+            if (ex != null) {
+                emitter.completeWithError(ex);
+                return;
+            }
+
+            try {
+                emitter.send(SseEmitter.event().name("reward").data(toResponse(o), MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException | IllegalStateException sendFailure) {
+                emitter.completeWithError(sendFailure);
+            }
+        });
+
+        return emitter;
+    }
+
+    private static RewardResponse toResponse(Optional<BetOutcome> outcome) {
+        if (outcome.isEmpty()) {
+            return RewardResponse.pending();
+        }
+
+        return outcome.get().rewardAmount()
+                .map(amount -> RewardResponse.win(MoneyMapper.toDto(amount)))
+                .orElseGet(RewardResponse::noWin);
+    }
+
+    private Duration rewardWait(int waitSeconds) {
+        if (waitSeconds < 1 || waitSeconds > maxRewardWait.toSeconds()) {
+            throw new IllegalArgumentException("wait must be between 1 and %d seconds".formatted(maxRewardWait.toSeconds()));
+        }
+
+        return Duration.ofSeconds(waitSeconds);
+    }
+
+    /**
+     * Validates every request on its own and places the valid ones with a single {@link PlaceBetService#placeAll} call.
+     * A {@code null} request stands for an item that could not be read.
+     */
+    private BetBatchResponse placeAll(List<BetRequest> requests) {
+        BetBatchItemResponse[] items = new BetBatchItemResponse[requests.size()];
+        List<Bet> bets = new ArrayList<>(requests.size());
+        List<Integer> betIndexes = new ArrayList<>(requests.size());
+        Set<BetId> seen = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BetRequest request = requests.get(i);
+            if (request == null) {
+                items[i] = BetBatchItemResponse.invalid(i, null, Map.of("request", "must be a valid bet JSON object"));
+                continue;
+            }
+
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                items[i] = BetBatchItemResponse.invalid(i, request.betId(), errors);
+                continue;
+            }
+
+            Bet bet;
+            try {
+                bet = BetMapper.toDomain(request);
+            } catch (RuntimeException ex) {
+                items[i] = BetBatchItemResponse.invalid(i, request.betId(), Map.of("request", String.valueOf(ex.getMessage())));
+                continue;
+            }
+
+            if (!seen.add(bet.betId())) {
+                items[i] = BetBatchItemResponse.duplicate(i, request.betId());
+                continue;
+            }
+
+            bets.add(bet);
+            betIndexes.add(i);
+        }
+
+        if (!bets.isEmpty()) {
+            BetPlacementResult result = placeBetService.placeAll(bets);
+
+            for (int j = 0; j < bets.size(); j++) {
+                int i = betIndexes.get(j);
+                String betId = requests.get(i).betId();
+
+                items[i] = result.isDuplicate(bets.get(j).betId())
+                        ? BetBatchItemResponse.duplicate(i, betId)
+                        : BetBatchItemResponse.accepted(i, betId);
+            }
+        }
+
+        return BetBatchResponse.of(List.of(items));
+    }
+
+    private Map<String, String> validate(BetRequest request) {
+        Set<ConstraintViolation<BetRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> errors = new HashMap<>();
+        violations.forEach(v -> errors.put(v.getPropertyPath().toString(), v.getMessage()));
+
+        return errors;
+    }
+
+    private BetRequest parseLine(String line) {
+        try {
+            return objectMapper.readValue(line, BetRequest.class);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private BetRequest parseElement(JsonNode element) {
+        if (element == null || !element.isObject()) {
+            return null;
+        }
+
+        try {
+            return objectMapper.treeToValue(element, BetRequest.class);
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
 
-        return reward.map(r -> ResponseEntity.ok(RewardResponse.win(MoneyMapper.toDto(r.rewardAmount()))))
-                .orElseGet(() -> ResponseEntity.ok(RewardResponse.noWin()));
+    private void checkBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw new IllegalArgumentException("Batch of %d bets exceeds the limit of %d".formatted(size, maxBatchSize));
+        }
     }
 }
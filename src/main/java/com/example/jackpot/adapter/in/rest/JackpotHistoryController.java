@@ -0,0 +1,45 @@
+package com.example.jackpot.adapter.in.rest;
+
+import com.example.jackpot.adapter.in.rest.dto.JackpotStateResponse;
+import com.example.jackpot.adapter.in.rest.dto.mapper.MoneyMapper;
+import com.example.jackpot.application.port.in.JackpotHistoryService;
+import com.example.jackpot.application.port.in.JackpotState;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+/**
+ * Admin endpoint rebuilding the state of a jackpot as of a point in time from its event log, e.g. to audit a payout.
+ * Only available with {@code jackpot.persistence.pool-update=event-sourced}.
+ */
+@RestController
+@RequestMapping("/admin/jackpots")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.persistence.pool-update", havingValue = "event-sourced")
+public class JackpotHistoryController {
+
+    private final JackpotHistoryService historyService;
+
+    @GetMapping("/{jackpotId}/state")
+    public ResponseEntity<JackpotStateResponse> stateAt(@PathVariable String jackpotId,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        JackpotState state = historyService.stateAt(JackpotId.of(jackpotId), at);
+
+        return ResponseEntity.ok(new JackpotStateResponse(
+                state.jackpotId().value().toString(),
+                state.at(),
+                state.sequence(),
+                state.cycle().value(),
+                MoneyMapper.toDto(state.pool())
+        ));
+    }
+}
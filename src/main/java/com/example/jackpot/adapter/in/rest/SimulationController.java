@@ -0,0 +1,58 @@
+package com.example.jackpot.adapter.in.rest;
+
+import com.example.jackpot.adapter.in.rest.dto.SimulationRequest;
+import com.example.jackpot.adapter.in.rest.dto.SimulationResponse;
+import com.example.jackpot.adapter.in.rest.dto.mapper.SimulationMapper;
+import com.example.jackpot.application.port.in.JackpotSimulationService;
+import com.example.jackpot.application.port.in.SimulationParameters;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Admin endpoint running the jackpot simulator on a contribution/reward config pair before it is rolled out.
+ * The simulation runs while the request waits, so its size is capped by {@code jackpot.simulation.max-bets}.
+ */
+@RestController
+@RequestMapping("/admin/simulations")
+@RequiredArgsConstructor
+public class SimulationController {
+
+    private final JackpotSimulationService simulationService;
+
+    @Value("${jackpot.simulation.max-bets:10000000}")
+    private long maxBets;
+
+    @Value("${jackpot.simulation.max-workers:256}")
+    private int maxWorkers;
+
+    @Value("${jackpot.simulation.workers:16}")
+    private int defaultWorkers;
+
+    /**
+     * Without a seed a random one is used; it is returned with the report, so the run can be repeated.
+     */
+    @PostMapping
+    public ResponseEntity<SimulationResponse> simulate(@Valid @RequestBody SimulationRequest request) {
+        if (request.bets() > maxBets) {
+            throw new IllegalArgumentException("Simulation of %d bets exceeds the limit of %d".formatted(request.bets(), maxBets));
+        }
+
+        int workers = request.workers() == null ? defaultWorkers : request.workers();
+        if (workers > maxWorkers) {
+            throw new IllegalArgumentException("Simulation on %d workers exceeds the limit of %d".formatted(workers, maxWorkers));
+        }
+
+        long seed = request.seed() == null ? ThreadLocalRandom.current().nextLong() : request.seed();
+        SimulationParameters parameters = SimulationMapper.toDomain(request, workers, seed);
+
+        return ResponseEntity.ok(SimulationMapper.toDto(parameters, simulationService.simulate(parameters)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.jackpot.adapter.in.rest.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -31,6 +32,13 @@ public class RestExceptionHandler {
         return buildErrorResponse("Validation failed", HttpStatus.BAD_REQUEST, fieldErrors);
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        log.warn("Request conflicts with stored data: {}", ex.getMostSpecificCause().getMessage());
+
+        return buildErrorResponse("Request conflicts with stored data", HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
         log.error("Unexpected runtime exception", ex);
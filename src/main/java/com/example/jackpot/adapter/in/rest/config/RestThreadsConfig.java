@@ -0,0 +1,23 @@
+package com.example.jackpot.adapter.in.rest.config;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs every request on its own virtual thread instead of the Tomcat worker pool.
+ * <p>
+ * Unlike {@code spring.threads.virtual.enabled}, this leaves the Kafka listeners and the scheduled outbox relay on
+ * their own threads, so the request and listener execution models can be chosen independently.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jackpot.threads.rest", havingValue = "virtual")
+public class RestThreadsConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("jackpot-http-"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jackpot.adapter.in.rest.dto;
+
+import java.util.Map;
+
+public record BetBatchItemResponse(int index, String betId, Status status, Map<String, String> errors) {
+
+    public enum Status {
+        ACCEPTED,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static BetBatchItemResponse accepted(int index, String betId) {
+        return new BetBatchItemResponse(index, betId, Status.ACCEPTED, null);
+    }
+
+    public static BetBatchItemResponse duplicate(int index, String betId) {
+        return new BetBatchItemResponse(index, betId, Status.DUPLICATE, null);
+    }
+
+    public static BetBatchItemResponse invalid(int index, String betId, Map<String, String> errors) {
+        return new BetBatchItemResponse(index, betId, Status.INVALID, errors);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.jackpot.adapter.in.rest.dto;
+
+import java.util.List;
+
+public record BetBatchResponse(int accepted, int duplicates, int invalid, List<BetBatchItemResponse> items) {
+
+    public static BetBatchResponse of(List<BetBatchItemResponse> items) {
+        int accepted = 0;
+        int duplicates = 0;
+        int invalid = 0;
+
+        for (BetBatchItemResponse item : items) {
+            switch (item.status()) {
+                case ACCEPTED -> accepted++;
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+            }
+        }
+
+        return new BetBatchResponse(accepted, duplicates, invalid, items);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.jackpot.adapter.in.rest.dto;
+
+import com.example.jackpot.adapter.in.rest.dto.validation.ValidAmount;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Bet-size distribution of a simulation, in the currency of its initial pool: {@code amount} for {@code FIXED},
+ * {@code min} and {@code max} for {@code UNIFORM}, {@code median} and {@code sigma} for {@code LOG_NORMAL}.
+ */
+public record BetSizeDto(
+        @NotNull
+        Type type,
+
+        @ValidAmount
+        String amount,
+
+        @ValidAmount
+        String min,
+
+        @ValidAmount
+        String max,
+
+        @ValidAmount
+        String median,
+
+        @PositiveOrZero
+        Double sigma
+) {
+
+    public enum Type {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL
+    }
+}
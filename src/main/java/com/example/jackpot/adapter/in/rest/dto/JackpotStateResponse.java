@@ -0,0 +1,12 @@
+package com.example.jackpot.adapter.in.rest.dto;
+
+import java.time.Instant;
+
+public record JackpotStateResponse(
+        String jackpotId,
+        Instant at,
+        long sequence,
+        int cycle,
+        MoneyDto pool
+) {
+}
@@ -1,12 +1,22 @@
 package com.example.jackpot.adapter.in.rest.dto;
 
-public record RewardResponse(boolean won, MoneyDto reward) {
+public record RewardResponse(Status status, boolean won, MoneyDto reward) {
+
+    public enum Status {
+        PENDING,
+        WIN,
+        LOSS
+    }
+
+    public static RewardResponse pending() {
+        return new RewardResponse(Status.PENDING, false, null);
+    }
 
     public static RewardResponse noWin() {
-        return new RewardResponse(false, null);
+        return new RewardResponse(Status.LOSS, false, null);
     }
 
     public static RewardResponse win(MoneyDto m) {
-        return new RewardResponse(true, m);
+        return new RewardResponse(Status.WIN, true, m);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.example.jackpot.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record SimulationRequest(
+        @NotNull
+        JsonNode contributionConfig,
+
+        @NotNull
+        JsonNode rewardConfig,
+
+        @NotNull
+        @Valid
+        MoneyDto initialPool,
+
+        @NotNull
+        @Valid
+        BetSizeDto betSize,
+
+        @NotNull
+        @Positive
+        Long bets,
+
+        @Positive
+        Integer workers,
+
+        Long seed
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.jackpot.adapter.in.rest.dto;
+
+import java.math.BigDecimal;
+
+public record SimulationResponse(
+        long bets,
+        int workers,
+        long seed,
+        long cycles,
+        MoneyDto staked,
+        MoneyDto contributed,
+        MoneyDto paidOut,
+        BigDecimal effectiveContributionRate,
+        BigDecimal returnToPlayer,
+        PercentilesDto cycleLength,
+        PercentilesDto payout,
+        long elapsedMillis
+) {
+
+    public record PercentilesDto(BigDecimal mean, BigDecimal min, BigDecimal p50, BigDecimal p90, BigDecimal p99, BigDecimal max) {
+    }
+}
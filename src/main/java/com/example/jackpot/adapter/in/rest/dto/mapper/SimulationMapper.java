@@ -0,0 +1,76 @@
+package com.example.jackpot.adapter.in.rest.dto.mapper;
+
+import com.example.jackpot.adapter.in.rest.dto.BetSizeDto;
+import com.example.jackpot.adapter.in.rest.dto.SimulationRequest;
+import com.example.jackpot.adapter.in.rest.dto.SimulationResponse;
+import com.example.jackpot.adapter.in.rest.dto.SimulationResponse.PercentilesDto;
+import com.example.jackpot.application.port.in.BetSizeDistribution;
+import com.example.jackpot.application.port.in.SimulationParameters;
+import com.example.jackpot.application.port.in.SimulationReport;
+import com.example.jackpot.application.port.in.SimulationReport.Percentiles;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.util.Optional;
+
+public final class SimulationMapper {
+    private SimulationMapper() {
+    }
+
+    public static SimulationParameters toDomain(SimulationRequest r, int workers, long seed) {
+        Money initialPool = MoneyMapper.toDomain(r.initialPool());
+
+        return new SimulationParameters(
+                r.contributionConfig().toString(),
+                r.rewardConfig().toString(),
+                initialPool,
+                toDomain(r.betSize(), r.initialPool().currency()),
+                r.bets(),
+                workers,
+                seed
+        );
+    }
+
+    public static SimulationResponse toDto(SimulationParameters parameters, SimulationReport report) {
+        return new SimulationResponse(
+                report.bets(),
+                parameters.workers(),
+                parameters.seed(),
+                report.cycles(),
+                MoneyMapper.toDto(report.staked()),
+                MoneyMapper.toDto(report.contributed()),
+                MoneyMapper.toDto(report.paidOut()),
+                report.effectiveContributionRate(),
+                report.returnToPlayer(),
+                toDto(report.cycleLength()),
+                toDto(report.payout()),
+                report.elapsed().toMillis()
+        );
+    }
+
+    private static BetSizeDistribution toDomain(BetSizeDto d, String currency) {
+        return switch (d.type()) {
+            case FIXED -> new BetSizeDistribution.Fixed(Money.of(required(d.amount(), "amount"), currency));
+            case UNIFORM -> new BetSizeDistribution.Uniform(
+                    Money.of(required(d.min(), "min"), currency),
+                    Money.of(required(d.max(), "max"), currency)
+            );
+            case LOG_NORMAL -> new BetSizeDistribution.LogNormal(
+                    Money.of(required(d.median(), "median"), currency),
+                    required(d.sigma(), "sigma")
+            );
+        };
+    }
+
+    private static PercentilesDto toDto(Optional<Percentiles> percentiles) {
+        return percentiles
+                .map(p -> new PercentilesDto(p.mean(), p.min(), p.p50(), p.p90(), p.p99(), p.max()))
+                .orElse(null);
+    }
+
+    private static <T> T required(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException("betSize.%s is required for this distribution".formatted(field));
+        }
+        return value;
+    }
+}
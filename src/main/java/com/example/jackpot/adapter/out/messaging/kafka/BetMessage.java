@@ -6,20 +6,29 @@ import com.example.jackpot.domain.model.id.BetId;
 import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.id.UserId;
 import com.example.jackpot.domain.model.vo.Money;
+import com.fasterxml.jackson.annotation.JsonFormat;
 
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Kafka payload of a placed bet. Ids and amount are typed, so the binary wire format is mapped without parsing
+ * strings; as JSON they are still written as strings.
+ */
 public record BetMessage(
-        String betId,
-        String userId,
-        String jackpotId,
-        String amount,
+        UUID betId,
+        UUID userId,
+        UUID jackpotId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) BigDecimal amount,
         String currency
 ) {
     public static BetMessage from(Bet b) {
         return new BetMessage(
-                b.betId().value().toString(),
-                b.userId().value().toString(),
-                b.jackpotId().value().toString(),
-                b.betAmount().amount().toPlainString(),
+                b.betId().value(),
+                b.userId().value(),
+                b.jackpotId().value(),
+                b.betAmount().amount(),
                 b.betAmount().currency().getCurrencyCode()
         );
     }
@@ -29,7 +38,7 @@ public record BetMessage(
                 BetId.of(betId),
                 UserId.of(userId),
                 JackpotId.of(jackpotId),
-                Money.of(amount, currency)
+                Money.of(amount, Currency.getInstance(currency))
         );
     }
 }
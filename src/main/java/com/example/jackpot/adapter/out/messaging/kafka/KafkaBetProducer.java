@@ -2,32 +2,53 @@ package com.example.jackpot.adapter.out.messaging.kafka;
 
 import com.example.jackpot.application.port.out.BetProducer;
 import com.example.jackpot.domain.model.Bet;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes bets keyed by jackpot id. Each send is timed from the call until the broker acknowledgement as
+ * {@code jackpot.kafka.publish{outcome}}, so failures show up as the {@code failure} outcome count.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KafkaBetProducer implements BetProducer {
 
     private final KafkaTemplate<String, BetMessage> kafka;
+    private final MeterRegistry registry;
+    private final Timer publishSuccess;
+    private final Timer publishFailure;
 
     @Value("${jackpot.kafka.topic.bets:jackpot-bets}")
     private String topic;
 
+    public KafkaBetProducer(KafkaTemplate<String, BetMessage> kafka, MeterRegistry registry) {
+        this.kafka = kafka;
+        this.registry = registry;
+        this.publishSuccess = publishTimer(registry, "success");
+        this.publishFailure = publishTimer(registry, "failure");
+    }
+
     @Override
     public void publish(Bet bet) {
         BetMessage betMessage = BetMessage.from(bet);
-        String key = betMessage.jackpotId();
+        String key = betMessage.jackpotId().toString();
 
         log.info("Publishing message={} to topic {}", betMessage, topic);
 
+        Timer.Sample sample = Timer.start(registry);
         kafka.send(topic, key, betMessage)
                 .whenComplete((result, ex) -> {
+                    sample.stop(ex == null ? publishSuccess : publishFailure);
+
                     if (ex != null) {
                         log.error("Publish failed betId={} jackpotId={}: {}", betMessage.betId(), betMessage.jackpotId(), ex.toString());
                     } else {
@@ -36,4 +57,40 @@ public class KafkaBetProducer implements BetProducer {
                     }
                 });
     }
+
+    /**
+     * Sends all bets before waiting, so they share producer batches (see {@code spring.kafka.producer.batch-size}),
+     * then flushes and blocks until every send is acknowledged.
+     *
+     * @throws java.util.concurrent.CompletionException if any of the sends failed
+     */
+    @Override
+    public void publishAll(List<Bet> bets) {
+        if (bets.isEmpty()) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<SendResult<String, BetMessage>>[] futures = new CompletableFuture[bets.size()];
+        for (int i = 0; i < bets.size(); i++) {
+            BetMessage betMessage = BetMessage.from(bets.get(i));
+
+            Timer.Sample sample = Timer.start(registry);
+            futures[i] = kafka.send(topic, betMessage.jackpotId().toString(), betMessage)
+                    .whenComplete((result, ex) -> sample.stop(ex == null ? publishSuccess : publishFailure));
+        }
+
+        kafka.flush();
+        CompletableFuture.allOf(futures).join();
+
+        log.debug("Published batch of {} bets to topic {}", bets.size(), topic);
+    }
+
+    private static Timer publishTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("jackpot.kafka.publish")
+                .description("Time from sending a bet until the broker acknowledged it")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
 }
@@ -0,0 +1,131 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Fixed-size binary layout of {@link BetMessage}, version {@value #SCHEMA_VERSION} of subject {@value #SUBJECT}:
+ * the three ids as two big-endian longs each, the amount as a long of minor units (scale 2)
+ * and the currency as its 2-byte ISO 4217 numeric code - 58 bytes in total.
+ */
+public final class BetMessageBinaryCodec {
+
+    public static final String SUBJECT = "bet-message";
+    public static final int SCHEMA_VERSION = 1;
+    public static final String SCHEMA_VERSION_HEADER = "jackpot-schema-version";
+
+    static final MessageSchema SCHEMA = new MessageSchema(SUBJECT, SCHEMA_VERSION, List.of(
+            new MessageSchema.Field("betId", "uuid"),
+            new MessageSchema.Field("userId", "uuid"),
+            new MessageSchema.Field("jackpotId", "uuid"),
+            new MessageSchema.Field("amount", "minor-units"),
+            new MessageSchema.Field("currency", "iso4217-numeric")
+    ));
+
+    static final int SIZE = 3 * 2 * Long.BYTES + Long.BYTES + Short.BYTES;
+
+    private static final int AMOUNT_SCALE = 2;
+
+    private static final Map<Integer, Currency> CURRENCIES_BY_NUMERIC_CODE = currenciesByNumericCode();
+
+    private BetMessageBinaryCodec() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static byte[] encode(BetMessage message) {
+        requireNonNull(message, "message must not be null");
+
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+        putUuid(buffer, requireNonNull(message.betId(), "betId must not be null"));
+        putUuid(buffer, requireNonNull(message.userId(), "userId must not be null"));
+        putUuid(buffer, requireNonNull(message.jackpotId(), "jackpotId must not be null"));
+        buffer.putLong(minorUnits(requireNonNull(message.amount(), "amount must not be null")));
+        buffer.putShort(numericCode(requireNonNull(message.currency(), "currency must not be null")));
+
+        return buffer.array();
+    }
+
+    public static BetMessage decode(byte[] data) {
+        if (data == null || data.length != SIZE) {
+            throw new SerializationException("Expected %d bytes for %s v%d but got %s".formatted(SIZE, SUBJECT, SCHEMA_VERSION, data == null ? null : data.length));
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        UUID betId = getUuid(buffer);
+        UUID userId = getUuid(buffer);
+        UUID jackpotId = getUuid(buffer);
+        BigDecimal amount = BigDecimal.valueOf(buffer.getLong(), AMOUNT_SCALE);
+        Currency currency = CURRENCIES_BY_NUMERIC_CODE.get((int) buffer.getShort());
+
+        if (currency == null) {
+            throw new SerializationException("Unknown currency code in %s v%d".formatted(SUBJECT, SCHEMA_VERSION));
+        }
+
+        return new BetMessage(betId, userId, jackpotId, amount, currency.getCurrencyCode());
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static long minorUnits(BigDecimal amount) {
+        try {
+            return amount.setScale(AMOUNT_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new SerializationException("Amount %s cannot be written as minor units".formatted(amount), ex);
+        }
+    }
+
+    private static short numericCode(String currencyCode) {
+        Currency currency;
+        try {
+            currency = Currency.getInstance(currencyCode);
+        } catch (IllegalArgumentException ex) {
+            throw new SerializationException("Unknown currency %s".formatted(currencyCode), ex);
+        }
+
+        int code = currency.getNumericCode();
+        if (!currency.equals(CURRENCIES_BY_NUMERIC_CODE.get(code))) {
+            throw new SerializationException("Currency %s has no unique numeric code".formatted(currencyCode));
+        }
+
+        return (short) code;
+    }
+
+    private static Map<Integer, Currency> currenciesByNumericCode() {
+        Map<Integer, Currency> currencies = new HashMap<>();
+        Map<Integer, Integer> counts = new HashMap<>();
+
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            int code = currency.getNumericCode();
+            if (code > 0) {
+                currencies.put(code, currency);
+                counts.merge(code, 1, Integer::sum);
+            }
+        }
+
+        counts.forEach((code, count) -> {
+            if (count > 1) {
+                currencies.remove(code);
+            }
+        });
+
+        return Map.copyOf(currencies);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Reads {@link BetMessage} records written by {@link BetMessageBinarySerializer}.
+ * <p>
+ * Records without the {@value BetMessageBinaryCodec#SCHEMA_VERSION_HEADER} header are read as JSON, so JSON records
+ * still in the topic are consumed while producers switch over. A schema version that the registry does not know,
+ * or that this reader cannot decode, fails the record with a {@link SerializationException}.
+ */
+public class BetMessageBinaryDeserializer implements Deserializer<BetMessage> {
+
+    private final JsonDeserializer<BetMessage> jsonDeserializer = new JsonDeserializer<>(BetMessage.class, false);
+
+    private FileSchemaRegistry registry = new FileSchemaRegistry(FileSchemaRegistry.DEFAULT_LOCATION);
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        this.registry = FileSchemaRegistry.fromConfigs(configs);
+    }
+
+    @Override
+    public BetMessage deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public BetMessage deserialize(String topic, Headers headers, byte[] data) {
+        Header header = headers.lastHeader(BetMessageBinaryCodec.SCHEMA_VERSION_HEADER);
+        if (header == null) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+
+        if (data == null) {
+            return null;
+        }
+
+        int version = schemaVersion(header);
+        MessageSchema schema = registry.find(BetMessageBinaryCodec.SUBJECT, version)
+                .orElseThrow(() -> new SerializationException("Unknown schema %s v%d".formatted(BetMessageBinaryCodec.SUBJECT, version)));
+
+        if (!schema.equals(BetMessageBinaryCodec.SCHEMA)) {
+            throw new SerializationException("No reader for schema %s v%d".formatted(BetMessageBinaryCodec.SUBJECT, version));
+        }
+
+        return BetMessageBinaryCodec.decode(data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    private static int schemaVersion(Header header) {
+        String value = new String(header.value(), StandardCharsets.US_ASCII);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new SerializationException("Invalid schema version header: %s".formatted(value), ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Writes {@link BetMessage} in the layout of {@link BetMessageBinaryCodec} and marks each record with the
+ * {@value BetMessageBinaryCodec#SCHEMA_VERSION_HEADER} header.
+ * <p>
+ * On configuration the schema of that version is looked up in the {@link FileSchemaRegistry} at
+ * {@value FileSchemaRegistry#LOCATION_CONFIG} and must describe the layout written here.
+ */
+public class BetMessageBinarySerializer implements Serializer<BetMessage> {
+
+    private static final byte[] SCHEMA_VERSION = Integer.toString(BetMessageBinaryCodec.SCHEMA_VERSION).getBytes(StandardCharsets.US_ASCII);
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        FileSchemaRegistry registry = FileSchemaRegistry.fromConfigs(configs);
+
+        MessageSchema schema = registry.find(BetMessageBinaryCodec.SUBJECT, BetMessageBinaryCodec.SCHEMA_VERSION)
+                .orElseThrow(() -> new ConfigException("Schema %s v%d not found in the schema registry".formatted(BetMessageBinaryCodec.SUBJECT, BetMessageBinaryCodec.SCHEMA_VERSION)));
+
+        if (!schema.equals(BetMessageBinaryCodec.SCHEMA)) {
+            throw new ConfigException("Registered schema %s does not match the layout written for v%d".formatted(schema, BetMessageBinaryCodec.SCHEMA_VERSION));
+        }
+    }
+
+    /**
+     * The schema version travels as a record header, so records are only written through {@link #serialize(String, Headers, BetMessage)}.
+     */
+    @Override
+    public byte[] serialize(String topic, BetMessage data) {
+        throw new UnsupportedOperationException("Binary BetMessages need record headers to carry their schema version");
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, BetMessage data) {
+        if (data == null) {
+            return null;
+        }
+
+        headers.remove(BetMessageBinaryCodec.SCHEMA_VERSION_HEADER);
+        headers.add(BetMessageBinaryCodec.SCHEMA_VERSION_HEADER, SCHEMA_VERSION);
+
+        return BetMessageBinaryCodec.encode(data);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Offline stand-in for a schema registry: the schema of a subject version is read from
+ * {@code <location>/<subject>/v<version>.json}, where the location is a {@code classpath:} or {@code file:} resource path.
+ */
+public final class FileSchemaRegistry {
+
+    public static final String LOCATION_CONFIG = "jackpot.schema.registry.location";
+    public static final String DEFAULT_LOCATION = "classpath:schemas";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String location;
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+    private final Map<String, Optional<MessageSchema>> schemas = new ConcurrentHashMap<>();
+
+    public FileSchemaRegistry(String location) {
+        requireNonNull(location, "location must not be null");
+
+        this.location = location.endsWith("/") ? location.substring(0, location.length() - 1) : location;
+    }
+
+    public static FileSchemaRegistry fromConfigs(Map<String, ?> configs) {
+        Object location = configs.get(LOCATION_CONFIG);
+
+        return new FileSchemaRegistry(location == null ? DEFAULT_LOCATION : location.toString());
+    }
+
+    public Optional<MessageSchema> find(String subject, int version) {
+        return schemas.computeIfAbsent(subject + "/v" + version, this::load);
+    }
+
+    private Optional<MessageSchema> load(String path) {
+        Resource resource = resourceLoader.getResource(location + "/" + path + ".json");
+        if (!resource.exists()) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = resource.getInputStream()) {
+            return Optional.of(MAPPER.readValue(in, MessageSchema.class));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read schema %s from %s".formatted(path, location), ex);
+        }
+    }
+}
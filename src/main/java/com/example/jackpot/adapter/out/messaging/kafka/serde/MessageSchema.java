@@ -0,0 +1,12 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import java.util.List;
+
+/**
+ * A versioned message layout as stored in the schema registry: the fields in wire order with their encoding.
+ */
+public record MessageSchema(String subject, int version, List<Field> fields) {
+
+    public record Field(String name, String type) {
+    }
+}
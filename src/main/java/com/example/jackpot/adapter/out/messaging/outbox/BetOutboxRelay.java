@@ -0,0 +1,75 @@
+package com.example.jackpot.adapter.out.messaging.outbox;
+
+import com.example.jackpot.adapter.out.messaging.kafka.KafkaBetProducer;
+import com.example.jackpot.application.port.out.BetOutboxRepository;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the bet outbox to Kafka: claims the oldest rows, publishes them as one producer batch and deletes
+ * them once acknowledged, all in one transaction. Keeps going while full batches are found.
+ * <p>
+ * Claimed rows stay locked until the transaction ends and are skipped by the relays of other instances, so each
+ * row is published by one relay at a time.
+ * <p>
+ * Delivery is at-least-once: a crash between publish and delete republishes the batch, which the consumers
+ * skip as already processed bets.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jackpot.outbox.enabled", havingValue = "true")
+public class BetOutboxRelay {
+
+    private final BetOutboxRepository outboxRepository;
+    private final KafkaBetProducer kafkaBetProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BetOutboxRelay(BetOutboxRepository outboxRepository,
+                          KafkaBetProducer kafkaBetProducer,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${jackpot.outbox.relay.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaBetProducer = kafkaBetProducer;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${jackpot.outbox.relay.fixed-delay-ms:100}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException ex) {
+            log.error("Failed to relay bet outbox, retrying on next run: {}", ex.getMessage(), ex);
+        }
+    }
+
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<Bet> bets = outboxRepository.claimOldest(batchSize);
+            if (bets.isEmpty()) {
+                return 0;
+            }
+
+            kafkaBetProducer.publishAll(bets);
+            outboxRepository.deleteAll(bets.stream().map(Bet::betId).toList());
+
+            log.info("Relayed {} bets from outbox", bets.size());
+
+            return bets.size();
+        });
+
+        return relayed == null ? 0 : relayed;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.jackpot.adapter.out.messaging.outbox;
+
+import com.example.jackpot.application.port.out.BetOutboxRepository;
+import com.example.jackpot.application.port.out.BetProducer;
+import com.example.jackpot.domain.model.Bet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * {@link BetProducer} writing bets to the outbox within the caller's transaction, enabled with
+ * {@code jackpot.outbox.enabled=true}.
+ * <p>
+ * The bet and its outbox row commit or roll back together; {@link BetOutboxRelay} publishes them afterwards.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.outbox.enabled", havingValue = "true")
+public class OutboxBetProducer implements BetProducer {
+
+    private final BetOutboxRepository outboxRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Bet bet) {
+        outboxRepository.append(bet);
+
+        log.debug("Bet appended to outbox betId={}", bet.betId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<Bet> bets) {
+        outboxRepository.appendAll(bets);
+
+        log.debug("{} bets appended to outbox", bets.size());
+    }
+}
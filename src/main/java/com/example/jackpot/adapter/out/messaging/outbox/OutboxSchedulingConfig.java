@@ -0,0 +1,14 @@
+package com.example.jackpot.adapter.out.messaging.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduling for {@link BetOutboxRelay} only when the outbox is in use.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "jackpot.outbox.enabled", havingValue = "true")
+public class OutboxSchedulingConfig {
+}
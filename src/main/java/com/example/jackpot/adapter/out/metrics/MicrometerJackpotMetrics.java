@@ -0,0 +1,92 @@
+package com.example.jackpot.adapter.out.metrics;
+
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Currency;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link JackpotMetrics} backed by Micrometer, exposed through the actuator Prometheus endpoint.
+ * <ul>
+ *     <li>{@code jackpot.bets.duplicate}: placed bets skipped as duplicates</li>
+ *     <li>{@code jackpot.bets.applied{jackpot,outcome}}: applied bets by outcome ({@code win}/{@code loss}), the win rate being their ratio</li>
+ *     <li>{@code jackpot.contribution.amount{currency}}: distribution of contribution amounts</li>
+ *     <li>{@code jackpot.pool.amount{jackpot,currency}}: current pool per jackpot</li>
+ * </ul>
+ */
+@Component
+public class MicrometerJackpotMetrics implements JackpotMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter duplicateBets;
+
+    private final Map<JackpotId, JackpotMeters> jackpotMeters = new ConcurrentHashMap<>();
+    private final Map<Currency, DistributionSummary> contributionAmounts = new ConcurrentHashMap<>();
+
+    public MicrometerJackpotMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.duplicateBets = Counter.builder("jackpot.bets.duplicate")
+                .description("Placed bets skipped because they already existed")
+                .register(registry);
+    }
+
+    @Override
+    public void duplicateBets(int count) {
+        duplicateBets.increment(count);
+    }
+
+    @Override
+    public void betApplied(JackpotContribution contribution, boolean won) {
+        JackpotMeters meters = metersOf(contribution.jackpotId());
+        (won ? meters.wins() : meters.losses()).increment();
+
+        Money amount = contribution.contributionAmount();
+        contributionAmounts.computeIfAbsent(amount.currency(), currency -> DistributionSummary.builder("jackpot.contribution.amount")
+                        .description("Amount contributed to the jackpot pool per bet")
+                        .tag("currency", currency.getCurrencyCode())
+                        .publishPercentileHistogram()
+                        .register(registry))
+                .record(amount.amount().doubleValue());
+    }
+
+    @Override
+    public void poolChanged(JackpotId jackpotId, Money currentPool) {
+        JackpotMeters meters = metersOf(jackpotId);
+
+        if (meters.pool().getAndSet(currentPool) == null) {
+            Gauge.builder("jackpot.pool.amount", meters.pool(), pool -> pool.get().amount().doubleValue())
+                    .description("Current pool of the jackpot")
+                    .tag("jackpot", jackpotId.value().toString())
+                    .tag("currency", currentPool.currency().getCurrencyCode())
+                    .register(registry);
+        }
+    }
+
+    private JackpotMeters metersOf(JackpotId jackpotId) {
+        return jackpotMeters.computeIfAbsent(jackpotId, id -> new JackpotMeters(
+                appliedCounter(id, "win"),
+                appliedCounter(id, "loss"),
+                new AtomicReference<>()));
+    }
+
+    private Counter appliedCounter(JackpotId jackpotId, String outcome) {
+        return Counter.builder("jackpot.bets.applied")
+                .description("Bets applied to the jackpot by reward outcome")
+                .tag("jackpot", jackpotId.value().toString())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record JackpotMeters(Counter wins, Counter losses, AtomicReference<Money> pool) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.jackpot.adapter.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Watches for virtual threads that block while pinned to their carrier, as {@code jackpot.virtual.thread.pinned}.
+ * <p>
+ * Since JDK 24 a virtual thread waiting in a {@code synchronized} block (Hibernate, Hikari, the H2 driver) releases
+ * its carrier, but native frames and class initialisation still pin it. Every pinned wait of at least
+ * {@code jackpot.threads.pinning.threshold} is recorded from the {@code jdk.VirtualThreadPinned} JFR event and logged
+ * with the frame it blocked in. Only active when requests or listeners run on virtual threads.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${jackpot.threads.rest:platform}' == 'virtual' or '${jackpot.threads.listener:platform}' == 'virtual'")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Timer pinned;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry registry, @Value("${jackpot.threads.pinning.threshold:20ms}") Duration threshold) {
+        requireNonNull(threshold, "threshold must not be null");
+        isTrue(!threshold.isNegative(), "threshold must not be negative");
+
+        this.threshold = threshold;
+        this.pinned = Timer.builder("jackpot.virtual.thread.pinned")
+                .description("Time virtual threads blocked while pinned to their carrier thread")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> pinned(event.getDuration(), blockingFrame(event)));
+        stream.startAsync();
+
+        log.info("Watching for virtual threads pinned longer than {}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    void pinned(Duration duration, String frame) {
+        pinned.record(duration);
+
+        log.warn("Virtual thread pinned for {} ms in {}", duration.toMillis(), frame);
+    }
+
+    private static String blockingFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return "unknown frame";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .orElse("unknown frame");
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.jpa.mapper.BetOutboxMapper;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.BetOutboxJpaRepository;
+import com.example.jackpot.application.port.out.BetOutboxRepository;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class BetOutboxRepositoryAdapter implements BetOutboxRepository {
+
+    private final BetOutboxJpaRepository repository;
+
+    @Override
+    public void append(Bet bet) {
+        repository.save(BetOutboxMapper.toEntity(bet));
+    }
+
+    @Override
+    public void appendAll(List<Bet> bets) {
+        repository.saveAll(bets.stream().map(BetOutboxMapper::toEntity).toList());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Bet> claimOldest(int limit) {
+        return repository.findOldestForUpdate(PageRequest.ofSize(limit)).stream().map(BetOutboxMapper::toDomain).toList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Collection<BetId> betIds) {
+        if (betIds.isEmpty()) {
+            return;
+        }
+
+        repository.deleteByBetIds(betIds.stream().map(BetId::value).toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.cache.BetLookupCache;
+import com.example.jackpot.adapter.out.persistence.jpa.mapper.BetOutcomeMapper;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.BetOutcomeJpaRepository;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.id.BetId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class BetOutcomeRepositoryAdapter implements BetOutcomeRepository {
+    private final BetOutcomeJpaRepository repository;
+    private final BetLookupCache<BetOutcome> cache;
+
+    @Override
+    public Optional<BetOutcome> findByBetId(BetId betId) {
+        return cache.get(betId, id -> repository.findById(id.value()).map(BetOutcomeMapper::toDomain));
+    }
+
+    @Override
+    public void save(BetOutcome outcome) {
+        repository.save(BetOutcomeMapper.toEntity(outcome));
+        cache.invalidate(List.of(outcome.betId()));
+    }
+
+    @Override
+    public void saveAll(List<BetOutcome> outcomes) {
+        repository.saveAll(outcomes.stream().map(BetOutcomeMapper::toEntity).toList());
+        cache.invalidate(outcomes.stream().map(BetOutcome::betId).toList());
+    }
+}
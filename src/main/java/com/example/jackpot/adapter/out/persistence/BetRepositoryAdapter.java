@@ -1,5 +1,6 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.jdbc.JdbcBulkWriter;
 import com.example.jackpot.adapter.out.persistence.jpa.mapper.BetMapper;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.BetJpaRepository;
 import com.example.jackpot.application.port.out.BetRepository;
@@ -8,13 +9,20 @@ import com.example.jackpot.domain.model.id.BetId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
 
 @Component
 @RequiredArgsConstructor
 public class BetRepositoryAdapter implements BetRepository {
 
     private final BetJpaRepository repository;
+    private final Optional<JdbcBulkWriter> bulkWriter;
 
     @Override
     public Optional<Bet> findById(BetId id) {
@@ -26,8 +34,34 @@ public class BetRepositoryAdapter implements BetRepository {
         return repository.existsById(id.value());
     }
 
+    @Override
+    public Set<BetId> findExistingIds(Collection<BetId> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        return repository.findExistingIds(ids.stream().map(BetId::value).toList()).stream()
+                .map(BetId::of)
+                .collect(toSet());
+    }
+
+    @Override
+    public List<BetId> findIdsCreatedSince(Instant since) {
+        return repository.findIdsCreatedSince(since).stream().map(BetId::of).toList();
+    }
+
     @Override
     public void save(Bet bet) {
         repository.save(BetMapper.toEntity(bet));
     }
+
+    @Override
+    public void saveAll(List<Bet> bets) {
+        if (bulkWriter.isPresent()) {
+            repository.flush();
+            bulkWriter.get().insertBets(bets);
+        } else {
+            repository.saveAll(bets.stream().map(BetMapper::toEntity).toList());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.jdbc.JdbcBulkWriter;
 import com.example.jackpot.adapter.out.persistence.jpa.mapper.JackpotContributionMapper;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.ContributionJpaRepository;
 import com.example.jackpot.application.port.out.JackpotContributionRepository;
@@ -8,19 +9,54 @@ import com.example.jackpot.domain.model.id.BetId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+
 @Component
 @RequiredArgsConstructor
 public class JackpotContributionRepositoryAdapter implements JackpotContributionRepository {
 
     private final ContributionJpaRepository repository;
+    private final Optional<JdbcBulkWriter> bulkWriter;
 
     @Override
     public boolean existsByBetId(BetId betId) {
         return repository.existsByBetId(betId.value());
     }
 
+    @Override
+    public Set<BetId> findExistingBetIds(Collection<BetId> betIds) {
+        if (betIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return repository.findExistingBetIds(betIds.stream().map(BetId::value).toList()).stream()
+                .map(BetId::of)
+                .collect(toSet());
+    }
+
+    @Override
+    public List<BetId> findBetIdsCreatedSince(Instant since) {
+        return repository.findBetIdsCreatedSince(since).stream().map(BetId::of).toList();
+    }
+
     @Override
     public void save(JackpotContribution contribution) {
         repository.save(JackpotContributionMapper.toEntity(contribution));
     }
+
+    @Override
+    public void saveAll(List<JackpotContribution> contributions) {
+        if (bulkWriter.isPresent()) {
+            repository.flush();
+            bulkWriter.get().insertContributions(contributions);
+        } else {
+            repository.saveAll(contributions.stream().map(JackpotContributionMapper::toEntity).toList());
+        }
+    }
 }
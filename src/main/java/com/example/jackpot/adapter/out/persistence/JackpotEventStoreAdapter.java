@@ -0,0 +1,120 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.jpa.mapper.JackpotEventMapper;
+import com.example.jackpot.adapter.out.persistence.jpa.mapper.JackpotSnapshotMapper;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotEventJpaRepository;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotSnapshotJpaRepository;
+import com.example.jackpot.application.port.out.JackpotEventStore;
+import com.example.jackpot.domain.model.JackpotSnapshot;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.id.JackpotId;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+public class JackpotEventStoreAdapter implements JackpotEventStore {
+
+    private static final String SEQUENCE_CONSTRAINT = "uq_jackpot_event_sequence";
+
+    private final JackpotEventJpaRepository eventRepository;
+    private final JackpotSnapshotJpaRepository snapshotRepository;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Autowired
+    public JackpotEventStoreAdapter(JackpotEventJpaRepository eventRepository,
+                                    JackpotSnapshotJpaRepository snapshotRepository,
+                                    MeterRegistry meterRegistry) {
+        this(eventRepository, snapshotRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    JackpotEventStoreAdapter(JackpotEventJpaRepository eventRepository,
+                             JackpotSnapshotJpaRepository snapshotRepository,
+                             MeterRegistry meterRegistry,
+                             Clock clock) {
+        this.eventRepository = eventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Flushes the events straight away, so a sequence taken by another writer fails here rather than at commit.
+     * The flush also writes the other pending entities of the transaction, so only a violation of the sequence key is
+     * reported as a conflict. The events are stamped with the time they are appended.
+     */
+    @Override
+    public void append(List<JackpotEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            Instant appendedAt = clock.instant();
+            eventRepository.saveAllAndFlush(events.stream().map(e -> JackpotEventMapper.toEntity(e, appendedAt)).toList());
+        } catch (DataIntegrityViolationException ex) {
+            if (!violatesSequence(ex)) {
+                throw ex;
+            }
+
+            meterRegistry.counter("jackpot.optimistic.lock.conflicts").increment();
+
+            JackpotEvent first = events.getFirst();
+            throw new OptimisticLockingFailureException("Events of jackpot %s from sequence %d were appended concurrently".formatted(first.jackpotId().value(), first.sequence()), ex);
+        }
+    }
+
+    @Override
+    public List<JackpotEvent> findAfter(JackpotId id, long sequence) {
+        return eventRepository.findByJackpotIdAndSequenceGreaterThanOrderBySequence(id.value(), sequence).stream()
+                .map(JackpotEventMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<JackpotEvent> findAfter(JackpotId id, long sequence, long until) {
+        return eventRepository.findByJackpotIdAndSequenceGreaterThanAndSequenceLessThanEqualOrderBySequence(id.value(), sequence, until).stream()
+                .map(JackpotEventMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long findLastSequenceAppendedUntil(JackpotId id, Instant until) {
+        Long sequence = eventRepository.findLastSequenceAppendedUntil(id.value(), until);
+
+        return sequence == null ? 0 : sequence;
+    }
+
+    @Override
+    public Optional<JackpotSnapshot> findLatestSnapshot(JackpotId id) {
+        return snapshotRepository.findFirstByJackpotIdOrderBySequenceDesc(id.value()).map(JackpotSnapshotMapper::toDomain);
+    }
+
+    @Override
+    public Optional<JackpotSnapshot> findLatestSnapshot(JackpotId id, long until) {
+        return snapshotRepository.findFirstByJackpotIdAndSequenceLessThanEqualOrderBySequenceDesc(id.value(), until).map(JackpotSnapshotMapper::toDomain);
+    }
+
+    @Override
+    public void saveSnapshot(JackpotSnapshot snapshot) {
+        snapshotRepository.save(JackpotSnapshotMapper.toEntity(snapshot));
+    }
+
+    private static boolean violatesSequence(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().toLowerCase(Locale.ROOT).contains(SEQUENCE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotPoolStripeEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotPoolStripeJpaRepository;
+import com.example.jackpot.application.port.out.JackpotPoolStripeRepository;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@Component
+@RequiredArgsConstructor
+public class JackpotPoolStripeRepositoryAdapter implements JackpotPoolStripeRepository {
+
+    private final JackpotPoolStripeJpaRepository repository;
+
+    @Override
+    public void createMissing(JackpotId id, CycleNumber cycle, int stripes) {
+        Set<Integer> existing = new HashSet<>(repository.findStripes(id.value()));
+
+        List<JackpotPoolStripeEntity> missing = IntStream.range(0, stripes)
+                .filter(stripe -> !existing.contains(stripe))
+                .mapToObj(stripe -> new JackpotPoolStripeEntity(id.value(), stripe, cycle.value(), BigDecimal.ZERO))
+                .toList();
+
+        if (!missing.isEmpty()) {
+            repository.saveAll(missing);
+        }
+    }
+
+    @Override
+    public int realign(JackpotId id, CycleNumber cycle) {
+        return repository.realign(id.value(), cycle.value());
+    }
+
+    @Override
+    public void add(JackpotId id, CycleNumber cycle, int stripe, Money delta) {
+        int updated = repository.addToStripe(id.value(), stripe, cycle.value(), delta.amount());
+
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Stripe %d of jackpot %s does not exist or has left cycle %d".formatted(stripe, id.value(), cycle.value()));
+        }
+    }
+
+    @Override
+    public Money sum(JackpotId id, CycleNumber cycle, Currency currency) {
+        return Money.of(repository.sumAmount(id.value(), cycle.value()), currency);
+    }
+
+    /**
+     * Reads the stripes with {@code SELECT ... FOR UPDATE} in stripe order, so that concurrent reconciliations lock them in the same order.
+     */
+    @Override
+    public Money lockAndSum(JackpotId id, CycleNumber cycle, Currency currency) {
+        BigDecimal sum = repository.findAllForUpdate(id.value(), cycle.value()).stream()
+                .map(JackpotPoolStripeEntity::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return Money.of(sum, currency);
+    }
+
+    @Override
+    public void startNextCycle(JackpotId id, CycleNumber cycle) {
+        repository.startNextCycle(id.value(), cycle.value());
+    }
+}
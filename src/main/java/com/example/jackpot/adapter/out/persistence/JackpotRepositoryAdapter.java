@@ -1,15 +1,21 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.cache.JackpotStrategyCache;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEntity;
 import com.example.jackpot.adapter.out.persistence.jpa.mapper.JackpotMapper;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotJpaRepository;
 import com.example.jackpot.application.port.out.JackpotRepository;
-import com.example.jackpot.domain.exception.JackpotNotFoundException;
 import com.example.jackpot.domain.model.Jackpot;
 import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -17,16 +23,74 @@ import java.util.Optional;
 public class JackpotRepositoryAdapter implements JackpotRepository {
 
     private final JackpotJpaRepository repository;
+    private final JackpotStrategyCache strategyCache;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public Optional<Jackpot> findById(JackpotId id) {
-        return repository.findById(id.value()).map(JackpotMapper::toDomain);
+        return repository.findById(id.value()).map(this::toDomain);
     }
 
+    @Override
+    public List<Jackpot> findAll() {
+        return repository.findAll().stream().map(this::toDomain).toList();
+    }
+
+    /**
+     * Writes the pool and cycle with a single versioned UPDATE instead of re-reading the row for its version.
+     */
+    @Override
     public void save(Jackpot jackpot) {
-        JackpotEntity entity = repository.findById(jackpot.jackpotId().value())
-                .orElseThrow(() -> new JackpotNotFoundException("Jackpot not found: %s".formatted(jackpot.jackpotId())));
+        int updated = repository.updateState(
+                jackpot.jackpotId().value(),
+                jackpot.currentCycle().value(),
+                jackpot.currentPool().amount(),
+                jackpot.version()
+        );
+
+        if (updated == 0) {
+            meterRegistry.counter("jackpot.optimistic.lock.conflicts").increment();
+
+            throw new OptimisticLockingFailureException("Jackpot %s does not exist or was updated concurrently (version=%d)".formatted(jackpot.jackpotId().value(), jackpot.version()));
+        }
+
+        jackpot.incrementVersion();
+    }
+
+    /**
+     * Applies the delta with a single {@code current_amount = current_amount + :delta} UPDATE and reads the pool
+     * back in the same transaction; the row lock taken by the UPDATE keeps the read consistent.
+     */
+    @Override
+    public Money addToPool(JackpotId id, CycleNumber cycle, Money delta) {
+        int updated = repository.addToPool(id.value(), cycle.value(), delta.amount());
+
+        if (updated == 0) {
+            meterRegistry.counter("jackpot.optimistic.lock.conflicts").increment();
+
+            throw new OptimisticLockingFailureException("Jackpot %s does not exist or has left cycle %d".formatted(id.value(), cycle.value()));
+        }
+
+        BigDecimal currentAmount = repository.findCurrentAmount(id.value())
+                .orElseThrow(() -> new OptimisticLockingFailureException("Jackpot %s was deleted concurrently".formatted(id.value())));
+
+        return Money.of(currentAmount, delta.currency());
+    }
+
+    @Override
+    public void startNextCycle(JackpotId id, CycleNumber cycle) {
+        int updated = repository.startNextCycle(id.value(), cycle.value());
+
+        if (updated == 0) {
+            meterRegistry.counter("jackpot.optimistic.lock.conflicts").increment();
+
+            throw new OptimisticLockingFailureException("Jackpot %s does not exist or has left cycle %d".formatted(id.value(), cycle.value()));
+        }
+    }
+
+    private Jackpot toDomain(JackpotEntity entity) {
+        JackpotStrategyCache.Strategies strategies = strategyCache.get(entity.getId(), entity.getContributionConfigJson(), entity.getRewardConfigJson());
 
-        repository.save(JackpotMapper.toEntity(jackpot, entity.getVersion()));
+        return JackpotMapper.toDomain(entity, strategies.contributionCalculator(), strategies.rewardEvaluator());
     }
 }
@@ -1,5 +1,7 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.cache.BetLookupCache;
+import com.example.jackpot.adapter.out.persistence.jdbc.JdbcBulkWriter;
 import com.example.jackpot.adapter.out.persistence.jpa.mapper.JackpotRewardMapper;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.RewardJpaRepository;
 import com.example.jackpot.application.port.out.JackpotRewardRepository;
@@ -8,20 +10,35 @@ import com.example.jackpot.domain.model.id.BetId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JackpotRewardRepositoryAdapter implements JackpotRewardRepository {
     private final RewardJpaRepository repository;
+    private final BetLookupCache<JackpotReward> cache;
+    private final Optional<JdbcBulkWriter> bulkWriter;
 
     @Override
     public Optional<JackpotReward> findByBetId(BetId betId) {
-        return repository.findByBetId(betId.value()).map(JackpotRewardMapper::toDomain);
+        return cache.get(betId, id -> repository.findByBetId(id.value()).map(JackpotRewardMapper::toDomain));
     }
 
     @Override
     public void save(JackpotReward reward) {
         repository.save(JackpotRewardMapper.toEntity(reward));
+        cache.invalidate(List.of(reward.betId()));
+    }
+
+    @Override
+    public void saveAll(List<JackpotReward> rewards) {
+        if (bulkWriter.isPresent()) {
+            repository.flush();
+            bulkWriter.get().insertRewards(rewards);
+        } else {
+            repository.saveAll(rewards.stream().map(JackpotRewardMapper::toEntity).toList());
+        }
+        cache.invalidate(rewards.stream().map(JackpotReward::betId).toList());
     }
 }
@@ -0,0 +1,14 @@
+package com.example.jackpot.adapter.out.persistence.archive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduling for {@link ContributionArchiver} only when archiving is in use.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "jackpot.persistence.archive.enabled", havingValue = "true")
+public class ArchiveSchedulingConfig {
+}
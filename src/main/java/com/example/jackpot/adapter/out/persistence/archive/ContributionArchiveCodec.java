@@ -0,0 +1,89 @@
+package com.example.jackpot.adapter.out.persistence.archive;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compressed binary layout of the contributions of one archive segment.
+ * <p>
+ * Jackpot, cycle and currency are shared by all rows of a segment and stored on the segment itself, so each row
+ * holds only the bet and user ids, the three amounts and the creation time.
+ */
+public final class ContributionArchiveCodec {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private ContributionArchiveCodec() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static byte[] encode(List<JackpotContributionEntity> contributions) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(contributions.size());
+            for (JackpotContributionEntity contribution : contributions) {
+                writeUuid(out, contribution.getBetId());
+                writeUuid(out, contribution.getUserId());
+                out.writeUTF(contribution.getStake().getAmount().toPlainString());
+                out.writeUTF(contribution.getContribution().getAmount().toPlainString());
+                out.writeUTF(contribution.getCurrentJackpot().getAmount().toPlainString());
+                out.writeLong(contribution.getCreatedAt().getEpochSecond());
+                out.writeInt(contribution.getCreatedAt().getNano());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<JackpotContributionEntity> decode(UUID jackpotId, int jackpotCycle, String currency, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(payload)))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported contribution archive format: %d".formatted(version));
+            }
+
+            int count = in.readInt();
+            List<JackpotContributionEntity> contributions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                contributions.add(new JackpotContributionEntity(
+                        readUuid(in),
+                        readUuid(in),
+                        jackpotId,
+                        jackpotCycle,
+                        new MoneyEmbeddable(new BigDecimal(in.readUTF()), currency),
+                        new MoneyEmbeddable(new BigDecimal(in.readUTF()), currency),
+                        new MoneyEmbeddable(new BigDecimal(in.readUTF()), currency),
+                        Instant.ofEpochSecond(in.readLong(), in.readInt())
+                ));
+            }
+            return contributions;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
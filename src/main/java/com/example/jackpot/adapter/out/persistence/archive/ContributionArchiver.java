@@ -0,0 +1,139 @@
+package com.example.jackpot.adapter.out.persistence.archive;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionArchiveEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.ContributionArchiveJpaRepository;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.ContributionJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Moves contributions of closed jackpot cycles out of {@code jackpot_contribution} into compressed segments of
+ * {@code jackpot_contribution_archive}, keeping the live table to the current cycles and the recent past.
+ * <p>
+ * A contribution is archived once its cycle is no longer the current cycle of its jackpot and it is older than
+ * {@code jackpot.persistence.archive.min-age}. Archived bet ids are no longer seen by the duplicate check of bet
+ * processing, so the age must stay well above the time a bet can still be redelivered. Each batch is written and
+ * deleted in one transaction; batches are repeated while full ones are found.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jackpot.persistence.archive.enabled", havingValue = "true")
+public class ContributionArchiver {
+
+    private final ContributionJpaRepository contributionRepository;
+    private final ContributionArchiveJpaRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int batchSize;
+    private final Clock clock;
+
+    private final Counter archived;
+
+    @Autowired
+    public ContributionArchiver(ContributionJpaRepository contributionRepository,
+                                ContributionArchiveJpaRepository archiveRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${jackpot.persistence.archive.min-age:7d}") Duration minAge,
+                                @Value("${jackpot.persistence.archive.batch-size:1000}") int batchSize) {
+        this(contributionRepository, archiveRepository, transactionTemplate, meterRegistry, minAge, batchSize, Clock.systemUTC());
+    }
+
+    ContributionArchiver(ContributionJpaRepository contributionRepository,
+                         ContributionArchiveJpaRepository archiveRepository,
+                         TransactionTemplate transactionTemplate,
+                         MeterRegistry meterRegistry,
+                         Duration minAge,
+                         int batchSize,
+                         Clock clock) {
+        this.contributionRepository = contributionRepository;
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        this.archived = meterRegistry.counter("jackpot.archive.contributions");
+    }
+
+    @Scheduled(fixedDelayString = "${jackpot.persistence.archive.fixed-delay-ms:60000}")
+    public void archive() {
+        try {
+            Instant before = clock.instant().minus(minAge);
+            int count;
+            do {
+                count = archiveBatch(before);
+            } while (count == batchSize);
+        } catch (RuntimeException ex) {
+            log.error("Failed to archive contributions, retrying on next run: {}", ex.getMessage(), ex);
+        }
+    }
+
+    int archiveBatch(Instant before) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<JackpotContributionEntity> contributions = contributionRepository.findArchivable(before, PageRequest.ofSize(batchSize));
+            if (contributions.isEmpty()) {
+                return 0;
+            }
+
+            Instant archivedAt = clock.instant();
+            Map<SegmentKey, List<JackpotContributionEntity>> segments = contributions.stream()
+                    .collect(groupingBy(SegmentKey::of, LinkedHashMap::new, toList()));
+
+            archiveRepository.saveAll(segments.entrySet().stream()
+                    .map(segment -> toSegment(segment.getKey(), segment.getValue(), archivedAt))
+                    .toList());
+            contributionRepository.deleteByBetIds(contributions.stream().map(JackpotContributionEntity::getBetId).toList());
+
+            log.info("Archived {} contributions in {} segments", contributions.size(), segments.size());
+
+            return contributions.size();
+        });
+
+        archived.increment(count);
+
+        return count;
+    }
+
+    private static JackpotContributionArchiveEntity toSegment(SegmentKey key, List<JackpotContributionEntity> contributions, Instant archivedAt) {
+        return new JackpotContributionArchiveEntity(
+                UUID.randomUUID(),
+                key.jackpotId(),
+                key.jackpotCycle(),
+                key.currency(),
+                contributions.size(),
+                contributions.stream().map(c -> c.getContribution().getAmount()).reduce(BigDecimal.ZERO, BigDecimal::add),
+                contributions.getFirst().getCreatedAt(),
+                contributions.getLast().getCreatedAt(),
+                ContributionArchiveCodec.encode(contributions),
+                archivedAt
+        );
+    }
+
+    private record SegmentKey(UUID jackpotId, int jackpotCycle, String currency) {
+
+        static SegmentKey of(JackpotContributionEntity contribution) {
+            return new SegmentKey(contribution.getJackpotId(), contribution.getJackpotCycle(), contribution.getStake().getCurrency());
+        }
+    }
+}
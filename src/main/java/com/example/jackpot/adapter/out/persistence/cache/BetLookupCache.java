@@ -0,0 +1,146 @@
+package com.example.jackpot.adapter.out.persistence.cache;
+
+import com.example.jackpot.domain.model.id.BetId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Read-through cache of rows that are written once per bet and never change, keyed by bet id.
+ * <p>
+ * Found values are kept in a bounded LRU. A lookup that finds nothing is remembered for {@code negativeTtl} only,
+ * since the row may be written at any moment. Writers call {@link #invalidate} so a remembered miss is dropped when
+ * they write the row and again once their transaction commits; a miss loaded while an invalidation happened is not
+ * remembered at all.
+ */
+public final class BetLookupCache<V> {
+
+    private final Duration negativeTtl;
+    private final Clock clock;
+
+    private final Object lock = new Object();
+    private final Map<BetId, V> found;
+    private final Map<BetId, Instant> missing;
+    private long invalidations;
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+
+    public BetLookupCache(String name, int maxSize, Duration negativeTtl, MeterRegistry meterRegistry, Clock clock) {
+        requireNonNull(name, "name must not be null");
+        requireNonNull(negativeTtl, "negativeTtl must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        requireNonNull(clock, "clock must not be null");
+
+        isTrue(maxSize > 0, "maxSize must be positive");
+        isTrue(!negativeTtl.isNegative(), "negativeTtl must not be negative");
+
+        this.negativeTtl = negativeTtl;
+        this.clock = clock;
+        this.found = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BetId, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.missing = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BetId, Instant> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        this.hits = lookups(meterRegistry, name, "hit");
+        this.negativeHits = lookups(meterRegistry, name, "negative-hit");
+        this.misses = lookups(meterRegistry, name, "miss");
+    }
+
+    /**
+     * The cached value of the bet, or what {@code loader} finds for it.
+     */
+    public Optional<V> get(BetId betId, Function<BetId, Optional<V>> loader) {
+        requireNonNull(betId, "betId must not be null");
+        requireNonNull(loader, "loader must not be null");
+
+        long invalidationsBefore;
+        synchronized (lock) {
+            V value = found.get(betId);
+            if (value != null) {
+                hits.increment();
+                return Optional.of(value);
+            }
+
+            Instant expiresAt = missing.get(betId);
+            if (expiresAt != null) {
+                if (clock.instant().isBefore(expiresAt)) {
+                    negativeHits.increment();
+                    return Optional.empty();
+                }
+                missing.remove(betId);
+            }
+
+            invalidationsBefore = invalidations;
+        }
+
+        misses.increment();
+        Optional<V> loaded = loader.apply(betId);
+
+        synchronized (lock) {
+            if (loaded.isPresent()) {
+                found.put(betId, loaded.get());
+            } else if (invalidations == invalidationsBefore && negativeTtl.isPositive()) {
+                missing.put(betId, clock.instant().plus(negativeTtl));
+            }
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Drops remembered misses of the bets now and, if a transaction is active, again after it commits.
+     */
+    public void invalidate(Collection<BetId> betIds) {
+        requireNonNull(betIds, "betIds must not be null");
+
+        List<BetId> invalidated = List.copyOf(betIds);
+        forget(invalidated);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget(invalidated);
+                }
+            });
+        }
+    }
+
+    private void forget(List<BetId> betIds) {
+        synchronized (lock) {
+            invalidations++;
+            betIds.forEach(missing::remove);
+        }
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("jackpot.cache.lookups")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
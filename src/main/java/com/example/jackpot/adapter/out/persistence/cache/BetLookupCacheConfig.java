@@ -0,0 +1,32 @@
+package com.example.jackpot.adapter.out.persistence.cache;
+
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.JackpotReward;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Lookup caches in front of the reward and outcome tables, which clients poll by bet id until their bet is processed.
+ */
+@Configuration
+public class BetLookupCacheConfig {
+
+    @Bean
+    public BetLookupCache<JackpotReward> rewardLookupCache(@Value("${jackpot.persistence.lookup-cache.max-size:100000}") int maxSize,
+                                                           @Value("${jackpot.persistence.lookup-cache.negative-ttl:1s}") Duration negativeTtl,
+                                                           MeterRegistry meterRegistry) {
+        return new BetLookupCache<>("reward", maxSize, negativeTtl, meterRegistry, Clock.systemUTC());
+    }
+
+    @Bean
+    public BetLookupCache<BetOutcome> outcomeLookupCache(@Value("${jackpot.persistence.lookup-cache.max-size:100000}") int maxSize,
+                                                         @Value("${jackpot.persistence.lookup-cache.negative-ttl:1s}") Duration negativeTtl,
+                                                         MeterRegistry meterRegistry) {
+        return new BetLookupCache<>("outcome", maxSize, negativeTtl, meterRegistry, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.jackpot.adapter.out.persistence.cache;
+
+import com.example.jackpot.adapter.out.persistence.jpa.config.contribution.ContributionConfigMapper;
+import com.example.jackpot.adapter.out.persistence.jpa.config.reward.RewardConfigMapper;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded LRU cache of parsed jackpot strategies, keyed by jackpot id.
+ * <p>
+ * Config columns are not updatable, so parsing them once per jackpot is enough. Each entry still remembers the
+ * JSON it was parsed from and is re-parsed if a jackpot is loaded with a different config.
+ */
+@Slf4j
+@Component
+public class JackpotStrategyCache {
+
+    private final Map<UUID, Entry> entries;
+
+    public JackpotStrategyCache(@Value("${jackpot.persistence.strategy-cache.max-size:10000}") int maxSize) {
+        isTrue(maxSize > 0, "maxSize must be positive");
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Strategies get(UUID jackpotId, String contributionConfigJson, String rewardConfigJson) {
+        requireNonNull(jackpotId, "jackpotId must not be null");
+        requireNonNull(contributionConfigJson, "contributionConfigJson must not be null");
+        requireNonNull(rewardConfigJson, "rewardConfigJson must not be null");
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(jackpotId);
+        }
+
+        if (entry != null && entry.matches(contributionConfigJson, rewardConfigJson)) {
+            return entry.strategies();
+        }
+
+        log.debug("Parsing strategies for jackpotId={}", jackpotId);
+
+        Strategies strategies = new Strategies(
+                ContributionConfigMapper.toDomain(contributionConfigJson),
+                RewardConfigMapper.toDomain(rewardConfigJson)
+        );
+
+        synchronized (entries) {
+            entries.put(jackpotId, new Entry(contributionConfigJson, rewardConfigJson, strategies));
+        }
+
+        return strategies;
+    }
+
+    public void invalidate(JackpotId jackpotId) {
+        requireNonNull(jackpotId, "jackpotId must not be null");
+
+        synchronized (entries) {
+            entries.remove(jackpotId.value());
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Calculation strategies of a single jackpot, shared by every aggregate loaded for it.
+     */
+    public record Strategies(ContributionCalculator contributionCalculator, RewardEvaluator rewardEvaluator) {
+    }
+
+    private record Entry(String contributionConfigJson, String rewardConfigJson, Strategies strategies) {
+        boolean matches(String contributionConfigJson, String rewardConfigJson) {
+            return this.contributionConfigJson.equals(contributionConfigJson) && this.rewardConfigJson.equals(rewardConfigJson);
+        }
+    }
+}
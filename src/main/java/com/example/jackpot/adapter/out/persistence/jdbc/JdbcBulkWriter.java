@@ -0,0 +1,111 @@
+package com.example.jackpot.adapter.out.persistence.jdbc;
+
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Inserts bets, contributions and rewards with plain JDBC batches, enabled with {@code jackpot.persistence.bulk-writer.mode=jdbc}.
+ * <p>
+ * The rows go straight to the connection of the surrounding transaction: no entities are instantiated, nothing is
+ * added to the persistence context and nothing is left for the flush. Inserts run in chunks of
+ * {@code jackpot.persistence.bulk-writer.batch-size} statements, so the driver can send each chunk in one round trip.
+ * Rows are not visible to the persistence context of the same transaction, which is fine for these tables: they are
+ * only ever inserted, and read back by queries.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jackpot.persistence.bulk-writer.mode", havingValue = "jdbc")
+public class JdbcBulkWriter {
+
+    static final String INSERT_BET = """
+            insert into bet (id, user_id, jackpot_id, bet_amount, bet_currency, created_at)
+            values (?, ?, ?, ?, ?, ?)""";
+
+    static final String INSERT_CONTRIBUTION = """
+            insert into jackpot_contribution (bet_id, user_id, jackpot_id, jackpot_cycle, stake_amount, contribution_amount, current_jackpot_amount, currency, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    static final String INSERT_REWARD = """
+            insert into jackpot_reward (bet_id, user_id, jackpot_id, jackpot_cycle, reward_amount, reward_currency, created_at)
+            values (?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public JdbcBulkWriter(JdbcTemplate jdbcTemplate, @Value("${jackpot.persistence.bulk-writer.batch-size:500}") int batchSize) {
+        requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        isTrue(batchSize > 0, "batchSize must be positive");
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void insertBets(List<Bet> bets) {
+        requireNonNull(bets, "bets must not be null");
+
+        OffsetDateTime createdAt = timestamp(Instant.now());
+
+        jdbcTemplate.batchUpdate(INSERT_BET, bets, batchSize, (ps, bet) -> {
+            ps.setObject(1, bet.betId().value());
+            ps.setObject(2, bet.userId().value());
+            ps.setObject(3, bet.jackpotId().value());
+            ps.setBigDecimal(4, bet.betAmount().amount());
+            ps.setString(5, bet.betAmount().currency().getCurrencyCode());
+            ps.setObject(6, createdAt);
+        });
+
+        log.debug("Inserted {} bets", bets.size());
+    }
+
+    public void insertContributions(List<JackpotContribution> contributions) {
+        requireNonNull(contributions, "contributions must not be null");
+
+        jdbcTemplate.batchUpdate(INSERT_CONTRIBUTION, contributions, batchSize, (ps, contribution) -> {
+            ps.setObject(1, contribution.betId().value());
+            ps.setObject(2, contribution.userId().value());
+            ps.setObject(3, contribution.jackpotId().value());
+            ps.setInt(4, contribution.jackpotCycle().value());
+            ps.setBigDecimal(5, contribution.stakeAmount().amount());
+            ps.setBigDecimal(6, contribution.contributionAmount().amount());
+            ps.setBigDecimal(7, contribution.currentJackpotAmount().amount());
+            ps.setString(8, contribution.stakeAmount().currency().getCurrencyCode());
+            ps.setObject(9, timestamp(contribution.createdAt()));
+        });
+
+        log.debug("Inserted {} contributions", contributions.size());
+    }
+
+    public void insertRewards(List<JackpotReward> rewards) {
+        requireNonNull(rewards, "rewards must not be null");
+
+        jdbcTemplate.batchUpdate(INSERT_REWARD, rewards, batchSize, (ps, reward) -> {
+            ps.setObject(1, reward.betId().value());
+            ps.setObject(2, reward.userId().value());
+            ps.setObject(3, reward.jackpotId().value());
+            ps.setInt(4, reward.jackpotCycle().value());
+            ps.setBigDecimal(5, reward.rewardAmount().amount());
+            ps.setString(6, reward.rewardAmount().currency().getCurrencyCode());
+            ps.setObject(7, timestamp(reward.createdAt()));
+        });
+
+        log.debug("Inserted {} rewards", rewards.size());
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
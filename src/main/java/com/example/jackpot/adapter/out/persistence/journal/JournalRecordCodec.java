@@ -0,0 +1,167 @@
+package com.example.jackpot.adapter.out.persistence.journal;
+
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Fixed {@value #RECORD_SIZE}-byte layout of a journal record, written at absolute positions of a segment buffer.
+ * <p>
+ * The ids are stored as two longs each, amounts in minor units and the currency as its ISO 4217 code. A zero type
+ * byte marks the unused tail of a segment, and a CRC32C over the record detects one that was only partly written
+ * when the process stopped.
+ */
+public final class JournalRecordCodec {
+
+    static final int RECORD_SIZE = 128;
+
+    static final byte EMPTY = 0;
+    static final byte CONTRIBUTION = 1;
+    static final byte REWARD = 2;
+
+    private static final int TYPE = 0;
+    private static final int PARTITION = 4;
+    private static final int LAST_OFFSET = 8;
+    private static final int BET_ID = 16;
+    private static final int USER_ID = 32;
+    private static final int JACKPOT_ID = 48;
+    private static final int CYCLE = 64;
+    private static final int CURRENCY = 68;
+    private static final int STAKE = 72;
+    private static final int AMOUNT = 80;
+    private static final int POOL = 88;
+    private static final int CREATED_SECONDS = 96;
+    private static final int CREATED_NANOS = 104;
+    private static final int CHECKSUM = 108;
+
+    private JournalRecordCodec() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static void writeContribution(ByteBuffer buffer, int at, int partition, long lastOffset, JackpotContribution contribution) {
+        writeHeader(buffer, at, CONTRIBUTION, partition, lastOffset);
+        writeUuid(buffer, at + BET_ID, contribution.betId().value());
+        writeUuid(buffer, at + USER_ID, contribution.userId().value());
+        writeUuid(buffer, at + JACKPOT_ID, contribution.jackpotId().value());
+        buffer.putInt(at + CYCLE, contribution.jackpotCycle().value());
+        writeCurrency(buffer, at, contribution.stakeAmount().currency());
+        buffer.putLong(at + STAKE, contribution.stakeAmount().minorUnits());
+        buffer.putLong(at + AMOUNT, contribution.contributionAmount().minorUnits());
+        buffer.putLong(at + POOL, contribution.currentJackpotAmount().minorUnits());
+        writeInstant(buffer, at, contribution.createdAt());
+        buffer.putInt(at + CHECKSUM, checksum(buffer, at));
+    }
+
+    public static void writeReward(ByteBuffer buffer, int at, int partition, long lastOffset, JackpotReward reward) {
+        writeHeader(buffer, at, REWARD, partition, lastOffset);
+        writeUuid(buffer, at + BET_ID, reward.betId().value());
+        writeUuid(buffer, at + USER_ID, reward.userId().value());
+        writeUuid(buffer, at + JACKPOT_ID, reward.jackpotId().value());
+        buffer.putInt(at + CYCLE, reward.jackpotCycle().value());
+        writeCurrency(buffer, at, reward.rewardAmount().currency());
+        buffer.putLong(at + STAKE, 0);
+        buffer.putLong(at + AMOUNT, reward.rewardAmount().minorUnits());
+        buffer.putLong(at + POOL, 0);
+        writeInstant(buffer, at, reward.createdAt());
+        buffer.putInt(at + CHECKSUM, checksum(buffer, at));
+    }
+
+    /**
+     * The type of the record at {@code at}, or {@link #EMPTY} if there is none or it was not completely written.
+     */
+    public static byte type(ByteBuffer buffer, int at) {
+        byte type = buffer.get(at + TYPE);
+        if (type == EMPTY || buffer.getInt(at + CHECKSUM) != checksum(buffer, at)) {
+            return EMPTY;
+        }
+        return type;
+    }
+
+    public static int partition(ByteBuffer buffer, int at) {
+        return buffer.getInt(at + PARTITION);
+    }
+
+    public static long lastOffset(ByteBuffer buffer, int at) {
+        return buffer.getLong(at + LAST_OFFSET);
+    }
+
+    public static JackpotContribution readContribution(ByteBuffer buffer, int at) {
+        Currency currency = readCurrency(buffer, at);
+
+        return new JackpotContribution(
+                BetId.of(readUuid(buffer, at + BET_ID)),
+                UserId.of(readUuid(buffer, at + USER_ID)),
+                readCycle(buffer, at),
+                Money.ofMinor(buffer.getLong(at + STAKE), currency),
+                Money.ofMinor(buffer.getLong(at + AMOUNT), currency),
+                Money.ofMinor(buffer.getLong(at + POOL), currency),
+                readInstant(buffer, at)
+        );
+    }
+
+    public static JackpotReward readReward(ByteBuffer buffer, int at) {
+        return new JackpotReward(
+                BetId.of(readUuid(buffer, at + BET_ID)),
+                UserId.of(readUuid(buffer, at + USER_ID)),
+                readCycle(buffer, at),
+                Money.ofMinor(buffer.getLong(at + AMOUNT), readCurrency(buffer, at)),
+                readInstant(buffer, at)
+        );
+    }
+
+    private static void writeHeader(ByteBuffer buffer, int at, byte type, int partition, long lastOffset) {
+        buffer.put(at + TYPE, type);
+        buffer.putInt(at + PARTITION, partition);
+        buffer.putLong(at + LAST_OFFSET, lastOffset);
+    }
+
+    private static int checksum(ByteBuffer buffer, int at) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(at, CHECKSUM));
+        return (int) crc.getValue();
+    }
+
+    private static void writeUuid(ByteBuffer buffer, int at, UUID uuid) {
+        buffer.putLong(at, uuid.getMostSignificantBits());
+        buffer.putLong(at + Long.BYTES, uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer buffer, int at) {
+        return new UUID(buffer.getLong(at), buffer.getLong(at + Long.BYTES));
+    }
+
+    private static void writeCurrency(ByteBuffer buffer, int at, Currency currency) {
+        buffer.put(at + CURRENCY, currency.getCurrencyCode().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Currency readCurrency(ByteBuffer buffer, int at) {
+        byte[] code = new byte[3];
+        buffer.get(at + CURRENCY, code);
+        return Currency.getInstance(new String(code, StandardCharsets.US_ASCII));
+    }
+
+    private static JackpotCycle readCycle(ByteBuffer buffer, int at) {
+        return JackpotCycle.of(JackpotId.of(readUuid(buffer, at + JACKPOT_ID)), CycleNumber.of(buffer.getInt(at + CYCLE)));
+    }
+
+    private static void writeInstant(ByteBuffer buffer, int at, Instant instant) {
+        buffer.putLong(at + CREATED_SECONDS, instant.getEpochSecond());
+        buffer.putInt(at + CREATED_NANOS, instant.getNano());
+    }
+
+    private static Instant readInstant(ByteBuffer buffer, int at) {
+        return Instant.ofEpochSecond(buffer.getLong(at + CREATED_SECONDS), buffer.getInt(at + CREATED_NANOS));
+    }
+}
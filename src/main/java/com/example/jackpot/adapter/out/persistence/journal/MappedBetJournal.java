@@ -0,0 +1,332 @@
+package com.example.jackpot.adapter.out.persistence.journal;
+
+import com.example.jackpot.application.port.out.BetJournal;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link BetJournal} appending fixed-size records to memory-mapped segment files, enabled with
+ * {@code jackpot.persistence.journal.enabled=true}.
+ * <p>
+ * Records are copied into the mapped segment under a lock, which costs no system call. Durability comes from group
+ * commit: the first caller of {@link #awaitDurable} waits until {@code fsync-interval} has passed since the last
+ * force, then forces the segment once for everything appended by then while the other callers wait for it. A full
+ * segment is forced and closed, and appending continues in a new one named after its first position. Every start
+ * opens a new segment, so a record torn by a crash is never followed by newer ones.
+ * <p>
+ * Segments whose records have all been {@linkplain #release released} are deleted.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jackpot.persistence.journal.enabled", havingValue = "true")
+public class MappedBetJournal implements BetJournal {
+
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final long fsyncIntervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition forced = lock.newCondition();
+    private final Deque<Segment> closed = new ArrayDeque<>();
+    private Segment active;
+    private long writePosition;
+    private long durablePosition;
+    private boolean forcing;
+    private long lastForceNanos;
+
+    private final Counter records;
+    private final Counter fsyncs;
+
+    public MappedBetJournal(@Value("${jackpot.persistence.journal.directory:data/journal}") Path directory,
+                            @Value("${jackpot.persistence.journal.segment-size:8MB}") DataSize segmentSize,
+                            @Value("${jackpot.persistence.journal.fsync-interval:2ms}") Duration fsyncInterval,
+                            MeterRegistry meterRegistry) {
+        requireNonNull(directory, "directory must not be null");
+        requireNonNull(segmentSize, "segmentSize must not be null");
+        requireNonNull(fsyncInterval, "fsyncInterval must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        isTrue(segmentSize.toBytes() >= JournalRecordCodec.RECORD_SIZE && segmentSize.toBytes() <= Integer.MAX_VALUE,
+                "segmentSize must hold at least one record and at most 2GB");
+        isTrue(!fsyncInterval.isNegative(), "fsyncInterval must not be negative");
+
+        this.directory = directory;
+        this.recordsPerSegment = (int) (segmentSize.toBytes() / JournalRecordCodec.RECORD_SIZE);
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.lastForceNanos = System.nanoTime() - this.fsyncIntervalNanos;
+
+        this.records = meterRegistry.counter("jackpot.journal.records");
+        this.fsyncs = meterRegistry.counter("jackpot.journal.fsyncs");
+
+        open();
+    }
+
+    @Override
+    public long append(int partition, long lastOffset, List<JackpotContribution> contributions, List<JackpotReward> rewards) {
+        requireNonNull(contributions, "contributions must not be null");
+        requireNonNull(rewards, "rewards must not be null");
+
+        lock.lock();
+        try {
+            for (JackpotContribution contribution : contributions) {
+                JournalRecordCodec.writeContribution(active.buffer, nextRecord(), partition, lastOffset, contribution);
+            }
+            for (JackpotReward reward : rewards) {
+                JournalRecordCodec.writeReward(active.buffer, nextRecord(), partition, lastOffset, reward);
+            }
+
+            records.increment(contributions.size() + rewards.size());
+
+            return writePosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void awaitDurable(long position) {
+        lock.lock();
+        try {
+            while (durablePosition < position) {
+                if (forcing) {
+                    forced.awaitUninterruptibly();
+                    continue;
+                }
+
+                forcing = true;
+                try {
+                    collectAppends();
+                    force();
+                } finally {
+                    forcing = false;
+                    forced.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Recovered recover(int partition, long resumeOffset) {
+        List<JackpotContribution> contributions = new ArrayList<>();
+        List<JackpotReward> rewards = new ArrayList<>();
+
+        lock.lock();
+        try {
+            List<Segment> segments = new ArrayList<>(closed);
+            segments.add(active);
+
+            for (Segment segment : segments) {
+                MappedByteBuffer buffer = segment == active ? active.buffer : map(segment.path, FileChannel.MapMode.READ_ONLY);
+                int count = (int) ((segment == active ? writePosition : segment.end) - segment.base);
+
+                for (int i = 0; i < count; i++) {
+                    int at = i * JournalRecordCodec.RECORD_SIZE;
+                    byte type = JournalRecordCodec.type(buffer, at);
+                    if (type == JournalRecordCodec.EMPTY) {
+                        break;
+                    }
+                    if (JournalRecordCodec.partition(buffer, at) != partition || JournalRecordCodec.lastOffset(buffer, at) >= resumeOffset) {
+                        continue;
+                    }
+
+                    if (type == JournalRecordCodec.CONTRIBUTION) {
+                        contributions.add(JournalRecordCodec.readContribution(buffer, at));
+                    } else {
+                        rewards.add(JournalRecordCodec.readReward(buffer, at));
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        log.info("Recovered {} contributions and {} rewards of partition={} below offset={} from the journal", contributions.size(), rewards.size(), partition, resumeOffset);
+
+        return new Recovered(contributions, rewards);
+    }
+
+    @Override
+    public void release(long position) {
+        lock.lock();
+        try {
+            while (!closed.isEmpty() && closed.peekFirst().end <= position) {
+                Segment segment = closed.removeFirst();
+                Files.deleteIfExists(segment.path);
+
+                log.debug("Deleted journal segment {}", segment.path);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to delete journal segment", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            active.buffer.force();
+            active.channel.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close journal segment {}: {}", active.path, ex.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lets appends of other callers join the coming force until the fsync interval has passed.
+     */
+    private void collectAppends() {
+        long remaining = lastForceNanos + fsyncIntervalNanos - System.nanoTime();
+        while (remaining > 0) {
+            try {
+                remaining = forced.awaitNanos(remaining);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void force() {
+        long target = writePosition;
+        MappedByteBuffer buffer = active.buffer;
+
+        lock.unlock();
+        try {
+            buffer.force();
+        } finally {
+            lock.lock();
+        }
+
+        durablePosition = Math.max(durablePosition, target);
+        lastForceNanos = System.nanoTime();
+        fsyncs.increment();
+    }
+
+    private int nextRecord() {
+        if (writePosition - active.base == recordsPerSegment) {
+            roll();
+        }
+
+        return (int) (writePosition++ - active.base) * JournalRecordCodec.RECORD_SIZE;
+    }
+
+    /**
+     * Forces and closes the full segment, so forcing the next one covers everything appended before it.
+     */
+    private void roll() {
+        try {
+            active.buffer.force();
+            active.channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close journal segment %s".formatted(active.path), ex);
+        }
+
+        closed.addLast(new Segment(active.path, active.base, writePosition, null, null));
+        active = create(writePosition);
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+
+            List<Path> paths;
+            try (Stream<Path> files = Files.list(directory)) {
+                paths = files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+            }
+
+            long end = 0;
+            for (Path path : paths) {
+                long base = Long.parseLong(path.getFileName().toString().replace(SUFFIX, ""));
+                int count = count(path);
+                if (count == 0) {
+                    Files.delete(path);
+                    continue;
+                }
+
+                end = base + count;
+                closed.addLast(new Segment(path, base, end, null, null));
+            }
+
+            writePosition = end;
+            durablePosition = end;
+            active = create(end);
+
+            log.info("Opened journal in {} with {} segments up to position={}", directory, closed.size(), end);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open journal in %s".formatted(directory), ex);
+        }
+    }
+
+    private int count(Path path) {
+        MappedByteBuffer buffer = map(path, FileChannel.MapMode.READ_ONLY);
+        int capacity = buffer.capacity() / JournalRecordCodec.RECORD_SIZE;
+
+        int count = 0;
+        while (count < capacity && JournalRecordCodec.type(buffer, count * JournalRecordCodec.RECORD_SIZE) != JournalRecordCodec.EMPTY) {
+            count++;
+        }
+        return count;
+    }
+
+    private Segment create(long base) {
+        Path path = directory.resolve("%020d%s".formatted(base, SUFFIX));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * JournalRecordCodec.RECORD_SIZE);
+
+            return new Segment(path, base, -1, channel, buffer);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create journal segment %s".formatted(path), ex);
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, FileChannel.MapMode mode) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(mode, 0, channel.size());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to map journal segment %s".formatted(path), ex);
+        }
+    }
+
+    /**
+     * A segment file holding positions from {@code base}; {@code end} is set once it is closed, channel and buffer
+     * while it is appended to.
+     */
+    private record Segment(Path path, long base, long end, FileChannel channel, MappedByteBuffer buffer) {
+    }
+}
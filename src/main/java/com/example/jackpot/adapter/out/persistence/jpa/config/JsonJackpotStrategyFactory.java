@@ -0,0 +1,27 @@
+package com.example.jackpot.adapter.out.persistence.jpa.config;
+
+import com.example.jackpot.adapter.out.persistence.jpa.config.contribution.ContributionConfigMapper;
+import com.example.jackpot.adapter.out.persistence.jpa.config.reward.RewardConfigMapper;
+import com.example.jackpot.application.port.out.JackpotStrategyFactory;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.springframework.stereotype.Component;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * {@link JackpotStrategyFactory} reading the JSON configs stored with each jackpot.
+ */
+@Component
+public class JsonJackpotStrategyFactory implements JackpotStrategyFactory {
+
+    @Override
+    public ContributionCalculator contributionCalculator(String config) {
+        return ContributionConfigMapper.toDomain(config);
+    }
+
+    @Override
+    public RewardEvaluator rewardEvaluator(String config, DoubleSupplier randomNumberGenerator) {
+        return RewardConfigMapper.toDomain(config, randomNumberGenerator);
+    }
+}
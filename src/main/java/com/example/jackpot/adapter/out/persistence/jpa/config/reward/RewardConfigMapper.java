@@ -4,11 +4,15 @@ import com.example.jackpot.adapter.out.persistence.jpa.config.shared.MoneyJson;
 import com.example.jackpot.domain.model.vo.Money;
 import com.example.jackpot.domain.model.vo.Percentage;
 import com.example.jackpot.domain.reward.FixedChanceRewardEvaluator;
+import com.example.jackpot.domain.reward.RandomNumberGenerators;
 import com.example.jackpot.domain.reward.RewardEvaluator;
 import com.example.jackpot.domain.reward.VariableChanceRewardEvaluator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.function.DoubleSupplier;
+
 import static java.util.Objects.requireNonNull;
 
 public final class RewardConfigMapper {
@@ -23,31 +27,74 @@ public final class RewardConfigMapper {
 
         try {
             var root = MAPPER.readTree(json);
-            var type = root.path("type").asText();
-            var cfg = root.path("config");
-
-            return switch (type.toUpperCase()) {
-                case "FIXED_CHANCE" -> {
-                    FixedRewardConfigJson config = MAPPER.treeToValue(cfg, FixedRewardConfigJson.class);
-
-                    yield new FixedChanceRewardEvaluator(Percentage.of(config.chancePercent()));
-                }
-                case "VARIABLE_CHANCE" -> {
-                    VariableRewardConfigJson config = MAPPER.treeToValue(cfg, VariableRewardConfigJson.class);
-                    MoneyJson minPool = config.minPool();
-                    MoneyJson maxPool = config.maxPool();
-
-                    yield new VariableChanceRewardEvaluator(
-                            Percentage.of(config.minPercent()),
-                            Percentage.of(config.maxPercent()),
-                            Money.of(minPool.amount(), minPool.currency()),
-                            Money.of(maxPool.amount(), maxPool.currency())
-                    );
-                }
-                default -> throw new IllegalArgumentException("Unsupported reward type: '%s'".formatted(type));
-            };
+
+            return toDomain(root, toRandomNumberGenerator(root.path("rng")));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse reward config JSON", e);
+        }
+    }
+
+    /**
+     * Maps the config with {@code randomNumberGenerator} in place of the one its {@code "rng"} node selects,
+     * for callers that control the random sequence themselves, such as simulations.
+     */
+    public static RewardEvaluator toDomain(String json, DoubleSupplier randomNumberGenerator) {
+        requireNonNull(json, "json must not be null");
+        requireNonNull(randomNumberGenerator, "randomNumberGenerator must not be null");
+
+        try {
+            return toDomain(MAPPER.readTree(json), randomNumberGenerator);
         } catch (JsonProcessingException e) {
             throw new IllegalStateException("Failed to parse reward config JSON", e);
         }
     }
+
+    private static RewardEvaluator toDomain(JsonNode root, DoubleSupplier randomNumberGenerator) throws JsonProcessingException {
+        var type = root.path("type").asText();
+        var cfg = root.path("config");
+
+        return switch (type.toUpperCase()) {
+            case "FIXED_CHANCE" -> {
+                FixedRewardConfigJson config = MAPPER.treeToValue(cfg, FixedRewardConfigJson.class);
+
+                yield new FixedChanceRewardEvaluator(Percentage.of(config.chancePercent()), randomNumberGenerator);
+            }
+            case "VARIABLE_CHANCE" -> {
+                VariableRewardConfigJson config = MAPPER.treeToValue(cfg, VariableRewardConfigJson.class);
+                MoneyJson minPool = config.minPool();
+                MoneyJson maxPool = config.maxPool();
+
+                yield new VariableChanceRewardEvaluator(
+                        Percentage.of(config.minPercent()),
+                        Percentage.of(config.maxPercent()),
+                        Money.of(minPool.amount(), minPool.currency()),
+                        Money.of(maxPool.amount(), maxPool.currency()),
+                        randomNumberGenerator
+                );
+            }
+            default -> throw new IllegalArgumentException("Unsupported reward type: '%s'".formatted(type));
+        };
+    }
+
+    /**
+     * Maps the optional {@code "rng": { "type": "THREAD_LOCAL" | "SECURE" }} node; without it the thread-local
+     * generator is used. {@code SEEDED} is rejected: a seeded generator built here would restart its sequence on every
+     * reload and repeat it on every instance, making the draws of a live jackpot predictable. Simulations pass their own
+     * seeded generators to {@link #toDomain(String, DoubleSupplier)}.
+     */
+    private static DoubleSupplier toRandomNumberGenerator(JsonNode node) throws JsonProcessingException {
+        if (node.isMissingNode() || node.isNull()) {
+            return RandomNumberGenerators.threadLocal();
+        }
+
+        RngConfigJson config = MAPPER.treeToValue(node, RngConfigJson.class);
+        String type = config.type() == null ? "" : config.type();
+
+        return switch (type.toUpperCase()) {
+            case "THREAD_LOCAL" -> RandomNumberGenerators.threadLocal();
+            case "SECURE" -> RandomNumberGenerators.securePool();
+            case "SEEDED" -> throw new IllegalArgumentException("Seeded rng is only supported for simulations, not for stored jackpots");
+            default -> throw new IllegalArgumentException("Unsupported rng type: '%s'".formatted(type));
+        };
+    }
 }
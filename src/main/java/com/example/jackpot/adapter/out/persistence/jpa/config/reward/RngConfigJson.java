@@ -0,0 +1,4 @@
+package com.example.jackpot.adapter.out.persistence.jpa.config.reward;
+
+public record RngConfigJson(String type, Long seed) {
+}
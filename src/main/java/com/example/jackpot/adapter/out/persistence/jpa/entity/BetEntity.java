@@ -3,10 +3,11 @@ package com.example.jackpot.adapter.out.persistence.jpa.entity;
 import jakarta.persistence.*;
 import org.springframework.data.domain.Persistable;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "bet")
+@Table(name = "bet", indexes = @Index(name = "ix_bet_created_at", columnList = "created_at"))
 public class BetEntity implements Persistable<UUID> {
     @Id
     @Column(name = "id", nullable = false)
@@ -28,6 +29,9 @@ public class BetEntity implements Persistable<UUID> {
     @AttributeOverride(name = "currency", column = @Column(name = "bet_currency", length = 3, nullable = false))
     private MoneyEmbeddable bet;
 
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
 
     protected BetEntity() {
         // Only for JPA
@@ -38,6 +42,7 @@ public class BetEntity implements Persistable<UUID> {
         this.userId = userId;
         this.jackpotId = jackpotId;
         this.bet = bet;
+        this.createdAt = Instant.now();
     }
 
     public UUID getUserId() {
@@ -52,6 +57,10 @@ public class BetEntity implements Persistable<UUID> {
         return bet;
     }
 
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
     @Override
     public UUID getId() {
         return id;
@@ -0,0 +1,71 @@
+package com.example.jackpot.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "bet_outbox", indexes = @Index(name = "ix_bet_outbox_created_at", columnList = "created_at"))
+public class BetOutboxEntity implements Persistable<UUID> {
+    @Id
+    @Column(name = "bet_id", nullable = false)
+    private UUID betId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "bet_amount", precision = 19, scale = 2, nullable = false))
+    @AttributeOverride(name = "currency", column = @Column(name = "bet_currency", length = 3, nullable = false))
+    private MoneyEmbeddable bet;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected BetOutboxEntity() {
+        // Only for JPA
+    }
+
+    public BetOutboxEntity(UUID betId, UUID userId, UUID jackpotId, MoneyEmbeddable bet, Instant createdAt) {
+        this.betId = betId;
+        this.userId = userId;
+        this.jackpotId = jackpotId;
+        this.bet = bet;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getBetId() {
+        return betId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getJackpotId() {
+        return jackpotId;
+    }
+
+    public MoneyEmbeddable getBet() {
+        return bet;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public UUID getId() {
+        return betId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
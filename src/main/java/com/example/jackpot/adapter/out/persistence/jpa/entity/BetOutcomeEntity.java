@@ -0,0 +1,82 @@
+package com.example.jackpot.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row per processed bet, keyed by bet id only, so the outcome of a bet is a primary key lookup.
+ * The reward is repeated here for winning bets so that answering a reward query needs no join.
+ */
+@Entity
+@Table(name = "bet_outcome")
+public class BetOutcomeEntity implements Persistable<UUID> {
+    @Id
+    @Column(name = "bet_id", nullable = false)
+    private UUID betId;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Column(name = "result", length = 4, nullable = false)
+    private String result;
+
+    @Column(name = "reward_amount", precision = 19, scale = 2)
+    private BigDecimal rewardAmount;
+
+    @Column(name = "reward_currency", length = 3)
+    private String rewardCurrency;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected BetOutcomeEntity() {
+        // Only for JPA
+    }
+
+    public BetOutcomeEntity(UUID betId, UUID jackpotId, String result, BigDecimal rewardAmount, String rewardCurrency, Instant createdAt) {
+        this.betId = betId;
+        this.jackpotId = jackpotId;
+        this.result = result;
+        this.rewardAmount = rewardAmount;
+        this.rewardCurrency = rewardCurrency;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getBetId() {
+        return betId;
+    }
+
+    public UUID getJackpotId() {
+        return jackpotId;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public BigDecimal getRewardAmount() {
+        return rewardAmount;
+    }
+
+    public String getRewardCurrency() {
+        return rewardCurrency;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public UUID getId() {
+        return getBetId();
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
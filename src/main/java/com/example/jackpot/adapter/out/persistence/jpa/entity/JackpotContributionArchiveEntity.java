@@ -0,0 +1,116 @@
+package com.example.jackpot.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A segment of archived contributions of one closed jackpot cycle. The rows are kept gzip-compressed in
+ * {@code payload}, next to their count, total and time range, so cycle-level totals are read without decompressing.
+ */
+@Entity
+@Table(name = "jackpot_contribution_archive",
+        indexes = @Index(name = "ix_contribution_archive_jackpot_cycle", columnList = "jackpot_id, jackpot_cycle")
+)
+public class JackpotContributionArchiveEntity implements Persistable<UUID> {
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Column(name = "jackpot_cycle", nullable = false)
+    private int jackpotCycle;
+
+    @Column(name = "currency", length = 3, nullable = false)
+    private String currency;
+
+    @Column(name = "contribution_count", nullable = false)
+    private int contributionCount;
+
+    @Column(name = "contribution_total", precision = 19, scale = 2, nullable = false)
+    private BigDecimal contributionTotal;
+
+    @Column(name = "first_created_at", nullable = false)
+    private Instant firstCreatedAt;
+
+    @Column(name = "last_created_at", nullable = false)
+    private Instant lastCreatedAt;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    protected JackpotContributionArchiveEntity() {
+        // Only for JPA
+    }
+
+    public JackpotContributionArchiveEntity(UUID id, UUID jackpotId, int jackpotCycle, String currency,
+                                            int contributionCount, BigDecimal contributionTotal,
+                                            Instant firstCreatedAt, Instant lastCreatedAt,
+                                            byte[] payload, Instant archivedAt) {
+        this.id = id;
+        this.jackpotId = jackpotId;
+        this.jackpotCycle = jackpotCycle;
+        this.currency = currency;
+        this.contributionCount = contributionCount;
+        this.contributionTotal = contributionTotal;
+        this.firstCreatedAt = firstCreatedAt;
+        this.lastCreatedAt = lastCreatedAt;
+        this.payload = payload;
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getJackpotId() {
+        return jackpotId;
+    }
+
+    public int getJackpotCycle() {
+        return jackpotCycle;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public int getContributionCount() {
+        return contributionCount;
+    }
+
+    public BigDecimal getContributionTotal() {
+        return contributionTotal;
+    }
+
+    public Instant getFirstCreatedAt() {
+        return firstCreatedAt;
+    }
+
+    public Instant getLastCreatedAt() {
+        return lastCreatedAt;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
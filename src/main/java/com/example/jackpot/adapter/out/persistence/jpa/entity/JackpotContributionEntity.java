@@ -9,7 +9,11 @@ import java.util.UUID;
 @Entity
 @Table(name = "jackpot_contribution",
         uniqueConstraints = @UniqueConstraint(name = "uq_contribution_bet_user_jackpot",
-                columnNames = {"bet_id", "user_id", "jackpot_id"})
+                columnNames = {"bet_id", "user_id", "jackpot_id"}),
+        indexes = {
+                @Index(name = "ix_contribution_created_at", columnList = "created_at"),
+                @Index(name = "ix_contribution_jackpot_cycle", columnList = "jackpot_id, jackpot_cycle")
+        }
 )
 public class JackpotContributionEntity implements Persistable<UUID> {
     @Id
@@ -0,0 +1,115 @@
+package com.example.jackpot.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row per jackpot event. The unique (jackpot_id, sequence_number) key both orders the log and rejects a second writer
+ * appending the same sequence number. {@code appended_at} is when the event was stored; unlike {@code occurred_at}, which
+ * comes from the bet, it follows the sequence order of a jackpot, so a point in time can be mapped to a sequence number.
+ */
+@Entity
+@Table(name = "jackpot_event",
+        uniqueConstraints = @UniqueConstraint(name = "uq_jackpot_event_sequence", columnNames = {"jackpot_id", "sequence_number"}),
+        indexes = @Index(name = "ix_jackpot_event_appended_at", columnList = "jackpot_id, appended_at")
+)
+public class JackpotEventEntity implements Persistable<UUID> {
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Column(name = "sequence_number", nullable = false)
+    private long sequence;
+
+    @Column(name = "type", length = 32, nullable = false)
+    private String type;
+
+    @Column(name = "jackpot_cycle", nullable = false)
+    private int jackpotCycle;
+
+    @Column(name = "bet_id")
+    private UUID betId;
+
+    @Column(name = "amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "currency", length = 3, nullable = false)
+    private String currency;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "appended_at", nullable = false)
+    private Instant appendedAt;
+
+    protected JackpotEventEntity() {
+        // Only for JPA
+    }
+
+    public JackpotEventEntity(UUID id, UUID jackpotId, long sequence, String type, int jackpotCycle, UUID betId,
+                              BigDecimal amount, String currency, Instant occurredAt, Instant appendedAt) {
+        this.id = id;
+        this.jackpotId = jackpotId;
+        this.sequence = sequence;
+        this.type = type;
+        this.jackpotCycle = jackpotCycle;
+        this.betId = betId;
+        this.amount = amount;
+        this.currency = currency;
+        this.occurredAt = occurredAt;
+        this.appendedAt = appendedAt;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getJackpotId() {
+        return jackpotId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getJackpotCycle() {
+        return jackpotCycle;
+    }
+
+    public UUID getBetId() {
+        return betId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Instant getAppendedAt() {
+        return appendedAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.jackpot.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "jackpot_pool_stripe")
+@IdClass(JackpotPoolStripeEntity.Key.class)
+public class JackpotPoolStripeEntity implements Persistable<JackpotPoolStripeEntity.Key> {
+    @Id
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Id
+    @Column(name = "stripe", nullable = false)
+    private int stripe;
+
+    @Column(name = "cycle", nullable = false)
+    private int cycle;
+
+    @Column(name = "amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    protected JackpotPoolStripeEntity() {
+        // Only for JPA
+    }
+
+    public JackpotPoolStripeEntity(UUID jackpotId, int stripe, int cycle, BigDecimal amount) {
+        this.jackpotId = jackpotId;
+        this.stripe = stripe;
+        this.cycle = cycle;
+        this.amount = amount;
+    }
+
+    public UUID getJackpotId() {
+        return jackpotId;
+    }
+
+    public int getStripe() {
+        return stripe;
+    }
+
+    public int getCycle() {
+        return cycle;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(jackpotId, stripe);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public static class Key implements Serializable {
+        private UUID jackpotId;
+        private int stripe;
+
+        protected Key() {
+            // Only for JPA
+        }
+
+        public Key(UUID jackpotId, int stripe) {
+            this.jackpotId = jackpotId;
+            this.stripe = stripe;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return stripe == key.stripe && Objects.equals(jackpotId, key.jackpotId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jackpotId, stripe);
+        }
+    }
+}
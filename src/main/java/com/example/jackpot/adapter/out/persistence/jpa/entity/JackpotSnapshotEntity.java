@@ -0,0 +1,78 @@
+package com.example.jackpot.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "jackpot_snapshot",
+        uniqueConstraints = @UniqueConstraint(name = "uq_jackpot_snapshot_sequence", columnNames = {"jackpot_id", "sequence_number"})
+)
+public class JackpotSnapshotEntity implements Persistable<UUID> {
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Column(name = "jackpot_id", nullable = false)
+    private UUID jackpotId;
+
+    @Column(name = "sequence_number", nullable = false)
+    private long sequence;
+
+    @Column(name = "jackpot_cycle", nullable = false)
+    private int jackpotCycle;
+
+    @Embedded
+    @AttributeOverride(name = "amount", column = @Column(name = "pool_amount", precision = 19, scale = 2, nullable = false))
+    @AttributeOverride(name = "currency", column = @Column(name = "pool_currency", length = 3, nullable = false))
+    private MoneyEmbeddable pool;
+
+    @Column(name = "as_of", nullable = false)
+    private Instant asOf;
+
+    protected JackpotSnapshotEntity() {
+        // Only for JPA
+    }
+
+    public JackpotSnapshotEntity(UUID id, UUID jackpotId, long sequence, int jackpotCycle, MoneyEmbeddable pool, Instant asOf) {
+        this.id = id;
+        this.jackpotId = jackpotId;
+        this.sequence = sequence;
+        this.jackpotCycle = jackpotCycle;
+        this.pool = pool;
+        this.asOf = asOf;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getJackpotId() {
+        return jackpotId;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int getJackpotCycle() {
+        return jackpotCycle;
+    }
+
+    public MoneyEmbeddable getPool() {
+        return pool;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
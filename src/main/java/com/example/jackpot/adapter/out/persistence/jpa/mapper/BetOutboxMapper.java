@@ -0,0 +1,35 @@
+package com.example.jackpot.adapter.out.persistence.jpa.mapper;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutboxEntity;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+
+import java.time.Instant;
+
+public final class BetOutboxMapper {
+
+    private BetOutboxMapper() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static Bet toDomain(BetOutboxEntity entity) {
+        return new Bet(
+                BetId.of(entity.getBetId()),
+                UserId.of(entity.getUserId()),
+                JackpotId.of(entity.getJackpotId()),
+                MoneyMapper.toDomain(entity.getBet())
+        );
+    }
+
+    public static BetOutboxEntity toEntity(Bet bet) {
+        return new BetOutboxEntity(
+                bet.betId().value(),
+                bet.userId().value(),
+                bet.jackpotId().value(),
+                MoneyMapper.toEmbeddable(bet.betAmount()),
+                Instant.now()
+        );
+    }
+}
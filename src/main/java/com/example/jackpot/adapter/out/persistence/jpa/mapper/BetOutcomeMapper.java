@@ -0,0 +1,36 @@
+package com.example.jackpot.adapter.out.persistence.jpa.mapper;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutcomeEntity;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.util.Currency;
+
+public final class BetOutcomeMapper {
+    private BetOutcomeMapper() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static BetOutcome toDomain(BetOutcomeEntity entity) {
+        return new BetOutcome(
+                BetId.of(entity.getBetId()),
+                JackpotId.of(entity.getJackpotId()),
+                BetOutcome.Result.valueOf(entity.getResult()),
+                entity.getRewardAmount() == null ? null : Money.of(entity.getRewardAmount(), Currency.getInstance(entity.getRewardCurrency())),
+                entity.getCreatedAt()
+        );
+    }
+
+    public static BetOutcomeEntity toEntity(BetOutcome outcome) {
+        return new BetOutcomeEntity(
+                outcome.betId().value(),
+                outcome.jackpotId().value(),
+                outcome.result().name(),
+                outcome.rewardAmount().map(Money::amount).orElse(null),
+                outcome.rewardAmount().map(m -> m.currency().getCurrencyCode()).orElse(null),
+                outcome.createdAt()
+        );
+    }
+}
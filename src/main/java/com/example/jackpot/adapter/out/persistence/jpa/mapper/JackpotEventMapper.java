@@ -0,0 +1,62 @@
+package com.example.jackpot.adapter.out.persistence.jpa.mapper;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEventEntity;
+import com.example.jackpot.domain.model.event.ContributionApplied;
+import com.example.jackpot.domain.model.event.CycleStarted;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.event.RewardGranted;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.time.Instant;
+import java.util.Currency;
+import java.util.UUID;
+
+public final class JackpotEventMapper {
+
+    static final String CONTRIBUTION_APPLIED = "CONTRIBUTION_APPLIED";
+    static final String REWARD_GRANTED = "REWARD_GRANTED";
+    static final String CYCLE_STARTED = "CYCLE_STARTED";
+
+    private JackpotEventMapper() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static JackpotEvent toDomain(JackpotEventEntity entity) {
+        JackpotId jackpotId = JackpotId.of(entity.getJackpotId());
+        CycleNumber cycle = CycleNumber.of(entity.getJackpotCycle());
+        Money amount = Money.of(entity.getAmount(), Currency.getInstance(entity.getCurrency()));
+
+        return switch (entity.getType()) {
+            case CONTRIBUTION_APPLIED -> new ContributionApplied(jackpotId, entity.getSequence(), cycle, BetId.of(entity.getBetId()), amount, entity.getOccurredAt());
+            case REWARD_GRANTED -> new RewardGranted(jackpotId, entity.getSequence(), cycle, BetId.of(entity.getBetId()), amount, entity.getOccurredAt());
+            case CYCLE_STARTED -> new CycleStarted(jackpotId, entity.getSequence(), cycle, amount, entity.getOccurredAt());
+            default -> throw new IllegalArgumentException("Unknown jackpot event type: %s".formatted(entity.getType()));
+        };
+    }
+
+    public static JackpotEventEntity toEntity(JackpotEvent event, Instant appendedAt) {
+        return switch (event) {
+            case ContributionApplied e -> toEntity(e, CONTRIBUTION_APPLIED, e.betId(), e.amount(), appendedAt);
+            case RewardGranted e -> toEntity(e, REWARD_GRANTED, e.betId(), e.amount(), appendedAt);
+            case CycleStarted e -> toEntity(e, CYCLE_STARTED, null, e.pool(), appendedAt);
+        };
+    }
+
+    private static JackpotEventEntity toEntity(JackpotEvent event, String type, BetId betId, Money amount, Instant appendedAt) {
+        return new JackpotEventEntity(
+                UUID.randomUUID(),
+                event.jackpotId().value(),
+                event.sequence(),
+                type,
+                event.cycle().value(),
+                betId == null ? null : betId.value(),
+                amount.amount(),
+                amount.currency().getCurrencyCode(),
+                event.occurredAt(),
+                appendedAt
+        );
+    }
+}
@@ -3,9 +3,11 @@ package com.example.jackpot.adapter.out.persistence.jpa.mapper;
 import com.example.jackpot.adapter.out.persistence.jpa.config.contribution.ContributionConfigMapper;
 import com.example.jackpot.adapter.out.persistence.jpa.config.reward.RewardConfigMapper;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEntity;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
 import com.example.jackpot.domain.model.Jackpot;
 import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.reward.RewardEvaluator;
 
 public final class JackpotMapper {
 
@@ -14,24 +16,33 @@ public final class JackpotMapper {
     }
 
     public static Jackpot toDomain(JackpotEntity entity) {
+        return toDomain(
+                entity,
+                ContributionConfigMapper.toDomain(entity.getContributionConfigJson()),
+                RewardConfigMapper.toDomain(entity.getRewardConfigJson())
+        );
+    }
+
+    public static Jackpot toDomain(JackpotEntity entity, ContributionCalculator contributionCalculator, RewardEvaluator rewardEvaluator) {
         return new Jackpot(
                 JackpotId.of(entity.getId()),
                 CycleNumber.of(entity.getCurrentCycle()),
                 MoneyMapper.toDomain(entity.getInitial()),
                 MoneyMapper.toDomain(entity.getCurrent()),
-                ContributionConfigMapper.toDomain(entity.getContributionConfigJson()),
-                RewardConfigMapper.toDomain(entity.getRewardConfigJson())
+                contributionCalculator,
+                rewardEvaluator,
+                entity.getVersion() == null ? 0L : entity.getVersion()
         );
     }
 
-    public static JackpotEntity toEntity(Jackpot jackpot, Long version) {
+    public static JackpotEntity toEntity(Jackpot jackpot) {
         JackpotEntity entity = new JackpotEntity(
                 jackpot.jackpotId().value(),
                 jackpot.currentCycle().value(),
                 MoneyMapper.toEmbeddable(jackpot.initialPool()),
                 MoneyMapper.toEmbeddable(jackpot.currentPool())
         );
-        entity.setVersion(version);
+        entity.setVersion(jackpot.version());
 
         return entity;
     }
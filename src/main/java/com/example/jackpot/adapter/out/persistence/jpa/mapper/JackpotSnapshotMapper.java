@@ -0,0 +1,36 @@
+package com.example.jackpot.adapter.out.persistence.jpa.mapper;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotSnapshotEntity;
+import com.example.jackpot.domain.model.JackpotSnapshot;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+
+import java.util.UUID;
+
+public final class JackpotSnapshotMapper {
+
+    private JackpotSnapshotMapper() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static JackpotSnapshot toDomain(JackpotSnapshotEntity entity) {
+        return new JackpotSnapshot(
+                JackpotId.of(entity.getJackpotId()),
+                entity.getSequence(),
+                CycleNumber.of(entity.getJackpotCycle()),
+                MoneyMapper.toDomain(entity.getPool()),
+                entity.getAsOf()
+        );
+    }
+
+    public static JackpotSnapshotEntity toEntity(JackpotSnapshot snapshot) {
+        return new JackpotSnapshotEntity(
+                UUID.randomUUID(),
+                snapshot.jackpotId().value(),
+                snapshot.sequence(),
+                snapshot.cycle().value(),
+                MoneyMapper.toEmbeddable(snapshot.pool()),
+                snapshot.asOf()
+        );
+    }
+}
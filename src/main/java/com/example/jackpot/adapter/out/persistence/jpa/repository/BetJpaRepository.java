@@ -2,8 +2,20 @@ package com.example.jackpot.adapter.out.persistence.jpa.repository;
 
 import com.example.jackpot.adapter.out.persistence.jpa.entity.BetEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface BetJpaRepository extends JpaRepository<BetEntity, UUID> {
+
+    @Query("select b.id from BetEntity b where b.id in :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select b.id from BetEntity b where b.createdAt >= :since")
+    List<UUID> findIdsCreatedSince(@Param("since") Instant since);
 }
\ No newline at end of file
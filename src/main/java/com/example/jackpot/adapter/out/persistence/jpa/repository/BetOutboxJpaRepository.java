@@ -0,0 +1,29 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface BetOutboxJpaRepository extends JpaRepository<BetOutboxEntity, UUID> {
+
+    // lock timeout -2 is skip locked: rows claimed by another relay are passed over instead of waited for
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from BetOutboxEntity o order by o.createdAt, o.betId")
+    List<BetOutboxEntity> findOldestForUpdate(Pageable pageable);
+
+    @Modifying
+    @Query("delete from BetOutboxEntity o where o.betId in :betIds")
+    int deleteByBetIds(@Param("betIds") Collection<UUID> betIds);
+}
@@ -0,0 +1,9 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutcomeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface BetOutcomeJpaRepository extends JpaRepository<BetOutcomeEntity, UUID> {
+}
@@ -0,0 +1,12 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ContributionArchiveJpaRepository extends JpaRepository<JackpotContributionArchiveEntity, UUID> {
+
+    List<JackpotContributionArchiveEntity> findByJackpotIdAndJackpotCycle(UUID jackpotId, int jackpotCycle);
+}
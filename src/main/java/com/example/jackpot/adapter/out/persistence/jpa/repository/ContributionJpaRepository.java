@@ -1,11 +1,35 @@
 package com.example.jackpot.adapter.out.persistence.jpa.repository;
 
 import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ContributionJpaRepository extends JpaRepository<JackpotContributionEntity, UUID> {
 
     boolean existsByBetId(UUID betId);
-}
\ No newline at end of file
+
+    @Query("select c.betId from JackpotContributionEntity c where c.betId in :betIds")
+    Set<UUID> findExistingBetIds(@Param("betIds") Collection<UUID> betIds);
+
+    @Query("select c.betId from JackpotContributionEntity c where c.createdAt >= :since")
+    List<UUID> findBetIdsCreatedSince(@Param("since") Instant since);
+
+    @Query("""
+            select c from JackpotContributionEntity c, JackpotEntity j
+            where j.id = c.jackpotId and c.jackpotCycle < j.currentCycle and c.createdAt < :before
+            order by c.jackpotId, c.jackpotCycle, c.createdAt""")
+    List<JackpotContributionEntity> findArchivable(@Param("before") Instant before, Pageable pageable);
+
+    @Modifying
+    @Query("delete from JackpotContributionEntity c where c.betId in :betIds")
+    int deleteByBetIds(@Param("betIds") Collection<UUID> betIds);
+}
@@ -0,0 +1,20 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface JackpotEventJpaRepository extends JpaRepository<JackpotEventEntity, UUID> {
+
+    List<JackpotEventEntity> findByJackpotIdAndSequenceGreaterThanOrderBySequence(UUID jackpotId, long sequence);
+
+    List<JackpotEventEntity> findByJackpotIdAndSequenceGreaterThanAndSequenceLessThanEqualOrderBySequence(UUID jackpotId, long sequence, long until);
+
+    @Query("select max(e.sequence) from JackpotEventEntity e where e.jackpotId = :jackpotId and e.appendedAt <= :until")
+    Long findLastSequenceAppendedUntil(@Param("jackpotId") UUID jackpotId, @Param("until") Instant until);
+}
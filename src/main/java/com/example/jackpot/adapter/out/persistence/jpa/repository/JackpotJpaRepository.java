@@ -2,8 +2,46 @@ package com.example.jackpot.adapter.out.persistence.jpa.repository;
 
 import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JackpotJpaRepository extends JpaRepository<JackpotEntity, UUID> {
-}
\ No newline at end of file
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update JackpotEntity j
+               set j.current.amount = :currentAmount, j.currentCycle = :currentCycle, j.version = j.version + 1
+             where j.id = :id and j.version = :version
+            """)
+    int updateState(@Param("id") UUID id,
+                    @Param("currentCycle") int currentCycle,
+                    @Param("currentAmount") BigDecimal currentAmount,
+                    @Param("version") long version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update JackpotEntity j
+               set j.current.amount = j.current.amount + :delta, j.version = j.version + 1
+             where j.id = :id and j.currentCycle = :currentCycle
+            """)
+    int addToPool(@Param("id") UUID id,
+                  @Param("currentCycle") int currentCycle,
+                  @Param("delta") BigDecimal delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update JackpotEntity j
+               set j.current.amount = j.initial.amount, j.currentCycle = j.currentCycle + 1, j.version = j.version + 1
+             where j.id = :id and j.currentCycle = :currentCycle
+            """)
+    int startNextCycle(@Param("id") UUID id,
+                       @Param("currentCycle") int currentCycle);
+
+    @Query("select j.current.amount from JackpotEntity j where j.id = :id")
+    Optional<BigDecimal> findCurrentAmount(@Param("id") UUID id);
+}
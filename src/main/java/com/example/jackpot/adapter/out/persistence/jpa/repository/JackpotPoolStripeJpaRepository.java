@@ -0,0 +1,53 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotPoolStripeEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public interface JackpotPoolStripeJpaRepository extends JpaRepository<JackpotPoolStripeEntity, JackpotPoolStripeEntity.Key> {
+
+    @Query("select s.stripe from JackpotPoolStripeEntity s where s.jackpotId = :jackpotId")
+    List<Integer> findStripes(@Param("jackpotId") UUID jackpotId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update JackpotPoolStripeEntity s
+               set s.amount = s.amount + :delta
+             where s.jackpotId = :jackpotId and s.stripe = :stripe and s.cycle = :cycle
+            """)
+    int addToStripe(@Param("jackpotId") UUID jackpotId,
+                    @Param("stripe") int stripe,
+                    @Param("cycle") int cycle,
+                    @Param("delta") BigDecimal delta);
+
+    @Query("select coalesce(sum(s.amount), 0) from JackpotPoolStripeEntity s where s.jackpotId = :jackpotId and s.cycle = :cycle")
+    BigDecimal sumAmount(@Param("jackpotId") UUID jackpotId, @Param("cycle") int cycle);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from JackpotPoolStripeEntity s where s.jackpotId = :jackpotId and s.cycle = :cycle order by s.stripe")
+    List<JackpotPoolStripeEntity> findAllForUpdate(@Param("jackpotId") UUID jackpotId, @Param("cycle") int cycle);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update JackpotPoolStripeEntity s
+               set s.amount = 0, s.cycle = :cycle
+             where s.jackpotId = :jackpotId and s.cycle < :cycle
+            """)
+    int realign(@Param("jackpotId") UUID jackpotId, @Param("cycle") int cycle);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update JackpotPoolStripeEntity s
+               set s.amount = 0, s.cycle = s.cycle + 1
+             where s.jackpotId = :jackpotId and s.cycle = :cycle
+            """)
+    int startNextCycle(@Param("jackpotId") UUID jackpotId, @Param("cycle") int cycle);
+}
@@ -0,0 +1,14 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JackpotSnapshotJpaRepository extends JpaRepository<JackpotSnapshotEntity, UUID> {
+
+    Optional<JackpotSnapshotEntity> findFirstByJackpotIdOrderBySequenceDesc(UUID jackpotId);
+
+    Optional<JackpotSnapshotEntity> findFirstByJackpotIdAndSequenceLessThanEqualOrderBySequenceDesc(UUID jackpotId, long until);
+}
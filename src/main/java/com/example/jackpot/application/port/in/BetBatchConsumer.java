@@ -0,0 +1,13 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+
+import java.util.List;
+
+/**
+ * Inbound port for receiving a whole poll of bet messages from a message broker (e.g., Kafka) at once.
+ */
+public interface BetBatchConsumer {
+
+    void onMessages(List<BetMessage> messages);
+}
@@ -0,0 +1,13 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.Bet;
+
+import java.util.List;
+
+/**
+ * Application use case for processing a batch of placed {@link Bet}s, grouped per jackpot.
+ */
+public interface BetBatchProcessingService {
+
+    BetBatchResult processAll(List<Bet> bets);
+}
@@ -0,0 +1,24 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.id.BetId;
+
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Outcome of {@link BetBatchProcessingService#processAll}: bets that could not be processed, with their cause.
+ *
+ * @param failures failed bets keyed by their identifier
+ */
+public record BetBatchResult(Map<BetId, RuntimeException> failures) {
+    public BetBatchResult {
+        requireNonNull(failures, "failures must not be null");
+
+        failures = Map.copyOf(failures);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
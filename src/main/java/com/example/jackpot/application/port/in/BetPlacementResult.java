@@ -0,0 +1,24 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.id.BetId;
+
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Outcome of {@link PlaceBetService#placeAll}: bets that were skipped because they had already been placed.
+ *
+ * @param duplicates identifiers of bets that already existed
+ */
+public record BetPlacementResult(Set<BetId> duplicates) {
+    public BetPlacementResult {
+        requireNonNull(duplicates, "duplicates must not be null");
+
+        duplicates = Set.copyOf(duplicates);
+    }
+
+    public boolean isDuplicate(BetId betId) {
+        return duplicates.contains(betId);
+    }
+}
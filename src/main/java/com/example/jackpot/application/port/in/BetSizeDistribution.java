@@ -0,0 +1,89 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.util.Currency;
+import java.util.random.RandomGenerator;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Distribution the stakes of simulated bets are drawn from, in whole minor units.
+ */
+public sealed interface BetSizeDistribution {
+
+    Money sample(RandomGenerator random);
+
+    Currency currency();
+
+    /**
+     * Every bet stakes {@code amount}.
+     */
+    record Fixed(Money amount) implements BetSizeDistribution {
+        public Fixed {
+            requireNonNull(amount, "amount must not be null");
+
+            isTrue(amount.isPositive(), "amount must be > 0");
+        }
+
+        @Override
+        public Money sample(RandomGenerator random) {
+            return amount;
+        }
+
+        @Override
+        public Currency currency() {
+            return amount.currency();
+        }
+    }
+
+    /**
+     * Stakes spread evenly between {@code min} and {@code max}, both inclusive.
+     */
+    record Uniform(Money min, Money max) implements BetSizeDistribution {
+        public Uniform {
+            requireNonNull(min, "min must not be null");
+            requireNonNull(max, "max must not be null");
+
+            isTrue(min.isPositive(), "min must be > 0");
+            isTrue(min.hasSameCurrencyAs(max), "min and max must share the same currency");
+            isTrue(min.isLessThanOrEqual(max), "min must be ≤ max");
+        }
+
+        @Override
+        public Money sample(RandomGenerator random) {
+            return Money.ofMinor(random.nextLong(min.minorUnits(), max.minorUnits() + 1), min.currency());
+        }
+
+        @Override
+        public Currency currency() {
+            return min.currency();
+        }
+    }
+
+    /**
+     * Many small stakes and a long tail of large ones: the logarithm of the stake is normally distributed around
+     * the logarithm of {@code median} with standard deviation {@code sigma}. Stakes are at least one minor unit.
+     */
+    record LogNormal(Money median, double sigma) implements BetSizeDistribution {
+        public LogNormal {
+            requireNonNull(median, "median must not be null");
+
+            isTrue(median.isPositive(), "median must be > 0");
+            isTrue(sigma >= 0 && Double.isFinite(sigma), "sigma must be a finite number ≥ 0");
+        }
+
+        @Override
+        public Money sample(RandomGenerator random) {
+            long minorUnits = Math.round(median.minorUnits() * Math.exp(sigma * random.nextGaussian()));
+
+            return Money.ofMinor(Math.max(1, minorUnits), median.currency());
+        }
+
+        @Override
+        public Currency currency() {
+            return median.currency();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.JackpotId;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Application use case keeping the {@link com.example.jackpot.domain.model.Jackpot} aggregates of owned partitions
+ * resident in memory.
+ * <p>
+ * Each partition is driven by a single writer, so its jackpots are mutated without locking or re-reading them.
+ */
+public interface JackpotEngine {
+
+    /**
+     * Takes ownership of a partition, loading every jackpot accepted by {@code ownership} from persistent state.
+     * Consumption of the partition resumes at {@code resumeOffset}; bets applied from earlier polls whose state was
+     * not persisted yet are recovered from the journal, if there is one.
+     */
+    void assign(int partition, Predicate<JackpotId> ownership, long resumeOffset);
+
+    /**
+     * Gives up ownership of a partition once its pending state has been persisted.
+     */
+    void revoke(int partition);
+
+    /**
+     * Applies the bets of a poll of {@code partition} whose last record is at {@code lastOffset}.
+     */
+    BetBatchResult apply(int partition, List<Bet> bets, long lastOffset);
+}
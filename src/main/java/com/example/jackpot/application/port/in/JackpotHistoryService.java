@@ -0,0 +1,16 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.id.JackpotId;
+
+import java.time.Instant;
+
+/**
+ * Used for rebuilding the state of a jackpot as it was at a point in time (read-only), from its event log.
+ */
+public interface JackpotHistoryService {
+
+    /**
+     * The state after the events stored until {@code at}; before the first event, the state the jackpot was created with.
+     */
+    JackpotState stateAt(JackpotId id, Instant at);
+}
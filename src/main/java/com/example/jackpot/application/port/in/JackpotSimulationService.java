@@ -0,0 +1,9 @@
+package com.example.jackpot.application.port.in;
+
+/**
+ * Application use case for estimating how a contribution/reward config pair behaves before it is rolled out.
+ */
+public interface JackpotSimulationService {
+
+    SimulationReport simulate(SimulationParameters parameters);
+}
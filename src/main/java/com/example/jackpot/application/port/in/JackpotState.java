@@ -0,0 +1,27 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.time.Instant;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Outcome of {@link JackpotHistoryService#stateAt}.
+ *
+ * @param at       the requested point in time
+ * @param sequence the last event included, 0 if none was stored by then
+ */
+public record JackpotState(JackpotId jackpotId, Instant at, long sequence, CycleNumber cycle, Money pool) {
+    public JackpotState {
+        requireNonNull(jackpotId, "jackpotId must not be null");
+        requireNonNull(at, "at must not be null");
+        requireNonNull(cycle, "cycle must not be null");
+        requireNonNull(pool, "pool must not be null");
+
+        isTrue(sequence >= 0, "sequence must not be negative");
+    }
+}
@@ -3,10 +3,17 @@ package com.example.jackpot.application.port.in;
 import com.example.jackpot.domain.model.Bet;
 import com.example.jackpot.domain.model.Jackpot;
 
+import java.util.List;
+
 /**
  * Used to record a {@link Bet} placed on a {@link Jackpot} and publish it for downstream reward evaluation.
  */
 public interface PlaceBetService {
 
     void place(Bet bet);
+
+    /**
+     * Records and publishes the given bets at once, skipping those that were already placed.
+     */
+    BetPlacementResult placeAll(List<Bet> bets);
 }
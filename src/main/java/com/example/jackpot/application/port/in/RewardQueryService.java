@@ -1,14 +1,28 @@
 package com.example.jackpot.application.port.in;
 
+import com.example.jackpot.domain.model.BetOutcome;
 import com.example.jackpot.domain.model.JackpotReward;
 import com.example.jackpot.domain.model.id.BetId;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Used for retrieving {@link JackpotReward} data (read-only) by {@link BetId}.
+ * Used for retrieving {@link JackpotReward} and {@link BetOutcome} data (read-only) by {@link BetId}.
  */
 public interface RewardQueryService {
 
     Optional<JackpotReward> findByBetId(BetId id);
+
+    /**
+     * The outcome of the bet, empty while the bet is not processed yet.
+     */
+    Optional<BetOutcome> findOutcomeByBetId(BetId id);
+
+    /**
+     * Completes with the outcome once the bet has been processed. A bet that is still not processed after
+     * {@code timeout} completes with what {@link #findOutcomeByBetId} finds then.
+     */
+    CompletableFuture<Optional<BetOutcome>> awaitOutcomeByBetId(BetId id, Duration timeout);
 }
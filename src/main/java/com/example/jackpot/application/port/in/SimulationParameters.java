@@ -0,0 +1,38 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.vo.Money;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Input of {@link JackpotSimulationService#simulate}.
+ *
+ * @param contributionConfig contribution config JSON, as stored with a jackpot
+ * @param rewardConfig       reward config JSON, as stored with a jackpot; its {@code rng} is ignored
+ * @param initialPool        pool every cycle starts with
+ * @param betSizes           distribution the stakes are drawn from
+ * @param bets               number of bets to simulate, spread over the workers
+ * @param workers            number of independent jackpots simulated in parallel, each with its own random sequence
+ * @param seed               seed the random sequences of the workers are derived from
+ */
+public record SimulationParameters(String contributionConfig,
+                                   String rewardConfig,
+                                   Money initialPool,
+                                   BetSizeDistribution betSizes,
+                                   long bets,
+                                   int workers,
+                                   long seed) {
+    public SimulationParameters {
+        requireNonNull(contributionConfig, "contributionConfig must not be null");
+        requireNonNull(rewardConfig, "rewardConfig must not be null");
+        requireNonNull(initialPool, "initialPool must not be null");
+        requireNonNull(betSizes, "betSizes must not be null");
+
+        isTrue(initialPool.isPositive(), "initialPool must be > 0");
+        isTrue(initialPool.currency().equals(betSizes.currency()), "initialPool and bet sizes must share the same currency");
+        isTrue(bets > 0, "bets must be positive");
+        isTrue(workers > 0, "workers must be positive");
+        isTrue(workers <= bets, "workers must not exceed bets");
+    }
+}
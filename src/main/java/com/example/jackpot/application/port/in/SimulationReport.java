@@ -0,0 +1,60 @@
+package com.example.jackpot.application.port.in;
+
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Outcome of {@link JackpotSimulationService#simulate}. A cycle ends with the bet that wins the pool; pools still
+ * open when the simulation ends count towards the contributions but not towards the cycles and payouts.
+ *
+ * @param bets                      simulated bets
+ * @param cycles                    completed cycles, i.e. wins
+ * @param staked                    sum of all stakes
+ * @param contributed               sum of all contributions to the pools
+ * @param paidOut                   sum of all won pools, initial pools included
+ * @param effectiveContributionRate {@code contributed / staked}
+ * @param returnToPlayer            {@code paidOut / staked}, the share of the stakes the jackpot returns
+ * @param cycleLength               bets per completed cycle, empty without any win
+ * @param payout                    won pool per completed cycle, in the pool currency, empty without any win
+ * @param elapsed                   wall-clock time the simulation took
+ */
+public record SimulationReport(long bets,
+                               long cycles,
+                               Money staked,
+                               Money contributed,
+                               Money paidOut,
+                               BigDecimal effectiveContributionRate,
+                               BigDecimal returnToPlayer,
+                               Optional<Percentiles> cycleLength,
+                               Optional<Percentiles> payout,
+                               Duration elapsed) {
+    public SimulationReport {
+        requireNonNull(staked, "staked must not be null");
+        requireNonNull(contributed, "contributed must not be null");
+        requireNonNull(paidOut, "paidOut must not be null");
+        requireNonNull(effectiveContributionRate, "effectiveContributionRate must not be null");
+        requireNonNull(returnToPlayer, "returnToPlayer must not be null");
+        requireNonNull(cycleLength, "cycleLength must not be null");
+        requireNonNull(payout, "payout must not be null");
+        requireNonNull(elapsed, "elapsed must not be null");
+    }
+
+    /**
+     * Summary of a sample; percentiles use the nearest-rank method, so each is a value of the sample.
+     */
+    public record Percentiles(BigDecimal mean, BigDecimal min, BigDecimal p50, BigDecimal p90, BigDecimal p99, BigDecimal max) {
+        public Percentiles {
+            requireNonNull(mean, "mean must not be null");
+            requireNonNull(min, "min must not be null");
+            requireNonNull(p50, "p50 must not be null");
+            requireNonNull(p90, "p90 must not be null");
+            requireNonNull(p99, "p99 must not be null");
+            requireNonNull(max, "max must not be null");
+        }
+    }
+}
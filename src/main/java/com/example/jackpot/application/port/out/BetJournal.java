@@ -0,0 +1,44 @@
+package com.example.jackpot.application.port.out;
+
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+
+import java.util.List;
+
+/**
+ * Local write-ahead journal of bets applied in memory, so they survive a restart before their state is persisted.
+ * <p>
+ * Entries are tagged with the partition and offset of the poll they came from, so a restart only recovers the bets
+ * the consumer will not be redelivered.
+ */
+public interface BetJournal {
+
+    /**
+     * Appends the contributions and rewards of bets applied from a poll of {@code partition} whose last record is at
+     * {@code lastOffset}, and returns the journal position after them. They are durable once {@link #awaitDurable}
+     * returns for that position.
+     */
+    long append(int partition, long lastOffset, List<JackpotContribution> contributions, List<JackpotReward> rewards);
+
+    /**
+     * Blocks until everything appended up to {@code position} has been forced to disk.
+     */
+    void awaitDurable(long position);
+
+    /**
+     * Contributions and rewards of {@code partition} appended from polls below {@code resumeOffset}, in append order.
+     */
+    Recovered recover(int partition, long resumeOffset);
+
+    /**
+     * Marks everything appended up to {@code position} as persisted, so the segments holding it can be deleted.
+     */
+    void release(long position);
+
+    record Recovered(List<JackpotContribution> contributions, List<JackpotReward> rewards) {
+
+        public boolean isEmpty() {
+            return contributions.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jackpot.application.port.out;
+
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository port for the transactional outbox of placed {@link Bet}s awaiting publication.
+ */
+public interface BetOutboxRepository {
+
+    void append(Bet bet);
+
+    void appendAll(List<Bet> bets);
+
+    /**
+     * The oldest bets not claimed by another transaction, claimed until the surrounding transaction ends.
+     */
+    List<Bet> claimOldest(int limit);
+
+    void deleteAll(Collection<BetId> betIds);
+}
@@ -0,0 +1,18 @@
+package com.example.jackpot.application.port.out;
+
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.id.BetId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbound repository port for retrieving and persisting {@link BetOutcome}
+ */
+public interface BetOutcomeRepository {
+    Optional<BetOutcome> findByBetId(BetId betId);
+
+    void save(BetOutcome outcome);
+
+    void saveAll(List<BetOutcome> outcomes);
+}
@@ -2,10 +2,18 @@ package com.example.jackpot.application.port.out;
 
 import com.example.jackpot.domain.model.Bet;
 
+import java.util.List;
+
 /**
  * Outbound port for publishing {@link Bet} events to a message broker (e.g., Kafka).
  */
 public interface BetProducer {
 
     void publish(Bet bet);
-}
\ No newline at end of file
+
+    /**
+     * Publishes the given bets and returns once all of them are durable: acknowledged by the broker, or written to
+     * the outbox in the caller's transaction.
+     */
+    void publishAll(List<Bet> bets);
+}
@@ -3,7 +3,11 @@ package com.example.jackpot.application.port.out;
 import com.example.jackpot.domain.model.Bet;
 import com.example.jackpot.domain.model.id.BetId;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository port for persisting and retrieving {@link Bet} aggregates.
@@ -13,5 +17,11 @@ public interface BetRepository {
 
     boolean existsById(BetId id);
 
+    Set<BetId> findExistingIds(Collection<BetId> ids);
+
+    List<BetId> findIdsCreatedSince(Instant since);
+
     void save(Bet bet);
+
+    void saveAll(List<Bet> bets);
 }
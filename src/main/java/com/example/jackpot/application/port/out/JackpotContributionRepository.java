@@ -3,11 +3,22 @@ package com.example.jackpot.application.port.out;
 import com.example.jackpot.domain.model.JackpotContribution;
 import com.example.jackpot.domain.model.id.BetId;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Outbound repository port for retrieving and persisting {@link JackpotContribution}
  */
 public interface JackpotContributionRepository {
     boolean existsByBetId(BetId betId);
 
+    Set<BetId> findExistingBetIds(Collection<BetId> betIds);
+
+    List<BetId> findBetIdsCreatedSince(Instant since);
+
     void save(JackpotContribution contribution);
+
+    void saveAll(List<JackpotContribution> contributions);
 }
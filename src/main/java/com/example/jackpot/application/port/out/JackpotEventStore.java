@@ -0,0 +1,46 @@
+package com.example.jackpot.application.port.out;
+
+import com.example.jackpot.domain.model.JackpotSnapshot;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.id.JackpotId;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Append-only log of {@link JackpotEvent}s per jackpot, with periodic {@link JackpotSnapshot}s to replay from.
+ */
+public interface JackpotEventStore {
+
+    /**
+     * Appends events of one jackpot, numbered on from the last event the caller replayed.
+     * Fails with an {@code OptimisticLockingFailureException} if another writer has already appended an event
+     * with one of their sequence numbers.
+     */
+    void append(List<JackpotEvent> events);
+
+    /**
+     * Events of the jackpot after {@code sequence}, in order.
+     */
+    List<JackpotEvent> findAfter(JackpotId id, long sequence);
+
+    /**
+     * Events of the jackpot after {@code sequence} up to sequence {@code until}, in order.
+     */
+    List<JackpotEvent> findAfter(JackpotId id, long sequence, long until);
+
+    /**
+     * The sequence of the last event of the jackpot stored until {@code until}, or 0 if there is none.
+     */
+    long findLastSequenceAppendedUntil(JackpotId id, Instant until);
+
+    Optional<JackpotSnapshot> findLatestSnapshot(JackpotId id);
+
+    /**
+     * The latest snapshot of the jackpot taken at sequence {@code until} or before.
+     */
+    Optional<JackpotSnapshot> findLatestSnapshot(JackpotId id, long until);
+
+    void saveSnapshot(JackpotSnapshot snapshot);
+}
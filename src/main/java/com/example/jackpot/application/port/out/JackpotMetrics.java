@@ -0,0 +1,19 @@
+package com.example.jackpot.application.port.out;
+
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.Money;
+
+/**
+ * Outbound port for recording business metrics of the bet pipeline (e.g., Micrometer).
+ * <p>
+ * Values are recorded when the change is made, before the surrounding transaction commits.
+ */
+public interface JackpotMetrics {
+
+    void duplicateBets(int count);
+
+    void betApplied(JackpotContribution contribution, boolean won);
+
+    void poolChanged(JackpotId jackpotId, Money currentPool);
+}
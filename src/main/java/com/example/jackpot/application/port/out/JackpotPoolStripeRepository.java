@@ -0,0 +1,48 @@
+package com.example.jackpot.application.port.out;
+
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.util.Currency;
+
+/**
+ * Repository port for striped jackpot pools: contributions of a cycle are spread over independent stripe rows,
+ * so concurrent bets for the same jackpot do not serialise on one row. The pool of a cycle is the persisted
+ * jackpot pool plus the sum of its stripes.
+ */
+public interface JackpotPoolStripeRepository {
+
+    /**
+     * Creates the stripes {@code 0..stripes-1} of the jackpot that do not exist yet, empty and in {@code cycle}.
+     */
+    void createMissing(JackpotId id, CycleNumber cycle, int stripes);
+
+    /**
+     * Empties the stripes of the jackpot left behind in a cycle before {@code cycle} and moves them on to it, and returns
+     * how many there were. Stripes ahead of {@code cycle} are left alone, as they may belong to a cycle started since it
+     * was read.
+     */
+    int realign(JackpotId id, CycleNumber cycle);
+
+    /**
+     * Adds {@code delta} to one stripe, provided it is still in {@code cycle}.
+     * Fails with an {@code OptimisticLockingFailureException} if the stripe does not exist or has moved on to another cycle.
+     */
+    void add(JackpotId id, CycleNumber cycle, int stripe, Money delta);
+
+    /**
+     * Sum of the committed stripes of the cycle.
+     */
+    Money sum(JackpotId id, CycleNumber cycle, Currency currency);
+
+    /**
+     * Locks all stripes of the cycle until the surrounding transaction completes and returns their exact sum.
+     */
+    Money lockAndSum(JackpotId id, CycleNumber cycle, Currency currency);
+
+    /**
+     * Empties the stripes of the cycle and moves them on to the next one.
+     */
+    void startNextCycle(JackpotId id, CycleNumber cycle);
+}
@@ -2,7 +2,10 @@ package com.example.jackpot.application.port.out;
 
 import com.example.jackpot.domain.model.Jackpot;
 import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,5 +14,21 @@ import java.util.Optional;
 public interface JackpotRepository {
     Optional<Jackpot> findById(JackpotId id);
 
+    List<Jackpot> findAll();
+
     void save(Jackpot jackpot);
+
+    /**
+     * Atomically adds {@code delta} to the pool of the jackpot, provided it is still in {@code cycle}, and returns
+     * the resulting pool, including contributions committed concurrently. The jackpot row stays locked
+     * until the surrounding transaction completes.
+     * Fails with an {@code OptimisticLockingFailureException} if the jackpot has moved on to another cycle.
+     */
+    Money addToPool(JackpotId id, CycleNumber cycle, Money delta);
+
+    /**
+     * Resets the pool to its initial amount and advances the cycle, provided the jackpot is still in {@code cycle}.
+     * Fails with an {@code OptimisticLockingFailureException} otherwise.
+     */
+    void startNextCycle(JackpotId id, CycleNumber cycle);
 }
@@ -3,6 +3,7 @@ package com.example.jackpot.application.port.out;
 import com.example.jackpot.domain.model.JackpotReward;
 import com.example.jackpot.domain.model.id.BetId;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +13,6 @@ public interface JackpotRewardRepository {
     Optional<JackpotReward> findByBetId(BetId betId);
 
     void save(JackpotReward reward);
+
+    void saveAll(List<JackpotReward> rewards);
 }
@@ -0,0 +1,19 @@
+package com.example.jackpot.application.port.out;
+
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Outbound port for building the contribution and reward strategies of a jackpot from their stored configs.
+ */
+public interface JackpotStrategyFactory {
+
+    ContributionCalculator contributionCalculator(String config);
+
+    /**
+     * Builds the reward strategy drawing from {@code randomNumberGenerator}, whatever generator the config selects.
+     */
+    RewardEvaluator rewardEvaluator(String config, DoubleSupplier randomNumberGenerator);
+}
@@ -0,0 +1,96 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Variant of {@link DefaultBetProcessingService}, enabled with {@code jackpot.persistence.pool-update=delta}, that writes
+ * the contribution as an atomic pool increment instead of a versioned read-modify-write of the whole jackpot.
+ * <p>
+ * The contribution is calculated against the pool as loaded, added with {@link JackpotRepository#addToPool} and the reward
+ * is evaluated against the pool read back, which includes contributions committed concurrently by other consumers.
+ * From the increment on, the jackpot row is locked until commit, so a winning bet resets exactly the pool it was paid.
+ * Bets waiting on that lock find the cycle advanced and fail with an optimistic locking conflict, so only bets crossing
+ * a cycle boundary are retried.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.persistence.pool-update", havingValue = "delta")
+public class AtomicDeltaBetProcessingService implements BetProcessingService {
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotRewardRepository rewardRepository;
+    private final BetOutcomeRepository outcomeRepository;
+    private final JackpotMetrics metrics;
+    private final BetIdempotencyGuard idempotencyGuard;
+    private final BetOutcomeRegistry outcomes;
+
+    @Transactional
+    @Override
+    public void process(Bet bet) {
+        requireNonNull(bet, "bet must not be null");
+
+        if (idempotencyGuard.processedBets().isDuplicate(bet.betId(), contributionRepository::existsByBetId)) {
+            log.warn("Contribution already exists for bet={}", bet.betId());
+            return;
+        }
+
+        log.debug("Processing bet={} for jackpot={}", bet.betId(), bet.jackpotId());
+
+        JackpotId jackpotId = bet.jackpotId();
+
+        Jackpot jackpot = jackpotRepository.findById(jackpotId)
+                .orElseThrow(() -> new JackpotNotFoundException("Jackpot not found: %s".formatted(jackpotId.value())));
+
+        CycleNumber cycle = jackpot.currentCycle();
+        JackpotContribution contribution = jackpot.contribute(bet);
+
+        Money pool = jackpotRepository.addToPool(jackpotId, cycle, contribution.contributionAmount());
+        jackpot.refreshPool(pool);
+        contribution = contribution.withCurrentJackpotAmount(pool);
+
+        Optional<JackpotReward> reward = jackpot.evaluateRewardFor(bet);
+        metrics.betApplied(contribution, reward.isPresent());
+
+        contributionRepository.save(contribution);
+        BetOutcome outcome = BetOutcome.of(contribution, reward);
+        outcomeRepository.save(outcome);
+
+        if (reward.isPresent()) {
+            JackpotReward r = reward.get();
+            rewardRepository.save(r);
+            log.info("Reward granted for bet={} jackpot={} user={}", r.betId(), r.jackpotId(), r.userId());
+
+            jackpotRepository.startNextCycle(jackpotId, cycle);
+            jackpot.startNextCycle();
+        }
+
+        metrics.poolChanged(jackpotId, jackpot.currentPool());
+        outcomes.processed(outcome);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.id.BetId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-memory view of bet outcomes: the most recent ones, and clients waiting for one.
+ * <p>
+ * Processing reports the outcome of every bet it applied. Inside a transaction the outcome is only kept and handed to
+ * the waiting clients after the commit, so they never see a result that is rolled back. Both are local to this
+ * instance: a bet processed by another instance is not reported here, is only found in the database and its waiters
+ * time out.
+ */
+@Component
+public class BetOutcomeRegistry {
+
+    private final int maxWaiting;
+
+    private final Map<BetId, Waiting> waiting = new ConcurrentHashMap<>();
+    private final Map<BetId, BetOutcome> recent;
+
+    public BetOutcomeRegistry(@Value("${jackpot.rest.reward.max-waiting:10000}") int maxWaiting,
+                              @Value("${jackpot.rest.reward.recent-outcomes:100000}") int recentOutcomes) {
+        isTrue(maxWaiting > 0, "maxWaiting must be positive");
+        isTrue(recentOutcomes > 0, "recentOutcomes must be positive");
+
+        this.maxWaiting = maxWaiting;
+        this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BetId, BetOutcome> eldest) {
+                return size() > recentOutcomes;
+            }
+        };
+    }
+
+    /**
+     * The outcome of the bet if it was processed by this instance recently.
+     */
+    public Optional<BetOutcome> recent(BetId betId) {
+        requireNonNull(betId, "betId must not be null");
+
+        synchronized (recent) {
+            return Optional.ofNullable(recent.get(betId));
+        }
+    }
+
+    /**
+     * Completes with the outcome of the bet once it is processed. Fails with a
+     * {@link java.util.concurrent.TimeoutException} after the timeout, and with a {@link RejectedExecutionException}
+     * straight away if too many clients are already waiting.
+     */
+    public CompletableFuture<BetOutcome> await(BetId betId, Duration timeout) {
+        requireNonNull(betId, "betId must not be null");
+        requireNonNull(timeout, "timeout must not be null");
+        isTrue(timeout.isPositive(), "timeout must be positive");
+
+        if (waiting.size() >= maxWaiting) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Too many clients waiting for bet outcomes"));
+        }
+
+        Waiting entry = waiting.compute(betId, (id, current) -> (current == null ? new Waiting() : current).join());
+
+        CompletableFuture<BetOutcome> result = entry.outcome.copy().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        result.whenComplete((outcome, ex) -> waiting.computeIfPresent(betId, (id, current) -> current == entry && entry.leave() ? null : current));
+
+        return result;
+    }
+
+    public int waitingCount() {
+        return waiting.size();
+    }
+
+    /**
+     * Reports a processed bet, after the commit if a transaction is active.
+     */
+    public void processed(BetOutcome outcome) {
+        requireNonNull(outcome, "outcome must not be null");
+
+        afterCommit(() -> complete(outcome));
+    }
+
+    /**
+     * Reports processed bets, after the commit if a transaction is active.
+     */
+    public void processed(List<BetOutcome> outcomes) {
+        requireNonNull(outcomes, "outcomes must not be null");
+
+        List<BetOutcome> processed = List.copyOf(outcomes);
+        afterCommit(() -> processed.forEach(this::complete));
+    }
+
+    private void complete(BetOutcome outcome) {
+        synchronized (recent) {
+            recent.put(outcome.betId(), outcome);
+        }
+
+        Waiting entry = waiting.remove(outcome.betId());
+        if (entry != null) {
+            // completed asynchronously, so waiting clients are answered off the processing thread
+            entry.outcome.completeAsync(() -> outcome);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Waiting {
+
+        private final CompletableFuture<BetOutcome> outcome = new CompletableFuture<>();
+        private int waiters;
+
+        // only called inside ConcurrentHashMap.compute for the bet
+        Waiting join() {
+            waiters++;
+            return this;
+        }
+
+        // only called inside ConcurrentHashMap.computeIfPresent for the bet
+        boolean leave() {
+            return --waiters == 0;
+        }
+    }
+}
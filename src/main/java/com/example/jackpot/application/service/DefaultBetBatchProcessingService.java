@@ -0,0 +1,176 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetBatchProcessingService;
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Processes a batch of bets by applying each jackpot's bets to a single {@link Jackpot} aggregate
+ * in one transaction: one duplicate lookup, one jackpot read and write, and batched contribution/reward inserts.
+ * <p>
+ * If a jackpot's group cannot be applied as a whole, its bets fall back to {@link BetProcessingService}
+ * one by one, so a single bad bet does not fail the other bets of the batch.
+ * <p>
+ * Groups write the jackpot row, so with {@code jackpot.persistence.pool-update=striped}, where the pool is spread over
+ * stripe rows, and {@code event-sourced}, where the state lives in the event log, every bet is processed by
+ * {@link BetProcessingService} instead.
+ */
+@Slf4j
+@Service
+public class DefaultBetBatchProcessingService implements BetBatchProcessingService {
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotRewardRepository rewardRepository;
+    private final BetOutcomeRepository outcomeRepository;
+    private final BetProcessingService betProcessingService;
+    private final TransactionTemplate transactionTemplate;
+    private final JackpotMetrics metrics;
+    private final BetOutcomeRegistry outcomes;
+    private final boolean groupsApplied;
+
+    public DefaultBetBatchProcessingService(JackpotRepository jackpotRepository,
+                                            JackpotContributionRepository contributionRepository,
+                                            JackpotRewardRepository rewardRepository,
+                                            BetOutcomeRepository outcomeRepository,
+                                            BetProcessingService betProcessingService,
+                                            TransactionTemplate transactionTemplate,
+                                            JackpotMetrics metrics,
+                                            BetOutcomeRegistry outcomes,
+                                            @Value("${jackpot.persistence.pool-update:versioned}") String poolUpdate) {
+        requireNonNull(poolUpdate, "poolUpdate must not be null");
+
+        this.jackpotRepository = jackpotRepository;
+        this.contributionRepository = contributionRepository;
+        this.rewardRepository = rewardRepository;
+        this.outcomeRepository = outcomeRepository;
+        this.betProcessingService = betProcessingService;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.outcomes = outcomes;
+        this.groupsApplied = !poolUpdate.equals("striped") && !poolUpdate.equals("event-sourced");
+    }
+
+    @Override
+    public BetBatchResult processAll(List<Bet> bets) {
+        requireNonNull(bets, "bets must not be null");
+
+        if (!groupsApplied) {
+            return new BetBatchResult(processIndividually(bets));
+        }
+
+        Map<JackpotId, List<Bet>> betsByJackpot = bets.stream()
+                .collect(groupingBy(Bet::jackpotId, LinkedHashMap::new, toList()));
+
+        Map<BetId, RuntimeException> failures = new LinkedHashMap<>();
+
+        betsByJackpot.forEach((jackpotId, group) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyGroup(jackpotId, group));
+            } catch (RuntimeException ex) {
+                log.warn("Failed to apply batch of {} bets for jackpot={}, falling back to per-bet processing: {}", group.size(), jackpotId, ex.getMessage());
+
+                failures.putAll(processIndividually(group));
+            }
+        });
+
+        return new BetBatchResult(failures);
+    }
+
+    private void applyGroup(JackpotId jackpotId, List<Bet> group) {
+        Set<BetId> existing = contributionRepository.findExistingBetIds(group.stream().map(Bet::betId).toList());
+        Set<BetId> seen = new HashSet<>(existing);
+
+        List<Bet> pending = new ArrayList<>(group.size());
+        for (Bet bet : group) {
+            if (seen.add(bet.betId())) {
+                pending.add(bet);
+            } else {
+                log.warn("Contribution already exists for bet={}", bet.betId());
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        log.debug("Processing {} bets for jackpot={}", pending.size(), jackpotId);
+
+        Jackpot jackpot = jackpotRepository.findById(jackpotId)
+                .orElseThrow(() -> new JackpotNotFoundException("Jackpot not found: %s".formatted(jackpotId.value())));
+
+        List<JackpotContribution> contributions = new ArrayList<>(pending.size());
+        List<JackpotReward> rewards = new ArrayList<>();
+
+        for (Bet bet : pending) {
+            JackpotContribution contribution = jackpot.contribute(bet);
+            contributions.add(contribution);
+
+            Optional<JackpotReward> reward = jackpot.evaluateRewardFor(bet);
+            metrics.betApplied(contribution, reward.isPresent());
+            reward.ifPresent(r -> {
+                rewards.add(r);
+                log.info("Reward granted for bet={} jackpot={} user={}", r.betId(), r.jackpotId(), r.userId());
+
+                jackpot.startNextCycle();
+            });
+        }
+
+        contributionRepository.saveAll(contributions);
+        if (!rewards.isEmpty()) {
+            rewardRepository.saveAll(rewards);
+        }
+
+        List<BetOutcome> betOutcomes = BetOutcome.of(contributions, rewards);
+        outcomeRepository.saveAll(betOutcomes);
+
+        jackpotRepository.save(jackpot);
+        metrics.poolChanged(jackpotId, jackpot.currentPool());
+        outcomes.processed(betOutcomes);
+    }
+
+    private Map<BetId, RuntimeException> processIndividually(List<Bet> group) {
+        Map<BetId, RuntimeException> failures = new LinkedHashMap<>();
+
+        for (Bet bet : group) {
+            try {
+                betProcessingService.process(bet);
+            } catch (RuntimeException ex) {
+                log.error("Failed to process bet={} for jackpot={}: {}", bet.betId(), bet.jackpotId(), ex.getMessage(), ex);
+
+                failures.put(bet.betId(), ex);
+            }
+        }
+
+        return failures;
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.jackpot.application.service;
 
 import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
 import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
 import com.example.jackpot.application.port.out.JackpotRepository;
 import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
 import com.example.jackpot.domain.exception.JackpotNotFoundException;
 import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
 import com.example.jackpot.domain.model.Jackpot;
 import com.example.jackpot.domain.model.JackpotContribution;
 import com.example.jackpot.domain.model.JackpotReward;
 import com.example.jackpot.domain.model.id.JackpotId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,18 +27,23 @@ import static java.util.Objects.requireNonNull;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.persistence.pool-update", havingValue = "versioned", matchIfMissing = true)
 public class DefaultBetProcessingService implements BetProcessingService {
 
     private final JackpotRepository jackpotRepository;
     private final JackpotContributionRepository contributionRepository;
     private final JackpotRewardRepository rewardRepository;
+    private final BetOutcomeRepository outcomeRepository;
+    private final JackpotMetrics metrics;
+    private final BetIdempotencyGuard idempotencyGuard;
+    private final BetOutcomeRegistry outcomes;
 
     @Transactional
     @Override
     public void process(Bet bet) {
         requireNonNull(bet, "bet must not be null");
 
-        if (contributionRepository.existsByBetId(bet.betId())) {
+        if (idempotencyGuard.processedBets().isDuplicate(bet.betId(), contributionRepository::existsByBetId)) {
             log.warn("Contribution already exists for bet={}", bet.betId());
             return;
         }
@@ -48,8 +58,12 @@ public class DefaultBetProcessingService implements BetProcessingService {
         JackpotContribution contribution = jackpot.contribute(bet);
 
         Optional<JackpotReward> reward = jackpot.evaluateRewardFor(bet);
+        metrics.betApplied(contribution, reward.isPresent());
 
         contributionRepository.save(contribution);
+        BetOutcome outcome = BetOutcome.of(contribution, reward);
+        outcomeRepository.save(outcome);
+
         reward.ifPresent(r -> {
             rewardRepository.save(r);
             log.info("Reward granted for bet={} jackpot={} user={}", r.betId(), r.jackpotId(), r.userId());
@@ -58,5 +72,7 @@ public class DefaultBetProcessingService implements BetProcessingService {
         });
 
         jackpotRepository.save(jackpot);
+        metrics.poolChanged(jackpotId, jackpot.currentPool());
+        outcomes.processed(outcome);
     }
 }
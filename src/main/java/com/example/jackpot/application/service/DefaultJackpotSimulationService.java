@@ -0,0 +1,241 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.JackpotSimulationService;
+import com.example.jackpot.application.port.in.SimulationParameters;
+import com.example.jackpot.application.port.in.SimulationReport;
+import com.example.jackpot.application.port.in.SimulationReport.Percentiles;
+import com.example.jackpot.application.port.out.JackpotStrategyFactory;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.contribution.ContributionContext;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.reward.RewardContext;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Monte Carlo simulation of a contribution/reward config pair, run through the same {@link ContributionCalculator}
+ * and {@link RewardEvaluator} a jackpot would be built with.
+ * <p>
+ * Each worker plays its share of the bets against a jackpot of its own, the way {@code Jackpot} does: the stake's
+ * contribution is added to the pool, the pool is evaluated for a win, and a win pays the pool and restarts the cycle
+ * at the initial pool. Workers run on a fork-join pool of {@code jackpot.simulation.parallelism} threads. Each draws
+ * stakes and reward chances from its own {@link SplittableRandom}, split off one seeded with the requested seed, so
+ * the same parameters always produce the same report, however the workers are scheduled.
+ */
+@Slf4j
+@Service
+public class DefaultJackpotSimulationService implements JackpotSimulationService {
+
+    private static final int RATE_SCALE = 6;
+
+    private final JackpotStrategyFactory strategyFactory;
+    private final int parallelism;
+
+    public DefaultJackpotSimulationService(JackpotStrategyFactory strategyFactory,
+                                           @Value("${jackpot.simulation.parallelism:0}") int parallelism) {
+        requireNonNull(strategyFactory, "strategyFactory must not be null");
+
+        isTrue(parallelism >= 0, "parallelism must not be negative");
+
+        this.strategyFactory = strategyFactory;
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    @Override
+    public SimulationReport simulate(SimulationParameters parameters) {
+        requireNonNull(parameters, "parameters must not be null");
+
+        // fail on an invalid config before any worker starts
+        strategyFactory.contributionCalculator(parameters.contributionConfig());
+        strategyFactory.rewardEvaluator(parameters.rewardConfig(), () -> 0);
+
+        log.info("Simulating {} bets on {} workers with seed={}", parameters.bets(), parameters.workers(), parameters.seed());
+
+        long start = System.nanoTime();
+
+        SplittableRandom seeds = new SplittableRandom(parameters.seed());
+        Worker[] workers = new Worker[parameters.workers()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(parameters, betsOf(parameters, i), seeds.split());
+        }
+
+        try (ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, workers.length))) {
+            pool.invoke(new Workers(workers, 0, workers.length));
+        }
+
+        SimulationReport report = report(parameters, workers, Duration.ofNanos(System.nanoTime() - start));
+
+        log.info("Simulated {} bets with {} cycles in {}", report.bets(), report.cycles(), report.elapsed());
+
+        return report;
+    }
+
+    private static long betsOf(SimulationParameters parameters, int worker) {
+        long share = parameters.bets() / parameters.workers();
+
+        return worker < parameters.bets() % parameters.workers() ? share + 1 : share;
+    }
+
+    private static SimulationReport report(SimulationParameters parameters, Worker[] workers, Duration elapsed) {
+        Currency currency = parameters.initialPool().currency();
+
+        long staked = 0;
+        long contributed = 0;
+        long paidOut = 0;
+        for (Worker worker : workers) {
+            staked = Math.addExact(staked, worker.staked);
+            contributed = Math.addExact(contributed, worker.contributed);
+            paidOut = Math.addExact(paidOut, worker.paidOut);
+        }
+
+        long[] cycleLengths = concat(workers, worker -> worker.cycleLengths);
+        long[] payouts = concat(workers, worker -> worker.payouts);
+
+        return new SimulationReport(
+                parameters.bets(),
+                cycleLengths.length,
+                Money.ofMinor(staked, currency),
+                Money.ofMinor(contributed, currency),
+                Money.ofMinor(paidOut, currency),
+                ratio(contributed, staked),
+                ratio(paidOut, staked),
+                percentiles(cycleLengths, BigDecimal::valueOf),
+                percentiles(payouts, minorUnits -> Money.ofMinor(minorUnits, currency).amount()),
+                elapsed
+        );
+    }
+
+    private static long[] concat(Worker[] workers, Function<Worker, long[]> samples) {
+        return Arrays.stream(workers)
+                .flatMapToLong(worker -> Arrays.stream(samples.apply(worker)))
+                .toArray();
+    }
+
+    private static BigDecimal ratio(long dividend, long divisor) {
+        return BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static Optional<Percentiles> percentiles(long[] values, LongFunction<BigDecimal> unit) {
+        if (values.length == 0) {
+            return Optional.empty();
+        }
+
+        Arrays.parallelSort(values);
+
+        BigDecimal sum = unit.apply(Arrays.stream(values).sum());
+        BigDecimal mean = sum.divide(BigDecimal.valueOf(values.length), sum.scale() + 2, RoundingMode.HALF_UP);
+
+        return Optional.of(new Percentiles(
+                mean,
+                unit.apply(values[0]),
+                unit.apply(nearestRank(values, 0.50)),
+                unit.apply(nearestRank(values, 0.90)),
+                unit.apply(nearestRank(values, 0.99)),
+                unit.apply(values[values.length - 1])
+        ));
+    }
+
+    private static long nearestRank(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Runs the workers from {@code from} to {@code to}, halving the range until a single worker is left.
+     */
+    private static final class Workers extends RecursiveAction {
+        private final Worker[] workers;
+        private final int from;
+        private final int to;
+
+        private Workers(Worker[] workers, int from, int to) {
+            this.workers = workers;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                workers[from].run();
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new Workers(workers, from, middle), new Workers(workers, middle, to));
+        }
+    }
+
+    /**
+     * One simulated jackpot; its totals and samples are read once the fork-join task has completed.
+     */
+    private final class Worker {
+        private final SimulationParameters parameters;
+        private final long bets;
+        private final SplittableRandom random;
+
+        private long staked;
+        private long contributed;
+        private long paidOut;
+        private long[] cycleLengths;
+        private long[] payouts;
+
+        private Worker(SimulationParameters parameters, long bets, SplittableRandom random) {
+            this.parameters = parameters;
+            this.bets = bets;
+            this.random = random;
+        }
+
+        private void run() {
+            ContributionCalculator calculator = strategyFactory.contributionCalculator(parameters.contributionConfig());
+            RewardEvaluator evaluator = strategyFactory.rewardEvaluator(parameters.rewardConfig(), random::nextDouble);
+
+            Money initialPool = parameters.initialPool();
+            Money pool = initialPool;
+            long cycleBets = 0;
+            LongStream.Builder lengths = LongStream.builder();
+            LongStream.Builder wins = LongStream.builder();
+
+            for (long i = 0; i < bets; i++) {
+                Money stake = parameters.betSizes().sample(random);
+                Money contribution = calculator.calculate(new ContributionContext(stake, pool, initialPool));
+
+                pool = pool.plus(contribution);
+                staked += stake.minorUnits();
+                contributed += contribution.minorUnits();
+                cycleBets++;
+
+                if (evaluator.evaluate(new RewardContext(pool))) {
+                    lengths.add(cycleBets);
+                    wins.add(pool.minorUnits());
+                    paidOut += pool.minorUnits();
+
+                    pool = initialPool;
+                    cycleBets = 0;
+                }
+            }
+
+            cycleLengths = lengths.build().toArray();
+            payouts = wins.build().toArray();
+        }
+    }
+}
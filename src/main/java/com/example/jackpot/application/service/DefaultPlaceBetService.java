@@ -1,14 +1,23 @@
 package com.example.jackpot.application.service;
 
+import com.example.jackpot.application.port.in.BetPlacementResult;
 import com.example.jackpot.application.port.in.PlaceBetService;
 import com.example.jackpot.application.port.out.BetProducer;
 import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
 import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static java.util.Objects.requireNonNull;
 
 @Slf4j
@@ -18,13 +27,16 @@ public class DefaultPlaceBetService implements PlaceBetService {
 
     private final BetRepository betRepository;
     private final BetProducer betProducer;
+    private final JackpotMetrics metrics;
+    private final BetIdempotencyGuard idempotencyGuard;
 
     @Transactional
     public void place(Bet bet) {
         requireNonNull(bet, "bet must not be null");
 
-        if (betRepository.existsById(bet.betId())) {
+        if (idempotencyGuard.placedBets().isDuplicate(bet.betId(), betRepository::existsById)) {
             log.warn("Bet already exists, skipping publish (betId={})", bet.betId());
+            metrics.duplicateBets(1);
             return;
         }
         betRepository.save(bet);
@@ -33,4 +45,34 @@ public class DefaultPlaceBetService implements PlaceBetService {
 
         log.info("Bet persisted and published bet={}", bet);
     }
+
+    @Transactional
+    public BetPlacementResult placeAll(List<Bet> bets) {
+        requireNonNull(bets, "bets must not be null");
+
+        Set<BetId> existing = idempotencyGuard.placedBets().findDuplicates(bets.stream().map(Bet::betId).toList(), betRepository::findExistingIds);
+        Set<BetId> seen = new HashSet<>(existing);
+
+        List<Bet> pending = new ArrayList<>(bets.size());
+        for (Bet bet : bets) {
+            if (seen.add(bet.betId())) {
+                pending.add(bet);
+            } else {
+                log.warn("Bet already exists, skipping publish (betId={})", bet.betId());
+            }
+        }
+
+        if (pending.size() < bets.size()) {
+            metrics.duplicateBets(bets.size() - pending.size());
+        }
+
+        if (!pending.isEmpty()) {
+            betRepository.saveAll(pending);
+            betProducer.publishAll(pending);
+        }
+
+        log.info("Batch of {} bets persisted and published, {} skipped", pending.size(), bets.size() - pending.size());
+
+        return new BetPlacementResult(existing);
+    }
 }
\ No newline at end of file
@@ -1,21 +1,32 @@
 package com.example.jackpot.application.service;
 
 import com.example.jackpot.application.port.in.RewardQueryService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
 import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.domain.model.BetOutcome;
 import com.example.jackpot.domain.model.JackpotReward;
 import com.example.jackpot.domain.model.id.BetId;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static java.util.Objects.requireNonNull;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DefaultRewardQueryService implements RewardQueryService {
 
     private final JackpotRewardRepository rewardRepository;
+    private final BetOutcomeRepository outcomeRepository;
+    private final BetOutcomeRegistry outcomes;
 
     @Override
     public Optional<JackpotReward> findByBetId(BetId betId) {
@@ -23,4 +34,45 @@ public class DefaultRewardQueryService implements RewardQueryService {
 
         return rewardRepository.findByBetId(betId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Bets recently processed by this instance are answered from memory, all others from the database.
+     */
+    @Override
+    public Optional<BetOutcome> findOutcomeByBetId(BetId betId) {
+        requireNonNull(betId, "betId must not be null");
+
+        return outcomes.recent(betId).or(() -> outcomeRepository.findByBetId(betId));
+    }
+
+    /**
+     * Registers as a waiter before looking the bet up, so a bet processed in between is not missed.
+     * Only bets that are not processed yet are left waiting; one more lookup is made when the wait ends without an outcome.
+     */
+    @Override
+    public CompletableFuture<Optional<BetOutcome>> awaitOutcomeByBetId(BetId betId, Duration timeout) {
+        requireNonNull(betId, "betId must not be null");
+        requireNonNull(timeout, "timeout must not be null");
+
+        Optional<BetOutcome> recent = outcomes.recent(betId);
+        if (recent.isPresent()) {
+            return CompletableFuture.completedFuture(recent);
+        }
+
+        CompletableFuture<BetOutcome> outcome = outcomes.await(betId, timeout);
+
+        if (!outcome.isDone()) {
+            outcomeRepository.findByBetId(betId).ifPresent(outcome::complete);
+        }
+
+        return outcome.thenApply(Optional::of).exceptionallyAsync(ex -> {
+            Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+            if (!(cause instanceof TimeoutException) && !(cause instanceof RejectedExecutionException)) {
+                throw new CompletionException(cause);
+            }
+
+            log.debug("No outcome for bet={} within {}: {}", betId, timeout, cause.getMessage());
+            return findOutcomeByBetId(betId);
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.application.service.JackpotEventSourcing.ReplayedJackpot;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.event.ContributionApplied;
+import com.example.jackpot.domain.model.event.CycleStarted;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.event.RewardGranted;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Variant of {@link DefaultBetProcessingService}, enabled with {@code jackpot.persistence.pool-update=event-sourced}, that
+ * records the jackpot's state changes as events instead of updating the jackpot row.
+ * <p>
+ * The jackpot is rebuilt by {@link JackpotEventSourcing} from its latest snapshot and the events after it. A bet appends
+ * a {@link ContributionApplied} event, and a winning bet also appends {@link RewardGranted} and {@link CycleStarted}. The
+ * events are numbered on from the last event replayed, so two bets applied to the same state conflict on a sequence
+ * number; the later one fails with an optimistic locking conflict and is retried. The jackpot row is only read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.persistence.pool-update", havingValue = "event-sourced")
+public class EventSourcedBetProcessingService implements BetProcessingService {
+
+    private final JackpotEventSourcing eventSourcing;
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotRewardRepository rewardRepository;
+    private final BetOutcomeRepository outcomeRepository;
+    private final JackpotMetrics metrics;
+    private final BetIdempotencyGuard idempotencyGuard;
+    private final BetOutcomeRegistry outcomes;
+
+    @Transactional
+    @Override
+    public void process(Bet bet) {
+        requireNonNull(bet, "bet must not be null");
+
+        if (idempotencyGuard.processedBets().isDuplicate(bet.betId(), contributionRepository::existsByBetId)) {
+            log.warn("Contribution already exists for bet={}", bet.betId());
+            return;
+        }
+
+        log.debug("Processing bet={} for jackpot={}", bet.betId(), bet.jackpotId());
+
+        JackpotId jackpotId = bet.jackpotId();
+
+        ReplayedJackpot replayed = eventSourcing.load(jackpotId);
+        Jackpot jackpot = replayed.jackpot();
+        long sequence = replayed.sequence();
+
+        JackpotContribution contribution = jackpot.contribute(bet);
+        Optional<JackpotReward> reward = jackpot.evaluateRewardFor(bet);
+        metrics.betApplied(contribution, reward.isPresent());
+
+        List<JackpotEvent> events = new ArrayList<>(3);
+        events.add(new ContributionApplied(jackpotId, ++sequence, contribution.jackpotCycle(), bet.betId(), contribution.contributionAmount(), contribution.createdAt()));
+
+        contributionRepository.save(contribution);
+        BetOutcome outcome = BetOutcome.of(contribution, reward);
+        outcomeRepository.save(outcome);
+
+        if (reward.isPresent()) {
+            JackpotReward r = reward.get();
+            rewardRepository.save(r);
+            log.info("Reward granted for bet={} jackpot={} user={}", r.betId(), r.jackpotId(), r.userId());
+
+            jackpot.startNextCycle();
+            events.add(new RewardGranted(jackpotId, ++sequence, r.jackpotCycle(), r.betId(), r.rewardAmount(), r.createdAt()));
+            events.add(new CycleStarted(jackpotId, ++sequence, jackpot.currentCycle(), jackpot.currentPool(), r.createdAt()));
+        }
+
+        eventSourcing.append(jackpot, replayed.sequence(), events);
+
+        metrics.poolChanged(jackpotId, jackpot.currentPool());
+        outcomes.processed(outcome);
+    }
+}
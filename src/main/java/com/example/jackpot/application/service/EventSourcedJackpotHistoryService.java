@@ -0,0 +1,31 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.JackpotHistoryService;
+import com.example.jackpot.application.port.in.JackpotState;
+import com.example.jackpot.application.service.JackpotEventSourcing.ReplayedJackpot;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Only available with {@code jackpot.persistence.pool-update=event-sourced}; the other pool updates keep no history.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jackpot.persistence.pool-update", havingValue = "event-sourced")
+public class EventSourcedJackpotHistoryService implements JackpotHistoryService {
+
+    private final JackpotEventSourcing eventSourcing;
+
+    @Override
+    public JackpotState stateAt(JackpotId id, Instant at) {
+        ReplayedJackpot replayed = eventSourcing.loadAt(id, at);
+        Jackpot jackpot = replayed.jackpot();
+
+        return new JackpotState(id, at, replayed.sequence(), jackpot.currentCycle(), jackpot.currentPool());
+    }
+}
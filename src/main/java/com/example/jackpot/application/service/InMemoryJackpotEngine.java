@@ -0,0 +1,349 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.application.port.in.JackpotEngine;
+import com.example.jackpot.application.port.out.BetJournal;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * {@link JackpotEngine} keeping the jackpots of each owned partition resident between polls.
+ * <p>
+ * Bets are applied to the resident aggregates and the resulting state is handed to {@link JackpotStateWriter}.
+ * A jackpot is only read from the database when its partition is assigned, when it is not resident yet,
+ * or after the writer gave up its writes; each of these first waits for pending writes.
+ * <p>
+ * A bet that cannot be applied leaves its jackpot untouched and is reported as failed; the caller decides whether it
+ * is redelivered. Bets already applied and not written yet are recognised through
+ * {@link JackpotStateWriter#pendingAmong}, so a redelivered poll only applies the bets that are new to it.
+ * <p>
+ * With a {@link BetJournal}, the outcome of each poll is journaled before {@link #apply} returns, and so before its
+ * offsets are committed, and kept there until its write commits. When a partition is assigned, bets journaled from
+ * polls below the resume offset whose state never reached the database are applied again to the loaded jackpots and
+ * handed to the writer. Jackpots whose writes were given up are recovered the same way, from every bet journaled for
+ * them, before the next poll of their partition is applied.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "engine")
+public class InMemoryJackpotEngine implements JackpotEngine {
+
+    private static final int RECOVERY_LOOKUP_SIZE = 1_000;
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotStateWriter stateWriter;
+    private final JackpotMetrics metrics;
+    private final Optional<BetJournal> journal;
+    private final Optional<JournalRetention> retention;
+
+    private final Map<Integer, Map<JackpotId, Jackpot>> residentByPartition = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<JackpotId>> evictedByPartition = new ConcurrentHashMap<>();
+
+    public InMemoryJackpotEngine(JackpotRepository jackpotRepository,
+                                 JackpotContributionRepository contributionRepository,
+                                 JackpotStateWriter stateWriter,
+                                 JackpotMetrics metrics,
+                                 Optional<BetJournal> journal) {
+        this.jackpotRepository = jackpotRepository;
+        this.contributionRepository = contributionRepository;
+        this.stateWriter = stateWriter;
+        this.metrics = metrics;
+        this.journal = journal;
+        this.retention = journal.map(JournalRetention::new);
+    }
+
+    @Override
+    public void assign(int partition, Predicate<JackpotId> ownership, long resumeOffset) {
+        requireNonNull(ownership, "ownership must not be null");
+
+        stateWriter.flush();
+
+        Map<JackpotId, Jackpot> resident = new ConcurrentHashMap<>();
+        for (Jackpot jackpot : jackpotRepository.findAll()) {
+            if (ownership.test(jackpot.jackpotId())) {
+                resident.put(jackpot.jackpotId(), jackpot);
+            }
+        }
+
+        journal.ifPresent(j -> recover(j, partition, resumeOffset, resident));
+
+        residentByPartition.put(partition, resident);
+
+        log.info("Assigned partition={} with {} resident jackpots", partition, resident.size());
+    }
+
+    @Override
+    public void revoke(int partition) {
+        Map<JackpotId, Jackpot> resident = residentByPartition.remove(partition);
+        Set<JackpotId> evicted = evictedByPartition.remove(partition);
+
+        stateWriter.flushOrGiveUp();
+
+        // bets of jackpots whose writes were given up are recovered by the next owner, if at all
+        retention.ifPresent(r -> {
+            if (resident != null) {
+                r.forget(resident.keySet());
+            }
+            if (evicted != null) {
+                r.forget(evicted);
+            }
+        });
+
+        log.info("Revoked partition={} releasing {} resident jackpots", partition, resident == null ? 0 : resident.size());
+    }
+
+    @Override
+    public BetBatchResult apply(int partition, List<Bet> bets, long lastOffset) {
+        requireNonNull(bets, "bets must not be null");
+
+        evictFailedJackpots();
+
+        Map<JackpotId, Jackpot> resident = residentByPartition.computeIfAbsent(partition, p -> new ConcurrentHashMap<>());
+        reloadEvicted(partition, resident);
+
+        List<BetId> betIds = bets.stream().map(Bet::betId).toList();
+        // pending first: a write committing in between is then found among the stored contributions
+        Set<BetId> seen = new HashSet<>(stateWriter.pendingAmong(betIds));
+        seen.addAll(contributionRepository.findExistingBetIds(betIds));
+        Map<JackpotId, Jackpot> touched = new LinkedHashMap<>();
+        List<JackpotContribution> contributions = new ArrayList<>(bets.size());
+        List<JackpotReward> rewards = new ArrayList<>();
+        Map<BetId, RuntimeException> failures = new LinkedHashMap<>();
+
+        for (Bet bet : bets) {
+            if (!seen.add(bet.betId())) {
+                log.warn("Contribution already exists for bet={}", bet.betId());
+                continue;
+            }
+
+            try {
+                Jackpot jackpot = resident.get(bet.jackpotId());
+                if (jackpot == null) {
+                    jackpot = load(bet.jackpotId());
+                    resident.put(bet.jackpotId(), jackpot);
+                }
+
+                Jackpot before = jackpot.snapshot();
+
+                try {
+                    JackpotContribution contribution = jackpot.contribute(bet);
+                    Optional<JackpotReward> reward = jackpot.evaluateRewardFor(bet);
+
+                    contributions.add(contribution);
+                    metrics.betApplied(contribution, reward.isPresent());
+                    if (reward.isPresent()) {
+                        JackpotReward r = reward.get();
+                        rewards.add(r);
+                        log.info("Reward granted for bet={} jackpot={} user={}", r.betId(), r.jackpotId(), r.userId());
+
+                        jackpot.startNextCycle();
+                    }
+                } catch (RuntimeException ex) {
+                    resident.put(bet.jackpotId(), before);
+                    touched.computeIfPresent(bet.jackpotId(), (id, j) -> before);
+                    throw ex;
+                }
+
+                touched.put(bet.jackpotId(), jackpot);
+            } catch (RuntimeException ex) {
+                log.error("Failed to apply bet={} for jackpot={}: {}", bet.betId(), bet.jackpotId(), ex.getMessage(), ex);
+
+                failures.put(bet.betId(), ex);
+            }
+        }
+
+        if (!contributions.isEmpty()) {
+            List<Jackpot> snapshots = touched.values().stream().map(Jackpot::snapshot).toList();
+
+            if (retention.isPresent()) {
+                long position = journalDurably(retention.get(), partition, lastOffset, contributions, rewards, resident, touched.keySet());
+                stateWriter.submit(contributions, rewards, snapshots, () -> retention.get().written(position));
+            } else {
+                stateWriter.submit(contributions, rewards, snapshots);
+            }
+
+            // the submitted snapshots will move the stored versions forward
+            touched.values().forEach(Jackpot::incrementVersion);
+            touched.values().forEach(j -> metrics.poolChanged(j.jackpotId(), j.currentPool()));
+        }
+
+        return new BetBatchResult(failures);
+    }
+
+    /**
+     * Journals the outcome of the poll and waits until it is on disk. If that fails, the jackpots it changed are
+     * dropped, to be reloaded without these bets when the poll is redelivered.
+     */
+    private long journalDurably(JournalRetention retention, int partition, long lastOffset, List<JackpotContribution> contributions,
+                                List<JackpotReward> rewards, Map<JackpotId, Jackpot> resident, Collection<JackpotId> touched) {
+        long position = -1;
+        try {
+            position = retention.append(partition, lastOffset, contributions, rewards);
+            journal.get().awaitDurable(position);
+            return position;
+        } catch (RuntimeException ex) {
+            log.error("Failed to journal {} bets of partition={}, evicting jackpots {}: {}", contributions.size(), partition, touched, ex.getMessage(), ex);
+
+            if (position >= 0) {
+                retention.written(position);
+            }
+            resident.keySet().removeAll(touched);
+            throw ex;
+        }
+    }
+
+    /**
+     * Applies journaled bets that are not in the database yet to the loaded jackpots, in the order they were applied,
+     * and hands them to the writer again. Each contribution is added to the loaded pool rather than restoring the pool
+     * recorded with it, which may predate bets persisted since.
+     */
+    private void recover(BetJournal journal, int partition, long resumeOffset, Map<JackpotId, Jackpot> resident) {
+        Runnable written = retention.orElseThrow().recovering(resident.keySet());
+
+        recover(journal.recover(partition, resumeOffset), resident, written);
+    }
+
+    private void recover(BetJournal.Recovered recovered, Map<JackpotId, Jackpot> resident, Runnable written) {
+        if (recovered.isEmpty()) {
+            written.run();
+            return;
+        }
+
+        Set<BetId> persisted = new HashSet<>();
+        List<BetId> betIds = recovered.contributions().stream().map(JackpotContribution::betId).toList();
+        for (int from = 0; from < betIds.size(); from += RECOVERY_LOOKUP_SIZE) {
+            persisted.addAll(contributionRepository.findExistingBetIds(betIds.subList(from, Math.min(from + RECOVERY_LOOKUP_SIZE, betIds.size()))));
+        }
+
+        Map<BetId, JackpotReward> rewardsByBet = recovered.rewards().stream().collect(toMap(JackpotReward::betId, Function.identity(), (a, b) -> a));
+        Map<JackpotId, Jackpot> touched = new LinkedHashMap<>();
+        List<JackpotContribution> contributions = new ArrayList<>();
+        List<JackpotReward> rewards = new ArrayList<>();
+
+        for (JackpotContribution contribution : recovered.contributions()) {
+            if (!persisted.add(contribution.betId())) {
+                continue;
+            }
+
+            Jackpot jackpot = resident.get(contribution.jackpotId());
+            if (jackpot == null || !jackpot.currentCycle().equals(contribution.jackpotCycle())) {
+                log.warn("Skipping journaled bet={} for jackpot={} cycle={}, which is not resident in that cycle", contribution.betId(), contribution.jackpotId(), contribution.jackpotCycle());
+                continue;
+            }
+
+            jackpot.refreshPool(jackpot.currentPool().plus(contribution.contributionAmount()));
+            contributions.add(contribution);
+
+            JackpotReward reward = rewardsByBet.get(contribution.betId());
+            if (reward != null) {
+                rewards.add(reward);
+                jackpot.startNextCycle();
+            }
+
+            touched.put(jackpot.jackpotId(), jackpot);
+        }
+
+        if (contributions.isEmpty()) {
+            written.run();
+            return;
+        }
+
+        log.info("Recovered {} journaled bets and {} rewards into {} jackpots", contributions.size(), rewards.size(), touched.size());
+
+        stateWriter.submit(contributions, rewards, touched.values().stream().map(Jackpot::snapshot).toList(), written);
+
+        touched.values().forEach(Jackpot::incrementVersion);
+        touched.values().forEach(j -> metrics.poolChanged(j.jackpotId(), j.currentPool()));
+    }
+
+    private Jackpot load(JackpotId jackpotId) {
+        stateWriter.flush();
+
+        log.debug("Loading non-resident jackpot={}", jackpotId);
+
+        return jackpotRepository.findById(jackpotId)
+                .orElseThrow(() -> new JackpotNotFoundException("Jackpot not found: %s".formatted(jackpotId.value())));
+    }
+
+    private void evictFailedJackpots() {
+        if (!stateWriter.hasFailedJackpots()) {
+            return;
+        }
+
+        // writes queued on top of the lost state are given up by the writer before the jackpots are reloaded
+        stateWriter.flush();
+        Set<JackpotId> failed = stateWriter.drainFailedJackpots();
+
+        log.warn("Evicting jackpots {} after their writes were given up, they will be reloaded", failed);
+
+        // each partition reloads its jackpots on its own consumer thread, before applying its next poll
+        Set<JackpotId> unowned = new HashSet<>(failed);
+        residentByPartition.forEach((partition, resident) -> failed.stream()
+                .filter(resident::containsKey)
+                .forEach(id -> {
+                    evictedByPartition.computeIfAbsent(partition, p -> ConcurrentHashMap.newKeySet()).add(id);
+                    unowned.remove(id);
+                }));
+
+        retention.ifPresent(r -> r.forget(unowned));
+    }
+
+    /**
+     * Reloads the evicted jackpots of the partition and, with a journal, applies again every journaled bet of theirs
+     * that is not in the database. Without a journal, the bets of the given-up writes are lost.
+     */
+    private void reloadEvicted(int partition, Map<JackpotId, Jackpot> resident) {
+        Set<JackpotId> evicted = evictedByPartition.get(partition);
+        if (evicted == null || evicted.isEmpty()) {
+            return;
+        }
+
+        Set<JackpotId> jackpotIds = Set.copyOf(evicted);
+        resident.keySet().removeAll(jackpotIds);
+
+        if (journal.isPresent()) {
+            stateWriter.flush();
+
+            Map<JackpotId, Jackpot> reloaded = new LinkedHashMap<>();
+            jackpotIds.forEach(id -> jackpotRepository.findById(id).ifPresent(j -> reloaded.put(id, j)));
+
+            Runnable written = retention.orElseThrow().recovering(jackpotIds);
+            BetJournal.Recovered recovered = journal.get().recover(partition, Long.MAX_VALUE);
+            recover(new BetJournal.Recovered(
+                    recovered.contributions().stream().filter(c -> jackpotIds.contains(c.jackpotId())).toList(),
+                    recovered.rewards().stream().filter(r -> jackpotIds.contains(r.jackpotId())).toList()
+            ), reloaded, written);
+
+            resident.putAll(reloaded);
+        }
+
+        evicted.removeAll(jackpotIds);
+    }
+}
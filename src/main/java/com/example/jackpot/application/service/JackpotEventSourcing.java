@@ -0,0 +1,134 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.out.JackpotEventStore;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotSnapshot;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Rebuilds {@link Jackpot} aggregates from their event log and appends new events to it.
+ * <p>
+ * A jackpot is loaded from its row, which holds its configuration and its state before the first event, then
+ * restored from its latest snapshot and brought up to date by replaying the events after it. Every
+ * {@code jackpot.persistence.event-sourced.snapshot-interval} events a new snapshot is written, so a replay never
+ * covers more than that many events.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "jackpot.persistence.pool-update", havingValue = "event-sourced")
+public class JackpotEventSourcing {
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotEventStore eventStore;
+    private final int snapshotInterval;
+
+    public JackpotEventSourcing(JackpotRepository jackpotRepository,
+                                JackpotEventStore eventStore,
+                                @Value("${jackpot.persistence.event-sourced.snapshot-interval:100}") int snapshotInterval) {
+        isTrue(snapshotInterval > 0, "snapshotInterval must be positive");
+
+        this.jackpotRepository = jackpotRepository;
+        this.eventStore = eventStore;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * The current state of the jackpot, with the sequence of the last event replayed.
+     */
+    public ReplayedJackpot load(JackpotId id) {
+        requireNonNull(id, "id must not be null");
+
+        Jackpot jackpot = loadInitial(id);
+        Optional<JackpotSnapshot> snapshot = eventStore.findLatestSnapshot(id);
+
+        return replay(jackpot, snapshot, after -> eventStore.findAfter(id, after));
+    }
+
+    /**
+     * The state of the jackpot after the events stored until {@code at}. Event times are taken from the bets and are
+     * not ordered along the log, so the time is mapped to the last sequence appended by then.
+     */
+    public ReplayedJackpot loadAt(JackpotId id, Instant at) {
+        requireNonNull(id, "id must not be null");
+        requireNonNull(at, "at must not be null");
+
+        return loadAt(id, eventStore.findLastSequenceAppendedUntil(id, at));
+    }
+
+    /**
+     * The state of the jackpot after its events up to sequence {@code at}.
+     */
+    public ReplayedJackpot loadAt(JackpotId id, long at) {
+        requireNonNull(id, "id must not be null");
+
+        isTrue(at >= 0, "at must not be negative");
+
+        Jackpot jackpot = loadInitial(id);
+        Optional<JackpotSnapshot> snapshot = eventStore.findLatestSnapshot(id, at);
+
+        return replay(jackpot, snapshot, after -> eventStore.findAfter(id, after, at));
+    }
+
+    /**
+     * Appends the events produced on a jackpot replayed up to {@code replayedSequence}, and snapshots the jackpot if
+     * they cross a multiple of the snapshot interval.
+     */
+    public void append(Jackpot jackpot, long replayedSequence, List<JackpotEvent> events) {
+        requireNonNull(jackpot, "jackpot must not be null");
+        requireNonNull(events, "events must not be null");
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        eventStore.append(events);
+
+        JackpotEvent last = events.getLast();
+        if (last.sequence() / snapshotInterval > replayedSequence / snapshotInterval) {
+            eventStore.saveSnapshot(new JackpotSnapshot(jackpot.jackpotId(), last.sequence(), jackpot.currentCycle(), jackpot.currentPool(), last.occurredAt()));
+
+            log.debug("Snapshot of jackpot={} taken at sequence={}", jackpot.jackpotId(), last.sequence());
+        }
+    }
+
+    private Jackpot loadInitial(JackpotId id) {
+        return jackpotRepository.findById(id)
+                .orElseThrow(() -> new JackpotNotFoundException("Jackpot not found: %s".formatted(id.value())));
+    }
+
+    private static ReplayedJackpot replay(Jackpot jackpot, Optional<JackpotSnapshot> snapshot, LongFunction<List<JackpotEvent>> eventsAfter) {
+        long sequence = 0;
+        if (snapshot.isPresent()) {
+            jackpot.restore(snapshot.get());
+            sequence = snapshot.get().sequence();
+        }
+
+        for (JackpotEvent event : eventsAfter.apply(sequence)) {
+            jackpot.apply(event);
+            sequence = event.sequence();
+        }
+
+        return new ReplayedJackpot(jackpot, sequence);
+    }
+
+    /**
+     * A jackpot rebuilt from its event log, and the sequence of the last event applied to it.
+     */
+    public record ReplayedJackpot(Jackpot jackpot, long sequence) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Write-behind persistence for {@link InMemoryJackpotEngine}.
+ * <p>
+ * Submitted state is written in submission order by a single background thread, one transaction per submission.
+ * A write that fails is retained together with everything submitted after it and retried in order every
+ * {@code retryInterval}, so later snapshots of the same jackpots still find the version they expect.
+ * <p>
+ * Retained writes are given up after {@code maxAttempts} failed attempts, at once when the stored jackpot has been
+ * changed elsewhere, and when {@link #flushOrGiveUp()} cannot write them. Their bets are lost and their jackpots are
+ * reported through {@link #drainFailedJackpots()} so the engine can reload them; until then, writes submitted for those
+ * jackpots were applied on top of the lost state and are given up as well.
+ * <p>
+ * Bets are reported by {@link #pendingAmong} from submission until their write commits or is given up, so a poll
+ * redelivered in the meantime does not apply them again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jackpot.kafka.consumer.mode", havingValue = "engine")
+public class JackpotStateWriter {
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotRewardRepository rewardRepository;
+    private final BetOutcomeRepository outcomeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BetOutcomeRegistry outcomes;
+    private final int maxAttempts;
+    private final long retryIntervalNanos;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("jackpot-state-writer").daemon().factory());
+    private final Set<JackpotId> failedJackpots = ConcurrentHashMap.newKeySet();
+    private final Set<BetId> pendingBetIds = ConcurrentHashMap.newKeySet();
+
+    // touched by the writer thread only
+    private final Deque<Write> retained = new ArrayDeque<>();
+    private int attempts;
+    private long nextAttemptAt;
+
+    public JackpotStateWriter(JackpotRepository jackpotRepository,
+                              JackpotContributionRepository contributionRepository,
+                              JackpotRewardRepository rewardRepository,
+                              BetOutcomeRepository outcomeRepository,
+                              TransactionTemplate transactionTemplate,
+                              BetOutcomeRegistry outcomes,
+                              @Value("${jackpot.persistence.write-behind.max-attempts:20}") int maxAttempts,
+                              @Value("${jackpot.persistence.write-behind.retry-interval:500ms}") Duration retryInterval) {
+        requireNonNull(retryInterval, "retryInterval must not be null");
+
+        isTrue(maxAttempts > 0, "maxAttempts must be positive");
+        isTrue(!retryInterval.isNegative(), "retryInterval must not be negative");
+
+        this.jackpotRepository = jackpotRepository;
+        this.contributionRepository = contributionRepository;
+        this.rewardRepository = rewardRepository;
+        this.outcomeRepository = outcomeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.outcomes = outcomes;
+        this.maxAttempts = maxAttempts;
+        this.retryIntervalNanos = retryInterval.toNanos();
+    }
+
+    /**
+     * Queues the outcome of applied bets together with detached snapshots of the jackpots they changed.
+     */
+    public void submit(List<JackpotContribution> contributions, List<JackpotReward> rewards, List<Jackpot> snapshots) {
+        submit(contributions, rewards, snapshots, () -> { });
+    }
+
+    /**
+     * Like {@link #submit(List, List, List)}, running {@code written} on the writer thread once the write has been
+     * committed. It is not run for a write that is given up.
+     */
+    public void submit(List<JackpotContribution> contributions, List<JackpotReward> rewards, List<Jackpot> snapshots, Runnable written) {
+        requireNonNull(contributions, "contributions must not be null");
+        requireNonNull(rewards, "rewards must not be null");
+        requireNonNull(snapshots, "snapshots must not be null");
+        requireNonNull(written, "written must not be null");
+
+        Write write = new Write(List.copyOf(contributions), List.copyOf(rewards), List.copyOf(snapshots), written);
+        contributions.forEach(c -> pendingBetIds.add(c.betId()));
+
+        executor.execute(() -> {
+            retained.addLast(write);
+            writeRetained(false);
+        });
+    }
+
+    /**
+     * Blocks until everything submitted so far has been written, or retained after a failed write.
+     */
+    public void flush() {
+        await(() -> writeRetained(false));
+    }
+
+    /**
+     * Blocks until everything submitted so far has been written, giving up retained writes that still fail. Used when
+     * partitions change hands, so no retained snapshot is written over state another consumer has loaded since.
+     */
+    public void flushOrGiveUp() {
+        await(() -> writeRetained(true));
+    }
+
+    private void await(Runnable task) {
+        try {
+            executor.submit(task).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while flushing jackpot state", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Failed to flush jackpot state", ex.getCause());
+        }
+    }
+
+    /**
+     * The given bets that have been submitted but whose write has neither committed nor been given up. Checked before
+     * the stored contributions, a bet is found in one or the other once submitted.
+     */
+    public Set<BetId> pendingAmong(Collection<BetId> betIds) {
+        requireNonNull(betIds, "betIds must not be null");
+
+        Set<BetId> pending = new HashSet<>();
+        for (BetId betId : betIds) {
+            if (pendingBetIds.contains(betId)) {
+                pending.add(betId);
+            }
+        }
+
+        return pending;
+    }
+
+    public boolean hasFailedJackpots() {
+        return !failedJackpots.isEmpty();
+    }
+
+    public Set<JackpotId> drainFailedJackpots() {
+        Set<JackpotId> drained = new HashSet<>();
+
+        for (Iterator<JackpotId> it = failedJackpots.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+
+        return drained;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.execute(() -> writeRetained(true));
+        executor.shutdown();
+
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Jackpot state writer did not finish pending writes in time");
+        }
+    }
+
+    /**
+     * Writes retained writes in order, stopping at the first one that fails and may still be retried.
+     */
+    private void writeRetained(boolean giveUpOnFailure) {
+        giveUpStale();
+
+        while (!retained.isEmpty()) {
+            Write write = retained.peekFirst();
+
+            if (attempts > 0 && !giveUpOnFailure && System.nanoTime() - nextAttemptAt < 0) {
+                return;
+            }
+
+            try {
+                write(write);
+            } catch (OptimisticLockingFailureException ex) {
+                giveUpRetained("stored jackpot changed: " + ex.getMessage());
+                return;
+            } catch (RuntimeException ex) {
+                attempts++;
+
+                if (giveUpOnFailure || attempts >= maxAttempts) {
+                    giveUpRetained("failed %d times, last: %s".formatted(attempts, ex.getMessage()));
+                    return;
+                }
+
+                log.warn("Failed to persist {} contributions, retaining {} writes for retry (attempt {} of {}): {}", write.contributions().size(), retained.size(), attempts, maxAttempts, ex.getMessage(), ex);
+
+                nextAttemptAt = System.nanoTime() + retryIntervalNanos;
+                executor.schedule(() -> writeRetained(false), retryIntervalNanos, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            retained.removeFirst();
+            attempts = 0;
+            release(write);
+            write.written().run();
+        }
+    }
+
+    /**
+     * Gives up retained writes of jackpots given up before, in submission order, as they were applied on top of the
+     * lost state; their other jackpots are then stale for the writes that follow.
+     */
+    private void giveUpStale() {
+        for (Iterator<Write> it = retained.iterator(); it.hasNext(); ) {
+            Write write = it.next();
+
+            if (write.snapshots().stream().anyMatch(s -> failedJackpots.contains(s.jackpotId()))) {
+                it.remove();
+                giveUp(List.of(write), "applied on top of state that was given up");
+            }
+        }
+    }
+
+    private void giveUpRetained(String reason) {
+        List<Write> writes = List.copyOf(retained);
+
+        retained.clear();
+        attempts = 0;
+        giveUp(writes, reason);
+    }
+
+    private void giveUp(Collection<Write> writes, String reason) {
+        for (Write write : writes) {
+            log.error("Giving up {} contributions (betIds={}), {}", write.contributions().size(), write.contributions().stream().map(JackpotContribution::betId).toList(), reason);
+
+            write.snapshots().forEach(s -> failedJackpots.add(s.jackpotId()));
+            release(write);
+        }
+    }
+
+    private void release(Write write) {
+        write.contributions().forEach(c -> pendingBetIds.remove(c.betId()));
+    }
+
+    private void write(Write write) {
+        List<JackpotContribution> contributions = write.contributions();
+        List<JackpotReward> rewards = write.rewards();
+        List<Jackpot> snapshots = write.snapshots();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            contributionRepository.saveAll(contributions);
+            if (!rewards.isEmpty()) {
+                rewardRepository.saveAll(rewards);
+            }
+
+            List<BetOutcome> betOutcomes = BetOutcome.of(contributions, rewards);
+            outcomeRepository.saveAll(betOutcomes);
+
+            snapshots.forEach(jackpotRepository::save);
+            outcomes.processed(betOutcomes);
+        });
+
+        log.debug("Persisted {} contributions, {} rewards and {} jackpots", contributions.size(), rewards.size(), snapshots.size());
+    }
+
+    private record Write(List<JackpotContribution> contributions, List<JackpotReward> rewards, List<Jackpot> snapshots, Runnable written) {
+    }
+}
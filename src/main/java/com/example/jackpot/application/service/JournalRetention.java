@@ -0,0 +1,112 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.out.BetJournal;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.JackpotId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps journaled records the writer has not persisted yet, and releases the {@link BetJournal} up to the first of
+ * them.
+ * <p>
+ * Records are kept per journaled poll, with the jackpots they change, until the poll's write commits. When the writer
+ * gives a write up, its records stay until each of its jackpots has been recovered from the journal and that recovery
+ * has committed. Records recovered on assignment are kept the same way, from the start of the journal, since their
+ * positions are not known.
+ */
+@Slf4j
+final class JournalRetention {
+
+    private final BetJournal journal;
+
+    // journaled polls not persisted yet, by the position after their records
+    private final NavigableMap<Long, Kept> kept = new TreeMap<>();
+    private long appended;
+
+    JournalRetention(BetJournal journal) {
+        this.journal = requireNonNull(journal, "journal must not be null");
+    }
+
+    /**
+     * Appends the poll to the journal and keeps its records until {@link #written} is called for the returned position.
+     */
+    synchronized long append(int partition, long lastOffset, List<JackpotContribution> contributions, List<JackpotReward> rewards) {
+        long position = journal.append(partition, lastOffset, contributions, rewards);
+        Set<JackpotId> jackpotIds = contributions.stream().map(JackpotContribution::jackpotId).collect(Collectors.toCollection(HashSet::new));
+
+        kept.put(position, new Kept(position - contributions.size() - rewards.size(), jackpotIds));
+        appended = Math.max(appended, position);
+
+        return position;
+    }
+
+    /**
+     * The poll journaled up to {@code position} has been persisted, or will never be.
+     */
+    synchronized void written(long position) {
+        kept.remove(position);
+        release();
+    }
+
+    /**
+     * Keeps the whole journal for {@code jackpotIds} while they are recovered from it. Runs the returned callback once
+     * the recovery has committed, to release what was kept for these jackpots up to now.
+     */
+    synchronized Runnable recovering(Collection<JackpotId> jackpotIds) {
+        Set<JackpotId> recovering = Set.copyOf(jackpotIds);
+
+        kept.computeIfAbsent(0L, p -> new Kept(0L, new HashSet<>())).jackpotIds().addAll(recovering);
+        Set<Long> covered = Set.copyOf(kept.keySet());
+
+        return () -> forget(recovering, covered);
+    }
+
+    /**
+     * Stops keeping records for jackpots this instance no longer recovers, as their partition was revoked.
+     */
+    synchronized void forget(Collection<JackpotId> jackpotIds) {
+        forget(jackpotIds, kept.keySet());
+    }
+
+    private synchronized void forget(Collection<JackpotId> jackpotIds, Set<Long> positions) {
+        for (Iterator<Map.Entry<Long, Kept>> it = kept.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Kept> entry = it.next();
+            if (!positions.contains(entry.getKey())) {
+                continue;
+            }
+
+            entry.getValue().jackpotIds().removeAll(jackpotIds);
+            if (entry.getValue().jackpotIds().isEmpty()) {
+                it.remove();
+            }
+        }
+
+        release();
+    }
+
+    private void release() {
+        long position = kept.isEmpty() ? appended : kept.firstEntry().getValue().start();
+
+        try {
+            journal.release(position);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release journal up to position={}: {}", position, ex.getMessage());
+        }
+    }
+
+    private record Kept(long start, Set<JackpotId> jackpotIds) {
+    }
+}
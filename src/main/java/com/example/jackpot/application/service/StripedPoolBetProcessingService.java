@@ -0,0 +1,193 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotPoolStripeRepository;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Currency;
+import java.util.Optional;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Variant of {@link DefaultBetProcessingService}, enabled with {@code jackpot.persistence.pool-update=striped}, for jackpots
+ * that attract most of the traffic.
+ * <p>
+ * The pool of a cycle is the persisted jackpot pool plus {@code jackpot.persistence.striped.stripes} stripe rows. Each bet adds
+ * its contribution to the stripe its id hashes to, so concurrent bets only collide on the same stripe, and the jackpot row is
+ * left alone. Contributions and rewards are evaluated against the pool estimated by {@link StripedPoolTracker}, which lags
+ * behind other instances by at most {@code jackpot.persistence.striped.max-staleness}.
+ * <p>
+ * A winning bet reconciles exactly before the cycle is reset: it advances the jackpot row, locks all stripes and is paid the
+ * persisted pool, all stripes and its own contribution, which it never writes to a stripe. Holding no stripe before that,
+ * winners only ever wait on the jackpot row; bets waiting on a locked stripe find it in the next cycle and are retried.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "jackpot.persistence.pool-update", havingValue = "striped")
+public class StripedPoolBetProcessingService implements BetProcessingService {
+
+    private final JackpotRepository jackpotRepository;
+    private final JackpotPoolStripeRepository stripeRepository;
+    private final JackpotContributionRepository contributionRepository;
+    private final JackpotRewardRepository rewardRepository;
+    private final BetOutcomeRepository outcomeRepository;
+    private final JackpotMetrics metrics;
+    private final BetIdempotencyGuard idempotencyGuard;
+    private final BetOutcomeRegistry outcomes;
+    private final int stripes;
+    private final StripedPoolTracker tracker;
+
+    @Autowired
+    public StripedPoolBetProcessingService(JackpotRepository jackpotRepository,
+                                           JackpotPoolStripeRepository stripeRepository,
+                                           JackpotContributionRepository contributionRepository,
+                                           JackpotRewardRepository rewardRepository,
+                                           BetOutcomeRepository outcomeRepository,
+                                           JackpotMetrics metrics,
+                                           BetIdempotencyGuard idempotencyGuard,
+                                           BetOutcomeRegistry outcomes,
+                                           @Value("${jackpot.persistence.striped.stripes:16}") int stripes,
+                                           @Value("${jackpot.persistence.striped.max-staleness:100ms}") Duration maxStaleness) {
+        this(jackpotRepository, stripeRepository, contributionRepository, rewardRepository, outcomeRepository, metrics, idempotencyGuard, outcomes, stripes, new StripedPoolTracker(maxStaleness, Clock.systemUTC()));
+    }
+
+    StripedPoolBetProcessingService(JackpotRepository jackpotRepository,
+                                    JackpotPoolStripeRepository stripeRepository,
+                                    JackpotContributionRepository contributionRepository,
+                                    JackpotRewardRepository rewardRepository,
+                                    BetOutcomeRepository outcomeRepository,
+                                    JackpotMetrics metrics,
+                                    BetIdempotencyGuard idempotencyGuard,
+                                    BetOutcomeRegistry outcomes,
+                                    int stripes,
+                                    StripedPoolTracker tracker) {
+        isTrue(stripes > 0, "stripes must be positive");
+
+        this.jackpotRepository = jackpotRepository;
+        this.stripeRepository = stripeRepository;
+        this.contributionRepository = contributionRepository;
+        this.rewardRepository = rewardRepository;
+        this.outcomeRepository = outcomeRepository;
+        this.metrics = metrics;
+        this.idempotencyGuard = idempotencyGuard;
+        this.outcomes = outcomes;
+        this.stripes = stripes;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Creates the stripe rows missing for any jackpot, e.g. after the stripe count was raised, and moves stripes left
+     * behind in an earlier cycle than their jackpot's on to it. Their amounts were never paid out and are dropped, since
+     * adding to them fails until they are in the jackpot's cycle.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createStripes() {
+        try {
+            for (Jackpot jackpot : jackpotRepository.findAll()) {
+                stripeRepository.createMissing(jackpot.jackpotId(), jackpot.currentCycle(), stripes);
+
+                int realigned = stripeRepository.realign(jackpot.jackpotId(), jackpot.currentCycle());
+                if (realigned > 0) {
+                    log.warn("Moved {} pool stripes of jackpot={} left in an earlier cycle on to cycle={}, dropping their amounts", realigned, jackpot.jackpotId(), jackpot.currentCycle());
+                }
+            }
+
+            log.info("Pool stripes created with {} stripes per jackpot", stripes);
+        } catch (RuntimeException ex) {
+            log.error("Failed to create pool stripes, bets for jackpots without them will be retried: {}", ex.getMessage(), ex);
+        }
+    }
+
+    @Transactional
+    @Override
+    public void process(Bet bet) {
+        requireNonNull(bet, "bet must not be null");
+
+        if (idempotencyGuard.processedBets().isDuplicate(bet.betId(), contributionRepository::existsByBetId)) {
+            log.warn("Contribution already exists for bet={}", bet.betId());
+            return;
+        }
+
+        log.debug("Processing bet={} for jackpot={}", bet.betId(), bet.jackpotId());
+
+        JackpotId jackpotId = bet.jackpotId();
+
+        Jackpot jackpot = jackpotRepository.findById(jackpotId)
+                .orElseThrow(() -> new JackpotNotFoundException("Jackpot not found: %s".formatted(jackpotId.value())));
+
+        CycleNumber cycle = jackpot.currentCycle();
+        Money persistedPool = jackpot.currentPool();
+        Currency currency = persistedPool.currency();
+
+        jackpot.refreshPool(persistedPool.plus(tracker.stripeTotal(jackpotId, cycle, () -> stripeRepository.sum(jackpotId, cycle, currency))));
+
+        JackpotContribution contribution = jackpot.contribute(bet);
+        Optional<JackpotReward> reward = jackpot.evaluateRewardFor(bet);
+
+        if (reward.isEmpty()) {
+            stripeRepository.add(jackpotId, cycle, stripeOf(bet.betId()), contribution.contributionAmount());
+            tracker.added(jackpotId, contribution.contributionAmount());
+
+            metrics.betApplied(contribution, false);
+            contributionRepository.save(contribution);
+
+            BetOutcome outcome = BetOutcome.of(contribution, Optional.empty());
+            outcomeRepository.save(outcome);
+            outcomes.processed(outcome);
+        } else {
+            jackpotRepository.startNextCycle(jackpotId, cycle);
+
+            Money pool = persistedPool
+                    .plus(stripeRepository.lockAndSum(jackpotId, cycle, currency))
+                    .plus(contribution.contributionAmount());
+            stripeRepository.startNextCycle(jackpotId, cycle);
+
+            contribution = contribution.withCurrentJackpotAmount(pool);
+            JackpotReward r = reward.get().withRewardAmount(pool);
+
+            metrics.betApplied(contribution, true);
+            contributionRepository.save(contribution);
+            rewardRepository.save(r);
+            log.info("Reward granted for bet={} jackpot={} user={} after reconciling pool={}", r.betId(), r.jackpotId(), r.userId(), pool);
+
+            BetOutcome outcome = BetOutcome.of(contribution, Optional.of(r));
+            outcomeRepository.save(outcome);
+            outcomes.processed(outcome);
+
+            jackpot.startNextCycle();
+        }
+
+        metrics.poolChanged(jackpotId, jackpot.currentPool());
+    }
+
+    private int stripeOf(BetId betId) {
+        return Math.floorMod(betId.value().hashCode(), stripes);
+    }
+}
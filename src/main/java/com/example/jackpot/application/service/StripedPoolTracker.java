@@ -0,0 +1,77 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * In-memory view of striped jackpot pools, so that not every bet has to sum the stripes of its jackpot.
+ * <p>
+ * Per jackpot, contributions applied by this instance are accumulated in a {@link LongAdder} on top of the stripe
+ * sum last read from the database. That sum is re-read once it is older than {@code maxStaleness} or the jackpot
+ * has moved on to another cycle, so contributions of other instances show up after at most {@code maxStaleness}.
+ */
+final class StripedPoolTracker {
+
+    private final Duration maxStaleness;
+    private final Clock clock;
+
+    private final ConcurrentMap<JackpotId, Pool> pools = new ConcurrentHashMap<>();
+
+    StripedPoolTracker(Duration maxStaleness, Clock clock) {
+        requireNonNull(maxStaleness, "maxStaleness must not be null");
+        requireNonNull(clock, "clock must not be null");
+
+        isTrue(!maxStaleness.isNegative(), "maxStaleness must not be negative");
+
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    /**
+     * Estimated sum of the stripes of the cycle, reading {@code persisted} only when the last read is too old.
+     */
+    Money stripeTotal(JackpotId jackpotId, CycleNumber cycle, Supplier<Money> persisted) {
+        Pool pool = pools.computeIfAbsent(jackpotId, id -> new Pool());
+        Snapshot snapshot = pool.snapshot;
+        Instant now = clock.instant();
+
+        if (snapshot == null || !snapshot.cycle().equals(cycle) || snapshot.readAt().plus(maxStaleness).isBefore(now)) {
+            // Read the database before the local counter: a contribution committed in between is then
+            // counted once or, until the next read, not at all - never twice.
+            Money stripes = persisted.get();
+            snapshot = new Snapshot(cycle, stripes, pool.local.sum(), now);
+            pool.snapshot = snapshot;
+        }
+
+        long localSinceRead = pool.local.sum() - snapshot.localAtRead();
+
+        return snapshot.stripes().plus(Money.ofMinor(localSinceRead, snapshot.stripes().currency()));
+    }
+
+    /**
+     * Records a contribution this instance has added to a stripe of the jackpot.
+     */
+    void added(JackpotId jackpotId, Money contribution) {
+        pools.computeIfAbsent(jackpotId, id -> new Pool()).local.add(contribution.minorUnits());
+    }
+
+    private static final class Pool {
+        private final LongAdder local = new LongAdder();
+        private volatile Snapshot snapshot;
+    }
+
+    private record Snapshot(CycleNumber cycle, Money stripes, long localAtRead, Instant readAt) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.jackpot.application.service.idempotency;
+
+import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.domain.model.id.BetId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Idempotency guard for placed bets ({@code bet} rows) and processed bets ({@code jackpot_contribution} rows).
+ * <p>
+ * Both sets are rebuilt from the rows of the last {@code jackpot.idempotency.rebuild-window} once the application
+ * is ready; until then every bet is looked up in the database. Ids seen since are kept for about as long.
+ */
+@Slf4j
+@Component
+public class BetIdempotencyGuard {
+
+    private final BetRepository betRepository;
+    private final JackpotContributionRepository contributionRepository;
+    private final Duration rebuildWindow;
+    private final Clock clock;
+
+    private final SeenBetIds placedBets;
+    private final SeenBetIds processedBets;
+
+    @Autowired
+    public BetIdempotencyGuard(BetRepository betRepository,
+                               JackpotContributionRepository contributionRepository,
+                               @Value("${jackpot.idempotency.expected-bets:1000000}") long expectedBets,
+                               @Value("${jackpot.idempotency.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${jackpot.idempotency.confirmed-cache-size:100000}") int confirmedCacheSize,
+                               @Value("${jackpot.idempotency.rebuild-window:24h}") Duration rebuildWindow) {
+        this(betRepository, contributionRepository, expectedBets, falsePositiveRate, confirmedCacheSize, rebuildWindow, Clock.systemUTC());
+    }
+
+    BetIdempotencyGuard(BetRepository betRepository,
+                        JackpotContributionRepository contributionRepository,
+                        long expectedBets,
+                        double falsePositiveRate,
+                        int confirmedCacheSize,
+                        Duration rebuildWindow,
+                        Clock clock) {
+        this.betRepository = betRepository;
+        this.contributionRepository = contributionRepository;
+        this.rebuildWindow = rebuildWindow;
+        this.clock = clock;
+        this.placedBets = new SeenBetIds(expectedBets, falsePositiveRate, confirmedCacheSize, rebuildWindow, clock);
+        this.processedBets = new SeenBetIds(expectedBets, falsePositiveRate, confirmedCacheSize, rebuildWindow, clock);
+    }
+
+    public SeenBetIds placedBets() {
+        return placedBets;
+    }
+
+    public SeenBetIds processedBets() {
+        return processedBets;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Instant since = clock.instant().minus(rebuildWindow);
+
+        try {
+            List<BetId> placed = betRepository.findIdsCreatedSince(since);
+            placedBets.load(placed);
+            placedBets.markLoaded();
+
+            List<BetId> processed = contributionRepository.findBetIdsCreatedSince(since);
+            processedBets.load(processed);
+            processedBets.markLoaded();
+
+            log.info("Idempotency guard rebuilt from {} placed and {} processed bets since {}", placed.size(), processed.size(), since);
+        } catch (RuntimeException ex) {
+            log.error("Failed to rebuild idempotency guard, bets will be looked up in the database: {}", ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.jackpot.application.service.idempotency;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+
+/**
+ * Scalable Bloom filter over 128-bit keys (Almeida et al.): once the current slice reaches its capacity a new one
+ * is added with twice the capacity and half the false positive rate, keeping the overall rate below the configured one.
+ * Growth stops at {@code maxSlices}; the filter is then exhausted and its owner is expected to replace it.
+ * <p>
+ * Lookups and inserts are lock-free; only adding a slice is synchronized.
+ */
+final class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final int maxSlices;
+
+    private volatile Slice[] slices;
+
+    ScalableBloomFilter(long initialCapacity, double falsePositiveRate, int maxSlices) {
+        isTrue(initialCapacity > 0, "initialCapacity must be positive");
+        isTrue(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be between 0 and 1");
+        isTrue(maxSlices > 0, "maxSlices must be positive");
+
+        this.maxSlices = maxSlices;
+        this.slices = new Slice[]{new Slice(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    boolean mightContain(long msb, long lsb) {
+        long h1 = mix(msb ^ mix(lsb));
+        long h2 = mix(lsb + 0x9E3779B97F4A7C15L) | 1;
+
+        for (Slice slice : slices) {
+            if (slice.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    void put(long msb, long lsb) {
+        long h1 = mix(msb ^ mix(lsb));
+        long h2 = mix(lsb + 0x9E3779B97F4A7C15L) | 1;
+
+        Slice[] current = slices;
+        Slice last = current[current.length - 1];
+        if (last.isFull() && current.length < maxSlices) {
+            last = grow(current);
+        }
+
+        last.put(h1, h2);
+    }
+
+    /**
+     * Whether every slice is at capacity, so further keys raise the false positive rate above the configured one.
+     */
+    boolean isExhausted() {
+        Slice[] current = slices;
+
+        return current.length >= maxSlices && current[current.length - 1].isFull();
+    }
+
+    int sliceCount() {
+        return slices.length;
+    }
+
+    long bitCount() {
+        long bits = 0;
+        for (Slice slice : slices) {
+            bits += slice.bitCount;
+        }
+        return bits;
+    }
+
+    private synchronized Slice grow(Slice[] seen) {
+        Slice[] current = slices;
+        if (current != seen) {
+            // another thread already added a slice
+            return current[current.length - 1];
+        }
+
+        Slice last = current[current.length - 1];
+        Slice next = new Slice(last.capacity * GROWTH_FACTOR, last.falsePositiveRate * TIGHTENING_RATIO);
+
+        Slice[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = next;
+        slices = grown;
+
+        return next;
+    }
+
+    /**
+     * Stafford variant 13 of the murmur3 64-bit finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Slice {
+        private static final double LN2 = Math.log(2);
+
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray words;
+        private final AtomicLong insertions = new AtomicLong();
+
+        Slice(long capacity, double falsePositiveRate) {
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.words = new AtomicLongArray(Math.toIntExact((bits + 63) >>> 6));
+            this.bitCount = (long) words.length() << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+        }
+
+        boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        void put(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                long mask = 1L << bit;
+
+                words.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+            }
+
+            insertions.incrementAndGet();
+        }
+
+        boolean isFull() {
+            return insertions.get() >= capacity;
+        }
+    }
+}
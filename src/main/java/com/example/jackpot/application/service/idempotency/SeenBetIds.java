@@ -0,0 +1,224 @@
+package com.example.jackpot.application.service.idempotency;
+
+import com.example.jackpot.domain.model.id.BetId;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bet ids known to be stored in one table, used to skip the existence lookup for bets that are certainly new.
+ * <p>
+ * Bloom filters hold the ids seen by this instance within the last {@code retention} plus the recent ids loaded at
+ * startup. An id they do not contain is new and is added without a lookup; any other id is checked against a bounded
+ * LRU of ids confirmed to exist and, failing that, against the database. Ids stored by other instances or before the
+ * loaded window are reported as new, so the table's unique constraint remains the final guard: the insert fails, and
+ * the retried bet is then looked up since its id is in the filter by now.
+ * <p>
+ * Ids are added to the current of two generations, which is retired once it is {@code retention} old or has grown to
+ * {@value #MAX_SLICES} slices: the previous generation is dropped and the current one takes its place. An id is
+ * therefore remembered for at least {@code retention} unless traffic retires generations earlier, and memory stays
+ * bounded by two full generations.
+ */
+public final class SeenBetIds {
+
+    // a generation holds up to 15 times the expected ids before it is retired
+    static final int MAX_SLICES = 4;
+
+    private final long expectedIds;
+    private final double generationFalsePositiveRate;
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<BetId, Boolean> confirmed;
+
+    private volatile Generations generations;
+    private volatile boolean loaded;
+
+    SeenBetIds(long expectedIds, double falsePositiveRate, int confirmedCacheSize, Duration retention, Clock clock) {
+        requireNonNull(retention, "retention must not be null");
+        requireNonNull(clock, "clock must not be null");
+
+        isTrue(confirmedCacheSize > 0, "confirmedCacheSize must be positive");
+        isTrue(retention.isPositive(), "retention must be positive");
+
+        this.expectedIds = expectedIds;
+        // an id is checked against both generations
+        this.generationFalsePositiveRate = falsePositiveRate / 2;
+        this.retention = retention;
+        this.clock = clock;
+        this.generations = new Generations(newFilter(), null, clock.instant());
+        this.confirmed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BetId, Boolean> eldest) {
+                return size() > confirmedCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Tells whether the bet is already stored, using {@code lookup} only when the filter cannot rule it out.
+     * Until the recent ids are loaded every bet is looked up.
+     */
+    public boolean isDuplicate(BetId betId, Predicate<BetId> lookup) {
+        requireNonNull(betId, "betId must not be null");
+        requireNonNull(lookup, "lookup must not be null");
+
+        if (loaded && markIfNew(betId)) {
+            return false;
+        }
+
+        if (isConfirmed(betId)) {
+            return true;
+        }
+
+        boolean exists = lookup.test(betId);
+        if (exists) {
+            confirm(betId);
+        } else {
+            add(betId);
+        }
+
+        return exists;
+    }
+
+    /**
+     * Bulk variant of {@link #isDuplicate}: returns the stored bets among {@code betIds}, passing to {@code lookup}
+     * only those the filter cannot rule out and that are not confirmed yet.
+     */
+    public Set<BetId> findDuplicates(Collection<BetId> betIds, Function<Collection<BetId>, Set<BetId>> lookup) {
+        requireNonNull(betIds, "betIds must not be null");
+        requireNonNull(lookup, "lookup must not be null");
+
+        if (!loaded) {
+            Set<BetId> existing = lookup.apply(betIds);
+
+            betIds.forEach(id -> {
+                if (existing.contains(id)) {
+                    confirm(id);
+                } else {
+                    add(id);
+                }
+            });
+
+            return existing;
+        }
+
+        Set<BetId> duplicates = new HashSet<>();
+        List<BetId> unknown = new ArrayList<>();
+
+        for (BetId betId : betIds) {
+            if (markIfNew(betId)) {
+                continue;
+            }
+
+            if (isConfirmed(betId)) {
+                duplicates.add(betId);
+            } else {
+                unknown.add(betId);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            Set<BetId> existing = lookup.apply(unknown);
+
+            existing.forEach(this::confirm);
+            duplicates.addAll(existing);
+        }
+
+        return duplicates;
+    }
+
+    /**
+     * Adds ids known to be stored, e.g. the recent rows read at startup.
+     */
+    void load(Collection<BetId> betIds) {
+        betIds.forEach(this::add);
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    long footprintBits() {
+        Generations current = generations;
+
+        return current.current().bitCount() + (current.previous() == null ? 0 : current.previous().bitCount());
+    }
+
+    private boolean markIfNew(BetId betId) {
+        UUID id = betId.value();
+        Generations current = current();
+        if (current.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits())) {
+            return false;
+        }
+
+        current.current().put(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return true;
+    }
+
+    private void add(BetId betId) {
+        UUID id = betId.value();
+
+        current().current().put(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    private Generations current() {
+        Generations current = generations;
+        if (current.current().isExhausted() || !clock.instant().isBefore(current.startedAt().plus(retention))) {
+            return retire(current);
+        }
+        return current;
+    }
+
+    private synchronized Generations retire(Generations seen) {
+        if (generations != seen) {
+            // another thread already retired it
+            return generations;
+        }
+
+        generations = new Generations(newFilter(), seen.current(), clock.instant());
+        return generations;
+    }
+
+    private ScalableBloomFilter newFilter() {
+        return new ScalableBloomFilter(expectedIds, generationFalsePositiveRate, MAX_SLICES);
+    }
+
+    private boolean isConfirmed(BetId betId) {
+        synchronized (confirmed) {
+            return confirmed.get(betId) != null;
+        }
+    }
+
+    private void confirm(BetId betId) {
+        add(betId);
+
+        synchronized (confirmed) {
+            confirmed.put(betId, Boolean.TRUE);
+        }
+    }
+
+    private record Generations(ScalableBloomFilter current, ScalableBloomFilter previous, Instant startedAt) {
+
+        boolean mightContain(long msb, long lsb) {
+            return current.mightContain(msb, lsb) || (previous != null && previous.mightContain(msb, lsb));
+        }
+    }
+}
@@ -37,6 +37,6 @@ public class FixedContributionCalculator implements ContributionCalculator {
     public Money calculate(ContributionContext ctx) {
         requireNonNull(ctx, "ctx must not be null");
 
-        return ctx.betAmount().times(rate.fractionalValue());
+        return ctx.betAmount().share(rate);
     }
 }
@@ -5,6 +5,7 @@ import com.example.jackpot.domain.model.vo.Money;
 import com.example.jackpot.domain.model.vo.Percentage;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
 import static com.example.jackpot.domain.model.vo.Percentage.HUNDRED;
@@ -31,12 +32,40 @@ import static java.util.Objects.requireNonNull;
  * </ul>
  *
  * <p>All percentages are expressed as {@link Percentage} value objects, and monetary values as {@link Money}.</p>
+ *
+ * <p><b>Precompiled form:</b> the formula is defined by its {@link BigDecimal} form ({@link #decimalCalculate}),
+ * whose rate reaches {@link Money#share(Percentage)} truncated to 10^-8 units. The pool growth at which the rate
+ * reaches {@code minimumRate} is computed once, in minor units:</p>
+ * <pre>
+ * minimumRateDelta = ⌈(startingRate − minimumRate) × 100 / decayFactor⌉
+ * </pre>
+ * <p>From there on the contribution is the constant {@code betAmount.share(minimumRate)}. Below it the rate is above
+ * {@code minimumRate}, and when {@code startingRate} has at most 6 decimals and {@code decayFactor × 10^4} is a
+ * fraction {@code n / d} of {@code long}s, its units are computed on {@code long}s:</p>
+ * <pre>
+ * units        = startingRate × 10^6 − ⌈n × delta / d⌉      (delta in minor units)
+ * contribution = betAmount.share(units)
+ * </pre>
+ * <p>which is exactly the truncation {@link Percentage#fractionalValue()} applies, so both forms return the same
+ * {@link Money}. Other configs, and products that would overflow a {@code long}, use the decimal form.</p>
  */
 public class VariableContributionCalculator implements ContributionCalculator {
+    private static final int PERCENT_TO_SHARE_UNITS = 6;
+    private static final int DECAY_TO_SHARE_UNITS = PERCENT_TO_SHARE_UNITS - 2;
+    private static final int MAX_LONG_POWER_OF_TEN = 18;
+    private static final BigDecimal HUNDRED_BIG_DECIMAL = BigDecimal.valueOf(100);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
     private final Percentage startingRate;
     private final Percentage minimumRate;
     private final DecayFactor decayFactor;
 
+    private final long minimumRateDelta;
+    private final long startingRateUnits;
+    private final long decayNumerator;
+    private final long decayDenominator;
+    private final boolean fixedPoint;
+
     public VariableContributionCalculator(Percentage startingRate, Percentage minimumRate, DecayFactor decayFactor) {
         requireNonNull(startingRate, "startingRate must not be null");
         requireNonNull(minimumRate, "minimumRate must not be null");
@@ -49,18 +78,55 @@ public class VariableContributionCalculator implements ContributionCalculator {
         this.startingRate = startingRate;
         this.minimumRate = minimumRate;
         this.decayFactor = decayFactor;
+
+        BigDecimal minimumRateDelta = startingRate.value().subtract(minimumRate.value())
+                .multiply(HUNDRED_BIG_DECIMAL)
+                .divide(decayFactor.value(), 0, RoundingMode.CEILING);
+        this.minimumRateDelta = minimumRateDelta.compareTo(MAX_LONG) < 0 ? minimumRateDelta.longValueExact() : Long.MAX_VALUE;
+
+        // scales never go negative here, so decayFactor × 10^4 = unscaled / 10^scale
+        BigDecimal startingRateUnits = startingRate.value().movePointRight(PERCENT_TO_SHARE_UNITS);
+        BigDecimal scaledDecay = decayFactor.value().movePointRight(DECAY_TO_SHARE_UNITS);
+
+        this.fixedPoint = startingRateUnits.scale() == 0
+                && scaledDecay.unscaledValue().bitLength() < Long.SIZE
+                && scaledDecay.scale() <= MAX_LONG_POWER_OF_TEN;
+        this.startingRateUnits = this.fixedPoint ? startingRateUnits.longValueExact() : -1;
+        this.decayNumerator = this.fixedPoint ? scaledDecay.unscaledValue().longValueExact() : -1;
+        this.decayDenominator = this.fixedPoint ? BigDecimal.ONE.movePointRight(scaledDecay.scale()).longValueExact() : -1;
     }
 
     @Override
     public Money calculate(ContributionContext ctx) {
         requireNonNull(ctx, "ctx must not be null");
 
+        long delta = Math.subtractExact(ctx.currentPool().minorUnits(), ctx.initialPool().minorUnits());
+
+        if (delta >= minimumRateDelta) {
+            return ctx.betAmount().share(minimumRate);
+        }
+
+        if (fixedPoint) {
+            long decayed = decayNumerator * delta;
+
+            if (Math.multiplyHigh(decayNumerator, delta) == 0 && decayed >= 0) {
+                return ctx.betAmount().share(startingRateUnits - Math.ceilDiv(decayed, decayDenominator));
+            }
+        }
+
+        return decimalCalculate(ctx);
+    }
+
+    /**
+     * The contribution in the decimal form that defines it.
+     */
+    Money decimalCalculate(ContributionContext ctx) {
         BigDecimal delta = ctx.currentPool().minus(ctx.initialPool()).amount();
 
         Percentage rate = Percentage.of(startingRate.value()
                 .subtract(decayFactor.value().multiply(delta))
                 .max(minimumRate.value()));
 
-        return ctx.betAmount().times(rate.fractionalValue());
+        return ctx.betAmount().share(rate);
     }
 }
@@ -0,0 +1,97 @@
+package com.example.jackpot.domain.model;
+
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A domain value recording that a bet has been processed, and whether it won.
+ * A bet without an outcome has not been processed yet.
+ */
+public final class BetOutcome {
+
+    public enum Result {
+        WIN,
+        LOSS
+    }
+
+    private final BetId betId;
+    private final JackpotId jackpotId;
+    private final Result result;
+    private final Money rewardAmount;
+    private final Instant createdAt;
+
+    public BetOutcome(BetId betId, JackpotId jackpotId, Result result, Money rewardAmount, Instant createdAt) {
+        requireNonNull(betId, "betId must not be null");
+        requireNonNull(jackpotId, "jackpotId must not be null");
+        requireNonNull(result, "result must not be null");
+        requireNonNull(createdAt, "createdAt must not be null");
+
+        isTrue((result == Result.WIN) == (rewardAmount != null), "rewardAmount must be given for a win only");
+
+        this.betId = betId;
+        this.jackpotId = jackpotId;
+        this.result = result;
+        this.rewardAmount = rewardAmount;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * The outcome of the bet behind {@code contribution}: a win with the reward if one was granted, a loss otherwise.
+     */
+    public static BetOutcome of(JackpotContribution contribution, Optional<JackpotReward> reward) {
+        requireNonNull(contribution, "contribution must not be null");
+        requireNonNull(reward, "reward must not be null");
+
+        return reward.map(r -> new BetOutcome(contribution.betId(), contribution.jackpotId(), Result.WIN, r.rewardAmount(), contribution.createdAt()))
+                .orElseGet(() -> new BetOutcome(contribution.betId(), contribution.jackpotId(), Result.LOSS, null, contribution.createdAt()));
+    }
+
+    /**
+     * The outcomes of the bets behind {@code contributions}, each a win if {@code rewards} holds a reward for its bet.
+     */
+    public static List<BetOutcome> of(List<JackpotContribution> contributions, List<JackpotReward> rewards) {
+        requireNonNull(contributions, "contributions must not be null");
+        requireNonNull(rewards, "rewards must not be null");
+
+        Map<BetId, JackpotReward> rewardsByBet = rewards.stream().collect(Collectors.toMap(JackpotReward::betId, Function.identity()));
+
+        return contributions.stream()
+                .map(c -> of(c, Optional.ofNullable(rewardsByBet.get(c.betId()))))
+                .toList();
+    }
+
+    public BetId betId() {
+        return this.betId;
+    }
+
+    public JackpotId jackpotId() {
+        return this.jackpotId;
+    }
+
+    public Result result() {
+        return this.result;
+    }
+
+    public boolean won() {
+        return this.result == Result.WIN;
+    }
+
+    public Optional<Money> rewardAmount() {
+        return Optional.ofNullable(this.rewardAmount);
+    }
+
+    public Instant createdAt() {
+        return this.createdAt;
+    }
+}
@@ -2,6 +2,10 @@ package com.example.jackpot.domain.model;
 
 import com.example.jackpot.domain.contribution.ContributionCalculator;
 import com.example.jackpot.domain.contribution.ContributionContext;
+import com.example.jackpot.domain.model.event.ContributionApplied;
+import com.example.jackpot.domain.model.event.CycleStarted;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.event.RewardGranted;
 import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.vo.CycleNumber;
 import com.example.jackpot.domain.model.vo.JackpotCycle;
@@ -33,11 +37,17 @@ public final class Jackpot {
     private final ContributionCalculator contributionCalculator;
     private final RewardEvaluator rewardEvaluator;
 
+    private long version;
+
     public Jackpot(JackpotId jackpotId, CycleNumber currentCycle, Money initialPool, ContributionCalculator contributionCalculator, RewardEvaluator rewardEvaluator) {
         this(jackpotId, currentCycle, initialPool, initialPool, contributionCalculator, rewardEvaluator);
     }
 
     public Jackpot(JackpotId jackpotId, CycleNumber currentCycle, Money initialPool, Money currentPool, ContributionCalculator contributionCalculator, RewardEvaluator rewardEvaluator) {
+        this(jackpotId, currentCycle, initialPool, currentPool, contributionCalculator, rewardEvaluator, 0L);
+    }
+
+    public Jackpot(JackpotId jackpotId, CycleNumber currentCycle, Money initialPool, Money currentPool, ContributionCalculator contributionCalculator, RewardEvaluator rewardEvaluator, long version) {
         requireNonNull(jackpotId, "jackpotId must not be null");
         requireNonNull(currentCycle, "currentCycle must not be null");
         requireNonNull(initialPool, "initialPool must not be null");
@@ -46,6 +56,7 @@ public final class Jackpot {
         requireNonNull(rewardEvaluator, "rewardEvaluator must not be null");
 
         isTrue(initialPool.hasSameCurrencyAs(currentPool), "initialPool and currentPool must use the same currency");
+        isTrue(version >= 0, "version must not be negative");
 
         this.jackpotId = jackpotId;
         this.currentCycle = currentCycle;
@@ -53,6 +64,7 @@ public final class Jackpot {
         this.currentPool = currentPool;
         this.contributionCalculator = contributionCalculator;
         this.rewardEvaluator = rewardEvaluator;
+        this.version = version;
     }
 
     public JackpotContribution contribute(Bet bet) {
@@ -110,6 +122,66 @@ public final class Jackpot {
         log.info("Started next jackpotId={} cycle={} with a currentPool={}", this.jackpotId.value(), this.currentCycle.value(), this.currentPool);
     }
 
+    /**
+     * Replaces the in-memory pool with the pool persisted by an atomic delta update, which also includes
+     * contributions committed by other consumers since this aggregate was loaded.
+     */
+    public void refreshPool(Money persistedPool) {
+        requireNonNull(persistedPool, "persistedPool must not be null");
+
+        isTrue(persistedPool.hasSameCurrencyAs(this.currentPool), "persistedPool currency must equal jackpot currency");
+        isTrue(persistedPool.isZero() || persistedPool.isPositive(), "persistedPool must be >= 0");
+
+        this.currentPool = persistedPool;
+    }
+
+    /**
+     * Replays an event of this jackpot onto its state, as recorded when the event happened.
+     */
+    public void apply(JackpotEvent event) {
+        requireNonNull(event, "event must not be null");
+
+        isTrue(event.jackpotId().equals(this.jackpotId), "event belongs to another jackpot");
+
+        switch (event) {
+            case ContributionApplied applied -> this.currentPool = this.currentPool.plus(applied.amount());
+            case RewardGranted ignored -> {
+                // The pool is reset by the CycleStarted event that follows
+            }
+            case CycleStarted started -> {
+                this.currentCycle = started.cycle();
+                this.currentPool = started.pool();
+            }
+        }
+    }
+
+    /**
+     * Replaces the cycle and pool with those of a snapshot of this jackpot.
+     */
+    public void restore(JackpotSnapshot snapshot) {
+        requireNonNull(snapshot, "snapshot must not be null");
+
+        isTrue(snapshot.jackpotId().equals(this.jackpotId), "snapshot belongs to another jackpot");
+        isTrue(snapshot.pool().hasSameCurrencyAs(this.currentPool), "snapshot pool currency must equal jackpot currency");
+
+        this.currentCycle = snapshot.cycle();
+        this.currentPool = snapshot.pool();
+    }
+
+    /**
+     * Returns a detached copy of the current state, sharing the same (stateless) calculation strategies.
+     */
+    public Jackpot snapshot() {
+        return new Jackpot(this.jackpotId, this.currentCycle, this.initialPool, this.currentPool, this.contributionCalculator, this.rewardEvaluator, this.version);
+    }
+
+    /**
+     * Advances the persisted state version once this state has been written.
+     */
+    public void incrementVersion() {
+        this.version++;
+    }
+
     public JackpotId jackpotId() {
         return this.jackpotId;
     }
@@ -125,4 +197,11 @@ public final class Jackpot {
     public Money currentPool() {
         return this.currentPool;
     }
+
+    /**
+     * Version of the persisted state this aggregate was loaded from, used for optimistic locking.
+     */
+    public long version() {
+        return this.version;
+    }
 }
@@ -58,6 +58,13 @@ public final class JackpotContribution {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Returns this contribution with the pool it resulted in replaced, e.g. by the pool read back after an atomic delta update.
+     */
+    public JackpotContribution withCurrentJackpotAmount(Money currentJackpotAmount) {
+        return new JackpotContribution(this.betId, this.userId, JackpotCycle.of(this.jackpotId, this.jackpotCycle), this.stakeAmount, this.contributionAmount, currentJackpotAmount, this.createdAt);
+    }
+
     public BetId betId() {
         return this.betId;
     }
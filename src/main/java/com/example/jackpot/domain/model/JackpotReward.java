@@ -46,6 +46,13 @@ public final class JackpotReward {
         this.createdAt = createdAt;
     }
 
+    /**
+     * Returns this reward with the amount replaced, e.g. by the exact pool reconciled before the cycle is reset.
+     */
+    public JackpotReward withRewardAmount(Money rewardAmount) {
+        return new JackpotReward(this.betId, this.userId, JackpotCycle.of(this.jackpotId, this.jackpotCycle), rewardAmount, this.createdAt);
+    }
+
     public BetId betId() {
         return this.betId;
     }
@@ -0,0 +1,29 @@
+package com.example.jackpot.domain.model;
+
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.time.Instant;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * State of a {@link Jackpot} after its events up to {@code sequence} were applied, so a replay can start from here
+ * instead of from the first {@link JackpotEvent}.
+ *
+ * @param sequence the last event included
+ * @param asOf     when that event occurred
+ */
+public record JackpotSnapshot(JackpotId jackpotId, long sequence, CycleNumber cycle, Money pool, Instant asOf) {
+    public JackpotSnapshot {
+        requireNonNull(jackpotId, "jackpotId must not be null");
+        requireNonNull(cycle, "cycle must not be null");
+        requireNonNull(pool, "pool must not be null");
+        requireNonNull(asOf, "asOf must not be null");
+
+        isTrue(sequence > 0, "sequence must be positive");
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.jackpot.domain.model.event;
+
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.time.Instant;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bet's contribution was added to the pool of the cycle.
+ *
+ * @param amount the contribution added to the pool
+ */
+public record ContributionApplied(JackpotId jackpotId, long sequence, CycleNumber cycle, BetId betId, Money amount, Instant occurredAt) implements JackpotEvent {
+    public ContributionApplied {
+        requireNonNull(jackpotId, "jackpotId must not be null");
+        requireNonNull(cycle, "cycle must not be null");
+        requireNonNull(betId, "betId must not be null");
+        requireNonNull(amount, "amount must not be null");
+        requireNonNull(occurredAt, "occurredAt must not be null");
+
+        isTrue(sequence > 0, "sequence must be positive");
+        isTrue(amount.isZero() || amount.isPositive(), "amount must be >= 0");
+    }
+}
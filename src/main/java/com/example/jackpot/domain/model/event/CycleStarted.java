@@ -0,0 +1,24 @@
+package com.example.jackpot.domain.model.event;
+
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+
+import java.time.Instant;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The jackpot moved on to {@code cycle}, with its pool reset to {@code pool}.
+ */
+public record CycleStarted(JackpotId jackpotId, long sequence, CycleNumber cycle, Money pool, Instant occurredAt) implements JackpotEvent {
+    public CycleStarted {
+        requireNonNull(jackpotId, "jackpotId must not be null");
+        requireNonNull(cycle, "cycle must not be null");
+        requireNonNull(pool, "pool must not be null");
+        requireNonNull(occurredAt, "occurredAt must not be null");
+
+        isTrue(sequence > 0, "sequence must be positive");
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jackpot.domain.model.event;
+
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+
+import java.time.Instant;
+
+/**
+ * A change of a {@link Jackpot}'s state, in the order it happened.
+ * <p>
+ * Events of a jackpot are numbered from 1 without gaps; replaying them in that order with {@link Jackpot#apply}
+ * rebuilds the jackpot's cycle and pool.
+ */
+public sealed interface JackpotEvent permits ContributionApplied, RewardGranted, CycleStarted {
+
+    JackpotId jackpotId();
+
+    long sequence();
+
+    CycleNumber cycle();
+
+    Instant occurredAt();
+}
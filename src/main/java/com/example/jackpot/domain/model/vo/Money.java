@@ -1,9 +1,7 @@
 package com.example.jackpot.domain.model.vo;
 
-import lombok.EqualsAndHashCode;
-import lombok.ToString;
-
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Currency;
 
@@ -13,51 +11,69 @@ import static java.util.Objects.requireNonNull;
 /**
  * Represents a money value: amount + ISO currency.
  * <p>
- * Amounts are normalized to scale 2 (HALF_UP).
+ * Amounts are normalized to scale 2 (HALF_UP) and kept as a {@code long} number of minor units (cents),
+ * so comparisons and additions on the hot path never allocate a {@link BigDecimal}.
+ * {@link #amount()} converts back for persistence and REST.
  */
-@EqualsAndHashCode
-@ToString
 public final class Money implements Comparable<Money> {
     private static final int DEFAULT_SCALE = 2;
     private static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
 
-    private final BigDecimal amount;
+    private final long minorUnits;
     private final Currency currency;
 
-    private Money(BigDecimal amount, Currency currency) {
-        requireNonNull(amount, "amount must not be null");
+    private Money(long minorUnits, Currency currency) {
         requireNonNull(currency, "currency must not be null");
 
+        this.minorUnits = minorUnits;
         this.currency = currency;
-        this.amount = amount.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING);
     }
 
     public static Money of(BigDecimal amount, Currency currency) {
-        return new Money(amount, currency);
+        requireNonNull(amount, "amount must not be null");
+        requireNonNull(currency, "currency must not be null");
+
+        BigInteger unscaled = amount.setScale(DEFAULT_SCALE, DEFAULT_ROUNDING).unscaledValue();
+
+        isTrue(unscaled.bitLength() < Long.SIZE, () -> new IllegalArgumentException("amount out of range: %s".formatted(amount)));
+
+        return new Money(unscaled.longValue(), currency);
     }
 
     public static Money of(String amount, String currencyCode) {
         return of(new BigDecimal(amount), Currency.getInstance(currencyCode));
     }
 
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
     public Currency currency() {
         return this.currency;
     }
 
     public BigDecimal amount() {
-        return this.amount;
+        return BigDecimal.valueOf(this.minorUnits, DEFAULT_SCALE);
+    }
+
+    /**
+     * Amount in minor units (hundredths), e.g. {@code 1050} for {@code 10.50}.
+     */
+    public long minorUnits() {
+        return this.minorUnits;
     }
 
     public boolean isPositive() {
-        return this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return this.minorUnits > 0;
     }
 
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        return this.minorUnits == 0;
     }
 
     public boolean hasSameCurrencyAs(Money other) {
-        return other != null && this.currency.equals(other.currency);
+        // Currency instances are canonical per code
+        return other != null && this.currency == other.currency;
     }
 
     public boolean hasSameCurrencyAs(Money... others) {
@@ -96,19 +112,46 @@ public final class Money implements Comparable<Money> {
     public Money plus(Money other) {
         requireSameCurrency(other);
 
-        return of(this.amount.add(other.amount), this.currency);
+        return new Money(Math.addExact(this.minorUnits, other.minorUnits), this.currency);
     }
 
     public Money minus(Money other) {
         requireSameCurrency(other);
 
-        return of(this.amount.subtract(other.amount), this.currency);
+        return new Money(Math.subtractExact(this.minorUnits, other.minorUnits), this.currency);
     }
 
     public Money times(BigDecimal factor) {
         requireNonNull(factor, "factor must not be null");
 
-        return of(this.amount.multiply(factor), this.currency);
+        return of(amount().multiply(factor), this.currency);
+    }
+
+    /**
+     * Returns {@code percentage} of this amount, i.e. {@code times(percentage.fractionalValue())},
+     * computed on minor units without allocating intermediate {@link BigDecimal}s.
+     */
+    public Money share(Percentage percentage) {
+        requireNonNull(percentage, "percentage must not be null");
+
+        return share(percentage.fractionalUnits());
+    }
+
+    /**
+     * Returns {@code fractionalUnits} × 10^-8 of this amount, i.e. {@link #share(Percentage)} for a rate already held
+     * as {@link Percentage#fractionalValue()} units.
+     */
+    public Money share(long fractionalUnits) {
+        isTrue(fractionalUnits >= 0 && fractionalUnits <= Percentage.FRACTIONAL_UNITS_PER_ONE, "fractionalUnits must be in [0,100000000]");
+
+        long product = this.minorUnits * fractionalUnits;
+
+        if (Math.multiplyHigh(this.minorUnits, fractionalUnits) != (product >> 63)) {
+            // beyond ~92 billion; fall back to exact decimal arithmetic
+            return times(BigDecimal.valueOf(fractionalUnits, Percentage.DEFAULT_PROBABILITY_SCALE));
+        }
+
+        return new Money(divideHalfUp(product, Percentage.FRACTIONAL_UNITS_PER_ONE), this.currency);
     }
 
     public Money divide(BigDecimal divisor) {
@@ -116,13 +159,45 @@ public final class Money implements Comparable<Money> {
 
         isTrue(divisor.compareTo(BigDecimal.ZERO) > 0, "divisor must be greater than zero");
 
-        return of(this.amount.divide(divisor, DEFAULT_SCALE, DEFAULT_ROUNDING), currency);
+        return of(amount().divide(divisor, DEFAULT_SCALE, DEFAULT_ROUNDING), currency);
     }
 
     @Override
     public int compareTo(Money other) {
         requireSameCurrency(other);
-        return this.amount.compareTo(other.amount);
+        return Long.compare(this.minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return this.minorUnits == other.minorUnits && this.currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.minorUnits) + this.currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Money(amount=" + amount() + ", currency=" + this.currency + ")";
+    }
+
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+
+        return quotient;
     }
 
     private void requireSameCurrency(Money other) {
@@ -19,7 +19,12 @@ public final class Percentage implements Comparable<Percentage> {
     private static final BigDecimal ZERO_BIG_DECIMAL = BigDecimal.ZERO;
     private static final BigDecimal HUNDRED_BIG_DECIMAL = new BigDecimal("100");
 
-    private static final int DEFAULT_PROBABILITY_SCALE = 8;
+    static final int DEFAULT_PROBABILITY_SCALE = 8;
+
+    /**
+     * Number of {@link #fractionalUnits()} making up a fraction of one (10^{@value DEFAULT_PROBABILITY_SCALE}).
+     */
+    static final long FRACTIONAL_UNITS_PER_ONE = 100_000_000L;
     private static final RoundingMode DEFAULT_PROBABILITY_ROUNDING = RoundingMode.DOWN;
 
     public static final Percentage ZERO = Percentage.of(ZERO_BIG_DECIMAL);
@@ -27,6 +32,14 @@ public final class Percentage implements Comparable<Percentage> {
 
     private final BigDecimal value;
 
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final BigDecimal fractionalValue;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final long fractionalUnits;
+
     private Percentage(BigDecimal value) {
         requireNonNull(value, "value must not be null");
 
@@ -34,6 +47,8 @@ public final class Percentage implements Comparable<Percentage> {
                 "value must be in [0,100]");
 
         this.value = value.stripTrailingZeros();
+        this.fractionalValue = this.value.divide(HUNDRED_BIG_DECIMAL, DEFAULT_PROBABILITY_SCALE, DEFAULT_PROBABILITY_ROUNDING);
+        this.fractionalUnits = this.fractionalValue.unscaledValue().longValueExact();
     }
 
     public static Percentage of(BigDecimal value) {
@@ -51,7 +66,14 @@ public final class Percentage implements Comparable<Percentage> {
     }
 
     public BigDecimal fractionalValue() {
-        return this.value.divide(HUNDRED_BIG_DECIMAL, DEFAULT_PROBABILITY_SCALE, DEFAULT_PROBABILITY_ROUNDING);
+        return this.fractionalValue;
+    }
+
+    /**
+     * {@link #fractionalValue()} as a whole number of 10^-{@value DEFAULT_PROBABILITY_SCALE} units.
+     */
+    long fractionalUnits() {
+        return this.fractionalUnits;
     }
 
     public boolean isGreaterThan(Percentage other) {
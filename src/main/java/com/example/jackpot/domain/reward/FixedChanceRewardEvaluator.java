@@ -2,7 +2,6 @@ package com.example.jackpot.domain.reward;
 
 import com.example.jackpot.domain.model.vo.Percentage;
 
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.DoubleSupplier;
 
 import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
@@ -31,10 +30,11 @@ import static java.util.Objects.requireNonNull;
  */
 public final class FixedChanceRewardEvaluator implements RewardEvaluator {
     private final Percentage chance;
+    private final double chanceThreshold;
     private final DoubleSupplier randomNumberGenerator;
 
     public FixedChanceRewardEvaluator(Percentage chance) {
-        this(chance, ThreadLocalRandom.current()::nextDouble);
+        this(chance, RandomNumberGenerators.threadLocal());
     }
 
     public FixedChanceRewardEvaluator(Percentage chance, DoubleSupplier randomNumberGenerator) {
@@ -44,6 +44,7 @@ public final class FixedChanceRewardEvaluator implements RewardEvaluator {
         isTrue(chance.isGreaterThan(ZERO), "chancePercent must be > 0%");
 
         this.chance = chance;
+        this.chanceThreshold = chance.fractionalValue().doubleValue();
         this.randomNumberGenerator = randomNumberGenerator;
     }
 
@@ -55,6 +56,6 @@ public final class FixedChanceRewardEvaluator implements RewardEvaluator {
             return true;
         }
 
-        return randomNumberGenerator.getAsDouble() < chance.fractionalValue().doubleValue();
+        return randomNumberGenerator.getAsDouble() < chanceThreshold;
     }
 }
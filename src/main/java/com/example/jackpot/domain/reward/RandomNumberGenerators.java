@@ -0,0 +1,83 @@
+package com.example.jackpot.domain.reward;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static com.example.jackpot.domain.common.DomainAssertions.isTrue;
+
+/**
+ * Random number sources for {@link RewardEvaluator}s, each producing doubles in [0.0, 1.0).
+ * <ul>
+ *   <li>{@link #threadLocal()} – one {@code L64X128MixRandom} per thread; fast and contention-free (default)</li>
+ *   <li>{@link #securePool()} – a process-wide pool of {@link SecureRandom}s, seeded once, for regulated jackpots</li>
+ *   <li>{@link #seeded(long)} – a reproducible sequence for simulations and tests; never for live jackpots, whose
+ *   draws it would make predictable</li>
+ * </ul>
+ * None of them allocates or seeds a generator per evaluator, so evaluators stay cheap to build.
+ */
+public final class RandomNumberGenerators {
+
+    private static final String THREAD_LOCAL_ALGORITHM = "L64X128MixRandom";
+
+    private static final ThreadLocal<RandomGenerator> THREAD_LOCAL_GENERATOR =
+            ThreadLocal.withInitial(() -> RandomGeneratorFactory.of(THREAD_LOCAL_ALGORITHM).create());
+
+    private static final DoubleSupplier THREAD_LOCAL = () -> THREAD_LOCAL_GENERATOR.get().nextDouble();
+
+    private RandomNumberGenerators() {
+        throw new AssertionError("No instances of %s for you".formatted(this.getClass()));
+    }
+
+    public static DoubleSupplier threadLocal() {
+        return THREAD_LOCAL;
+    }
+
+    public static DoubleSupplier securePool() {
+        return SecurePool.INSTANCE;
+    }
+
+    /**
+     * Returns a generator whose sequence depends only on {@code seed}. Draws are serialized, so the sequence
+     * is the same for the same order of evaluations.
+     */
+    public static DoubleSupplier seeded(long seed) {
+        return new Seeded(seed);
+    }
+
+    private static final class SecurePool implements DoubleSupplier {
+        private static final SecurePool INSTANCE = new SecurePool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+        private final SecureRandom[] pool;
+
+        private SecurePool(int size) {
+            isTrue(size > 0, "size must be positive");
+
+            this.pool = new SecureRandom[size];
+            for (int i = 0; i < size; i++) {
+                this.pool[i] = new SecureRandom();
+            }
+        }
+
+        @Override
+        public double getAsDouble() {
+            // spread threads over the pool to avoid contending on a single SecureRandom
+            return pool[(int) (Thread.currentThread().threadId() % pool.length)].nextDouble();
+        }
+    }
+
+    private static final class Seeded implements DoubleSupplier {
+        private final SplittableRandom random;
+
+        private Seeded(long seed) {
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public synchronized double getAsDouble() {
+            return random.nextDouble();
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.example.jackpot.domain.reward;
 
 import com.example.jackpot.domain.model.vo.Money;
 import com.example.jackpot.domain.model.vo.Percentage;
-import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -39,20 +38,46 @@ import static java.util.Objects.requireNonNull;
  * creating tension and incentive for continued betting.</p>
  *
  * <p>All monetary values are represented using {@link Money}, and percentage values using {@link Percentage}.</p>
+ *
+ * <p><b>Precompiled form:</b> the formula is defined by its {@link BigDecimal} form ({@link #decimalChanceThreshold}):
+ * {@code ratio} is truncated to 10 decimals, and {@code chance} to the 8 decimals of
+ * {@link Percentage#fractionalValue()}. When both percentages are whole multiples of 10^-6 %, it is evaluated on
+ * {@code long}s instead, with the same truncations:</p>
+ * <pre>
+ * q      = ⌊(currentPool − minPool) × 10^10 / (maxPool − minPool)⌋      (pools in minor units)
+ * units  = minPercent × 10^6 + ⌊(maxPercent − minPercent) × 10^6 × q / 10^10⌋
+ * chance = units / 10^8                                                  (one IEEE division)
+ * </pre>
+ * <p>{@code q} is exactly the unscaled truncated {@code ratio} and {@code units} the unscaled truncated
+ * {@code chance}, every intermediate fits a {@code long} ({@code units ≤ 10^8}, the product below 10^18), and both
+ * forms round {@code units / 10^8} to the nearest {@code double}, so the thresholds are identical: the error bound
+ * against the decimal form is zero. Percentages with more decimals, and pools more than ~9.2 million major units above
+ * {@code minPool}, whose scaled difference would overflow, are evaluated in the decimal form. Evaluation then allocates
+ * nothing.</p>
  */
-@Slf4j
 public class VariableChanceRewardEvaluator implements RewardEvaluator {
     private static final int SCALE = 10;
     private static final RoundingMode ROUNDING = RoundingMode.DOWN;
 
+    private static final long RATIO_UNITS_PER_ONE = 10_000_000_000L;
+    private static final double CHANCE_UNITS_PER_ONE = 100_000_000d;
+    private static final int PERCENT_TO_CHANCE_UNITS = 6;
+
     private final Percentage minPercent;
     private final Percentage maxPercent;
     private final Money minPool;
     private final Money maxPool;
+    private final double minChanceThreshold;
     private final DoubleSupplier randomNumberGenerator;
 
+    private final long minPoolUnits;
+    private final long maxPoolUnits;
+    private final long minChanceUnits;
+    private final long chanceRangeUnits;
+    private final boolean fixedPoint;
+
     public VariableChanceRewardEvaluator(Percentage minPercent, Percentage maxPercent, Money minPool, Money maxPool) {
-        this(minPercent, maxPercent, minPool, maxPool, new java.security.SecureRandom()::nextDouble);
+        this(minPercent, maxPercent, minPool, maxPool, RandomNumberGenerators.threadLocal());
     }
 
     public VariableChanceRewardEvaluator(Percentage minPercent, Percentage maxPercent, Money minPool, Money maxPool, DoubleSupplier randomNumberGenerator) {
@@ -73,34 +98,80 @@ public class VariableChanceRewardEvaluator implements RewardEvaluator {
         this.maxPercent = maxPercent;
         this.minPool = minPool;
         this.maxPool = maxPool;
+        this.minChanceThreshold = minPercent.fractionalValue().doubleValue();
         this.randomNumberGenerator = randomNumberGenerator;
+
+        this.minPoolUnits = minPool.minorUnits();
+        this.maxPoolUnits = maxPool.minorUnits();
+        this.minChanceUnits = chanceUnits(minPercent.value());
+        this.chanceRangeUnits = chanceUnits(maxPercent.value().subtract(minPercent.value()));
+        this.fixedPoint = this.minChanceUnits >= 0 && this.chanceRangeUnits >= 0;
     }
 
     @Override
     public boolean evaluate(RewardContext ctx) {
         requireNonNull(ctx, "ctx must not be null");
 
-        isTrue(ctx.currentPool().hasSameCurrencyAs(minPool, maxPool), "Jackpot currentPool, minPool and maxPool must have same currency");
+        Money currentPool = ctx.currentPool();
+
+        // minPool and maxPool share a currency, and the varargs overload would allocate
+        isTrue(currentPool.hasSameCurrencyAs(minPool), "Jackpot currentPool, minPool and maxPool must have same currency");
+
+        long pool = currentPool.minorUnits();
 
-        if (ctx.currentPool().isGreaterThanOrEqual(maxPool)) {
+        if (pool >= maxPoolUnits) {
             return true;
         }
 
-        if (ctx.currentPool().isLessThanOrEqual(minPool)) {
-            log.info("Chance={}", minPercent);
-            return randomNumberGenerator.getAsDouble() < minPercent.fractionalValue().doubleValue();
+        if (pool <= minPoolUnits) {
+            return randomNumberGenerator.getAsDouble() < minChanceThreshold;
         }
 
+        return randomNumberGenerator.getAsDouble() < chanceThreshold(currentPool);
+    }
+
+    /**
+     * The win threshold for a pool strictly between {@code minPool} and {@code maxPool}, in the precompiled form
+     * where it applies.
+     */
+    double chanceThreshold(Money currentPool) {
+        if (fixedPoint) {
+            long poolOffset = currentPool.minorUnits() - minPoolUnits;
+            long scaledOffset = poolOffset * RATIO_UNITS_PER_ONE;
+
+            if (Math.multiplyHigh(poolOffset, RATIO_UNITS_PER_ONE) == 0 && scaledOffset >= 0) {
+                long ratioUnits = scaledOffset / (maxPoolUnits - minPoolUnits);
+                long chanceUnits = minChanceUnits + chanceRangeUnits * ratioUnits / RATIO_UNITS_PER_ONE;
+
+                return chanceUnits / CHANCE_UNITS_PER_ONE;
+            }
+        }
+
+        return decimalChanceThreshold(currentPool);
+    }
+
+    /**
+     * The win threshold for a pool strictly between {@code minPool} and {@code maxPool}, in the decimal form that
+     * defines it.
+     */
+    double decimalChanceThreshold(Money currentPool) {
         BigDecimal poolRange = maxPool.minus(minPool).amount();
-        BigDecimal currentRange = ctx.currentPool().minus(minPool).amount();
+        BigDecimal currentRange = currentPool.minus(minPool).amount();
         Percentage chanceRange = maxPercent.minus(minPercent);
 
         BigDecimal ratio = currentRange.divide(poolRange, SCALE, ROUNDING);
 
         Percentage chance = minPercent.plus(chanceRange.times(ratio));
 
-        log.info("Chance={}", chance);
+        return chance.fractionalValue().doubleValue();
+    }
+
+    /**
+     * {@code percent} in units of 10^-8 of one, or -1 if it is not a whole number of them.
+     */
+    private static long chanceUnits(BigDecimal percent) {
+        BigDecimal units = percent.movePointRight(PERCENT_TO_CHANCE_UNITS);
 
-        return randomNumberGenerator.getAsDouble() < chance.fractionalValue().doubleValue();
+        return units.stripTrailingZeros().scale() <= 0 ? units.longValueExact() : -1;
     }
 }
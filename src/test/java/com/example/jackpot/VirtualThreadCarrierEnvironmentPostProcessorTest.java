@@ -0,0 +1,66 @@
+package com.example.jackpot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.function.Supplier;
+
+import static com.example.jackpot.VirtualThreadCarrierEnvironmentPostProcessor.MAX_POOL_SIZE;
+import static com.example.jackpot.VirtualThreadCarrierEnvironmentPostProcessor.PARALLELISM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadCarrierEnvironmentPostProcessorTest {
+
+    private final VirtualThreadCarrierEnvironmentPostProcessor postProcessor =
+            new VirtualThreadCarrierEnvironmentPostProcessor(Supplier::get);
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(PARALLELISM);
+        System.clearProperty(MAX_POOL_SIZE);
+    }
+
+    @Test
+    void givenCarrierBounds_whenPostProcess_thenSchedulerPropertiesSet() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jackpot.threads.carrier.parallelism", "2")
+                .withProperty("jackpot.threads.carrier.max-pool-size", "4");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(System.getProperty(PARALLELISM)).isEqualTo("2");
+        assertThat(System.getProperty(MAX_POOL_SIZE)).isEqualTo("4");
+    }
+
+    @Test
+    void givenNoCarrierBounds_whenPostProcess_thenJdkDefaultsKept() {
+        postProcessor.postProcessEnvironment(new MockEnvironment(), new SpringApplication());
+
+        assertThat(System.getProperty(PARALLELISM)).isNull();
+        assertThat(System.getProperty(MAX_POOL_SIZE)).isNull();
+    }
+
+    @Test
+    void givenSchedulerPropertyFromJvmOptions_whenPostProcess_thenJvmOptionWins() {
+        System.setProperty(PARALLELISM, "8");
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jackpot.threads.carrier.parallelism", "2");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(System.getProperty(PARALLELISM)).isEqualTo("8");
+    }
+
+    @Test
+    void givenNegativeBound_whenPostProcess_thenThrowException() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("jackpot.threads.carrier.max-pool-size", "-1");
+
+        assertThatThrownBy(() -> postProcessor.postProcessEnvironment(environment, new SpringApplication()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("jackpot.threads.carrier.max-pool-size must not be negative");
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.jackpot.adapter.in.cli;
+
+import com.example.jackpot.application.port.in.BetSizeDistribution;
+import com.example.jackpot.application.port.in.SimulationParameters;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JackpotSimulationCliTest {
+
+    private static final String CONTRIBUTION = """
+            { "type": "FIXED", "config": { "rate": "5.00" } }""";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenAllOptions_whenParameters_thenMapped() throws IOException {
+        Path reward = Files.writeString(directory.resolve("reward.json"), """
+                { "type": "FIXED_CHANCE", "config": { "chancePercent": "0.10" } }""");
+
+        SimulationParameters parameters = JackpotSimulationCli.parameters(JackpotSimulationCli.options(
+                "--contribution=" + CONTRIBUTION,
+                "--reward=" + reward,
+                "--initial-pool=1000.00",
+                "--currency=EUR",
+                "--bet-size=uniform:1.00:20.00",
+                "--bets=1000000",
+                "--workers=8",
+                "--seed=7"
+        ));
+
+        assertThat(parameters.contributionConfig()).isEqualTo(CONTRIBUTION);
+        assertThat(parameters.rewardConfig()).contains("FIXED_CHANCE");
+        assertThat(parameters.initialPool()).isEqualTo(Money.of("1000.00", "EUR"));
+        assertThat(parameters.betSizes()).isEqualTo(new BetSizeDistribution.Uniform(Money.of("1.00", "EUR"), Money.of("20.00", "EUR")));
+        assertThat(parameters.bets()).isEqualTo(1_000_000);
+        assertThat(parameters.workers()).isEqualTo(8);
+        assertThat(parameters.seed()).isEqualTo(7);
+    }
+
+    @Test
+    void givenNoWorkersAndSeed_whenParameters_thenDefaults() {
+        SimulationParameters parameters = JackpotSimulationCli.parameters(Map.of(
+                "contribution", CONTRIBUTION,
+                "reward", CONTRIBUTION,
+                "initial-pool", "1000.00",
+                "currency", "EUR",
+                "bet-size", "fixed:1.00",
+                "bets", "100"
+        ));
+
+        assertThat(parameters.workers()).isEqualTo(JackpotSimulationCli.DEFAULT_WORKERS);
+        assertThat(parameters.seed()).isEqualTo(JackpotSimulationCli.DEFAULT_SEED);
+    }
+
+    @Test
+    void givenMissingOption_whenParameters_thenThrowException() {
+        assertThatThrownBy(() -> JackpotSimulationCli.parameters(Map.of("currency", "EUR")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Missing option '--contribution'");
+    }
+
+    @Test
+    void givenUnknownOption_whenOptions_thenThrowException() {
+        assertThatThrownBy(() -> JackpotSimulationCli.options("--rounds=10"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown option '--rounds'");
+    }
+
+    @Test
+    void givenLogNormal_whenBetSizes_thenMapped() {
+        assertThat(JackpotSimulationCli.betSizes("log-normal:2.00:1.5", "EUR"))
+                .isEqualTo(new BetSizeDistribution.LogNormal(Money.of("2.00", "EUR"), 1.5));
+    }
+
+    @Test
+    void givenMalformedDistribution_whenBetSizes_thenThrowException() {
+        assertThatThrownBy(() -> JackpotSimulationCli.betSizes("uniform:1.00", "EUR"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed bet size distribution: 'uniform:1.00'");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.jackpot.adapter.in.messaging.kafka;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import com.example.jackpot.application.port.in.BetBatchProcessingService;
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaBetBatchConsumerTest {
+
+    @Mock
+    private BetBatchProcessingService betBatchProcessingService;
+
+    private KafkaBetBatchConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new KafkaBetBatchConsumer(betBatchProcessingService);
+    }
+
+    @Test
+    void givenBatch_whenOnMessages_thenAllBetsProcessedTogether() {
+        List<BetMessage> messages = List.of(message(), message(), message());
+
+        given(betBatchProcessingService.processAll(anyList())).willReturn(new BetBatchResult(Map.of()));
+
+        consumer.onMessages(messages);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Bet>> captor = ArgumentCaptor.forClass(List.class);
+        then(betBatchProcessingService).should().processAll(captor.capture());
+
+        assertThat(captor.getValue())
+                .extracting(b -> b.betId().value().toString())
+                .containsExactly(messages.get(0).betId(), messages.get(1).betId(), messages.get(2).betId());
+    }
+
+    @Test
+    void givenFailedBet_whenOnMessages_thenReportLowestFailedIndex() {
+        List<BetMessage> messages = List.of(message(), message(), message());
+        RuntimeException failure = new IllegalStateException("boom");
+
+        given(betBatchProcessingService.processAll(anyList()))
+                .willReturn(new BetBatchResult(Map.of(BetId.of(messages.get(2).betId()), failure, BetId.of(messages.get(1).betId()), failure)));
+
+        assertThatThrownBy(() -> consumer.onMessages(messages))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1));
+    }
+
+    @Test
+    void givenUnmappableMessage_whenOnMessages_thenOtherBetsProcessedAndIndexReported() {
+        BetMessage invalid = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("0.00"), "EUR");
+        List<BetMessage> messages = List.of(message(), invalid, message());
+
+        given(betBatchProcessingService.processAll(anyList())).willReturn(new BetBatchResult(Map.of()));
+
+        assertThatThrownBy(() -> consumer.onMessages(messages))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Bet>> captor = ArgumentCaptor.forClass(List.class);
+        then(betBatchProcessingService).should().processAll(captor.capture());
+
+        assertThat(captor.getValue()).hasSize(2);
+    }
+
+    private BetMessage message() {
+        return new BetMessage(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("20.00"),
+                "EUR"
+        );
+    }
+}
@@ -38,10 +38,10 @@ class KafkaBetConsumerTest {
     void givenBetMessage_whenSend_thenConsumerIsTriggeringProcessingOfBet() {
         UUID jackpotId = UUID.randomUUID();
         BetMessage message = new BetMessage(
-                UUID.randomUUID().toString(),
-                UUID.randomUUID().toString(),
-                jackpotId.toString(),
-                "20.00",
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                jackpotId,
+                new BigDecimal("20.00"),
                 "EUR"
         );
 
@@ -55,10 +55,10 @@ class KafkaBetConsumerTest {
         assertThat(captor.getValue())
                 .isNotNull()
                 .satisfies(b -> {
-                    assertThat(b.betId().value()).isEqualTo(UUID.fromString(message.betId()));
-                    assertThat(b.userId().value()).isEqualTo(UUID.fromString(message.userId()));
-                    assertThat(b.jackpotId().value()).isEqualTo(UUID.fromString(message.jackpotId()));
-                    assertThat(b.betAmount().amount()).isEqualByComparingTo(new BigDecimal(message.amount()));
+                    assertThat(b.betId().value()).isEqualTo(message.betId());
+                    assertThat(b.userId().value()).isEqualTo(message.userId());
+                    assertThat(b.jackpotId().value()).isEqualTo(message.jackpotId());
+                    assertThat(b.betAmount().amount()).isEqualByComparingTo(message.amount());
                     assertThat(b.betAmount().currency()).hasToString(message.currency());
                 });
     }
@@ -0,0 +1,159 @@
+package com.example.jackpot.adapter.in.messaging.kafka;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.application.port.in.JackpotEngine;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaBetEngineConsumerTest {
+
+    @Mock
+    private JackpotEngine jackpotEngine;
+
+    private KafkaBetEngineConsumer consumer;
+
+    private long nextOffset;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new KafkaBetEngineConsumer(jackpotEngine);
+    }
+
+    @Test
+    void givenRecordsFromSeveralPartitions_whenOnRecords_thenBetsAppliedPerPartitionInOrderWithLastOffset() {
+        List<ConsumerRecord<String, BetMessage>> records = List.of(record(0, message()), record(1, message()), record(0, message()));
+
+        given(jackpotEngine.apply(anyInt(), anyList(), anyLong())).willReturn(new BetBatchResult(Map.of()));
+
+        consumer.onRecords(records);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Bet>> partition0 = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Bet>> partition1 = ArgumentCaptor.forClass(List.class);
+        then(jackpotEngine).should().apply(eq(0), partition0.capture(), eq(2L));
+        then(jackpotEngine).should().apply(eq(1), partition1.capture(), eq(1L));
+
+        assertThat(partition0.getValue())
+                .extracting(b -> b.betId().value().toString())
+                .containsExactly(records.get(0).value().betId(), records.get(2).value().betId());
+        assertThat(partition1.getValue())
+                .extracting(b -> b.betId().value().toString())
+                .containsExactly(records.get(1).value().betId());
+    }
+
+    @Test
+    void givenBetOfUnknownJackpot_whenOnRecords_thenSkippedWithoutRedelivery() {
+        BetMessage message = message();
+
+        given(jackpotEngine.apply(anyInt(), anyList(), anyLong()))
+                .willReturn(new BetBatchResult(Map.of(BetId.of(message.betId()), new JackpotNotFoundException("Jackpot not found"))));
+
+        assertThatCode(() -> consumer.onRecords(List.of(record(0, message)))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void givenTransientlyFailedBets_whenOnRecords_thenLowestFailedIndexReported() {
+        List<ConsumerRecord<String, BetMessage>> records = List.of(record(0, message()), record(0, message()), record(0, message()));
+        RuntimeException failure = new QueryTimeoutException("db timeout");
+
+        given(jackpotEngine.apply(anyInt(), anyList(), anyLong())).willReturn(new BetBatchResult(Map.of(
+                BetId.of(records.get(2).value().betId()), failure,
+                BetId.of(records.get(1).value().betId()), failure,
+                BetId.of(records.get(0).value().betId()), new IllegalArgumentException("betAmount must be positive")
+        )));
+
+        assertThatThrownBy(() -> consumer.onRecords(records))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasCause(failure)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1));
+    }
+
+    @Test
+    void givenSecondPartitionFails_whenOnRecords_thenFirstAppliedAndSecondRedeliveredFromItsFirstRecord() {
+        List<ConsumerRecord<String, BetMessage>> records = List.of(record(0, message()), record(1, message()), record(1, message()));
+        RuntimeException failure = new QueryTimeoutException("db timeout");
+
+        given(jackpotEngine.apply(eq(0), anyList(), anyLong())).willReturn(new BetBatchResult(Map.of()));
+        given(jackpotEngine.apply(eq(1), anyList(), anyLong())).willThrow(failure);
+
+        assertThatThrownBy(() -> consumer.onRecords(records))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasCause(failure)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1));
+
+        then(jackpotEngine).should().apply(eq(0), anyList(), eq(0L));
+        then(jackpotEngine).should().apply(eq(1), anyList(), eq(2L));
+    }
+
+    @Test
+    void givenFirstPartitionFails_whenOnRecords_thenSecondStillApplied() {
+        List<ConsumerRecord<String, BetMessage>> records = List.of(record(0, message()), record(1, message()));
+        RuntimeException failure = new QueryTimeoutException("db timeout");
+
+        given(jackpotEngine.apply(eq(0), anyList(), anyLong())).willThrow(failure);
+        given(jackpotEngine.apply(eq(1), anyList(), anyLong())).willReturn(new BetBatchResult(Map.of()));
+
+        assertThatThrownBy(() -> consumer.onRecords(records))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isZero());
+
+        then(jackpotEngine).should().apply(eq(1), anyList(), eq(1L));
+    }
+
+    @Test
+    void givenUnmappableMessage_whenOnRecords_thenOtherBetsApplied() {
+        BetMessage invalid = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("0.00"), "EUR");
+
+        given(jackpotEngine.apply(anyInt(), anyList(), anyLong())).willReturn(new BetBatchResult(Map.of()));
+
+        consumer.onRecords(List.of(record(0, message()), record(0, invalid)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Bet>> captor = ArgumentCaptor.forClass(List.class);
+        then(jackpotEngine).should().apply(eq(0), captor.capture(), eq(1L));
+
+        assertThat(captor.getValue()).hasSize(1);
+    }
+
+    private ConsumerRecord<String, BetMessage> record(int partition, BetMessage message) {
+        return new ConsumerRecord<>("jackpot-bets", partition, nextOffset++, message.jackpotId().toString(), message);
+    }
+
+    private BetMessage message() {
+        return new BetMessage(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("20.00"),
+                "EUR"
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jackpot.adapter.in.messaging.kafka;
+
+import com.example.jackpot.application.port.in.JackpotEngine;
+import com.example.jackpot.domain.model.id.JackpotId;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.producer.internals.BuiltInPartitioner;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaEngineRebalanceListenerTest {
+
+    private static final String TOPIC = "jackpot-bets";
+
+    @Mock
+    private JackpotEngine jackpotEngine;
+
+    @Mock
+    private Consumer<?, ?> consumer;
+
+    private KafkaEngineRebalanceListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new KafkaEngineRebalanceListener(jackpotEngine);
+    }
+
+    @Test
+    void whenPartitionFor_thenMatchesProducerPartitioner() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        byte[] key = jackpotId.value().toString().getBytes(StandardCharsets.UTF_8);
+
+        assertThat(KafkaEngineRebalanceListener.partitionFor(jackpotId, 6))
+                .isEqualTo(BuiltInPartitioner.partitionForKey(key, 6));
+    }
+
+    @Test
+    void whenPartitionsAssigned_thenOwnershipFollowsKeyPartitioningAndResumesAtPosition() {
+        List<PartitionInfo> partitionInfos = IntStream.range(0, 6)
+                .mapToObj(p -> new PartitionInfo(TOPIC, p, null, null, null))
+                .toList();
+        given(consumer.partitionsFor(TOPIC)).willReturn(partitionInfos);
+        given(consumer.position(new TopicPartition(TOPIC, 2))).willReturn(42L);
+
+        listener.onPartitionsAssigned(consumer, List.of(new TopicPartition(TOPIC, 2)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Predicate<JackpotId>> ownership = ArgumentCaptor.forClass(Predicate.class);
+        then(jackpotEngine).should().assign(eq(2), ownership.capture(), eq(42L));
+
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        assertThat(ownership.getValue().test(jackpotId))
+                .isEqualTo(KafkaEngineRebalanceListener.partitionFor(jackpotId, 6) == 2);
+    }
+
+    @Test
+    void whenPartitionsRevoked_thenEngineReleasesThem() {
+        listener.onPartitionsRevokedBeforeCommit(mock(Consumer.class), List.of(new TopicPartition(TOPIC, 0), new TopicPartition(TOPIC, 4)));
+
+        then(jackpotEngine).should().revoke(0);
+        then(jackpotEngine).should().revoke(4);
+    }
+}
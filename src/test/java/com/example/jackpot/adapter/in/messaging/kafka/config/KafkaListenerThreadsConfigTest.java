@@ -0,0 +1,48 @@
+package com.example.jackpot.adapter.in.messaging.kafka.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaListenerThreadsConfigTest {
+
+    @Mock
+    private ConsumerFactory<Object, Object> consumerFactory;
+
+    private final KafkaListenerThreadsConfig config = new KafkaListenerThreadsConfig();
+
+    @Test
+    void whenCustomize_thenConsumersRunOnVirtualThreadsWithConfiguredConcurrency() throws Exception {
+        ConcurrentMessageListenerContainer<Object, Object> container =
+                new ConcurrentMessageListenerContainer<>(consumerFactory, new ContainerProperties("jackpot-bets"));
+
+        config.virtualThreadContainerCustomizer(4).configure(container);
+
+        assertThat(container.getConcurrency()).isEqualTo(4);
+
+        AsyncTaskExecutor executor = container.getContainerProperties().getListenerTaskExecutor();
+        CompletableFuture<Thread> thread = executor.submitCompletable(Thread::currentThread);
+        assertThat(thread.get(5, TimeUnit.SECONDS))
+                .satisfies(t -> assertThat(t.isVirtual()).isTrue())
+                .satisfies(t -> assertThat(t.getName()).startsWith("jackpot-kafka-"));
+    }
+
+    @Test
+    void givenNonPositiveConcurrency_whenCreate_thenThrowException() {
+        assertThatThrownBy(() -> config.virtualThreadContainerCustomizer(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("concurrency must be positive");
+    }
+}
@@ -2,31 +2,42 @@ package com.example.jackpot.adapter.in.rest;
 
 import com.example.jackpot.adapter.in.rest.dto.BetRequest;
 import com.example.jackpot.adapter.in.rest.dto.MoneyDto;
+import com.example.jackpot.application.port.in.BetPlacementResult;
 import com.example.jackpot.application.port.in.PlaceBetService;
 import com.example.jackpot.application.port.in.RewardQueryService;
 import com.example.jackpot.domain.model.Bet;
-import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.BetOutcome;
 import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.vo.Money;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mock;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -93,16 +104,43 @@ class BetControllerTest {
     }
 
     @Test
-    void givenNoReward_whenGetReward_thenNoWinResponse() throws Exception {
+    void givenBetStoredConcurrently_whenPlace_thenConflict() throws Exception {
+        willThrow(new DataIntegrityViolationException("duplicate key")).given(placeBetService).place(any());
+
+        mockMvc.perform(post("/api/bets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest())))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void givenBetNotProcessed_whenGetReward_thenPendingResponse() throws Exception {
         String betId = UUID.randomUUID().toString();
 
-        given(rewardQueryService.findByBetId(any(BetId.class))).willReturn(Optional.empty());
+        given(rewardQueryService.findOutcomeByBetId(any(BetId.class))).willReturn(Optional.empty());
 
         mockMvc.perform(get("/api/bets/{betId}/reward", betId)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andDo(print())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.won").value(false))
+                .andExpect(jsonPath("$.reward").value(nullValue()));
+    }
+
+    @Test
+    void givenLoss_whenGetReward_thenNoWinResponse() throws Exception {
+        String betId = UUID.randomUUID().toString();
+
+        given(rewardQueryService.findOutcomeByBetId(any(BetId.class))).willReturn(Optional.of(outcome(betId, null)));
+
+        mockMvc.perform(get("/api/bets/{betId}/reward", betId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.status").value("LOSS"))
                 .andExpect(jsonPath("$.won").value(false))
                 .andExpect(jsonPath("$.reward").value(nullValue()));
     }
@@ -112,18 +150,172 @@ class BetControllerTest {
         String betId = UUID.randomUUID().toString();
         Money rewardAmount = Money.of("10000.00", "EUR");
 
-        JackpotReward reward = mock(JackpotReward.class);
-        given(reward.rewardAmount()).willReturn(rewardAmount);
-
-        given(rewardQueryService.findByBetId(any(BetId.class))).willReturn(Optional.of(reward));
+        given(rewardQueryService.findOutcomeByBetId(any(BetId.class))).willReturn(Optional.of(outcome(betId, rewardAmount)));
 
         mockMvc.perform(get("/api/bets/{betId}/reward", betId)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andDo(print())
+                .andExpect(jsonPath("$.status").value("WIN"))
                 .andExpect(jsonPath("$.won").value(true))
                 .andExpect(jsonPath("$.reward.amount").value(rewardAmount.amount()))
                 .andExpect(jsonPath("$.reward.currency").value(rewardAmount.currency().toString()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenWait_whenGetReward_thenAnsweredWithAwaitedOutcome() throws Exception {
+        String betId = UUID.randomUUID().toString();
+        Money rewardAmount = Money.of("250.00", "EUR");
+
+        given(rewardQueryService.awaitOutcomeByBetId(BetId.of(betId), Duration.ofSeconds(10))).willReturn(CompletableFuture.completedFuture(Optional.of(outcome(betId, rewardAmount))));
+
+        MvcResult result = mockMvc.perform(get("/api/bets/{betId}/reward", betId)
+                        .param("wait", "10")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("WIN"))
+                .andExpect(jsonPath("$.won").value(true))
+                .andExpect(jsonPath("$.reward.amount").value(rewardAmount.amount()));
+
+        then(rewardQueryService).should(never()).findOutcomeByBetId(any());
+    }
+
+    @Test
+    void givenWaitAboveLimit_whenGetReward_thenBadRequest() throws Exception {
+        mockMvc.perform(get("/api/bets/{betId}/reward", UUID.randomUUID().toString())
+                        .param("wait", "26")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("wait must be between 1 and 25 seconds"));
+
+        then(rewardQueryService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void whenStreamReward_thenSingleRewardEventSent() throws Exception {
+        String betId = UUID.randomUUID().toString();
+
+        given(rewardQueryService.awaitOutcomeByBetId(eq(BetId.of(betId)), eq(Duration.ofSeconds(25)))).willReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        MvcResult result = mockMvc.perform(get("/api/bets/{betId}/reward/stream", betId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsString())
+                .contains("event:reward")
+                .contains("data:{\"status\":\"PENDING\",\"won\":false");
+    }
+
+    @Test
+    void givenMixedBatch_whenPlaceBatch_thenPerItemStatusReported() throws Exception {
+        BetRequest accepted = validRequest();
+        BetRequest existing = validRequest();
+        BetRequest invalid = new BetRequest("invalid-bet-id", UUID.randomUUID().toString(), UUID.randomUUID().toString(), new MoneyDto("10.00", "EUR"));
+
+        given(placeBetService.placeAll(any())).willReturn(new BetPlacementResult(Set.of(BetId.of(existing.betId()))));
+
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(accepted, existing, invalid, accepted))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.duplicates").value(2))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.items[0].betId").value(accepted.betId()))
+                .andExpect(jsonPath("$.items[1].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.items[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[2].errors.betId").value("must be a valid UUID"))
+                .andExpect(jsonPath("$.items[3].status").value("DUPLICATE"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Bet>> captor = ArgumentCaptor.forClass(List.class);
+        then(placeBetService).should().placeAll(captor.capture());
+
+        assertThat(captor.getValue())
+                .extracting(b -> b.betId().value().toString())
+                .containsExactly(accepted.betId(), existing.betId());
+    }
+
+    @Test
+    void givenOnlyInvalidItems_whenPlaceBatch_thenServiceNotCalled() throws Exception {
+        BetRequest invalid = new BetRequest(UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString(), new MoneyDto("0.00", "EUR"));
+
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(invalid))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.items[0].errors['betAmount.amount']").exists());
+
+        then(placeBetService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void givenMalformedArrayElements_whenPlaceBatch_thenOnlyThoseItemsInvalid() throws Exception {
+        BetRequest first = validRequest();
+        BetRequest second = validRequest();
+
+        given(placeBetService.placeAll(any())).willReturn(new BetPlacementResult(Set.of()));
+
+        String body = "[" + objectMapper.writeValueAsString(first) + ", "
+                + "{\"betId\": {\"nested\": true}}, 42, null, "
+                + objectMapper.writeValueAsString(second) + "]";
+
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.invalid").value(3))
+                .andExpect(jsonPath("$.items[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[1].betId").value(nullValue()))
+                .andExpect(jsonPath("$.items[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[3].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[4].betId").value(second.betId()));
+    }
+
+    @Test
+    void givenNdjsonBatch_whenPlaceBatch_thenEachLinePlaced() throws Exception {
+        BetRequest first = validRequest();
+        BetRequest second = validRequest();
+
+        given(placeBetService.placeAll(any())).willReturn(new BetPlacementResult(Set.of()));
+
+        String body = objectMapper.writeValueAsString(first) + "\n"
+                + "{not json\n"
+                + "\n"
+                + objectMapper.writeValueAsString(second) + "\n";
+
+        mockMvc.perform(post("/api/bets/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.invalid").value(1))
+                .andExpect(jsonPath("$.items[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.items[1].betId").value(nullValue()))
+                .andExpect(jsonPath("$.items[2].betId").value(second.betId()));
+    }
+
+    private static BetRequest validRequest() {
+        return new BetRequest(
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                new MoneyDto("10.00", "EUR")
+        );
+    }
+
+    private static BetOutcome outcome(String betId, Money rewardAmount) {
+        BetOutcome.Result result = rewardAmount == null ? BetOutcome.Result.LOSS : BetOutcome.Result.WIN;
+
+        return new BetOutcome(BetId.of(betId), JackpotId.of(UUID.randomUUID()), result, rewardAmount, Instant.now());
+    }
+}
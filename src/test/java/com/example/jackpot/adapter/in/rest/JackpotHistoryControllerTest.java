@@ -0,0 +1,71 @@
+package com.example.jackpot.adapter.in.rest;
+
+import com.example.jackpot.application.port.in.JackpotHistoryService;
+import com.example.jackpot.application.port.in.JackpotState;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(JackpotHistoryController.class)
+@TestPropertySource(properties = "jackpot.persistence.pool-update=event-sourced")
+class JackpotHistoryControllerTest {
+
+    private static final String JACKPOT_ID = "0b7e4f3a-5c2d-4e8f-9a1b-3c4d5e6f7a8b";
+    private static final Instant AT = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JackpotHistoryService historyService;
+
+    @Test
+    void givenJackpotWithHistory_whenStateAt_thenStateAsOfThatTime() throws Exception {
+        JackpotId jackpotId = JackpotId.of(JACKPOT_ID);
+        given(historyService.stateAt(jackpotId, AT))
+                .willReturn(new JackpotState(jackpotId, AT, 42, CycleNumber.of(3), Money.of("1250.50", "EUR")));
+
+        mockMvc.perform(get("/admin/jackpots/{jackpotId}/state", JACKPOT_ID).param("at", "2026-03-01T12:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jackpotId").value(JACKPOT_ID))
+                .andExpect(jsonPath("$.at").value("2026-03-01T12:00:00Z"))
+                .andExpect(jsonPath("$.sequence").value(42))
+                .andExpect(jsonPath("$.cycle").value(3))
+                .andExpect(jsonPath("$.pool.amount").value("1250.50"))
+                .andExpect(jsonPath("$.pool.currency").value("EUR"));
+
+        then(historyService).should().stateAt(jackpotId, AT);
+    }
+
+    @Test
+    void givenUnknownJackpot_whenStateAt_thenBadRequest() throws Exception {
+        given(historyService.stateAt(any(), any())).willThrow(new JackpotNotFoundException("Jackpot not found"));
+
+        mockMvc.perform(get("/admin/jackpots/{jackpotId}/state", JACKPOT_ID).param("at", "2026-03-01T12:00:00Z"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenUnparseableTime_whenStateAt_thenBadRequest() throws Exception {
+        mockMvc.perform(get("/admin/jackpots/{jackpotId}/state", JACKPOT_ID).param("at", "yesterday"))
+                .andExpect(status().isBadRequest());
+
+        then(historyService).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.jackpot.adapter.in.rest;
+
+import com.example.jackpot.application.port.in.BetSizeDistribution;
+import com.example.jackpot.application.port.in.JackpotSimulationService;
+import com.example.jackpot.application.port.in.SimulationParameters;
+import com.example.jackpot.application.port.in.SimulationReport;
+import com.example.jackpot.application.port.in.SimulationReport.Percentiles;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(SimulationController.class)
+@TestPropertySource(properties = {"jackpot.simulation.max-bets=1000000", "jackpot.simulation.workers=4"})
+class SimulationControllerTest {
+
+    private static final String REQUEST = """
+            {
+              "contributionConfig": { "type": "FIXED", "config": { "rate": "5.00" } },
+              "rewardConfig": { "type": "FIXED_CHANCE", "config": { "chancePercent": "0.10" } },
+              "initialPool": { "amount": "1000.00", "currency": "EUR" },
+              "betSize": { "type": "UNIFORM", "min": "1.00", "max": "20.00" },
+              "bets": %d,
+              "seed": 42
+            }
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JackpotSimulationService simulationService;
+
+    @Test
+    void givenValidRequest_whenSimulate_thenReport() throws Exception {
+        Percentiles cycleLength = new Percentiles(new BigDecimal("1000.50"), BigDecimal.ONE, new BigDecimal("690"),
+                new BigDecimal("2300"), new BigDecimal("4600"), new BigDecimal("9800"));
+        given(simulationService.simulate(any())).willReturn(new SimulationReport(
+                100_000, 99,
+                Money.of("1050000.00", "EUR"), Money.of("52500.00", "EUR"), Money.of("150000.00", "EUR"),
+                new BigDecimal("0.050000"), new BigDecimal("0.142857"),
+                Optional.of(cycleLength), Optional.empty(), Duration.ofMillis(120)));
+
+        mockMvc.perform(post("/admin/simulations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST.formatted(100_000)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bets").value(100_000))
+                .andExpect(jsonPath("$.workers").value(4))
+                .andExpect(jsonPath("$.seed").value(42))
+                .andExpect(jsonPath("$.cycles").value(99))
+                .andExpect(jsonPath("$.contributed.amount").value("52500.00"))
+                .andExpect(jsonPath("$.effectiveContributionRate").value(0.05))
+                .andExpect(jsonPath("$.cycleLength.p99").value(4600))
+                .andExpect(jsonPath("$.payout").value(nullValue()))
+                .andExpect(jsonPath("$.elapsedMillis").value(120));
+
+        ArgumentCaptor<SimulationParameters> captor = ArgumentCaptor.forClass(SimulationParameters.class);
+        then(simulationService).should().simulate(captor.capture());
+
+        assertThat(captor.getValue()).satisfies(p -> {
+            assertThat(p.contributionConfig()).contains("\"rate\":\"5.00\"");
+            assertThat(p.rewardConfig()).contains("\"chancePercent\":\"0.10\"");
+            assertThat(p.initialPool()).isEqualTo(Money.of("1000.00", "EUR"));
+            assertThat(p.betSizes()).isEqualTo(new BetSizeDistribution.Uniform(Money.of("1.00", "EUR"), Money.of("20.00", "EUR")));
+            assertThat(p.bets()).isEqualTo(100_000);
+            assertThat(p.workers()).isEqualTo(4);
+            assertThat(p.seed()).isEqualTo(42);
+        });
+    }
+
+    @Test
+    void givenBetsAboveLimit_whenSimulate_thenBadRequest() throws Exception {
+        mockMvc.perform(post("/admin/simulations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(REQUEST.formatted(1_000_001)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Simulation of 1000001 bets exceeds the limit of 1000000"));
+
+        then(simulationService).should(never()).simulate(any());
+    }
+
+    @Test
+    void givenMissingDistributionField_whenSimulate_thenBadRequest() throws Exception {
+        String request = REQUEST.formatted(1_000).replace("\"max\": \"20.00\"", "\"median\": \"20.00\"");
+
+        mockMvc.perform(post("/admin/simulations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("betSize.max is required for this distribution"));
+
+        then(simulationService).should(never()).simulate(any());
+    }
+
+    @Test
+    void givenMissingConfig_whenSimulate_thenBadRequest() throws Exception {
+        String request = REQUEST.formatted(1_000).replace("\"rewardConfig\"", "\"otherConfig\"");
+
+        mockMvc.perform(post("/admin/simulations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isBadRequest());
+
+        then(simulationService).should(never()).simulate(any());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.jackpot.adapter.in.rest.config;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestThreadsConfigTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenCustomize_thenRequestsRunOnVirtualThreadExecutor() {
+        Http11NioProtocol protocol = new Http11NioProtocol();
+
+        ((TomcatProtocolHandlerCustomizer<ProtocolHandler>) new RestThreadsConfig().virtualThreadProtocolHandlerCustomizer())
+                .customize(protocol);
+
+        assertThat(protocol.getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+    }
+}
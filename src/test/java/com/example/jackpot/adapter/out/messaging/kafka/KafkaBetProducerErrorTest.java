@@ -5,6 +5,7 @@ import com.example.jackpot.domain.model.id.BetId;
 import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.id.UserId;
 import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import nl.altindag.log.LogCaptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,13 +15,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 class KafkaBetProducerErrorTest {
@@ -28,11 +33,13 @@ class KafkaBetProducerErrorTest {
     @Mock
     private KafkaTemplate<String, BetMessage> kafka;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private KafkaBetProducer kafkaBetProducer;
 
     @BeforeEach
     void setUp() {
-        kafkaBetProducer = new KafkaBetProducer(kafka);
+        kafkaBetProducer = new KafkaBetProducer(kafka, meterRegistry);
     }
 
     @Test
@@ -54,6 +61,28 @@ class KafkaBetProducerErrorTest {
             kafkaBetProducer.publish(bet);
 
             assertThat(logCaptor.getErrorLogs()).anyMatch(log -> log.contains("Publish failed betId=%s jackpotId=%s:".formatted(bet.betId().value(), bet.jackpotId().value())) && log.contains("Kafka send failed"));
+            assertThat(meterRegistry.get("jackpot.kafka.publish").tag("outcome", "failure").timer().count()).isEqualTo(1L);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenOneSendFails_whenPublishAll_thenThrowAfterFlush() {
+        Bet bet = new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotId.of(UUID.randomUUID()),
+                Money.of("10.00", "EUR")
+        );
+
+        CompletableFuture<SendResult<String, BetMessage>> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new RuntimeException("Kafka send failed"));
+
+        given(kafka.send(any(), anyString(), any(BetMessage.class))).willReturn(failedFuture);
+
+        assertThatThrownBy(() -> kafkaBetProducer.publishAll(List.of(bet)))
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("Kafka send failed");
+
+        then(kafka).should().flush();
+    }
+}
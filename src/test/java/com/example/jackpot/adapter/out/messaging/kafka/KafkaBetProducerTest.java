@@ -6,6 +6,7 @@ import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.id.UserId;
 import com.example.jackpot.domain.model.vo.Money;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.test.context.EmbeddedKafka;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -72,6 +74,28 @@ class KafkaBetProducerTest {
                 });
     }
 
+    @Test
+    void whenPublishAll_thenAllMessagesSent() {
+        List<Bet> bets = List.of(
+                new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("10.00", "EUR")),
+                new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("20.00", "EUR")),
+                new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("30.00", "EUR"))
+        );
+
+        kafkaBetProducer.publishAll(bets);
+
+        List<UUID> received = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (received.size() < bets.size() && System.currentTimeMillis() < deadline) {
+            for (ConsumerRecord<String, BetMessage> rec : testConsumer.poll(Duration.ofMillis(500))) {
+                received.add(rec.value().betId());
+            }
+        }
+        testConsumer.commitSync();
+
+        assertThat(received).containsAll(bets.stream().map(b -> BetMessage.from(b).betId()).toList());
+    }
+
     @AfterEach
     void tearDown() {
         testConsumer.close();
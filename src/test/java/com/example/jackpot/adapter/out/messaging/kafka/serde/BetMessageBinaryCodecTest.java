@@ -0,0 +1,79 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetMessageBinaryCodecTest {
+
+    @Test
+    void whenEncodeAndDecode_thenSameMessageInFixedSize() {
+        BetMessage message = message(new BigDecimal("105.55"), "EUR");
+
+        byte[] data = BetMessageBinaryCodec.encode(message);
+
+        assertThat(data).hasSize(58);
+        assertThat(BetMessageBinaryCodec.decode(data)).isEqualTo(message);
+    }
+
+    @Test
+    void givenAmountWithLowerScale_whenEncodeAndDecode_thenAmountHasScaleTwo() {
+        BetMessage message = message(new BigDecimal("7"), "USD");
+
+        BetMessage result = BetMessageBinaryCodec.decode(BetMessageBinaryCodec.encode(message));
+
+        assertThat(result.amount()).isEqualTo(new BigDecimal("7.00"));
+        assertThat(result.currency()).isEqualTo("USD");
+    }
+
+    @Test
+    void givenAmountWithMoreThanTwoDecimals_whenEncode_thenThrowException() {
+        assertThatThrownBy(() -> BetMessageBinaryCodec.encode(message(new BigDecimal("1.001"), "EUR")))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("1.001");
+    }
+
+    @Test
+    void givenUnknownCurrency_whenEncode_thenThrowException() {
+        assertThatThrownBy(() -> BetMessageBinaryCodec.encode(message(new BigDecimal("1.00"), "ABC")))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("ABC");
+    }
+
+    @Test
+    void givenNullId_whenEncode_thenThrowException() {
+        BetMessage message = new BetMessage(null, UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("1.00"), "EUR");
+
+        assertThatThrownBy(() -> BetMessageBinaryCodec.encode(message))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("betId must not be null");
+    }
+
+    @Test
+    void givenWrongLength_whenDecode_thenThrowException() {
+        assertThatThrownBy(() -> BetMessageBinaryCodec.decode(new byte[57]))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Expected 58 bytes");
+    }
+
+    @Test
+    void givenUnknownCurrencyCode_whenDecode_thenThrowException() {
+        byte[] data = BetMessageBinaryCodec.encode(message(new BigDecimal("1.00"), "EUR"));
+        data[56] = 0;
+        data[57] = 1;
+
+        assertThatThrownBy(() -> BetMessageBinaryCodec.decode(data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unknown currency code");
+    }
+
+    private static BetMessage message(BigDecimal amount, String currency) {
+        return new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), amount, currency);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetMessageBinaryDeserializerTest {
+
+    private final BetMessageBinarySerializer serializer = new BetMessageBinarySerializer();
+
+    private final BetMessageBinaryDeserializer deserializer = new BetMessageBinaryDeserializer();
+
+    @BeforeEach
+    void setUp() {
+        serializer.configure(Map.of(), false);
+        deserializer.configure(Map.of(), false);
+    }
+
+    @Test
+    void givenBinaryRecord_whenDeserialize_thenSameMessage() {
+        BetMessage message = message();
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize("jackpot-bets", headers, message);
+
+        assertThat(deserializer.deserialize("jackpot-bets", headers, data)).isEqualTo(message);
+    }
+
+    @Test
+    void givenJsonRecordWithoutSchemaVersionHeader_whenDeserialize_thenReadAsJson() {
+        BetMessage message = message();
+        byte[] json = """
+                {"betId":"%s","userId":"%s","jackpotId":"%s","amount":"20.00","currency":"EUR"}
+                """.formatted(message.betId(), message.userId(), message.jackpotId()).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(deserializer.deserialize("jackpot-bets", new RecordHeaders(), json)).isEqualTo(message);
+    }
+
+    @Test
+    void givenUnknownSchemaVersion_whenDeserialize_thenThrowException() {
+        Headers headers = new RecordHeaders();
+        byte[] data = serializer.serialize("jackpot-bets", headers, message());
+        headers.remove(BetMessageBinaryCodec.SCHEMA_VERSION_HEADER);
+        headers.add(BetMessageBinaryCodec.SCHEMA_VERSION_HEADER, "2".getBytes(StandardCharsets.US_ASCII));
+
+        assertThatThrownBy(() -> deserializer.deserialize("jackpot-bets", headers, data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unknown schema bet-message v2");
+    }
+
+    @Test
+    void givenInvalidSchemaVersionHeader_whenDeserialize_thenThrowException() {
+        Headers headers = new RecordHeaders();
+        headers.add(BetMessageBinaryCodec.SCHEMA_VERSION_HEADER, "v1".getBytes(StandardCharsets.US_ASCII));
+
+        assertThatThrownBy(() -> deserializer.deserialize("jackpot-bets", headers, new byte[58]))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Invalid schema version header");
+    }
+
+    private static BetMessage message() {
+        return new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("20.00"), "EUR");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import com.example.jackpot.adapter.out.messaging.kafka.BetMessage;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetMessageBinarySerializerTest {
+
+    private final BetMessageBinarySerializer serializer = new BetMessageBinarySerializer();
+
+    @Test
+    void givenBundledSchema_whenSerialize_thenBinaryPayloadWithSchemaVersionHeader() {
+        serializer.configure(Map.of(), false);
+        BetMessage message = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("20.00"), "EUR");
+        Headers headers = new RecordHeaders();
+
+        byte[] data = serializer.serialize("jackpot-bets", headers, message);
+
+        assertThat(data).isEqualTo(BetMessageBinaryCodec.encode(message));
+        assertThat(headers.headers(BetMessageBinaryCodec.SCHEMA_VERSION_HEADER))
+                .singleElement()
+                .satisfies(h -> assertThat(new String(h.value(), StandardCharsets.US_ASCII)).isEqualTo("1"));
+    }
+
+    @Test
+    void givenNullMessage_whenSerialize_thenNull() {
+        assertThat(serializer.serialize("jackpot-bets", new RecordHeaders(), null)).isNull();
+    }
+
+    @Test
+    void givenNoHeaders_whenSerialize_thenThrowException() {
+        BetMessage message = new BetMessage(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("20.00"), "EUR");
+
+        assertThatThrownBy(() -> serializer.serialize("jackpot-bets", message))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void givenSchemaMissingFromRegistry_whenConfigure_thenThrowException(@TempDir Path registry) {
+        assertThatThrownBy(() -> serializer.configure(Map.of(FileSchemaRegistry.LOCATION_CONFIG, registry.toUri().toString()), false))
+                .isInstanceOf(ConfigException.class)
+                .hasMessageContaining("not found");
+    }
+
+    @Test
+    void givenRegisteredSchemaWithOtherLayout_whenConfigure_thenThrowException(@TempDir Path registry) throws IOException {
+        Files.createDirectories(registry.resolve("bet-message"));
+        Files.writeString(registry.resolve("bet-message/v1.json"), """
+                {"subject":"bet-message","version":1,"fields":[{"name":"betId","type":"string"}]}
+                """);
+
+        assertThatThrownBy(() -> serializer.configure(Map.of(FileSchemaRegistry.LOCATION_CONFIG, registry.toUri().toString()), false))
+                .isInstanceOf(ConfigException.class)
+                .hasMessageContaining("does not match");
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.jackpot.adapter.out.messaging.kafka.serde;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSchemaRegistryTest {
+
+    @Test
+    void givenDefaultLocation_whenFind_thenBundledBetMessageSchemaFound() {
+        FileSchemaRegistry registry = FileSchemaRegistry.fromConfigs(Map.of());
+
+        assertThat(registry.find("bet-message", 1)).contains(BetMessageBinaryCodec.SCHEMA);
+    }
+
+    @Test
+    void givenUnknownVersion_whenFind_thenEmpty() {
+        FileSchemaRegistry registry = new FileSchemaRegistry("classpath:schemas/");
+
+        assertThat(registry.find("bet-message", 99)).isEmpty();
+    }
+
+    @Test
+    void givenDirectoryLocation_whenFind_thenSchemaReadFromFile(@TempDir Path location) throws IOException {
+        Files.createDirectories(location.resolve("other"));
+        Files.writeString(location.resolve("other/v3.json"), """
+                {"subject":"other","version":3,"fields":[{"name":"id","type":"uuid"}]}
+                """);
+
+        FileSchemaRegistry registry = new FileSchemaRegistry(location.toUri().toString());
+
+        assertThat(registry.find("other", 3))
+                .contains(new MessageSchema("other", 3, List.of(new MessageSchema.Field("id", "uuid"))));
+    }
+}
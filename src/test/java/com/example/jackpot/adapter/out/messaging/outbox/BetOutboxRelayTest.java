@@ -0,0 +1,118 @@
+package com.example.jackpot.adapter.out.messaging.outbox;
+
+import com.example.jackpot.adapter.out.messaging.kafka.KafkaBetProducer;
+import com.example.jackpot.application.port.out.BetOutboxRepository;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+class BetOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private BetOutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaBetProducer kafkaBetProducer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BetOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new BetOutboxRelay(outboxRepository, kafkaBetProducer, new TransactionTemplate(transactionManager), BATCH_SIZE);
+    }
+
+    @Test
+    void givenEmptyOutbox_whenRelay_thenNothingPublished() {
+        given(outboxRepository.claimOldest(BATCH_SIZE)).willReturn(List.of());
+
+        relay.relay();
+
+        then(kafkaBetProducer).shouldHaveNoInteractions();
+        then(outboxRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void givenPartialBatch_whenRelay_thenPublishedAndDeletedOnce() {
+        Bet bet = bet();
+
+        given(outboxRepository.claimOldest(BATCH_SIZE)).willReturn(List.of(bet));
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(transactionManager, kafkaBetProducer, outboxRepository);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(kafkaBetProducer).publishAll(List.of(bet));
+        inOrder.verify(outboxRepository).deleteAll(List.of(bet.betId()));
+        inOrder.verify(transactionManager).commit(any());
+
+        then(outboxRepository).should().claimOldest(BATCH_SIZE);
+        then(outboxRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void givenFullBatch_whenRelay_thenKeepDrainingUntilPartialBatch() {
+        Bet first = bet();
+        Bet second = bet();
+        Bet third = bet();
+
+        given(outboxRepository.claimOldest(BATCH_SIZE))
+                .willReturn(List.of(first, second))
+                .willReturn(List.of(third));
+
+        relay.relay();
+
+        then(kafkaBetProducer).should().publishAll(List.of(first, second));
+        then(kafkaBetProducer).should().publishAll(List.of(third));
+        then(outboxRepository).should().deleteAll(List.of(first.betId(), second.betId()));
+        then(outboxRepository).should().deleteAll(List.of(third.betId()));
+    }
+
+    @Test
+    void givenPublishFails_whenRelay_thenOutboxEntriesKept() {
+        Bet bet = bet();
+
+        given(outboxRepository.claimOldest(BATCH_SIZE)).willReturn(List.of(bet));
+        willThrow(new CompletionException(new RuntimeException("Kafka send failed"))).given(kafkaBetProducer).publishAll(any());
+
+        relay.relay();
+
+        then(outboxRepository).should().claimOldest(BATCH_SIZE);
+        then(outboxRepository).shouldHaveNoMoreInteractions();
+        then(transactionManager).should().rollback(any());
+    }
+
+    private static Bet bet() {
+        return new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotId.of(UUID.randomUUID()),
+                Money.of("10.00", "EUR")
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.jackpot.adapter.out.messaging.outbox;
+
+import com.example.jackpot.application.port.out.BetOutboxRepository;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxBetProducerTest {
+
+    @Mock
+    private BetOutboxRepository outboxRepository;
+
+    private OutboxBetProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        producer = new OutboxBetProducer(outboxRepository);
+    }
+
+    @Test
+    void whenPublish_thenAppendedToOutbox() {
+        Bet bet = new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotId.of(UUID.randomUUID()),
+                Money.of("10.00", "EUR")
+        );
+
+        producer.publish(bet);
+
+        then(outboxRepository).should().append(bet);
+        then(outboxRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void whenPublishAll_thenAppendedToOutboxAtOnce() {
+        List<Bet> bets = List.of(
+                new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("10.00", "EUR")),
+                new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("20.00", "EUR"))
+        );
+
+        producer.publishAll(bets);
+
+        then(outboxRepository).should().appendAll(bets);
+        then(outboxRepository).shouldHaveNoMoreInteractions();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.jackpot.adapter.out.metrics;
+
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerJackpotMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    private MicrometerJackpotMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerJackpotMetrics(registry);
+    }
+
+    @Test
+    void whenDuplicateBets_thenCounterIncremented() {
+        metrics.duplicateBets(1);
+        metrics.duplicateBets(3);
+
+        assertThat(registry.get("jackpot.bets.duplicate").counter().count()).isEqualTo(4.0);
+    }
+
+    @Test
+    void whenBetApplied_thenOutcomeCountedAndContributionRecorded() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+        metrics.betApplied(contribution(jackpotId, "5.00"), false);
+        metrics.betApplied(contribution(jackpotId, "7.50"), false);
+        metrics.betApplied(contribution(jackpotId, "2.50"), true);
+
+        String jackpot = jackpotId.value().toString();
+        assertThat(registry.get("jackpot.bets.applied").tags("jackpot", jackpot, "outcome", "win").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("jackpot.bets.applied").tags("jackpot", jackpot, "outcome", "loss").counter().count()).isEqualTo(2.0);
+
+        DistributionSummary amounts = registry.get("jackpot.contribution.amount").tag("currency", "EUR").summary();
+        assertThat(amounts.count()).isEqualTo(3L);
+        assertThat(amounts.totalAmount()).isEqualTo(15.0);
+    }
+
+    @Test
+    void whenPoolChanged_thenGaugeReportsLatestPool() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+        metrics.poolChanged(jackpotId, Money.of("100.00", "EUR"));
+        metrics.poolChanged(jackpotId, Money.of("105.25", "EUR"));
+
+        assertThat(registry.get("jackpot.pool.amount").tags("jackpot", jackpotId.value().toString(), "currency", "EUR").gauges()).hasSize(1);
+        assertThat(registry.get("jackpot.pool.amount").tag("jackpot", jackpotId.value().toString()).gauge().value()).isEqualTo(105.25);
+    }
+
+    private static JackpotContribution contribution(JackpotId jackpotId, String amount) {
+        return new JackpotContribution(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotCycle.of(jackpotId, CycleNumber.of(1)),
+                Money.of("100.00", "EUR"),
+                Money.of(amount, "EUR"),
+                Money.of("200.00", "EUR")
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.jackpot.adapter.out.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.altindag.log.LogCaptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry registry;
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(20));
+    }
+
+    @Test
+    void whenPinned_thenDurationRecordedAndFrameLogged() {
+        try (LogCaptor logCaptor = LogCaptor.forClass(VirtualThreadPinningMonitor.class)) {
+            monitor.pinned(Duration.ofMillis(35), "org.h2.engine.SessionLocal.lock:42");
+
+            Timer timer = registry.get("jackpot.virtual.thread.pinned").timer();
+            assertThat(timer.count()).isEqualTo(1);
+            assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(35.0);
+            assertThat(logCaptor.getWarnLogs()).containsExactly("Virtual thread pinned for 35 ms in org.h2.engine.SessionLocal.lock:42");
+        }
+    }
+
+    @Test
+    void whenStartAndStop_thenRunningFollowsLifecycle() {
+        assertThat(monitor.isRunning()).isFalse();
+
+        monitor.start();
+        monitor.start();
+        assertThat(monitor.isRunning()).isTrue();
+
+        monitor.stop();
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    @Test
+    void givenNegativeThreshold_whenCreate_thenThrowException() {
+        assertThatThrownBy(() -> new VirtualThreadPinningMonitor(registry, Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("threshold must not be negative");
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutboxEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.BetOutboxJpaRepository;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class BetOutboxRepositoryAdapterTest {
+
+    @Mock
+    private BetOutboxJpaRepository repository;
+
+    private BetOutboxRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new BetOutboxRepositoryAdapter(repository);
+    }
+
+    @Test
+    void whenAppend_thenOutboxEntrySaved() {
+        Bet bet = new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotId.of(UUID.randomUUID()),
+                Money.of("100.54", "EUR")
+        );
+
+        adapter.append(bet);
+
+        ArgumentCaptor<BetOutboxEntity> captor = ArgumentCaptor.forClass(BetOutboxEntity.class);
+        then(repository).should().save(captor.capture());
+        then(repository).shouldHaveNoMoreInteractions();
+
+        assertThat(captor.getValue())
+                .isNotNull()
+                .satisfies(e -> {
+                    assertThat(e.getBetId()).isEqualTo(bet.betId().value());
+                    assertThat(e.getUserId()).isEqualTo(bet.userId().value());
+                    assertThat(e.getJackpotId()).isEqualTo(bet.jackpotId().value());
+                    assertThat(e.getBet().getAmount()).isEqualByComparingTo(bet.betAmount().amount());
+                    assertThat(e.getBet().getCurrency()).isEqualTo(bet.betAmount().currency().toString());
+                    assertThat(e.getCreatedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void whenClaimOldest_thenReturnCorrectResult() {
+        BetOutboxEntity entity = new BetOutboxEntity(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new MoneyEmbeddable(BigDecimal.ONE, "EUR"),
+                Instant.now()
+        );
+
+        given(repository.findOldestForUpdate(PageRequest.ofSize(10))).willReturn(List.of(entity));
+
+        List<Bet> result = adapter.claimOldest(10);
+
+        assertThat(result)
+                .singleElement()
+                .satisfies(r -> {
+                    assertThat(r.betId().value()).isEqualTo(entity.getBetId());
+                    assertThat(r.userId().value()).isEqualTo(entity.getUserId());
+                    assertThat(r.jackpotId().value()).isEqualTo(entity.getJackpotId());
+                    assertThat(r.betAmount().amount()).isEqualByComparingTo(entity.getBet().getAmount());
+                    assertThat(r.betAmount().currency()).hasToString(entity.getBet().getCurrency());
+                });
+    }
+
+    @Test
+    void whenDeleteAll_thenDeleteByBetIds() {
+        BetId first = BetId.of(UUID.randomUUID());
+        BetId second = BetId.of(UUID.randomUUID());
+
+        adapter.deleteAll(List.of(first, second));
+
+        then(repository).should().deleteByBetIds(List.of(first.value(), second.value()));
+    }
+
+    @Test
+    void givenNoBetIds_whenDeleteAll_thenDoNothing() {
+        adapter.deleteAll(List.of());
+
+        then(repository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void whenAppendAll_thenAllOutboxEntriesSaved() {
+        Bet first = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("10.00", "EUR"));
+        Bet second = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("20.00", "EUR"));
+
+        adapter.appendAll(List.of(first, second));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BetOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+        then(repository).should().saveAll(captor.capture());
+
+        assertThat(captor.getValue())
+                .extracting(BetOutboxEntity::getBetId)
+                .containsExactly(first.betId().value(), second.betId().value());
+    }
+}
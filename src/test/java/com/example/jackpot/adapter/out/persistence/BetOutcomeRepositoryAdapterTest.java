@@ -0,0 +1,110 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.cache.BetLookupCache;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutcomeEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.BetOutcomeJpaRepository;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class BetOutcomeRepositoryAdapterTest {
+
+    @Mock
+    private BetOutcomeJpaRepository repository;
+
+    private BetOutcomeRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new BetOutcomeRepositoryAdapter(repository, new BetLookupCache<>("outcome", 100, Duration.ofSeconds(1), new SimpleMeterRegistry(), Clock.systemUTC()));
+    }
+
+    @Test
+    void givenWin_whenSave_thenRewardStoredWithOutcome() {
+        BetOutcome outcome = new BetOutcome(BetId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), BetOutcome.Result.WIN, Money.of("230.54", "EUR"), Instant.now());
+
+        adapter.save(outcome);
+
+        ArgumentCaptor<BetOutcomeEntity> captor = ArgumentCaptor.forClass(BetOutcomeEntity.class);
+        then(repository).should().save(captor.capture());
+        then(repository).shouldHaveNoMoreInteractions();
+
+        assertThat(captor.getValue())
+                .satisfies(e -> {
+                    assertThat(e.getBetId()).isEqualTo(outcome.betId().value());
+                    assertThat(e.getJackpotId()).isEqualTo(outcome.jackpotId().value());
+                    assertThat(e.getResult()).isEqualTo("WIN");
+                    assertThat(e.getRewardAmount()).isEqualByComparingTo("230.54");
+                    assertThat(e.getRewardCurrency()).isEqualTo("EUR");
+                    assertThat(e.getCreatedAt()).isEqualTo(outcome.createdAt());
+                });
+    }
+
+    @Test
+    void givenLosses_whenSaveAll_thenStoredWithoutReward() {
+        BetOutcome outcome = new BetOutcome(BetId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), BetOutcome.Result.LOSS, null, Instant.now());
+
+        adapter.saveAll(List.of(outcome));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BetOutcomeEntity>> captor = ArgumentCaptor.forClass(List.class);
+        then(repository).should().saveAll(captor.capture());
+
+        assertThat(captor.getValue())
+                .singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getResult()).isEqualTo("LOSS");
+                    assertThat(e.getRewardAmount()).isNull();
+                    assertThat(e.getRewardCurrency()).isNull();
+                });
+    }
+
+    @Test
+    void whenFindByBetId_thenReturnCorrectResult() {
+        UUID betId = UUID.randomUUID();
+        BetOutcomeEntity entity = new BetOutcomeEntity(betId, UUID.randomUUID(), "WIN", new BigDecimal("10.00"), "EUR", Instant.now());
+
+        given(repository.findById(betId)).willReturn(Optional.of(entity));
+
+        Optional<BetOutcome> result = adapter.findByBetId(BetId.of(betId));
+
+        assertThat(result)
+                .hasValueSatisfying(o -> {
+                    assertThat(o.betId().value()).isEqualTo(betId);
+                    assertThat(o.jackpotId().value()).isEqualTo(entity.getJackpotId());
+                    assertThat(o.won()).isTrue();
+                    assertThat(o.rewardAmount()).hasValue(Money.of("10.00", "EUR"));
+                    assertThat(o.createdAt()).isEqualTo(entity.getCreatedAt());
+                });
+    }
+
+    @Test
+    void givenNoOutcome_whenFindByBetId_thenEmpty() {
+        UUID betId = UUID.randomUUID();
+
+        given(repository.findById(betId)).willReturn(Optional.empty());
+
+        assertThat(adapter.findByBetId(BetId.of(betId))).isEmpty();
+    }
+}
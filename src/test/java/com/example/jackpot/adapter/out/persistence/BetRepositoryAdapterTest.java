@@ -1,5 +1,6 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.jdbc.JdbcBulkWriter;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.BetEntity;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.BetJpaRepository;
@@ -16,7 +17,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,11 +33,14 @@ class BetRepositoryAdapterTest {
     @Mock
     private BetJpaRepository repository;
 
+    @Mock
+    private JdbcBulkWriter bulkWriter;
+
     private BetRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new BetRepositoryAdapter(repository);
+        adapter = new BetRepositoryAdapter(repository, Optional.empty());
     }
 
     @Test
@@ -97,4 +104,64 @@ class BetRepositoryAdapterTest {
 
         assertThat(result).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFindExistingIds_thenReturnCorrectResult() {
+        UUID existing = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+
+        given(repository.findExistingIds(List.of(existing, missing))).willReturn(Set.of(existing));
+
+        Set<BetId> result = adapter.findExistingIds(List.of(BetId.of(existing), BetId.of(missing)));
+
+        assertThat(result).containsExactly(BetId.of(existing));
+    }
+
+    @Test
+    void givenNoIds_whenFindExistingIds_thenNoQuery() {
+        Set<BetId> result = adapter.findExistingIds(List.of());
+
+        assertThat(result).isEmpty();
+        then(repository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void whenSaveAll_thenAllEntitiesSaved() {
+        Bet first = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("10.00", "EUR"));
+        Bet second = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("20.00", "EUR"));
+
+        adapter.saveAll(List.of(first, second));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BetEntity>> captor = ArgumentCaptor.forClass(List.class);
+        then(repository).should().saveAll(captor.capture());
+
+        assertThat(captor.getValue())
+                .extracting(BetEntity::getId)
+                .containsExactly(first.betId().value(), second.betId().value());
+    }
+
+    @Test
+    void givenBulkWriter_whenSaveAll_thenBetsInsertedByBulkWriter() {
+        adapter = new BetRepositoryAdapter(repository, Optional.of(bulkWriter));
+        List<Bet> bets = List.of(new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), JackpotId.of(UUID.randomUUID()), Money.of("10.00", "EUR")));
+
+        adapter.saveAll(bets);
+
+        then(repository).should().flush();
+        then(repository).shouldHaveNoMoreInteractions();
+        then(bulkWriter).should().insertBets(bets);
+    }
+
+    @Test
+    void whenFindIdsCreatedSince_thenReturnCorrectResult() {
+        UUID betId = UUID.randomUUID();
+        Instant since = Instant.now();
+
+        given(repository.findIdsCreatedSince(since)).willReturn(List.of(betId));
+
+        List<BetId> result = adapter.findIdsCreatedSince(since);
+
+        assertThat(result).containsExactly(BetId.of(betId));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.jdbc.JdbcBulkWriter;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionEntity;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.ContributionJpaRepository;
 import com.example.jackpot.domain.model.JackpotContribution;
@@ -16,6 +17,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,11 +32,14 @@ class JackpotContributionRepositoryAdapterTest {
     @Mock
     private ContributionJpaRepository repository;
 
+    @Mock
+    private JdbcBulkWriter bulkWriter;
+
     private JackpotContributionRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new JackpotContributionRepositoryAdapter(repository);
+        adapter = new JackpotContributionRepositoryAdapter(repository, Optional.empty());
     }
 
     @Test
@@ -82,4 +89,35 @@ class JackpotContributionRepositoryAdapterTest {
 
         assertThat(result).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenBulkWriter_whenSaveAll_thenContributionsInsertedByBulkWriter() {
+        adapter = new JackpotContributionRepositoryAdapter(repository, Optional.of(bulkWriter));
+        List<JackpotContribution> contributions = List.of(new JackpotContribution(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotCycle.of(JackpotId.of(UUID.randomUUID()), CycleNumber.of(1)),
+                Money.of("100.00", "EUR"),
+                Money.of("20.54", "EUR"),
+                Money.of("230.57", "EUR")
+        ));
+
+        adapter.saveAll(contributions);
+
+        then(repository).should().flush();
+        then(repository).shouldHaveNoMoreInteractions();
+        then(bulkWriter).should().insertContributions(contributions);
+    }
+
+    @Test
+    void whenFindBetIdsCreatedSince_thenReturnCorrectResult() {
+        UUID betId = UUID.randomUUID();
+        Instant since = Instant.now();
+
+        given(repository.findBetIdsCreatedSince(since)).willReturn(List.of(betId));
+
+        List<BetId> result = adapter.findBetIdsCreatedSince(since);
+
+        assertThat(result).containsExactly(BetId.of(betId));
+    }
+}
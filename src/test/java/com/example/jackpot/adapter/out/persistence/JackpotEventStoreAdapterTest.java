@@ -0,0 +1,181 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEventEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotSnapshotEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotEventJpaRepository;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotSnapshotJpaRepository;
+import com.example.jackpot.domain.model.JackpotSnapshot;
+import com.example.jackpot.domain.model.event.ContributionApplied;
+import com.example.jackpot.domain.model.event.CycleStarted;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class JackpotEventStoreAdapterTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private JackpotEventJpaRepository eventRepository;
+
+    @Mock
+    private JackpotSnapshotJpaRepository snapshotRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+    private JackpotEventStoreAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JackpotEventStoreAdapter(eventRepository, snapshotRepository, meterRegistry, Clock.fixed(T0.plusSeconds(30), ZoneOffset.UTC));
+    }
+
+    @Test
+    void whenAppend_thenEventsSavedAndFlushedWithAppendTime() {
+        BetId betId = BetId.of(UUID.randomUUID());
+
+        adapter.append(List.of(
+                new ContributionApplied(jackpotId, 7, CycleNumber.of(2), betId, Money.of("1.50", "EUR"), T0),
+                new CycleStarted(jackpotId, 8, CycleNumber.of(3), Money.of("100.00", "EUR"), T0)
+        ));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotEventEntity>> captor = ArgumentCaptor.forClass(List.class);
+        then(eventRepository).should().saveAllAndFlush(captor.capture());
+
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0)).satisfies(e -> {
+            assertThat(e.getJackpotId()).isEqualTo(jackpotId.value());
+            assertThat(e.getSequence()).isEqualTo(7);
+            assertThat(e.getType()).isEqualTo("CONTRIBUTION_APPLIED");
+            assertThat(e.getJackpotCycle()).isEqualTo(2);
+            assertThat(e.getBetId()).isEqualTo(betId.value());
+            assertThat(e.getAmount()).isEqualByComparingTo("1.50");
+            assertThat(e.getOccurredAt()).isEqualTo(T0);
+            assertThat(e.getAppendedAt()).isEqualTo(T0.plusSeconds(30));
+        });
+        assertThat(captor.getValue().get(1)).satisfies(e -> {
+            assertThat(e.getType()).isEqualTo("CYCLE_STARTED");
+            assertThat(e.getBetId()).isNull();
+            assertThat(e.getAmount()).isEqualByComparingTo("100.00");
+            assertThat(e.getAppendedAt()).isEqualTo(T0.plusSeconds(30));
+        });
+    }
+
+    @Test
+    void givenSequenceAlreadyTaken_whenAppend_thenConflictCountedAndThrown() {
+        given(eventRepository.saveAllAndFlush(anyList())).willThrow(new DataIntegrityViolationException("uq_jackpot_event_sequence"));
+
+        List<JackpotEvent> events = List.of(new ContributionApplied(jackpotId, 7, CycleNumber.of(2), BetId.of(UUID.randomUUID()), Money.of("1.50", "EUR"), T0));
+
+        assertThatThrownBy(() -> adapter.append(events))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessage("Events of jackpot %s from sequence 7 were appended concurrently".formatted(jackpotId.value()));
+
+        assertThat(meterRegistry.get("jackpot.optimistic.lock.conflicts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenOtherConstraintViolatedOnFlush_whenAppend_thenRethrownWithoutConflict() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UK_JACKPOT_CONTRIBUTION_BET_ID\""));
+        given(eventRepository.saveAllAndFlush(anyList())).willThrow(violation);
+
+        List<JackpotEvent> events = List.of(new ContributionApplied(jackpotId, 7, CycleNumber.of(2), BetId.of(UUID.randomUUID()), Money.of("1.50", "EUR"), T0));
+
+        assertThatThrownBy(() -> adapter.append(events)).isSameAs(violation);
+
+        assertThat(meterRegistry.get("jackpot.optimistic.lock.conflicts").counter().count()).isZero();
+    }
+
+    @Test
+    void givenSequenceConstraintInCause_whenAppend_thenConflictThrown() {
+        given(eventRepository.saveAllAndFlush(anyList())).willThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UQ_JACKPOT_EVENT_SEQUENCE_INDEX_C\"")));
+
+        List<JackpotEvent> events = List.of(new ContributionApplied(jackpotId, 7, CycleNumber.of(2), BetId.of(UUID.randomUUID()), Money.of("1.50", "EUR"), T0));
+
+        assertThatThrownBy(() -> adapter.append(events)).isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void givenStoredEvents_whenFindAfter_thenMappedToDomain() {
+        BetId betId = BetId.of(UUID.randomUUID());
+        given(eventRepository.findByJackpotIdAndSequenceGreaterThanOrderBySequence(jackpotId.value(), 6)).willReturn(List.of(
+                new JackpotEventEntity(UUID.randomUUID(), jackpotId.value(), 7, "REWARD_GRANTED", 2, betId.value(), new BigDecimal("150.00"), "EUR", T0, T0)
+        ));
+
+        List<JackpotEvent> result = adapter.findAfter(jackpotId, 6);
+
+        assertThat(result).singleElement().satisfies(event -> {
+            assertThat(event.sequence()).isEqualTo(7);
+            assertThat(event.cycle()).isEqualTo(CycleNumber.of(2));
+        });
+    }
+
+    @Test
+    void givenUnknownEventType_whenFindAfter_thenThrowException() {
+        given(eventRepository.findByJackpotIdAndSequenceGreaterThanOrderBySequence(jackpotId.value(), 0)).willReturn(List.of(
+                new JackpotEventEntity(UUID.randomUUID(), jackpotId.value(), 1, "POOL_DRAINED", 1, null, BigDecimal.ZERO, "EUR", T0, T0)
+        ));
+
+        assertThatThrownBy(() -> adapter.findAfter(jackpotId, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown jackpot event type: POOL_DRAINED");
+    }
+
+    @Test
+    void givenEventsAppendedByThen_whenFindLastSequenceAppendedUntil_thenLastSequence() {
+        given(eventRepository.findLastSequenceAppendedUntil(jackpotId.value(), T0)).willReturn(12L);
+
+        assertThat(adapter.findLastSequenceAppendedUntil(jackpotId, T0)).isEqualTo(12);
+    }
+
+    @Test
+    void givenNothingAppendedByThen_whenFindLastSequenceAppendedUntil_thenZero() {
+        given(eventRepository.findLastSequenceAppendedUntil(jackpotId.value(), T0)).willReturn(null);
+
+        assertThat(adapter.findLastSequenceAppendedUntil(jackpotId, T0)).isZero();
+    }
+
+    @Test
+    void givenStoredSnapshot_whenFindLatestSnapshotUntil_thenMappedToDomain() {
+        given(snapshotRepository.findFirstByJackpotIdAndSequenceLessThanEqualOrderBySequenceDesc(jackpotId.value(), 250)).willReturn(Optional.of(
+                new JackpotSnapshotEntity(UUID.randomUUID(), jackpotId.value(), 200, 4, new MoneyEmbeddable(new BigDecimal("123.45"), "EUR"), T0)
+        ));
+
+        Optional<JackpotSnapshot> result = adapter.findLatestSnapshot(jackpotId, 250);
+
+        assertThat(result).hasValue(new JackpotSnapshot(jackpotId, 200, CycleNumber.of(4), Money.of("123.45", "EUR"), T0));
+    }
+}
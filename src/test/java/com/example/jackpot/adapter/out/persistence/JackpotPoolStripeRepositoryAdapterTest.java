@@ -0,0 +1,120 @@
+package com.example.jackpot.adapter.out.persistence;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotPoolStripeEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotPoolStripeJpaRepository;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class JackpotPoolStripeRepositoryAdapterTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Mock
+    private JackpotPoolStripeJpaRepository repository;
+
+    private JackpotPoolStripeRepositoryAdapter adapter;
+
+    private final JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JackpotPoolStripeRepositoryAdapter(repository);
+    }
+
+    @Test
+    void givenSomeStripesExist_whenCreateMissing_thenOnlyMissingStripesSaved() {
+        given(repository.findStripes(jackpotId.value())).willReturn(List.of(0, 2));
+
+        adapter.createMissing(jackpotId, CycleNumber.of(5), 4);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotPoolStripeEntity>> captor = ArgumentCaptor.forClass(List.class);
+        then(repository).should().saveAll(captor.capture());
+
+        assertThat(captor.getValue())
+                .allSatisfy(e -> {
+                    assertThat(e.getJackpotId()).isEqualTo(jackpotId.value());
+                    assertThat(e.getCycle()).isEqualTo(5);
+                    assertThat(e.getAmount()).isEqualByComparingTo("0");
+                })
+                .extracting(JackpotPoolStripeEntity::getStripe)
+                .containsExactly(1, 3);
+    }
+
+    @Test
+    void givenAllStripesExist_whenCreateMissing_thenNothingSaved() {
+        given(repository.findStripes(jackpotId.value())).willReturn(List.of(0, 1));
+
+        adapter.createMissing(jackpotId, CycleNumber.of(5), 2);
+
+        then(repository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void givenStripesBehindCycle_whenRealign_thenMovedOnAndCountReturned() {
+        given(repository.realign(jackpotId.value(), 5)).willReturn(3);
+
+        assertThat(adapter.realign(jackpotId, CycleNumber.of(5))).isEqualTo(3);
+    }
+
+    @Test
+    void whenAdd_thenStripeIncrementedInCycle() {
+        given(repository.addToStripe(jackpotId.value(), 3, 5, new BigDecimal("1.25"))).willReturn(1);
+
+        adapter.add(jackpotId, CycleNumber.of(5), 3, Money.of("1.25", "EUR"));
+
+        then(repository).should().addToStripe(jackpotId.value(), 3, 5, new BigDecimal("1.25"));
+    }
+
+    @Test
+    void givenStripeLeftCycle_whenAdd_thenThrowException() {
+        given(repository.addToStripe(jackpotId.value(), 3, 5, new BigDecimal("1.25"))).willReturn(0);
+
+        assertThatThrownBy(() -> adapter.add(jackpotId, CycleNumber.of(5), 3, Money.of("1.25", "EUR")))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining(jackpotId.value().toString());
+    }
+
+    @Test
+    void whenSum_thenStripeSumReturned() {
+        given(repository.sumAmount(jackpotId.value(), 5)).willReturn(new BigDecimal("42.10"));
+
+        assertThat(adapter.sum(jackpotId, CycleNumber.of(5), EUR)).isEqualTo(Money.of("42.10", "EUR"));
+    }
+
+    @Test
+    void whenLockAndSum_thenLockedStripesSummed() {
+        given(repository.findAllForUpdate(jackpotId.value(), 5)).willReturn(List.of(
+                new JackpotPoolStripeEntity(jackpotId.value(), 0, 5, new BigDecimal("1.10")),
+                new JackpotPoolStripeEntity(jackpotId.value(), 1, 5, new BigDecimal("2.20"))
+        ));
+
+        assertThat(adapter.lockAndSum(jackpotId, CycleNumber.of(5), EUR)).isEqualTo(Money.of("3.30", "EUR"));
+    }
+
+    @Test
+    void whenStartNextCycle_thenStripesOfCycleReset() {
+        adapter.startNextCycle(jackpotId, CycleNumber.of(5));
+
+        then(repository).should().startNextCycle(jackpotId.value(), 5);
+    }
+}
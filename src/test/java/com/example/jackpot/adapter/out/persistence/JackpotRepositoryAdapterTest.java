@@ -1,5 +1,6 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.cache.JackpotStrategyCache;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEntity;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.JackpotJpaRepository;
@@ -9,18 +10,21 @@ import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.vo.CycleNumber;
 import com.example.jackpot.domain.model.vo.Money;
 import com.example.jackpot.domain.reward.RewardEvaluator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
@@ -31,44 +35,92 @@ class JackpotRepositoryAdapterTest {
     @Mock
     private JackpotJpaRepository repository;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private JackpotRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new JackpotRepositoryAdapter(repository);
+        adapter = new JackpotRepositoryAdapter(repository, new JackpotStrategyCache(16), meterRegistry);
     }
 
     @Test
-    void whenSave_thenReturnCorrectResult() {
+    void whenSave_thenStateWrittenWithVersionCheck() {
         JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
-        Jackpot jackpot = new Jackpot(
-                jackpotId,
-                CycleNumber.of(1),
-                Money.of("100.00", "EUR"),
-                Money.of("230.54", "EUR"),
-                mock(ContributionCalculator.class),
-                mock(RewardEvaluator.class)
-        );
+        Jackpot jackpot = jackpot(jackpotId, 3L);
 
-        JackpotEntity entity = mock(JackpotEntity.class);
-        given(entity.getVersion()).willReturn(1L);
-        given(repository.findById(jackpotId.value())).willReturn(Optional.of(entity));
+        given(repository.updateState(jackpotId.value(), 2, new BigDecimal("230.54"), 3L)).willReturn(1);
 
         adapter.save(jackpot);
 
-        ArgumentCaptor<JackpotEntity> captor = ArgumentCaptor.forClass(JackpotEntity.class);
-        then(repository).should().save(captor.capture());
+        then(repository).should().updateState(jackpotId.value(), 2, new BigDecimal("230.54"), 3L);
         then(repository).shouldHaveNoMoreInteractions();
 
-        assertThat(captor.getValue())
-                .isNotNull()
-                .satisfies(e -> {
-                    assertThat(e.getId()).isEqualTo(jackpot.jackpotId().value());
-                    assertThat(e.getInitial().getAmount()).isEqualByComparingTo(jackpot.initialPool().amount());
-                    assertThat(e.getInitial().getCurrency()).isEqualTo(jackpot.initialPool().currency().toString());
-                    assertThat(e.getCurrent().getAmount()).isEqualByComparingTo(jackpot.currentPool().amount());
-                    assertThat(e.getCurrent().getCurrency()).isEqualTo(jackpot.currentPool().currency().toString());
-                });
+        assertThat(jackpot.version()).isEqualTo(4L);
+    }
+
+    @Test
+    void givenStaleVersion_whenSave_thenThrowException() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Jackpot jackpot = jackpot(jackpotId, 3L);
+
+        given(repository.updateState(jackpotId.value(), 2, new BigDecimal("230.54"), 3L)).willReturn(0);
+
+        assertThatThrownBy(() -> adapter.save(jackpot))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining(jackpotId.value().toString());
+
+        assertThat(jackpot.version()).isEqualTo(3L);
+        assertThat(meterRegistry.counter("jackpot.optimistic.lock.conflicts").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void whenAddToPool_thenDeltaAddedAndPersistedPoolReturned() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+        given(repository.addToPool(jackpotId.value(), 2, new BigDecimal("1.50"))).willReturn(1);
+        given(repository.findCurrentAmount(jackpotId.value())).willReturn(Optional.of(new BigDecimal("232.04")));
+
+        Money result = adapter.addToPool(jackpotId, CycleNumber.of(2), Money.of("1.50", "EUR"));
+
+        assertThat(result).isEqualTo(Money.of("232.04", "EUR"));
+    }
+
+    @Test
+    void givenCycleMovedOn_whenAddToPool_thenThrowException() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+        given(repository.addToPool(jackpotId.value(), 2, new BigDecimal("1.50"))).willReturn(0);
+
+        assertThatThrownBy(() -> adapter.addToPool(jackpotId, CycleNumber.of(2), Money.of("1.50", "EUR")))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining(jackpotId.value().toString());
+
+        then(repository).should().addToPool(jackpotId.value(), 2, new BigDecimal("1.50"));
+        then(repository).shouldHaveNoMoreInteractions();
+        assertThat(meterRegistry.counter("jackpot.optimistic.lock.conflicts").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void whenStartNextCycle_thenCycleAdvancedForExpectedCycle() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+        given(repository.startNextCycle(jackpotId.value(), 2)).willReturn(1);
+
+        adapter.startNextCycle(jackpotId, CycleNumber.of(2));
+
+        then(repository).should().startNextCycle(jackpotId.value(), 2);
+    }
+
+    @Test
+    void givenCycleMovedOn_whenStartNextCycle_thenThrowException() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+        given(repository.startNextCycle(jackpotId.value(), 2)).willReturn(0);
+
+        assertThatThrownBy(() -> adapter.startNextCycle(jackpotId, CycleNumber.of(2)))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining(jackpotId.value().toString());
     }
 
     @Test
@@ -97,4 +149,40 @@ class JackpotRepositoryAdapterTest {
                     assertThat(r.currentPool().currency()).hasToString(entity.getCurrent().getCurrency());
                 });
     }
-}
\ No newline at end of file
+
+    private Jackpot jackpot(JackpotId jackpotId, long version) {
+        return new Jackpot(
+                jackpotId,
+                CycleNumber.of(2),
+                Money.of("100.00", "EUR"),
+                Money.of("230.54", "EUR"),
+                mock(ContributionCalculator.class),
+                mock(RewardEvaluator.class),
+                version
+        );
+    }
+
+    @Test
+    void whenFindAll_thenReturnCorrectResult() {
+        JackpotEntity entity = new JackpotEntity(
+                UUID.randomUUID(),
+                2,
+                new MoneyEmbeddable(new BigDecimal("100.00"), "EUR"),
+                new MoneyEmbeddable(new BigDecimal("150.00"), "EUR"),
+                "{\"type\":\"FIXED\",\"schemaVersion\":1,\"config\":{\"rate\":\"6.00\"}}",
+                "{\"type\":\"FIXED_CHANCE\",\"schemaVersion\":1,\"config\":{\"chancePercent\":\"3.50\"}}"
+        );
+
+        given(repository.findAll()).willReturn(List.of(entity));
+
+        List<Jackpot> result = adapter.findAll();
+
+        assertThat(result)
+                .singleElement()
+                .satisfies(r -> {
+                    assertThat(r.jackpotId().value()).isEqualTo(entity.getId());
+                    assertThat(r.currentCycle().value()).isEqualTo(2);
+                    assertThat(r.currentPool().amount()).isEqualByComparingTo(entity.getCurrent().getAmount());
+                });
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.jackpot.adapter.out.persistence;
 
+import com.example.jackpot.adapter.out.persistence.cache.BetLookupCache;
+import com.example.jackpot.adapter.out.persistence.jdbc.JdbcBulkWriter;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotRewardEntity;
 import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
 import com.example.jackpot.adapter.out.persistence.jpa.repository.RewardJpaRepository;
@@ -10,6 +12,7 @@ import com.example.jackpot.domain.model.id.UserId;
 import com.example.jackpot.domain.model.vo.CycleNumber;
 import com.example.jackpot.domain.model.vo.JackpotCycle;
 import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,13 +21,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class JackpotRewardRepositoryAdapterTest {
@@ -32,11 +39,14 @@ class JackpotRewardRepositoryAdapterTest {
     @Mock
     private RewardJpaRepository repository;
 
+    @Mock
+    private JdbcBulkWriter bulkWriter;
+
     private JackpotRewardRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new JackpotRewardRepositoryAdapter(repository);
+        adapter = new JackpotRewardRepositoryAdapter(repository, cache(), Optional.empty());
     }
 
     @Test
@@ -96,4 +106,70 @@ class JackpotRewardRepositoryAdapterTest {
                     assertThat(r.createdAt()).isEqualTo(entity.getCreatedAt());
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenRewardFound_whenFindByBetIdAgain_thenServedFromCache() {
+        UUID betId = UUID.randomUUID();
+        JackpotRewardEntity entity = new JackpotRewardEntity(
+                betId,
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                1,
+                new MoneyEmbeddable(BigDecimal.ONE, "EUR"),
+                Instant.now()
+        );
+
+        given(repository.findByBetId(betId)).willReturn(Optional.of(entity));
+
+        adapter.findByBetId(BetId.of(betId));
+        Optional<JackpotReward> result = adapter.findByBetId(BetId.of(betId));
+
+        assertThat(result).isNotEmpty();
+        then(repository).should(times(1)).findByBetId(betId);
+    }
+
+    @Test
+    void givenMissCached_whenRewardSaved_thenLookedUpAgain() {
+        JackpotReward reward = new JackpotReward(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotCycle.of(JackpotId.of(UUID.randomUUID()), CycleNumber.of(1)),
+                Money.of("230.54", "EUR")
+        );
+
+        given(repository.findByBetId(reward.betId().value())).willReturn(Optional.empty());
+
+        adapter.findByBetId(reward.betId());
+        adapter.findByBetId(reward.betId());
+        adapter.save(reward);
+        adapter.findByBetId(reward.betId());
+
+        then(repository).should(times(2)).findByBetId(reward.betId().value());
+    }
+
+    @Test
+    void givenBulkWriterAndMissCached_whenSaveAll_thenRewardsInsertedByBulkWriterAndLookedUpAgain() {
+        adapter = new JackpotRewardRepositoryAdapter(repository, cache(), Optional.of(bulkWriter));
+        JackpotReward reward = new JackpotReward(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotCycle.of(JackpotId.of(UUID.randomUUID()), CycleNumber.of(1)),
+                Money.of("230.54", "EUR")
+        );
+
+        given(repository.findByBetId(reward.betId().value())).willReturn(Optional.empty());
+
+        adapter.findByBetId(reward.betId());
+        adapter.saveAll(List.of(reward));
+        adapter.findByBetId(reward.betId());
+
+        then(repository).should().flush();
+        then(repository).should(times(2)).findByBetId(reward.betId().value());
+        then(repository).shouldHaveNoMoreInteractions();
+        then(bulkWriter).should().insertRewards(List.of(reward));
+    }
+
+    private static BetLookupCache<JackpotReward> cache() {
+        return new BetLookupCache<>("reward", 100, Duration.ofSeconds(1), new SimpleMeterRegistry(), Clock.systemUTC());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jackpot.adapter.out.persistence.archive;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContributionArchiveCodecTest {
+
+    private final UUID jackpotId = UUID.randomUUID();
+
+    @Test
+    void whenEncodeAndDecode_thenSameContributions() {
+        JackpotContributionEntity contribution = contribution(Instant.parse("2025-01-01T10:15:30.123456Z"));
+
+        byte[] payload = ContributionArchiveCodec.encode(List.of(contribution));
+        List<JackpotContributionEntity> result = ContributionArchiveCodec.decode(jackpotId, 3, "EUR", payload);
+
+        assertThat(result).singleElement().satisfies(c -> {
+            assertThat(c.getBetId()).isEqualTo(contribution.getBetId());
+            assertThat(c.getUserId()).isEqualTo(contribution.getUserId());
+            assertThat(c.getJackpotId()).isEqualTo(jackpotId);
+            assertThat(c.getJackpotCycle()).isEqualTo(3);
+            assertThat(c.getStake().getAmount()).isEqualTo(contribution.getStake().getAmount());
+            assertThat(c.getStake().getCurrency()).isEqualTo("EUR");
+            assertThat(c.getContribution().getAmount()).isEqualTo(contribution.getContribution().getAmount());
+            assertThat(c.getCurrentJackpot().getAmount()).isEqualTo(contribution.getCurrentJackpot().getAmount());
+            assertThat(c.getCreatedAt()).isEqualTo(contribution.getCreatedAt());
+        });
+    }
+
+    @Test
+    void givenManyContributions_whenEncode_thenSmallerThanUncompressedRows() {
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        List<JackpotContributionEntity> contributions = IntStream.range(0, 1000)
+                .mapToObj(i -> contribution(createdAt.plusMillis(i)))
+                .toList();
+
+        byte[] payload = ContributionArchiveCodec.encode(contributions);
+
+        assertThat(ContributionArchiveCodec.decode(jackpotId, 3, "EUR", payload)).hasSize(1000);
+        // bet id, user id, three amounts and the creation time take at least 64 bytes per row uncompressed
+        assertThat(payload.length).isLessThan(1000 * 64);
+    }
+
+    @Test
+    void givenUnknownFormatVersion_whenDecode_thenThrowException() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(new byte[]{9, 0, 0, 0, 0});
+        }
+
+        assertThatThrownBy(() -> ContributionArchiveCodec.decode(jackpotId, 3, "EUR", bytes.toByteArray()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported contribution archive format: 9");
+    }
+
+    private JackpotContributionEntity contribution(Instant createdAt) {
+        return new JackpotContributionEntity(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                jackpotId,
+                3,
+                new MoneyEmbeddable(new BigDecimal("100.00"), "EUR"),
+                new MoneyEmbeddable(new BigDecimal("5.03"), "EUR"),
+                new MoneyEmbeddable(new BigDecimal("1205.03"), "EUR"),
+                createdAt
+        );
+    }
+}
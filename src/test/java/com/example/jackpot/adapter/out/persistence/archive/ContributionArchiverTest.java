@@ -0,0 +1,149 @@
+package com.example.jackpot.adapter.out.persistence.archive;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionArchiveEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.ContributionArchiveJpaRepository;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.ContributionJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ContributionArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-31T00:00:00Z");
+
+    @Autowired
+    private ContributionJpaRepository contributionRepository;
+
+    @Autowired
+    private ContributionArchiveJpaRepository archiveRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ContributionArchiver archiver;
+
+    private JackpotEntity jackpot;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new ContributionArchiver(contributionRepository, archiveRepository, new TransactionTemplate(transactionManager),
+                meterRegistry, Duration.ofDays(7), 2, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        jackpot = new JackpotEntity(UUID.randomUUID(),
+                2,
+                new MoneyEmbeddable(BigDecimal.ZERO, "EUR"),
+                new MoneyEmbeddable(BigDecimal.TWO, "EUR"),
+                "{\"type\":\"FIXED\",\"schemaVersion\":1,\"config\":{\"rate\":\"5.00\"}}",
+                "{\"type\":\"FIXED_CHANCE\",\"schemaVersion\":1,\"config\":{\"chancePercent\":\"2.50\"}}");
+        em.persist(jackpot);
+    }
+
+    @Test
+    void givenClosedCycleContributionOlderThanMinAge_whenArchive_thenMovedToArchive() {
+        JackpotContributionEntity archivable = contribution(1, NOW.minus(Duration.ofDays(8)));
+        JackpotContributionEntity recent = contribution(1, NOW.minus(Duration.ofDays(6)));
+        JackpotContributionEntity currentCycle = contribution(2, NOW.minus(Duration.ofDays(8)));
+        em.flush();
+        em.clear();
+
+        archiver.archive();
+        em.clear();
+
+        assertThat(contributionRepository.findAll())
+                .extracting(JackpotContributionEntity::getBetId)
+                .containsExactlyInAnyOrder(recent.getBetId(), currentCycle.getBetId());
+
+        List<JackpotContributionArchiveEntity> segments = archiveRepository.findByJackpotIdAndJackpotCycle(jackpot.getId(), 1);
+        assertThat(segments).singleElement().satisfies(s -> {
+            assertThat(s.getContributionCount()).isEqualTo(1);
+            assertThat(s.getContributionTotal()).isEqualByComparingTo(archivable.getContribution().getAmount());
+            assertThat(s.getCurrency()).isEqualTo("EUR");
+            assertThat(s.getFirstCreatedAt()).isEqualTo(archivable.getCreatedAt());
+            assertThat(s.getLastCreatedAt()).isEqualTo(archivable.getCreatedAt());
+            assertThat(s.getArchivedAt()).isEqualTo(NOW);
+            assertThat(ContributionArchiveCodec.decode(s.getJackpotId(), s.getJackpotCycle(), s.getCurrency(), s.getPayload()))
+                    .extracting(JackpotContributionEntity::getBetId)
+                    .containsExactly(archivable.getBetId());
+        });
+        assertThat(meterRegistry.get("jackpot.archive.contributions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void givenMoreContributionsThanBatchSize_whenArchive_thenAllArchivedInSegmentsOfBatchSize() {
+        for (int i = 0; i < 5; i++) {
+            contribution(1, NOW.minus(Duration.ofDays(10)).plusSeconds(i));
+        }
+        em.flush();
+        em.clear();
+
+        archiver.archive();
+        em.clear();
+
+        List<JackpotContributionArchiveEntity> segments = archiveRepository.findByJackpotIdAndJackpotCycle(jackpot.getId(), 1);
+
+        assertThat(contributionRepository.count()).isZero();
+        assertThat(segments)
+                .extracting(JackpotContributionArchiveEntity::getContributionCount)
+                .containsExactlyInAnyOrder(2, 2, 1);
+        assertThat(segments.stream().mapToInt(JackpotContributionArchiveEntity::getContributionCount).sum()).isEqualTo(5);
+        assertThat(segments.stream().map(JackpotContributionArchiveEntity::getContributionTotal).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo("25.15");
+    }
+
+    @Test
+    void givenNoArchivableContributions_whenArchiveBatch_thenNothingArchived() {
+        contribution(2, NOW.minus(Duration.ofDays(10)));
+        em.flush();
+        em.clear();
+
+        int result = archiver.archiveBatch(NOW.minus(Duration.ofDays(7)));
+
+        assertThat(result).isZero();
+        assertThat(archiveRepository.count()).isZero();
+        assertThat(contributionRepository.count()).isEqualTo(1);
+    }
+
+    private JackpotContributionEntity contribution(int cycle, Instant createdAt) {
+        UUID userId = UUID.randomUUID();
+        BetEntity bet = new BetEntity(UUID.randomUUID(), userId, jackpot.getId(), new MoneyEmbeddable(new BigDecimal("100.00"), "EUR"));
+        em.persist(bet);
+
+        JackpotContributionEntity contribution = new JackpotContributionEntity(
+                bet.getId(),
+                userId,
+                jackpot.getId(),
+                cycle,
+                new MoneyEmbeddable(new BigDecimal("100.00"), "EUR"),
+                new MoneyEmbeddable(new BigDecimal("5.03"), "EUR"),
+                new MoneyEmbeddable(new BigDecimal("105.03"), "EUR"),
+                createdAt
+        );
+        em.persist(contribution);
+        return contribution;
+    }
+}
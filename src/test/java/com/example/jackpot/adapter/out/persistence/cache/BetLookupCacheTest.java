@@ -0,0 +1,203 @@
+package com.example.jackpot.adapter.out.persistence.cache;
+
+import com.example.jackpot.domain.model.id.BetId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetLookupCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private BetLookupCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BetLookupCache<>("test", 2, Duration.ofSeconds(1), meterRegistry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenNonPositiveMaxSize_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new BetLookupCache<String>("test", 0, Duration.ofSeconds(1), meterRegistry, clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxSize must be positive");
+    }
+
+    @Test
+    void givenFoundValue_whenGetAgain_thenServedFromCache() {
+        BetId betId = betId();
+        CountingLoader loader = new CountingLoader(Optional.of("won"));
+
+        cache.get(betId, loader);
+        Optional<String> result = cache.get(betId, loader);
+
+        assertThat(result).hasValue("won");
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void givenMissWithinTtl_whenGetAgain_thenServedFromCache() {
+        BetId betId = betId();
+        CountingLoader loader = new CountingLoader(Optional.empty());
+
+        cache.get(betId, loader);
+        clock.advance(Duration.ofMillis(999));
+        Optional<String> result = cache.get(betId, loader);
+
+        assertThat(result).isEmpty();
+        assertThat(loader.calls.get()).isEqualTo(1);
+        assertThat(lookups("negative-hit")).isEqualTo(1);
+    }
+
+    @Test
+    void givenMissAfterTtl_whenGetAgain_thenLoadedAgain() {
+        BetId betId = betId();
+        CountingLoader loader = new CountingLoader(Optional.empty());
+
+        cache.get(betId, loader);
+        clock.advance(Duration.ofSeconds(1));
+        cache.get(betId, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenMissCached_whenInvalidated_thenLoadedAgain() {
+        BetId betId = betId();
+        CountingLoader loader = new CountingLoader(Optional.empty());
+
+        cache.get(betId, loader);
+        cache.invalidate(List.of(betId));
+        cache.get(betId, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenMissCachedBeforeCommit_whenCommitted_thenForgottenAgain() {
+        BetId betId = betId();
+        CountingLoader loader = new CountingLoader(Optional.empty());
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(List.of(betId));
+
+        cache.get(betId, loader);
+        cache.get(betId, loader);
+        assertThat(loader.calls.get()).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.get(betId, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenInvalidationDuringLoad_whenMissLoaded_thenNotRemembered() {
+        BetId betId = betId();
+        AtomicInteger calls = new AtomicInteger();
+        Function<BetId, Optional<String>> loader = id -> {
+            if (calls.incrementAndGet() == 1) {
+                cache.invalidate(List.of(id));
+            }
+            return Optional.empty();
+        };
+
+        cache.get(betId, loader);
+        cache.get(betId, loader);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenMoreValuesThanMaxSize_whenGet_thenLeastRecentlyUsedEvicted() {
+        BetId first = betId();
+        BetId second = betId();
+        BetId third = betId();
+        CountingLoader loader = new CountingLoader(Optional.of("won"));
+
+        cache.get(first, loader);
+        cache.get(second, loader);
+        cache.get(first, loader);
+        cache.get(third, loader);
+        cache.get(second, loader);
+
+        assertThat(loader.calls.get()).isEqualTo(4);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("jackpot.cache.lookups").tag("cache", "test").tag("result", result).counter().count();
+    }
+
+    private static BetId betId() {
+        return BetId.of(UUID.randomUUID());
+    }
+
+    private static final class CountingLoader implements Function<BetId, Optional<String>> {
+        private final Optional<String> value;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingLoader(Optional<String> value) {
+            this.value = value;
+        }
+
+        @Override
+        public Optional<String> apply(BetId betId) {
+            calls.incrementAndGet();
+            return value;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
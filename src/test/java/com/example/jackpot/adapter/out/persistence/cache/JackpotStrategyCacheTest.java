@@ -0,0 +1,96 @@
+package com.example.jackpot.adapter.out.persistence.cache;
+
+import com.example.jackpot.domain.contribution.FixedContributionCalculator;
+import com.example.jackpot.domain.contribution.VariableContributionCalculator;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.reward.FixedChanceRewardEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JackpotStrategyCacheTest {
+
+    private static final String FIXED_CONTRIBUTION = "{\"type\":\"FIXED\",\"schemaVersion\":1,\"config\":{\"rate\":\"6.00\"}}";
+    private static final String VARIABLE_CONTRIBUTION = "{\"type\":\"VARIABLE\",\"schemaVersion\":1,\"config\":{\"startingRate\":\"10.00\",\"minimumRate\":\"2.00\",\"decayFactor\":\"0.50\"}}";
+    private static final String FIXED_REWARD = "{\"type\":\"FIXED_CHANCE\",\"schemaVersion\":1,\"config\":{\"chancePercent\":\"3.50\"}}";
+
+    private JackpotStrategyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JackpotStrategyCache(2);
+    }
+
+    @Test
+    void givenNonPositiveMaxSize_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new JackpotStrategyCache(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxSize must be positive");
+    }
+
+    @Test
+    void givenSameJackpotAndConfig_whenGet_thenSameInstancesReused() {
+        UUID jackpotId = UUID.randomUUID();
+
+        JackpotStrategyCache.Strategies first = cache.get(jackpotId, FIXED_CONTRIBUTION, FIXED_REWARD);
+        JackpotStrategyCache.Strategies second = cache.get(jackpotId, new String(FIXED_CONTRIBUTION), new String(FIXED_REWARD));
+
+        assertThat(first.contributionCalculator()).isInstanceOf(FixedContributionCalculator.class);
+        assertThat(first.rewardEvaluator()).isInstanceOf(FixedChanceRewardEvaluator.class);
+        assertThat(second.contributionCalculator()).isSameAs(first.contributionCalculator());
+        assertThat(second.rewardEvaluator()).isSameAs(first.rewardEvaluator());
+    }
+
+    @Test
+    void givenChangedConfig_whenGet_thenStrategiesReparsed() {
+        UUID jackpotId = UUID.randomUUID();
+
+        JackpotStrategyCache.Strategies first = cache.get(jackpotId, FIXED_CONTRIBUTION, FIXED_REWARD);
+        JackpotStrategyCache.Strategies second = cache.get(jackpotId, VARIABLE_CONTRIBUTION, FIXED_REWARD);
+
+        assertThat(second.contributionCalculator())
+                .isInstanceOf(VariableContributionCalculator.class)
+                .isNotSameAs(first.contributionCalculator());
+    }
+
+    @Test
+    void givenInvalidatedJackpot_whenGet_thenStrategiesReparsed() {
+        UUID jackpotId = UUID.randomUUID();
+
+        JackpotStrategyCache.Strategies first = cache.get(jackpotId, FIXED_CONTRIBUTION, FIXED_REWARD);
+        cache.invalidate(JackpotId.of(jackpotId));
+        JackpotStrategyCache.Strategies second = cache.get(jackpotId, FIXED_CONTRIBUTION, FIXED_REWARD);
+
+        assertThat(second.contributionCalculator()).isNotSameAs(first.contributionCalculator());
+    }
+
+    @Test
+    void whenInvalidateAll_thenCacheEmpty() {
+        cache.get(UUID.randomUUID(), FIXED_CONTRIBUTION, FIXED_REWARD);
+        cache.get(UUID.randomUUID(), FIXED_CONTRIBUTION, FIXED_REWARD);
+
+        cache.invalidateAll();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void givenMoreJackpotsThanMaxSize_whenGet_thenLeastRecentlyUsedEvicted() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+
+        JackpotStrategyCache.Strategies cached = cache.get(first, FIXED_CONTRIBUTION, FIXED_REWARD);
+        JackpotStrategyCache.Strategies evicted = cache.get(second, FIXED_CONTRIBUTION, FIXED_REWARD);
+        cache.get(first, FIXED_CONTRIBUTION, FIXED_REWARD);
+        cache.get(third, FIXED_CONTRIBUTION, FIXED_REWARD);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(first, FIXED_CONTRIBUTION, FIXED_REWARD).contributionCalculator()).isSameAs(cached.contributionCalculator());
+        assertThat(cache.get(second, FIXED_CONTRIBUTION, FIXED_REWARD).contributionCalculator()).isNotSameAs(evicted.contributionCalculator());
+    }
+}
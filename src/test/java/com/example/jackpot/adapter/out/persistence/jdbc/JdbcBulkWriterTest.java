@@ -0,0 +1,178 @@
+package com.example.jackpot.adapter.out.persistence.jdbc;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotContributionEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotRewardEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.BetJpaRepository;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.ContributionJpaRepository;
+import com.example.jackpot.adapter.out.persistence.jpa.repository.RewardJpaRepository;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+@DataJpaTest(properties = "jackpot.persistence.bulk-writer.mode=jdbc")
+@Import(JdbcBulkWriter.class)
+class JdbcBulkWriterTest {
+
+    @Autowired
+    private JdbcBulkWriter writer;
+
+    @Autowired
+    private BetJpaRepository betRepository;
+
+    @Autowired
+    private ContributionJpaRepository contributionRepository;
+
+    @Autowired
+    private RewardJpaRepository rewardRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private JackpotId jackpotId;
+
+    private Bet bet;
+
+    @BeforeEach
+    void setUp() {
+        JackpotEntity jackpot = new JackpotEntity(UUID.randomUUID(),
+                1,
+                new MoneyEmbeddable(BigDecimal.ZERO, "EUR"),
+                new MoneyEmbeddable(BigDecimal.TWO, "EUR"),
+                "{\"type\":\"FIXED\",\"schemaVersion\":1,\"config\":{\"rate\":\"5.00\"}}",
+                "{\"type\":\"FIXED_CHANCE\",\"schemaVersion\":1,\"config\":{\"chancePercent\":\"2.50\"}}");
+        em.persist(jackpot);
+        em.flush();
+
+        jackpotId = JackpotId.of(jackpot.getId());
+        bet = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), jackpotId, Money.of("100.54", "EUR"));
+    }
+
+    @Test
+    void whenInsertBets_thenBetsFound() {
+        Bet other = new Bet(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), jackpotId, Money.of("20.00", "EUR"));
+
+        writer.insertBets(List.of(bet, other));
+
+        Optional<BetEntity> result = betRepository.findById(bet.betId().value());
+
+        assertThat(betRepository.count()).isEqualTo(2);
+        assertThat(result)
+                .isNotEmpty()
+                .hasValueSatisfying(b -> {
+                    assertThat(b.getUserId()).isEqualTo(bet.userId().value());
+                    assertThat(b.getJackpotId()).isEqualTo(jackpotId.value());
+                    assertThat(b.getBet().getAmount()).isEqualByComparingTo(bet.betAmount().amount());
+                    assertThat(b.getBet().getCurrency()).isEqualTo("EUR");
+                    assertThat(b.getCreatedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void givenExistingBet_whenInsertBets_thenThrowException() {
+        writer.insertBets(List.of(bet));
+
+        assertThatThrownBy(() -> writer.insertBets(List.of(bet)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void whenInsertContributions_thenContributionsFound() {
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        JackpotContribution contribution = new JackpotContribution(
+                bet.betId(),
+                bet.userId(),
+                JackpotCycle.of(jackpotId, CycleNumber.of(1)),
+                bet.betAmount(),
+                Money.of("5.03", "EUR"),
+                Money.of("105.03", "EUR"),
+                createdAt
+        );
+
+        writer.insertBets(List.of(bet));
+        writer.insertContributions(List.of(contribution));
+
+        Optional<JackpotContributionEntity> result = contributionRepository.findById(bet.betId().value());
+
+        assertThat(result)
+                .isNotEmpty()
+                .hasValueSatisfying(c -> {
+                    assertThat(c.getUserId()).isEqualTo(bet.userId().value());
+                    assertThat(c.getJackpotId()).isEqualTo(jackpotId.value());
+                    assertThat(c.getJackpotCycle()).isEqualTo(1);
+                    assertThat(c.getStake().getAmount()).isEqualByComparingTo(contribution.stakeAmount().amount());
+                    assertThat(c.getContribution().getAmount()).isEqualByComparingTo(contribution.contributionAmount().amount());
+                    assertThat(c.getCurrentJackpot().getAmount()).isEqualByComparingTo(contribution.currentJackpotAmount().amount());
+                    assertThat(c.getStake().getCurrency()).isEqualTo("EUR");
+                    assertThat(c.getCreatedAt()).isEqualTo(createdAt);
+                });
+    }
+
+    @Test
+    void givenMissingBet_whenInsertContributions_thenThrowException() {
+        JackpotContribution contribution = new JackpotContribution(
+                bet.betId(),
+                bet.userId(),
+                JackpotCycle.of(jackpotId, CycleNumber.of(1)),
+                bet.betAmount(),
+                Money.of("5.03", "EUR"),
+                Money.of("105.03", "EUR")
+        );
+
+        assertThatThrownBy(() -> writer.insertContributions(List.of(contribution)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void whenInsertRewards_thenRewardsFound() {
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        JackpotReward reward = new JackpotReward(
+                bet.betId(),
+                bet.userId(),
+                JackpotCycle.of(jackpotId, CycleNumber.of(1)),
+                Money.of("230.54", "EUR"),
+                createdAt
+        );
+
+        writer.insertBets(List.of(bet));
+        writer.insertRewards(List.of(reward));
+
+        Optional<JackpotRewardEntity> result = rewardRepository.findByBetId(bet.betId().value());
+
+        assertThat(result)
+                .isNotEmpty()
+                .hasValueSatisfying(r -> {
+                    assertThat(r.getUserId()).isEqualTo(bet.userId().value());
+                    assertThat(r.getJackpotId()).isEqualTo(jackpotId.value());
+                    assertThat(r.getJackpotCycle()).isEqualTo(1);
+                    assertThat(r.getReward().getAmount()).isEqualByComparingTo(reward.rewardAmount().amount());
+                    assertThat(r.getReward().getCurrency()).isEqualTo("EUR");
+                    assertThat(r.getCreatedAt()).isEqualTo(createdAt);
+                });
+    }
+}
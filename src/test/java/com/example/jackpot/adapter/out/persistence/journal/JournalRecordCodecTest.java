@@ -0,0 +1,78 @@
+package com.example.jackpot.adapter.out.persistence.journal;
+
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalRecordCodecTest {
+
+    private static final int AT = JournalRecordCodec.RECORD_SIZE;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(3 * JournalRecordCodec.RECORD_SIZE);
+    private final JackpotCycle cycle = JackpotCycle.of(JackpotId.of(UUID.randomUUID()), CycleNumber.of(7));
+
+    @Test
+    void whenWriteAndReadContribution_thenSameContribution() {
+        JackpotContribution contribution = new JackpotContribution(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), cycle,
+                Money.of("25.00", "EUR"), Money.of("1.25", "EUR"), Money.of("1234.56", "EUR"), Instant.parse("2025-01-01T10:15:30.123456789Z"));
+
+        JournalRecordCodec.writeContribution(buffer, AT, 3, 42L, contribution);
+
+        assertThat(JournalRecordCodec.type(buffer, AT)).isEqualTo(JournalRecordCodec.CONTRIBUTION);
+        assertThat(JournalRecordCodec.partition(buffer, AT)).isEqualTo(3);
+        assertThat(JournalRecordCodec.lastOffset(buffer, AT)).isEqualTo(42L);
+        assertThat(JournalRecordCodec.readContribution(buffer, AT)).satisfies(c -> {
+            assertThat(c.betId()).isEqualTo(contribution.betId());
+            assertThat(c.userId()).isEqualTo(contribution.userId());
+            assertThat(c.jackpotId()).isEqualTo(contribution.jackpotId());
+            assertThat(c.jackpotCycle()).isEqualTo(CycleNumber.of(7));
+            assertThat(c.stakeAmount()).isEqualTo(Money.of("25.00", "EUR"));
+            assertThat(c.contributionAmount()).isEqualTo(Money.of("1.25", "EUR"));
+            assertThat(c.currentJackpotAmount()).isEqualTo(Money.of("1234.56", "EUR"));
+            assertThat(c.createdAt()).isEqualTo(contribution.createdAt());
+        });
+    }
+
+    @Test
+    void whenWriteAndReadReward_thenSameReward() {
+        JackpotReward reward = new JackpotReward(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), cycle, Money.of("500.00", "USD"), Instant.parse("2025-01-01T10:15:30Z"));
+
+        JournalRecordCodec.writeReward(buffer, AT, 0, 9L, reward);
+
+        assertThat(JournalRecordCodec.type(buffer, AT)).isEqualTo(JournalRecordCodec.REWARD);
+        assertThat(JournalRecordCodec.readReward(buffer, AT)).satisfies(r -> {
+            assertThat(r.betId()).isEqualTo(reward.betId());
+            assertThat(r.jackpotId()).isEqualTo(reward.jackpotId());
+            assertThat(r.jackpotCycle()).isEqualTo(CycleNumber.of(7));
+            assertThat(r.rewardAmount()).isEqualTo(Money.of("500.00", "USD"));
+            assertThat(r.createdAt()).isEqualTo(reward.createdAt());
+        });
+    }
+
+    @Test
+    void givenNothingWritten_whenType_thenEmpty() {
+        assertThat(JournalRecordCodec.type(buffer, AT)).isEqualTo(JournalRecordCodec.EMPTY);
+    }
+
+    @Test
+    void givenPartlyWrittenRecord_whenType_thenEmpty() {
+        JackpotReward reward = new JackpotReward(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), cycle, Money.of("500.00", "EUR"), Instant.now());
+        JournalRecordCodec.writeReward(buffer, AT, 0, 9L, reward);
+
+        buffer.putLong(AT + 80, 0);
+
+        assertThat(JournalRecordCodec.type(buffer, AT)).isEqualTo(JournalRecordCodec.EMPTY);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.jackpot.adapter.out.persistence.journal;
+
+import com.example.jackpot.application.port.out.BetJournal.Recovered;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedBetJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JackpotCycle cycle = JackpotCycle.of(JackpotId.of(UUID.randomUUID()), CycleNumber.of(1));
+
+    private MappedBetJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void givenSegmentTooSmall_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new MappedBetJournal(directory, DataSize.ofBytes(64), Duration.ZERO, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("segmentSize must hold at least one record and at most 2GB");
+    }
+
+    @Test
+    void whenAppend_thenPositionAdvancedPerRecord() {
+        journal = journal(DataSize.ofKilobytes(4));
+
+        long first = journal.append(0, 10L, List.of(contribution()), List.of());
+        long second = journal.append(0, 11L, List.of(contribution(), contribution()), List.of(reward()));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(4);
+        assertThat(meterRegistry.get("jackpot.journal.records").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void givenAppendsFromSeveralThreads_whenAwaitDurable_thenForcedTogether() throws Exception {
+        journal = new MappedBetJournal(directory, DataSize.ofKilobytes(64), Duration.ofMillis(20), meterRegistry);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 8)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> journal.awaitDurable(journal.append(i, i, List.of(contribution()), List.of()))))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(meterRegistry.get("jackpot.journal.fsyncs").counter().count()).isLessThan(8);
+    }
+
+    @Test
+    void givenDurablePosition_whenAwaitDurableAgain_thenNotForcedAgain() {
+        journal = journal(DataSize.ofKilobytes(4));
+
+        long position = journal.append(0, 10L, List.of(contribution()), List.of());
+        journal.awaitDurable(position);
+        journal.awaitDurable(position);
+
+        assertThat(meterRegistry.get("jackpot.journal.fsyncs").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenRecover_thenRecordsOfPartitionBelowResumeOffsetReturnedInOrder() {
+        journal = journal(DataSize.ofKilobytes(4));
+
+        JackpotContribution committed = contribution();
+        JackpotReward reward = reward(committed.betId());
+        JackpotContribution redelivered = contribution();
+
+        journal.append(0, 10L, List.of(committed), List.of(reward));
+        journal.append(1, 10L, List.of(contribution()), List.of());
+        journal.append(0, 11L, List.of(redelivered), List.of());
+
+        Recovered result = journal.recover(0, 11L);
+
+        assertThat(result.contributions()).extracting(JackpotContribution::betId).containsExactly(committed.betId());
+        assertThat(result.rewards()).extracting(JackpotReward::betId).containsExactly(reward.betId());
+    }
+
+    @Test
+    void givenFullSegment_whenAppend_thenNextSegmentStarted() throws IOException {
+        journal = journal(DataSize.ofBytes(2L * JournalRecordCodec.RECORD_SIZE));
+
+        journal.append(0, 10L, List.of(contribution(), contribution(), contribution()), List.of());
+
+        assertThat(segments()).containsExactly("00000000000000000000.journal", "00000000000000000002.journal");
+        assertThat(journal.recover(0, 11L).contributions()).hasSize(3);
+    }
+
+    @Test
+    void givenReleasedPosition_whenRelease_thenClosedSegmentsBelowItDeleted() throws IOException {
+        journal = journal(DataSize.ofBytes(2L * JournalRecordCodec.RECORD_SIZE));
+
+        journal.append(0, 10L, List.of(contribution(), contribution()), List.of());
+        long position = journal.append(0, 11L, List.of(contribution(), contribution(), contribution()), List.of());
+
+        journal.release(3);
+        assertThat(segments()).containsExactly("00000000000000000002.journal", "00000000000000000004.journal");
+
+        journal.release(position);
+        assertThat(segments()).containsExactly("00000000000000000004.journal");
+    }
+
+    @Test
+    void givenRestart_whenRecover_thenRecordsOfPreviousRunReturnedAndAppendingContinues() throws IOException {
+        journal = journal(DataSize.ofKilobytes(4));
+        JackpotContribution contribution = contribution();
+        journal.awaitDurable(journal.append(0, 10L, List.of(contribution), List.of()));
+        journal.close();
+
+        journal = journal(DataSize.ofKilobytes(4));
+        long position = journal.append(0, 11L, List.of(contribution()), List.of());
+
+        assertThat(position).isEqualTo(2);
+        assertThat(journal.recover(0, 11L).contributions()).extracting(JackpotContribution::betId).containsExactly(contribution.betId());
+        assertThat(segments()).containsExactly("00000000000000000000.journal", "00000000000000000001.journal");
+    }
+
+    @Test
+    void givenEmptySegmentOfPreviousRun_whenRestart_thenSegmentReplaced() throws IOException {
+        journal = journal(DataSize.ofKilobytes(4));
+        journal.close();
+
+        journal = journal(DataSize.ofKilobytes(4));
+
+        assertThat(segments()).containsExactly("00000000000000000000.journal");
+        assertThat(journal.recover(0, Long.MAX_VALUE).isEmpty()).isTrue();
+    }
+
+    private MappedBetJournal journal(DataSize segmentSize) {
+        return new MappedBetJournal(directory, segmentSize, Duration.ZERO, meterRegistry);
+    }
+
+    private List<String> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private JackpotContribution contribution() {
+        return new JackpotContribution(BetId.of(UUID.randomUUID()), UserId.of(UUID.randomUUID()), cycle,
+                Money.of("10.00", "EUR"), Money.of("0.50", "EUR"), Money.of("100.50", "EUR"), Instant.now());
+    }
+
+    private JackpotReward reward() {
+        return reward(BetId.of(UUID.randomUUID()));
+    }
+
+    private JackpotReward reward(BetId betId) {
+        return new JackpotReward(betId, UserId.of(UUID.randomUUID()), cycle, Money.of("100.50", "EUR"), Instant.now());
+    }
+}
@@ -1,13 +1,18 @@
 package com.example.jackpot.adapter.out.persistence.jpa.config.reward;
 
+import com.example.jackpot.domain.model.vo.Money;
 import com.example.jackpot.domain.reward.FixedChanceRewardEvaluator;
+import com.example.jackpot.domain.reward.RandomNumberGenerators;
+import com.example.jackpot.domain.reward.RewardContext;
 import com.example.jackpot.domain.reward.RewardEvaluator;
 import com.example.jackpot.domain.reward.VariableChanceRewardEvaluator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,6 +113,88 @@ class RewardConfigMapperTest {
                 .isInstanceOf(VariableChanceRewardEvaluator.class);
     }
 
+    @ParameterizedTest(name = "[{index}] rng type {0}")
+    @ValueSource(strings = {"THREAD_LOCAL", "SECURE", "thread_local"})
+    void givenRngType_whenToDomain_thenEvaluatorCreated(String rngType) {
+        String json = """
+                { "type": "FIXED_CHANCE", "schemaVersion": 1, "config": { "chancePercent": "2.50" }, "rng": { "type": "%s" } }
+                """.formatted(rngType);
+
+        RewardEvaluator result = RewardConfigMapper.toDomain(json);
+
+        assertThat(result).isInstanceOf(FixedChanceRewardEvaluator.class);
+    }
+
+    @Test
+    void givenSeededGenerator_whenToDomainWithGenerator_thenOutcomesReproducible() {
+        String json = """
+                {
+                  "type": "VARIABLE_CHANCE",
+                  "schemaVersion": 1,
+                  "config": {
+                    "minPercent": "10.00",
+                    "maxPercent": "90.00",
+                    "minPool": { "amount": "100.00", "currency": "EUR" },
+                    "maxPool": { "amount": "1000.00", "currency": "EUR" }
+                  }
+                }
+                """;
+        RewardContext ctx = new RewardContext(Money.of("550.00", "EUR"));
+
+        RewardEvaluator first = RewardConfigMapper.toDomain(json, RandomNumberGenerators.seeded(20251018));
+        RewardEvaluator second = RewardConfigMapper.toDomain(json, RandomNumberGenerators.seeded(20251018));
+
+        List<Boolean> firstOutcomes = Stream.generate(() -> first.evaluate(ctx)).limit(200).toList();
+        List<Boolean> secondOutcomes = Stream.generate(() -> second.evaluate(ctx)).limit(200).toList();
+
+        assertThat(firstOutcomes)
+                .containsExactlyElementsOf(secondOutcomes)
+                .contains(true, false);
+    }
+
+    @Test
+    void givenSeededRng_whenToDomain_thenThrowException() {
+        String json = """
+                { "type": "FIXED_CHANCE", "schemaVersion": 1, "config": { "chancePercent": "2.50" }, "rng": { "type": "SEEDED", "seed": 42 } }
+                """;
+
+        assertThatThrownBy(() -> RewardConfigMapper.toDomain(json))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Seeded rng is only supported for simulations, not for stored jackpots");
+    }
+
+    @Test
+    void givenUnknownRngType_whenToDomain_thenThrowException() {
+        String json = """
+                { "type": "FIXED_CHANCE", "schemaVersion": 1, "config": { "chancePercent": "2.50" }, "rng": { "type": "DICE" } }
+                """;
+
+        assertThatThrownBy(() -> RewardConfigMapper.toDomain(json))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported rng type: 'DICE'");
+    }
+
+    @Test
+    void givenRandomNumberGenerator_whenToDomain_thenUsedInsteadOfRngNode() {
+        String json = """
+                { "type": "FIXED_CHANCE", "schemaVersion": 1, "config": { "chancePercent": "50.00" }, "rng": { "type": "DICE" } }
+                """;
+        RewardContext ctx = new RewardContext(Money.of("100.00", "EUR"));
+
+        RewardEvaluator winning = RewardConfigMapper.toDomain(json, () -> 0.49);
+        RewardEvaluator losing = RewardConfigMapper.toDomain(json, () -> 0.50);
+
+        assertThat(winning.evaluate(ctx)).isTrue();
+        assertThat(losing.evaluate(ctx)).isFalse();
+    }
+
+    @Test
+    void givenNullRandomNumberGenerator_whenToDomain_thenThrowException() {
+        assertThatThrownBy(() -> RewardConfigMapper.toDomain("{}", null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("randomNumberGenerator must not be null");
+    }
+
     // ----------------------------------
     // Test Data
     // ----------------------------------
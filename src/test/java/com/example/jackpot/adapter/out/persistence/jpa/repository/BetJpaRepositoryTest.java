@@ -11,7 +11,10 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -115,4 +118,21 @@ class BetJpaRepositoryTest {
             em.clear();
         }).isInstanceOf(ConstraintViolationException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFindExistingIds_thenReturnOnlyPersistedIds() {
+        UUID missing = UUID.randomUUID();
+
+        Set<UUID> result = repository.findExistingIds(List.of(bet.getId(), missing));
+
+        assertThat(result).isEqualTo(Set.of(bet.getId()));
+    }
+
+    @Test
+    void whenFindIdsCreatedSince_thenOnlyRecentReturned() {
+        Instant now = Instant.now();
+
+        assertThat(repository.findIdsCreatedSince(now.minusSeconds(3600))).isEqualTo(List.of(bet.getId()));
+        assertThat(repository.findIdsCreatedSince(now.plusSeconds(3600))).isEqualTo(List.of());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutboxEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class BetOutboxJpaRepositoryTest {
+
+    @Autowired
+    private BetOutboxJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private BetOutboxEntity oldest;
+
+    private BetOutboxEntity middle;
+
+    private BetOutboxEntity newest;
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+
+        newest = outboxEntry(now);
+        oldest = outboxEntry(now.minusSeconds(2));
+        middle = outboxEntry(now.minusSeconds(1));
+
+        em.persist(newest);
+        em.persist(oldest);
+        em.persist(middle);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void whenFindOldestForUpdate_thenReturnEntriesInCreationOrderUpToLimit() {
+        List<BetOutboxEntity> result = repository.findOldestForUpdate(PageRequest.ofSize(2));
+
+        assertThat(result)
+                .extracting(BetOutboxEntity::getBetId)
+                .containsExactly(oldest.getBetId(), middle.getBetId());
+    }
+
+    @Test
+    void whenDeleteByBetIds_thenOnlyGivenEntriesRemoved() {
+        int deleted = repository.deleteByBetIds(List.of(oldest.getBetId(), middle.getBetId()));
+        em.clear();
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(repository.findAll())
+                .extracting(BetOutboxEntity::getBetId)
+                .containsExactly(newest.getBetId());
+    }
+
+    private static BetOutboxEntity outboxEntry(Instant createdAt) {
+        return new BetOutboxEntity(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new MoneyEmbeddable(BigDecimal.TEN, "EUR"),
+                createdAt
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.BetOutcomeEntity;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+@DataJpaTest
+class BetOutcomeJpaRepositoryTest {
+
+    @Autowired
+    private BetOutcomeJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void givenSavedWin_whenFindById_thenResultFound() {
+        BetOutcomeEntity outcome = new BetOutcomeEntity(UUID.randomUUID(), UUID.randomUUID(), "WIN", new BigDecimal("150.00"), "EUR", Instant.now());
+
+        repository.save(outcome);
+        em.flush();
+        em.clear();
+
+        Optional<BetOutcomeEntity> result = repository.findById(outcome.getBetId());
+
+        assertThat(result)
+                .isNotEmpty()
+                .hasValueSatisfying(o -> {
+                    assertThat(o.getJackpotId()).isEqualTo(outcome.getJackpotId());
+                    assertThat(o.getResult()).isEqualTo("WIN");
+                    assertThat(o.getRewardAmount()).isEqualByComparingTo(new BigDecimal("150.00"));
+                    assertThat(o.getRewardCurrency()).isEqualTo("EUR");
+                    assertThat(o.getCreatedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void givenSavedLoss_whenFindById_thenResultFoundWithoutReward() {
+        BetOutcomeEntity outcome = new BetOutcomeEntity(UUID.randomUUID(), UUID.randomUUID(), "LOSS", null, null, Instant.now());
+
+        repository.save(outcome);
+        em.flush();
+        em.clear();
+
+        Optional<BetOutcomeEntity> result = repository.findById(outcome.getBetId());
+
+        assertThat(result)
+                .isNotEmpty()
+                .hasValueSatisfying(o -> {
+                    assertThat(o.getResult()).isEqualTo("LOSS");
+                    assertThat(o.getRewardAmount()).isNull();
+                });
+    }
+
+    @Test
+    void givenDuplicateOutcome_whenSave_thenThrowException() {
+        UUID betId = UUID.randomUUID();
+        em.persist(new BetOutcomeEntity(betId, UUID.randomUUID(), "LOSS", null, null, Instant.now()));
+        em.flush();
+        em.clear();
+
+        assertThatThrownBy(() -> {
+            repository.save(new BetOutcomeEntity(betId, UUID.randomUUID(), "LOSS", null, null, Instant.now()));
+            em.flush();
+        }).isInstanceOf(ConstraintViolationException.class);
+    }
+}
@@ -13,7 +13,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -84,6 +86,13 @@ class ContributionJpaRepositoryTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void whenFindExistingBetIds_thenOnlyExistingReturned() {
+        Set<UUID> result = repository.findExistingBetIds(List.of(bet.getId(), UUID.randomUUID()));
+
+        assertThat(result).isEqualTo(Set.of(bet.getId()));
+    }
+
     @Test
     void givenContributionForANewBet_whenSave_thenSuccess() {
         BetEntity newBet = new BetEntity(
@@ -213,4 +222,12 @@ class ContributionJpaRepositoryTest {
             em.clear();
         }).isInstanceOf(ConstraintViolationException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFindBetIdsCreatedSince_thenOnlyRecentReturned() {
+        Instant now = Instant.now();
+
+        assertThat(repository.findBetIdsCreatedSince(now.minusSeconds(3600))).isEqualTo(List.of(bet.getId()));
+        assertThat(repository.findBetIdsCreatedSince(now.plusSeconds(3600))).isEqualTo(List.of());
+    }
+}
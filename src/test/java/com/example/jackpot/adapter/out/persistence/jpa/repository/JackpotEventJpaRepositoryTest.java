@@ -0,0 +1,85 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotEventEntity;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+class JackpotEventJpaRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Autowired
+    private JackpotEventJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final UUID jackpotId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        em.persist(event(jackpotId, 3, T0.plusSeconds(3)));
+        em.persist(event(jackpotId, 1, T0.plusSeconds(1)));
+        em.persist(event(jackpotId, 2, T0.plusSeconds(2)));
+        em.persist(event(UUID.randomUUID(), 4, T0.plusSeconds(1)));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void whenFindAfterSequence_thenLaterEventsOfJackpotReturnedInOrder() {
+        List<JackpotEventEntity> result = repository.findByJackpotIdAndSequenceGreaterThanOrderBySequence(jackpotId, 1);
+
+        assertThat(result)
+                .extracting(JackpotEventEntity::getSequence)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void whenFindAfterSequenceUntil_thenOnlyEventsUpToThatSequenceReturned() {
+        List<JackpotEventEntity> result = repository.findByJackpotIdAndSequenceGreaterThanAndSequenceLessThanEqualOrderBySequence(jackpotId, 0, 2);
+
+        assertThat(result)
+                .extracting(JackpotEventEntity::getSequence)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void whenFindLastSequenceAppendedUntil_thenLastSequenceOfJackpotStoredByThenReturned() {
+        assertThat(repository.findLastSequenceAppendedUntil(jackpotId, T0.plusSeconds(2))).isEqualTo(2L);
+        assertThat(repository.findLastSequenceAppendedUntil(jackpotId, T0.plusSeconds(10))).isEqualTo(3L);
+    }
+
+    @Test
+    void givenNothingAppendedByThen_whenFindLastSequenceAppendedUntil_thenNull() {
+        assertThat(repository.findLastSequenceAppendedUntil(jackpotId, T0)).isNull();
+    }
+
+    @Test
+    void givenSequenceTaken_whenSave_thenThrowException() {
+        assertThatThrownBy(() -> {
+            repository.save(event(jackpotId, 2, T0.plusSeconds(5)));
+            em.flush();
+        }).isInstanceOf(ConstraintViolationException.class);
+    }
+
+    /**
+     * Bets arrive out of order, so the later an event is appended, the earlier its bet occurred.
+     */
+    private static JackpotEventEntity event(UUID jackpotId, long sequence, Instant appendedAt) {
+        return new JackpotEventEntity(UUID.randomUUID(), jackpotId, sequence, "CONTRIBUTION_APPLIED", 1, UUID.randomUUID(), new BigDecimal("1.00"), "EUR", T0.minusSeconds(sequence), appendedAt);
+    }
+}
@@ -92,4 +92,78 @@ class JackpotJpaRepositoryTest {
                     assertThat(r.getRewardConfigJson()).isEqualTo(jackpot.getRewardConfigJson());
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenCurrentVersion_whenUpdateState_thenStateWrittenAndVersionIncremented() {
+        int updated = repository.updateState(jackpot.getId(), 2, new BigDecimal("7.50"), jackpot.getVersion());
+
+        assertThat(updated).isEqualTo(1);
+
+        JackpotEntity result = em.find(JackpotEntity.class, jackpot.getId());
+        assertThat(result.getCurrentCycle()).isEqualTo(2);
+        assertThat(result.getCurrent().getAmount()).isEqualByComparingTo("7.50");
+        assertThat(result.getInitial().getAmount()).isEqualByComparingTo(jackpot.getInitial().getAmount());
+        assertThat(result.getVersion()).isEqualTo(jackpot.getVersion() + 1);
+    }
+
+    @Test
+    void givenStaleVersion_whenUpdateState_thenNothingUpdated() {
+        int updated = repository.updateState(jackpot.getId(), 2, new BigDecimal("7.50"), jackpot.getVersion() + 1);
+
+        assertThat(updated).isZero();
+
+        JackpotEntity result = em.find(JackpotEntity.class, jackpot.getId());
+        assertThat(result.getCurrentCycle()).isEqualTo(1);
+        assertThat(result.getCurrent().getAmount()).isEqualByComparingTo(jackpot.getCurrent().getAmount());
+    }
+
+    @Test
+    void givenCurrentCycle_whenAddToPool_thenDeltaAddedAndVersionIncremented() {
+        int updated = repository.addToPool(jackpot.getId(), 1, new BigDecimal("0.75"));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(repository.findCurrentAmount(jackpot.getId())).hasValueSatisfying(amount -> assertThat(amount).isEqualByComparingTo("2.75"));
+
+        JackpotEntity result = em.find(JackpotEntity.class, jackpot.getId());
+        assertThat(result.getCurrentCycle()).isEqualTo(1);
+        assertThat(result.getVersion()).isEqualTo(jackpot.getVersion() + 1);
+    }
+
+    @Test
+    void givenOtherCycle_whenAddToPool_thenNothingUpdated() {
+        int updated = repository.addToPool(jackpot.getId(), 2, new BigDecimal("0.75"));
+
+        assertThat(updated).isZero();
+        assertThat(repository.findCurrentAmount(jackpot.getId())).hasValueSatisfying(amount -> assertThat(amount).isEqualByComparingTo("2.00"));
+    }
+
+    @Test
+    void givenCurrentCycle_whenStartNextCycle_thenPoolResetToInitialAndCycleAdvanced() {
+        repository.addToPool(jackpot.getId(), 1, new BigDecimal("0.75"));
+
+        int updated = repository.startNextCycle(jackpot.getId(), 1);
+
+        assertThat(updated).isEqualTo(1);
+
+        JackpotEntity result = em.find(JackpotEntity.class, jackpot.getId());
+        assertThat(result.getCurrentCycle()).isEqualTo(2);
+        assertThat(result.getCurrent().getAmount()).isEqualByComparingTo(jackpot.getInitial().getAmount());
+        assertThat(result.getVersion()).isEqualTo(jackpot.getVersion() + 2);
+    }
+
+    @Test
+    void givenOtherCycle_whenStartNextCycle_thenNothingUpdated() {
+        int updated = repository.startNextCycle(jackpot.getId(), 2);
+
+        assertThat(updated).isZero();
+
+        JackpotEntity result = em.find(JackpotEntity.class, jackpot.getId());
+        assertThat(result.getCurrentCycle()).isEqualTo(1);
+        assertThat(result.getCurrent().getAmount()).isEqualByComparingTo(jackpot.getCurrent().getAmount());
+    }
+
+    @Test
+    void givenNonExistingId_whenFindCurrentAmount_thenNoResult() {
+        assertThat(repository.findCurrentAmount(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotPoolStripeEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class JackpotPoolStripeJpaRepositoryTest {
+
+    @Autowired
+    private JackpotPoolStripeJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final UUID jackpotId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        em.persist(new JackpotPoolStripeEntity(jackpotId, 0, 2, new BigDecimal("1.50")));
+        em.persist(new JackpotPoolStripeEntity(jackpotId, 1, 2, new BigDecimal("2.25")));
+        em.persist(new JackpotPoolStripeEntity(UUID.randomUUID(), 0, 2, new BigDecimal("9.00")));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void whenFindStripes_thenStripesOfJackpotReturned() {
+        assertThat(repository.findStripes(jackpotId)).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void givenCurrentCycle_whenAddToStripe_thenOnlyThatStripeIncremented() {
+        int updated = repository.addToStripe(jackpotId, 1, 2, new BigDecimal("0.75"));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(repository.sumAmount(jackpotId, 2)).isEqualByComparingTo("4.50");
+        assertThat(em.find(JackpotPoolStripeEntity.class, new JackpotPoolStripeEntity.Key(jackpotId, 0)).getAmount()).isEqualByComparingTo("1.50");
+    }
+
+    @Test
+    void givenOtherCycle_whenAddToStripe_thenNothingUpdated() {
+        int updated = repository.addToStripe(jackpotId, 1, 3, new BigDecimal("0.75"));
+
+        assertThat(updated).isZero();
+        assertThat(repository.sumAmount(jackpotId, 2)).isEqualByComparingTo("3.75");
+    }
+
+    @Test
+    void givenNoStripesInCycle_whenSumAmount_thenZero() {
+        assertThat(repository.sumAmount(jackpotId, 3)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void whenFindAllForUpdate_thenStripesOfCycleReturnedInStripeOrder() {
+        List<JackpotPoolStripeEntity> result = repository.findAllForUpdate(jackpotId, 2);
+
+        assertThat(result)
+                .extracting(JackpotPoolStripeEntity::getStripe)
+                .containsExactly(0, 1);
+    }
+
+    @Test
+    void whenStartNextCycle_thenStripesEmptiedAndMovedToNextCycle() {
+        int updated = repository.startNextCycle(jackpotId, 2);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(repository.sumAmount(jackpotId, 2)).isEqualByComparingTo("0");
+        assertThat(repository.findAllForUpdate(jackpotId, 3))
+                .allSatisfy(stripe -> assertThat(stripe.getAmount()).isEqualByComparingTo("0"))
+                .hasSize(2);
+    }
+}
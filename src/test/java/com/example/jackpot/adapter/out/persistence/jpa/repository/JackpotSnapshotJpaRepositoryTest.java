@@ -0,0 +1,62 @@
+package com.example.jackpot.adapter.out.persistence.jpa.repository;
+
+import com.example.jackpot.adapter.out.persistence.jpa.entity.JackpotSnapshotEntity;
+import com.example.jackpot.adapter.out.persistence.jpa.entity.MoneyEmbeddable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class JackpotSnapshotJpaRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Autowired
+    private JackpotSnapshotJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final UUID jackpotId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        em.persist(snapshot(jackpotId, 100, T0.plusSeconds(1)));
+        em.persist(snapshot(jackpotId, 200, T0.plusSeconds(2)));
+        em.persist(snapshot(UUID.randomUUID(), 300, T0.plusSeconds(3)));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void whenFindLatest_thenHighestSequenceOfJackpotReturned() {
+        assertThat(repository.findFirstByJackpotIdOrderBySequenceDesc(jackpotId))
+                .hasValueSatisfying(s -> {
+                    assertThat(s.getSequence()).isEqualTo(200);
+                    assertThat(s.getPool().getAmount()).isEqualByComparingTo("120.00");
+                });
+    }
+
+    @Test
+    void whenFindLatestUntil_thenLatestSnapshotUpToThatSequenceReturned() {
+        assertThat(repository.findFirstByJackpotIdAndSequenceLessThanEqualOrderBySequenceDesc(jackpotId, 150))
+                .hasValueSatisfying(s -> assertThat(s.getSequence()).isEqualTo(100));
+    }
+
+    @Test
+    void givenNoSnapshotUntil_whenFindLatestUntil_thenEmpty() {
+        assertThat(repository.findFirstByJackpotIdAndSequenceLessThanEqualOrderBySequenceDesc(jackpotId, 99)).isEmpty();
+    }
+
+    private static JackpotSnapshotEntity snapshot(UUID jackpotId, long sequence, Instant asOf) {
+        return new JackpotSnapshotEntity(UUID.randomUUID(), jackpotId, sequence, 2, new MoneyEmbeddable(new BigDecimal("120.00"), "EUR"), asOf);
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.reward.RewardContext;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class AtomicDeltaBetProcessingServiceTest {
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @Mock
+    private JackpotMetrics metrics;
+
+    @Mock
+    private BetRepository betRepository;
+
+    @Mock
+    private BetOutcomeRepository outcomeRepository;
+
+    @Mock
+    private BetOutcomeRegistry outcomes;
+
+    @Mock
+    private ContributionCalculator contributionCalculator;
+
+    @Mock
+    private RewardEvaluator rewardEvaluator;
+
+    @Captor
+    private ArgumentCaptor<JackpotContribution> contributionCaptor;
+
+    private BetProcessingService service;
+
+    @BeforeEach
+    void setUp() {
+        BetIdempotencyGuard idempotencyGuard = new BetIdempotencyGuard(betRepository, contributionRepository, 1_000, 0.01, 100, Duration.ofHours(1));
+        service = new AtomicDeltaBetProcessingService(jackpotRepository, contributionRepository, rewardRepository, outcomeRepository, metrics, idempotencyGuard, outcomes);
+    }
+
+    @Test
+    void givenNullBet_whenProcess_thenThrowException() {
+        assertThatThrownBy(() -> service.process(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("bet must not be null");
+    }
+
+    @Test
+    void givenContributionAlreadyExists_whenProcess_thenDoNothing() {
+        Bet bet = bet(JackpotId.of(UUID.randomUUID()));
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(true);
+
+        service.process(bet);
+
+        then(contributionRepository).shouldHaveNoMoreInteractions();
+        then(jackpotRepository).shouldHaveNoInteractions();
+        then(rewardRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void givenJackpotDoesNotExist_whenProcess_thenThrowException() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.process(bet))
+                .isInstanceOf(JackpotNotFoundException.class)
+                .hasMessageContaining("Jackpot not found: %s".formatted(jackpotId.value()));
+
+        then(jackpotRepository).shouldHaveNoMoreInteractions();
+        then(rewardRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void whenProcess_thenDeltaAddedAndRewardEvaluatedAgainstPersistedPool() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot(jackpotId)));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(jackpotRepository.addToPool(jackpotId, CycleNumber.of(3), Money.of("5.00", "EUR"))).willReturn(Money.of("180.00", "EUR"));
+        given(rewardEvaluator.evaluate(new RewardContext(Money.of("180.00", "EUR")))).willReturn(false);
+
+        service.process(bet);
+
+        then(contributionRepository).should().save(contributionCaptor.capture());
+        assertThat(contributionCaptor.getValue().contributionAmount()).isEqualTo(Money.of("5.00", "EUR"));
+        assertThat(contributionCaptor.getValue().currentJackpotAmount()).isEqualTo(Money.of("180.00", "EUR"));
+        assertThat(contributionCaptor.getValue().jackpotCycle()).isEqualTo(CycleNumber.of(3));
+
+        then(jackpotRepository).should().findById(jackpotId);
+        then(jackpotRepository).should().addToPool(jackpotId, CycleNumber.of(3), Money.of("5.00", "EUR"));
+        then(jackpotRepository).shouldHaveNoMoreInteractions();
+        then(rewardRepository).shouldHaveNoInteractions();
+        then(metrics).should().poolChanged(jackpotId, Money.of("180.00", "EUR"));
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue().betId()).isEqualTo(bet.betId());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.LOSS);
+    }
+
+    @Test
+    void givenRewarded_whenProcess_thenPersistedPoolPaidAndCycleReset() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot(jackpotId)));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(jackpotRepository.addToPool(jackpotId, CycleNumber.of(3), Money.of("5.00", "EUR"))).willReturn(Money.of("180.00", "EUR"));
+        given(rewardEvaluator.evaluate(new RewardContext(Money.of("180.00", "EUR")))).willReturn(true);
+
+        service.process(bet);
+
+        ArgumentCaptor<JackpotReward> rewardCaptor = ArgumentCaptor.forClass(JackpotReward.class);
+        then(rewardRepository).should().save(rewardCaptor.capture());
+        assertThat(rewardCaptor.getValue().rewardAmount()).isEqualTo(Money.of("180.00", "EUR"));
+
+        then(jackpotRepository).should().startNextCycle(jackpotId, CycleNumber.of(3));
+        then(metrics).should().poolChanged(jackpotId, Money.of("100.00", "EUR"));
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.WIN);
+        assertThat(outcomeCaptor.getValue().rewardAmount()).hasValue(Money.of("180.00", "EUR"));
+    }
+
+    @Test
+    void givenCycleMovedOn_whenProcess_thenConflictPropagatedAndNothingSaved() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot(jackpotId)));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(jackpotRepository.addToPool(jackpotId, CycleNumber.of(3), Money.of("5.00", "EUR")))
+                .willThrow(new OptimisticLockingFailureException("cycle moved on"));
+
+        assertThatThrownBy(() -> service.process(bet))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        then(contributionRepository).shouldHaveNoMoreInteractions();
+        then(rewardRepository).shouldHaveNoInteractions();
+        then(metrics).shouldHaveNoInteractions();
+    }
+
+    private Jackpot jackpot(JackpotId jackpotId) {
+        return new Jackpot(jackpotId, CycleNumber.of(3), Money.of("100.00", "EUR"), Money.of("150.00", "EUR"), contributionCalculator, rewardEvaluator);
+    }
+
+    private static Bet bet(JackpotId jackpotId) {
+        return new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                jackpotId,
+                Money.of("105.00", "EUR")
+        );
+    }
+}
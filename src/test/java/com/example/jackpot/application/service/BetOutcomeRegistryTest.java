@@ -0,0 +1,157 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BetOutcomeRegistryTest {
+
+    private final BetOutcomeRegistry registry = new BetOutcomeRegistry(2, 2);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenNonPositiveMaxWaiting_whenCreate_thenThrowException() {
+        assertThatThrownBy(() -> new BetOutcomeRegistry(0, 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxWaiting must be positive");
+    }
+
+    @Test
+    void givenNonPositiveRecentOutcomes_whenCreate_thenThrowException() {
+        assertThatThrownBy(() -> new BetOutcomeRegistry(100, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("recentOutcomes must be positive");
+    }
+
+    @Test
+    void givenWaitingClients_whenProcessed_thenAllCompletedWithOutcome() throws Exception {
+        BetOutcome win = win(BetId.of(UUID.randomUUID()));
+
+        CompletableFuture<BetOutcome> first = registry.await(win.betId(), Duration.ofSeconds(10));
+        CompletableFuture<BetOutcome> second = registry.await(win.betId(), Duration.ofSeconds(10));
+        assertThat(registry.waitingCount()).isEqualTo(1);
+
+        registry.processed(win);
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isSameAs(win);
+        assertThat(second.get(1, TimeUnit.SECONDS)).isSameAs(win);
+        assertThat(registry.waitingCount()).isZero();
+    }
+
+    @Test
+    void givenNoOutcome_whenTimeoutElapses_thenFailWithTimeoutAndForgetWaiter() {
+        BetId betId = BetId.of(UUID.randomUUID());
+
+        CompletableFuture<BetOutcome> outcome = registry.await(betId, Duration.ofMillis(20));
+
+        assertThatThrownBy(() -> outcome.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(registry.waitingCount()).isZero();
+    }
+
+    @Test
+    void givenTooManyWaitingBets_whenAwait_thenRejected() {
+        registry.await(BetId.of(UUID.randomUUID()), Duration.ofSeconds(10));
+        registry.await(BetId.of(UUID.randomUUID()), Duration.ofSeconds(10));
+
+        CompletableFuture<BetOutcome> outcome = registry.await(BetId.of(UUID.randomUUID()), Duration.ofSeconds(10));
+
+        assertThat(outcome).isCompletedExceptionally();
+        assertThatThrownBy(outcome::join).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void givenActiveTransaction_whenProcessed_thenCompletedOnlyAfterCommit() throws Exception {
+        BetOutcome loss = loss(BetId.of(UUID.randomUUID()));
+        CompletableFuture<BetOutcome> outcome = registry.await(loss.betId(), Duration.ofSeconds(10));
+
+        TransactionSynchronizationManager.initSynchronization();
+        registry.processed(loss);
+
+        assertThat(outcome).isNotDone();
+        assertThat(registry.recent(loss.betId())).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(outcome.get(1, TimeUnit.SECONDS)).isSameAs(loss);
+        assertThat(registry.recent(loss.betId())).hasValue(loss);
+    }
+
+    @Test
+    void givenActiveTransaction_whenRolledBack_thenStillWaiting() {
+        BetOutcome loss = loss(BetId.of(UUID.randomUUID()));
+        CompletableFuture<BetOutcome> outcome = registry.await(loss.betId(), Duration.ofSeconds(10));
+
+        TransactionSynchronizationManager.initSynchronization();
+        registry.processed(loss);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(outcome).isNotDone();
+        assertThat(registry.waitingCount()).isEqualTo(1);
+        assertThat(registry.recent(loss.betId())).isEmpty();
+    }
+
+    @Test
+    void whenOutcomesProcessed_thenEachWaiterGetsItsOwn() throws Exception {
+        BetOutcome win = win(BetId.of(UUID.randomUUID()));
+        BetOutcome loss = loss(BetId.of(UUID.randomUUID()));
+        CompletableFuture<BetOutcome> winnerOutcome = registry.await(win.betId(), Duration.ofSeconds(10));
+        CompletableFuture<BetOutcome> loserOutcome = registry.await(loss.betId(), Duration.ofSeconds(10));
+
+        registry.processed(List.of(win, loss));
+
+        assertThat(winnerOutcome.get(1, TimeUnit.SECONDS)).isSameAs(win);
+        assertThat(loserOutcome.get(1, TimeUnit.SECONDS)).isSameAs(loss);
+    }
+
+    @Test
+    void givenMoreOutcomesThanKept_whenRecent_thenLeastRecentlyUsedForgotten() {
+        BetOutcome first = loss(BetId.of(UUID.randomUUID()));
+        BetOutcome second = loss(BetId.of(UUID.randomUUID()));
+        BetOutcome third = loss(BetId.of(UUID.randomUUID()));
+
+        registry.processed(first);
+        registry.processed(second);
+        registry.recent(first.betId());
+        registry.processed(third);
+
+        assertThat(registry.recent(first.betId())).hasValue(first);
+        assertThat(registry.recent(second.betId())).isEmpty();
+        assertThat(registry.recent(third.betId())).hasValue(third);
+    }
+
+    private static BetOutcome win(BetId betId) {
+        return new BetOutcome(betId, JackpotId.of(UUID.randomUUID()), BetOutcome.Result.WIN, Money.of("100.00", "EUR"), Instant.now());
+    }
+
+    private static BetOutcome loss(BetId betId) {
+        return new BetOutcome(betId, JackpotId.of(UUID.randomUUID()), BetOutcome.Result.LOSS, null, Instant.now());
+    }
+}
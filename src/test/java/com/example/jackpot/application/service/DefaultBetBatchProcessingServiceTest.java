@@ -0,0 +1,236 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetBatchProcessingService;
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultBetBatchProcessingServiceTest {
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @Mock
+    private BetProcessingService betProcessingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JackpotMetrics metrics;
+
+    @Mock
+    private BetOutcomeRepository outcomeRepository;
+
+    @Mock
+    private BetOutcomeRegistry outcomes;
+
+    private BetBatchProcessingService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DefaultBetBatchProcessingService(jackpotRepository, contributionRepository, rewardRepository, outcomeRepository, betProcessingService, new TransactionTemplate(transactionManager), metrics, outcomes, "versioned");
+    }
+
+    @Test
+    void givenNullBets_whenProcessAll_thenThrowException() {
+        assertThatThrownBy(() -> service.processAll(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("bets must not be null");
+    }
+
+    @Test
+    void givenBetsForSameJackpot_whenProcessAll_thenJackpotLoadedAndSavedOnce() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet first = bet(jackpotId);
+        Bet second = bet(jackpotId);
+
+        Jackpot jackpot = mock(Jackpot.class);
+        JackpotContribution firstContribution = contributionFor(first);
+        JackpotContribution secondContribution = contributionFor(second);
+
+        given(contributionRepository.findExistingBetIds(List.of(first.betId(), second.betId()))).willReturn(Set.of());
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot));
+        given(jackpot.contribute(first)).willReturn(firstContribution);
+        given(jackpot.contribute(second)).willReturn(secondContribution);
+        given(jackpot.evaluateRewardFor(first)).willReturn(Optional.empty());
+        given(jackpot.evaluateRewardFor(second)).willReturn(Optional.empty());
+        given(jackpot.currentPool()).willReturn(Money.of("110.00", "EUR"));
+
+        BetBatchResult result = service.processAll(List.of(first, second));
+
+        assertThat(result.hasFailures()).isFalse();
+
+        then(jackpotRepository).should(times(1)).findById(jackpotId);
+        then(jackpotRepository).should(times(1)).save(jackpot);
+        then(contributionRepository).should().saveAll(List.of(firstContribution, secondContribution));
+        then(rewardRepository).shouldHaveNoInteractions();
+        then(betProcessingService).shouldHaveNoInteractions();
+        then(metrics).should().betApplied(firstContribution, false);
+        then(metrics).should().betApplied(secondContribution, false);
+        then(metrics).should(times(1)).poolChanged(jackpotId, Money.of("110.00", "EUR"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BetOutcome>> outcomeCaptor = ArgumentCaptor.forClass(List.class);
+        then(outcomeRepository).should().saveAll(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue())
+                .extracting(BetOutcome::betId, BetOutcome::result)
+                .containsExactly(tuple(first.betId(), BetOutcome.Result.LOSS), tuple(second.betId(), BetOutcome.Result.LOSS));
+    }
+
+    @Test
+    void givenRewardInBatch_whenProcessAll_thenRewardSavedAndNewCycleStarted() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        Jackpot jackpot = mock(Jackpot.class);
+        JackpotContribution contribution = contributionFor(bet);
+        JackpotReward reward = mock(JackpotReward.class);
+        given(reward.betId()).willReturn(bet.betId());
+        given(reward.rewardAmount()).willReturn(Money.of("500.00", "EUR"));
+
+        given(contributionRepository.findExistingBetIds(List.of(bet.betId()))).willReturn(Set.of());
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot));
+        given(jackpot.contribute(bet)).willReturn(contribution);
+        given(jackpot.evaluateRewardFor(bet)).willReturn(Optional.of(reward));
+
+        service.processAll(List.of(bet));
+
+        then(rewardRepository).should().saveAll(List.of(reward));
+        then(jackpot).should(times(1)).startNextCycle();
+        then(metrics).should().betApplied(contribution, true);
+        then(jackpotRepository).should(times(1)).save(jackpot);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BetOutcome>> outcomeCaptor = ArgumentCaptor.forClass(List.class);
+        then(outcomeRepository).should().saveAll(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue())
+                .singleElement()
+                .satisfies(o -> {
+                    assertThat(o.result()).isEqualTo(BetOutcome.Result.WIN);
+                    assertThat(o.rewardAmount()).hasValue(Money.of("500.00", "EUR"));
+                });
+    }
+
+    @Test
+    void givenAlreadyProcessedBets_whenProcessAll_thenSkipped() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.findExistingBetIds(List.of(bet.betId()))).willReturn(Set.of(bet.betId()));
+
+        BetBatchResult result = service.processAll(List.of(bet));
+
+        assertThat(result.hasFailures()).isFalse();
+
+        then(jackpotRepository).shouldHaveNoInteractions();
+        then(contributionRepository).should(never()).saveAll(anyList());
+    }
+
+    @Test
+    void givenGroupFails_whenProcessAll_thenFallBackToPerBetProcessing() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet ok = bet(jackpotId);
+        Bet failing = bet(jackpotId);
+
+        JackpotNotFoundException failure = new JackpotNotFoundException("Jackpot not found: %s".formatted(jackpotId.value()));
+
+        given(contributionRepository.findExistingBetIds(List.of(ok.betId(), failing.betId()))).willReturn(Set.of());
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.empty());
+        willThrow(failure).given(betProcessingService).process(failing);
+
+        BetBatchResult result = service.processAll(List.of(ok, failing));
+
+        assertThat(result.failures())
+                .hasSize(1)
+                .containsEntry(failing.betId(), failure);
+
+        then(betProcessingService).should().process(ok);
+        then(betProcessingService).should().process(failing);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"striped", "event-sourced"})
+    void givenPoolUpdateOutsideJackpotRow_whenProcessAll_thenEveryBetProcessedIndividually(String poolUpdate) {
+        BetBatchProcessingService service = new DefaultBetBatchProcessingService(jackpotRepository, contributionRepository, rewardRepository, outcomeRepository, betProcessingService, new TransactionTemplate(transactionManager), metrics, outcomes, poolUpdate);
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet first = bet(jackpotId);
+        Bet second = bet(jackpotId);
+
+        BetBatchResult result = service.processAll(List.of(first, second));
+
+        assertThat(result.failures()).isEmpty();
+        then(betProcessingService).should().process(first);
+        then(betProcessingService).should().process(second);
+        then(jackpotRepository).shouldHaveNoInteractions();
+        then(contributionRepository).shouldHaveNoInteractions();
+    }
+
+    private Bet bet(JackpotId jackpotId) {
+        return new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                jackpotId,
+                Money.of("105.00", "EUR")
+        );
+    }
+
+    private static JackpotContribution contributionFor(Bet bet) {
+        JackpotContribution contribution = mock(JackpotContribution.class);
+        given(contribution.betId()).willReturn(bet.betId());
+        given(contribution.jackpotId()).willReturn(bet.jackpotId());
+        given(contribution.createdAt()).willReturn(Instant.now());
+
+        return contribution;
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.jackpot.application.service;
 
 import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.BetRepository;
 import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
 import com.example.jackpot.application.port.out.JackpotRepository;
 import com.example.jackpot.application.port.out.JackpotRewardRepository;
 import com.example.jackpot.domain.exception.JackpotNotFoundException;
 import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
 import com.example.jackpot.domain.model.Jackpot;
 import com.example.jackpot.domain.model.JackpotContribution;
 import com.example.jackpot.domain.model.JackpotReward;
@@ -16,13 +21,19 @@ import com.example.jackpot.domain.model.vo.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
@@ -42,11 +53,26 @@ class DefaultBetProcessingServiceTest {
     @Mock
     private JackpotRewardRepository rewardRepository;
 
+    @Mock
+    private JackpotMetrics metrics;
+
+    @Mock
+    private BetRepository betRepository;
+
+    @Mock
+    private BetOutcomeRepository outcomeRepository;
+
+    @Mock
+    private BetOutcomeRegistry outcomes;
+
+    private BetIdempotencyGuard idempotencyGuard;
+
     private BetProcessingService service;
 
     @BeforeEach
     void setUp() {
-        service = new DefaultBetProcessingService(jackpotRepository, contributionRepository, rewardRepository);
+        idempotencyGuard = new BetIdempotencyGuard(betRepository, contributionRepository, 1_000, 0.01, 100, Duration.ofHours(1));
+        service = new DefaultBetProcessingService(jackpotRepository, contributionRepository, rewardRepository, outcomeRepository, metrics, idempotencyGuard, outcomes);
     }
 
     @Test
@@ -113,17 +139,25 @@ class DefaultBetProcessingServiceTest {
         );
 
         Jackpot jackpot = mock(Jackpot.class);
-        JackpotContribution contribution = mock(JackpotContribution.class);
+        JackpotContribution contribution = contributionFor(bet);
 
         given(contributionRepository.existsByBetId(betId)).willReturn(false);
         given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot));
         given(jackpot.contribute(isA(Bet.class))).willReturn(contribution);
+        given(jackpot.currentPool()).willReturn(Money.of("110.00", "EUR"));
 
         service.process(bet);
 
         then(contributionRepository).should().save(contribution);
         then(jackpotRepository).should().save(jackpot);
         then(rewardRepository).shouldHaveNoInteractions();
+        then(metrics).should().betApplied(contribution, false);
+        then(metrics).should().poolChanged(jackpotId, Money.of("110.00", "EUR"));
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.LOSS);
     }
 
     @Test
@@ -139,8 +173,9 @@ class DefaultBetProcessingServiceTest {
         );
 
         Jackpot jackpot = mock(Jackpot.class);
-        JackpotContribution contribution = mock(JackpotContribution.class);
+        JackpotContribution contribution = contributionFor(bet);
         JackpotReward reward = mock(JackpotReward.class);
+        given(reward.rewardAmount()).willReturn(Money.of("500.00", "EUR"));
 
         given(contributionRepository.existsByBetId(betId)).willReturn(false);
         given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot));
@@ -153,10 +188,52 @@ class DefaultBetProcessingServiceTest {
         then(jackpotRepository).should(times(1)).save(eq(jackpot));
         then(rewardRepository).should(times(1)).save(eq(reward));
         then(jackpot).should(times(1)).startNextCycle();
+        then(metrics).should().betApplied(contribution, true);
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.WIN);
+        assertThat(outcomeCaptor.getValue().rewardAmount()).hasValue(Money.of("500.00", "EUR"));
 
         then(contributionRepository).shouldHaveNoMoreInteractions();
         then(jackpotRepository).shouldHaveNoMoreInteractions();
         then(rewardRepository).shouldHaveNoMoreInteractions();
     }
-}
 
+    @Test
+    void givenRebuiltGuardAndNewBet_whenProcess_thenExistenceNotLookedUp() {
+        given(betRepository.findIdsCreatedSince(any())).willReturn(List.of());
+        given(contributionRepository.findBetIdsCreatedSince(any())).willReturn(List.of());
+        idempotencyGuard.rebuild();
+
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                jackpotId,
+                Money.of("105.00", "EUR")
+        );
+
+        Jackpot jackpot = mock(Jackpot.class);
+        JackpotContribution contribution = contributionFor(bet);
+
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot));
+        given(jackpot.contribute(isA(Bet.class))).willReturn(contribution);
+
+        service.process(bet);
+
+        then(contributionRepository).should().findBetIdsCreatedSince(any());
+        then(contributionRepository).should().save(contribution);
+        then(contributionRepository).shouldHaveNoMoreInteractions();
+    }
+
+    private static JackpotContribution contributionFor(Bet bet) {
+        JackpotContribution contribution = mock(JackpotContribution.class);
+        given(contribution.betId()).willReturn(bet.betId());
+        given(contribution.jackpotId()).willReturn(bet.jackpotId());
+        given(contribution.createdAt()).willReturn(Instant.now());
+
+        return contribution;
+    }
+}
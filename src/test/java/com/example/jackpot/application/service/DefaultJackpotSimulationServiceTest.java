@@ -0,0 +1,172 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetSizeDistribution;
+import com.example.jackpot.application.port.in.SimulationParameters;
+import com.example.jackpot.application.port.in.SimulationReport;
+import com.example.jackpot.application.port.in.SimulationReport.Percentiles;
+import com.example.jackpot.application.port.out.JackpotStrategyFactory;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.contribution.FixedContributionCalculator;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.model.vo.Percentage;
+import com.example.jackpot.domain.reward.FixedChanceRewardEvaluator;
+import com.example.jackpot.domain.reward.RewardContext;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DefaultJackpotSimulationServiceTest {
+
+    private static final Money INITIAL_POOL = Money.of("1000.00", "EUR");
+    private static final BetSizeDistribution TEN_EUR = new BetSizeDistribution.Fixed(Money.of("10.00", "EUR"));
+
+    @Test
+    void givenNegativeParallelism_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new DefaultJackpotSimulationService(Strategies.fixedChance("1.00"), -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("parallelism must not be negative");
+    }
+
+    @Test
+    void givenSameSeed_whenSimulate_thenSameReport() {
+        DefaultJackpotSimulationService service = new DefaultJackpotSimulationService(Strategies.fixedChance("1.00"), 4);
+        SimulationParameters parameters = parameters(new BetSizeDistribution.Uniform(Money.of("0.10", "EUR"), Money.of("50.00", "EUR")), 100_000, 8, 42);
+
+        SimulationReport first = service.simulate(parameters);
+        SimulationReport second = service.simulate(parameters);
+
+        assertThat(second).usingRecursiveComparison().ignoringFields("elapsed").isEqualTo(first);
+        assertThat(first.cycles()).isPositive();
+    }
+
+    @Test
+    void givenDifferentParallelism_whenSimulate_thenSameReport() {
+        SimulationParameters parameters = parameters(new BetSizeDistribution.LogNormal(Money.of("2.00", "EUR"), 1.0), 50_000, 8, 7);
+
+        SimulationReport sequential = new DefaultJackpotSimulationService(Strategies.fixedChance("1.00"), 1).simulate(parameters);
+        SimulationReport parallel = new DefaultJackpotSimulationService(Strategies.fixedChance("1.00"), 8).simulate(parameters);
+
+        assertThat(parallel).usingRecursiveComparison().ignoringFields("elapsed").isEqualTo(sequential);
+    }
+
+    @Test
+    void givenCertainWin_whenSimulate_thenEveryBetWinsItsCycle() {
+        DefaultJackpotSimulationService service = new DefaultJackpotSimulationService(Strategies.fixedChance("100.00"), 2);
+
+        SimulationReport report = service.simulate(parameters(TEN_EUR, 1_000, 3, 1));
+
+        assertThat(report.bets()).isEqualTo(1_000);
+        assertThat(report.cycles()).isEqualTo(1_000);
+        assertThat(report.staked()).isEqualTo(Money.of("10000.00", "EUR"));
+        assertThat(report.contributed()).isEqualTo(Money.of("500.00", "EUR"));
+        assertThat(report.paidOut()).isEqualTo(Money.of("1000500.00", "EUR"));
+        assertThat(report.effectiveContributionRate()).isEqualByComparingTo("0.05");
+        assertThat(report.returnToPlayer()).isEqualByComparingTo("100.05");
+        assertThat(report.cycleLength()).hasValueSatisfying(p -> {
+            assertThat(p.min()).isEqualByComparingTo("1");
+            assertThat(p.max()).isEqualByComparingTo("1");
+        });
+        assertThat(report.payout()).hasValueSatisfying(p -> {
+            assertThat(p.mean()).isEqualByComparingTo("1000.50");
+            assertThat(p.p99()).isEqualByComparingTo("1000.50");
+        });
+    }
+
+    @Test
+    void givenNoWin_whenSimulate_thenNoCycleAndNothingPaidOut() {
+        DefaultJackpotSimulationService service = new DefaultJackpotSimulationService(new Strategies(rng -> ctx -> false), 2);
+
+        SimulationReport report = service.simulate(parameters(TEN_EUR, 100, 2, 1));
+
+        assertThat(report.cycles()).isZero();
+        assertThat(report.contributed()).isEqualTo(Money.of("50.00", "EUR"));
+        assertThat(report.paidOut()).isEqualTo(Money.of("0.00", "EUR"));
+        assertThat(report.returnToPlayer()).isEqualByComparingTo("0");
+        assertThat(report.cycleLength()).isEmpty();
+        assertThat(report.payout()).isEmpty();
+    }
+
+    @Test
+    void givenCycleLengthsOneToTen_whenSimulate_thenNearestRankPercentiles() {
+        // wins after 1, 2, ..., 10 bets: 55 bets in total
+        Function<DoubleSupplier, RewardEvaluator> growingCycles = rng -> new RewardEvaluator() {
+            private int cycle = 1;
+            private int bets;
+
+            @Override
+            public boolean evaluate(RewardContext ctx) {
+                if (++bets < cycle) {
+                    return false;
+                }
+                cycle++;
+                bets = 0;
+                return true;
+            }
+        };
+        DefaultJackpotSimulationService service = new DefaultJackpotSimulationService(new Strategies(growingCycles), 1);
+
+        SimulationReport report = service.simulate(parameters(TEN_EUR, 55, 1, 1));
+
+        assertThat(report.cycles()).isEqualTo(10);
+        assertThat(report.cycleLength()).hasValueSatisfying(p -> assertPercentiles(p, "5.50", "1", "5", "9", "10", "10"));
+        // each cycle pays the initial pool plus 0.50 per bet
+        assertThat(report.payout()).hasValueSatisfying(p -> assertPercentiles(p, "1002.75", "1000.50", "1002.50", "1004.50", "1005.00", "1005.00"));
+    }
+
+    @Test
+    void givenInvalidConfig_whenSimulate_thenThrowException() {
+        JackpotStrategyFactory failing = new Strategies(rng -> {
+            throw new IllegalArgumentException("Unsupported reward type: 'OTHER'");
+        });
+        DefaultJackpotSimulationService service = new DefaultJackpotSimulationService(failing, 1);
+
+        assertThatThrownBy(() -> service.simulate(parameters(TEN_EUR, 10, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported reward type: 'OTHER'");
+    }
+
+    @Test
+    void givenMoreWorkersThanBets_whenNewParameters_thenThrowException() {
+        assertThatThrownBy(() -> parameters(TEN_EUR, 2, 3, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("workers must not exceed bets");
+    }
+
+    private static void assertPercentiles(Percentiles p, String mean, String min, String p50, String p90, String p99, String max) {
+        assertThat(p.mean()).isEqualByComparingTo(mean);
+        assertThat(p.min()).isEqualByComparingTo(min);
+        assertThat(p.p50()).isEqualByComparingTo(p50);
+        assertThat(p.p90()).isEqualByComparingTo(p90);
+        assertThat(p.p99()).isEqualByComparingTo(p99);
+        assertThat(p.max()).isEqualByComparingTo(max);
+    }
+
+    private static SimulationParameters parameters(BetSizeDistribution betSizes, long bets, int workers, long seed) {
+        return new SimulationParameters("contribution", "reward", INITIAL_POOL, betSizes, bets, workers, seed);
+    }
+
+    /**
+     * Fixed 5% contribution with the given reward strategy, ignoring the config strings.
+     */
+    private record Strategies(Function<DoubleSupplier, RewardEvaluator> rewardEvaluator) implements JackpotStrategyFactory {
+
+        private static Strategies fixedChance(String chancePercent) {
+            return new Strategies(rng -> new FixedChanceRewardEvaluator(Percentage.of(chancePercent), rng));
+        }
+
+        @Override
+        public ContributionCalculator contributionCalculator(String config) {
+            return new FixedContributionCalculator(Percentage.of("5.00"));
+        }
+
+        @Override
+        public RewardEvaluator rewardEvaluator(String config, DoubleSupplier randomNumberGenerator) {
+            return rewardEvaluator.apply(randomNumberGenerator);
+        }
+    }
+}
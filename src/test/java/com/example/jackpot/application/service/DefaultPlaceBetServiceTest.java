@@ -1,8 +1,12 @@
 package com.example.jackpot.application.service;
 
+import com.example.jackpot.application.port.in.BetPlacementResult;
 import com.example.jackpot.application.port.in.PlaceBetService;
 import com.example.jackpot.application.port.out.BetProducer;
 import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
 import com.example.jackpot.domain.model.Bet;
 import com.example.jackpot.domain.model.id.BetId;
 import com.example.jackpot.domain.model.id.JackpotId;
@@ -14,9 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
@@ -30,11 +39,20 @@ class DefaultPlaceBetServiceTest {
     @Mock
     private BetProducer betProducer;
 
+    @Mock
+    private JackpotMetrics metrics;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    private BetIdempotencyGuard idempotencyGuard;
+
     private PlaceBetService service;
 
     @BeforeEach
     void setUp() {
-        service = new DefaultPlaceBetService(betRepository, betProducer);
+        idempotencyGuard = new BetIdempotencyGuard(betRepository, contributionRepository, 1_000, 0.01, 100, Duration.ofHours(1));
+        service = new DefaultPlaceBetService(betRepository, betProducer, metrics, idempotencyGuard);
     }
 
     @Test
@@ -61,6 +79,7 @@ class DefaultPlaceBetServiceTest {
 
         then(betRepository).shouldHaveNoMoreInteractions();
         then(betProducer).shouldHaveNoInteractions();
+        then(metrics).should().duplicateBets(1);
     }
 
     @Test
@@ -85,4 +104,89 @@ class DefaultPlaceBetServiceTest {
         then(betRepository).shouldHaveNoMoreInteractions();
         then(betProducer).shouldHaveNoMoreInteractions();
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenNullBets_whenPlaceAll_thenThrowException() {
+        assertThatThrownBy(() -> service.placeAll(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("bets must not be null");
+    }
+
+    @Test
+    void givenExistingAndRepeatedBets_whenPlaceAll_thenOnlyNewBetsSavedAndPublished() {
+        Bet existing = bet();
+        Bet fresh = bet();
+        Bet repeated = new Bet(fresh.betId(), fresh.userId(), fresh.jackpotId(), fresh.betAmount());
+
+        given(betRepository.findExistingIds(List.of(existing.betId(), fresh.betId(), fresh.betId()))).willReturn(Set.of(existing.betId()));
+
+        BetPlacementResult result = service.placeAll(List.of(existing, fresh, repeated));
+
+        then(betRepository).should().saveAll(List.of(fresh));
+        then(betProducer).should().publishAll(List.of(fresh));
+
+        then(betRepository).shouldHaveNoMoreInteractions();
+        then(betProducer).shouldHaveNoMoreInteractions();
+
+        then(metrics).should().duplicateBets(2);
+
+        assertThat(result.duplicates()).containsExactly(existing.betId());
+        assertThat(result.isDuplicate(fresh.betId())).isFalse();
+    }
+
+    @Test
+    void givenAllBetsExist_whenPlaceAll_thenNothingSavedOrPublished() {
+        Bet existing = bet();
+
+        given(betRepository.findExistingIds(List.of(existing.betId()))).willReturn(Set.of(existing.betId()));
+
+        BetPlacementResult result = service.placeAll(List.of(existing));
+
+        then(betRepository).shouldHaveNoMoreInteractions();
+        then(betProducer).shouldHaveNoInteractions();
+
+        assertThat(result.isDuplicate(existing.betId())).isTrue();
+    }
+
+    @Test
+    void givenRebuiltGuardAndNewBet_whenPlace_thenExistenceNotLookedUp() {
+        given(betRepository.findIdsCreatedSince(any())).willReturn(List.of());
+        given(contributionRepository.findBetIdsCreatedSince(any())).willReturn(List.of());
+        idempotencyGuard.rebuild();
+
+        Bet bet = bet();
+
+        service.place(bet);
+
+        then(betRepository).should().findIdsCreatedSince(any());
+        then(betRepository).should().save(bet);
+        then(betRepository).shouldHaveNoMoreInteractions();
+        then(betProducer).should().publish(bet);
+    }
+
+    @Test
+    void givenRebuiltGuardWithRecentBet_whenPlaceAll_thenOnlyRecentBetLookedUp() {
+        Bet recent = bet();
+        Bet fresh = bet();
+
+        given(betRepository.findIdsCreatedSince(any())).willReturn(List.of(recent.betId()));
+        given(contributionRepository.findBetIdsCreatedSince(any())).willReturn(List.of());
+        idempotencyGuard.rebuild();
+
+        given(betRepository.findExistingIds(List.of(recent.betId()))).willReturn(Set.of(recent.betId()));
+
+        BetPlacementResult result = service.placeAll(List.of(recent, fresh));
+
+        then(betRepository).should().saveAll(List.of(fresh));
+        assertThat(result.duplicates()).containsExactly(recent.betId());
+    }
+
+    private static Bet bet() {
+        return new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotId.of(UUID.randomUUID()),
+                Money.of("105.00", "EUR")
+        );
+    }
+}
@@ -1,22 +1,31 @@
 package com.example.jackpot.application.service;
 
 import com.example.jackpot.application.port.in.RewardQueryService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
 import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.domain.model.BetOutcome;
 import com.example.jackpot.domain.model.JackpotReward;
 import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultRewardQueryServiceTest {
@@ -24,11 +33,17 @@ class DefaultRewardQueryServiceTest {
     @Mock
     private JackpotRewardRepository rewardRepository;
 
+    @Mock
+    private BetOutcomeRepository outcomeRepository;
+
+    private BetOutcomeRegistry outcomes;
+
     private RewardQueryService service;
 
     @BeforeEach
     void setUp() {
-        service = new DefaultRewardQueryService(rewardRepository);
+        outcomes = new BetOutcomeRegistry(100, 100);
+        service = new DefaultRewardQueryService(rewardRepository, outcomeRepository, outcomes);
     }
 
     @Test
@@ -62,4 +77,81 @@ class DefaultRewardQueryServiceTest {
                 .isNotEmpty()
                 .hasValue(reward);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenRecentOutcome_whenFindOutcome_thenAnsweredFromMemory() {
+        BetOutcome loss = loss(BetId.of(UUID.randomUUID()));
+        outcomes.processed(loss);
+
+        Optional<BetOutcome> result = service.findOutcomeByBetId(loss.betId());
+
+        assertThat(result).hasValue(loss);
+        then(outcomeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void givenStoredOutcome_whenFindOutcome_thenAnsweredFromRepository() {
+        BetOutcome loss = loss(BetId.of(UUID.randomUUID()));
+
+        given(outcomeRepository.findByBetId(loss.betId())).willReturn(Optional.of(loss));
+
+        Optional<BetOutcome> result = service.findOutcomeByBetId(loss.betId());
+
+        assertThat(result).hasValue(loss);
+    }
+
+    @Test
+    void givenNoOutcome_whenFindOutcome_thenPending() {
+        BetId betId = BetId.of(UUID.randomUUID());
+
+        given(outcomeRepository.findByBetId(betId)).willReturn(Optional.empty());
+
+        Optional<BetOutcome> result = service.findOutcomeByBetId(betId);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void givenStoredOutcome_whenAwait_thenCompletedWithoutWaiting() throws Exception {
+        BetOutcome loss = loss(BetId.of(UUID.randomUUID()));
+
+        given(outcomeRepository.findByBetId(loss.betId())).willReturn(Optional.of(loss));
+
+        CompletableFuture<Optional<BetOutcome>> result = service.awaitOutcomeByBetId(loss.betId(), Duration.ofSeconds(10));
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).hasValue(loss);
+        assertThat(outcomes.waitingCount()).isZero();
+    }
+
+    @Test
+    void givenBetNotProcessed_whenAwait_thenCompletedWhenProcessed() throws Exception {
+        BetOutcome loss = loss(BetId.of(UUID.randomUUID()));
+
+        given(outcomeRepository.findByBetId(loss.betId())).willReturn(Optional.empty());
+
+        CompletableFuture<Optional<BetOutcome>> result = service.awaitOutcomeByBetId(loss.betId(), Duration.ofSeconds(10));
+        assertThat(result).isNotDone();
+
+        outcomes.processed(loss);
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).hasValue(loss);
+        then(outcomeRepository).should(times(1)).findByBetId(loss.betId());
+    }
+
+    @Test
+    void givenBetNotProcessedInTime_whenAwait_thenCompletedWithLastLookup() throws Exception {
+        BetId betId = BetId.of(UUID.randomUUID());
+
+        given(outcomeRepository.findByBetId(betId)).willReturn(Optional.empty());
+
+        CompletableFuture<Optional<BetOutcome>> result = service.awaitOutcomeByBetId(betId, Duration.ofMillis(50));
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEmpty();
+        then(outcomeRepository).should(times(2)).findByBetId(betId);
+        assertThat(outcomes.waitingCount()).isZero();
+    }
+
+    private static BetOutcome loss(BetId betId) {
+        return new BetOutcome(betId, JackpotId.of(UUID.randomUUID()), BetOutcome.Result.LOSS, null, Instant.now());
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetProcessingService;
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.application.service.JackpotEventSourcing.ReplayedJackpot;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.event.ContributionApplied;
+import com.example.jackpot.domain.model.event.CycleStarted;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.event.RewardGranted;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.reward.RewardContext;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class EventSourcedBetProcessingServiceTest {
+
+    @Mock
+    private JackpotEventSourcing eventSourcing;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @Mock
+    private JackpotMetrics metrics;
+
+    @Mock
+    private BetRepository betRepository;
+
+    @Mock
+    private BetOutcomeRepository outcomeRepository;
+
+    @Mock
+    private BetOutcomeRegistry outcomes;
+
+    @Mock
+    private ContributionCalculator contributionCalculator;
+
+    @Mock
+    private RewardEvaluator rewardEvaluator;
+
+    @Captor
+    private ArgumentCaptor<List<JackpotEvent>> eventsCaptor;
+
+    private BetProcessingService service;
+
+    @BeforeEach
+    void setUp() {
+        BetIdempotencyGuard idempotencyGuard = new BetIdempotencyGuard(betRepository, contributionRepository, 1_000, 0.01, 100, Duration.ofHours(1));
+        service = new EventSourcedBetProcessingService(eventSourcing, contributionRepository, rewardRepository, outcomeRepository, metrics, idempotencyGuard, outcomes);
+    }
+
+    @Test
+    void givenNullBet_whenProcess_thenThrowException() {
+        assertThatThrownBy(() -> service.process(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("bet must not be null");
+    }
+
+    @Test
+    void givenContributionAlreadyExists_whenProcess_thenDoNothing() {
+        Bet bet = bet(JackpotId.of(UUID.randomUUID()));
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(true);
+
+        service.process(bet);
+
+        then(contributionRepository).shouldHaveNoMoreInteractions();
+        then(eventSourcing).shouldHaveNoInteractions();
+        then(rewardRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void whenProcess_thenContributionAppendedAfterReplayedSequence() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+        Jackpot jackpot = jackpot(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(eventSourcing.load(jackpotId)).willReturn(new ReplayedJackpot(jackpot, 41));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(new RewardContext(Money.of("155.00", "EUR")))).willReturn(false);
+
+        service.process(bet);
+
+        then(eventSourcing).should().append(eq(jackpot), eq(41L), eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).singleElement()
+                .isInstanceOfSatisfying(ContributionApplied.class, event -> {
+                    assertThat(event.sequence()).isEqualTo(42);
+                    assertThat(event.betId()).isEqualTo(bet.betId());
+                    assertThat(event.cycle()).isEqualTo(CycleNumber.of(3));
+                    assertThat(event.amount()).isEqualTo(Money.of("5.00", "EUR"));
+                });
+
+        then(contributionRepository).should().save(any());
+        then(rewardRepository).shouldHaveNoInteractions();
+        then(metrics).should().poolChanged(jackpotId, Money.of("155.00", "EUR"));
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.LOSS);
+    }
+
+    @Test
+    void givenRewarded_whenProcess_thenRewardAndNextCycleAppended() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+        Jackpot jackpot = jackpot(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(eventSourcing.load(jackpotId)).willReturn(new ReplayedJackpot(jackpot, 41));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(new RewardContext(Money.of("155.00", "EUR")))).willReturn(true);
+
+        service.process(bet);
+
+        ArgumentCaptor<JackpotReward> rewardCaptor = ArgumentCaptor.forClass(JackpotReward.class);
+        then(rewardRepository).should().save(rewardCaptor.capture());
+        assertThat(rewardCaptor.getValue().rewardAmount()).isEqualTo(Money.of("155.00", "EUR"));
+
+        then(eventSourcing).should().append(eq(jackpot), eq(41L), eventsCaptor.capture());
+        assertThat(eventsCaptor.getValue()).extracting(JackpotEvent::sequence).containsExactly(42L, 43L, 44L);
+        assertThat(eventsCaptor.getValue().get(1)).isInstanceOfSatisfying(RewardGranted.class, event -> {
+            assertThat(event.cycle()).isEqualTo(CycleNumber.of(3));
+            assertThat(event.amount()).isEqualTo(Money.of("155.00", "EUR"));
+        });
+        assertThat(eventsCaptor.getValue().get(2)).isInstanceOfSatisfying(CycleStarted.class, event -> {
+            assertThat(event.cycle()).isEqualTo(CycleNumber.of(4));
+            assertThat(event.pool()).isEqualTo(Money.of("100.00", "EUR"));
+        });
+
+        then(metrics).should().poolChanged(jackpotId, Money.of("100.00", "EUR"));
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.WIN);
+    }
+
+    @Test
+    void givenSequenceTakenConcurrently_whenProcess_thenConflictPropagated() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(eventSourcing.load(jackpotId)).willReturn(new ReplayedJackpot(jackpot(jackpotId), 41));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+        willThrow(new OptimisticLockingFailureException("sequence taken"))
+                .given(eventSourcing).append(any(), eq(41L), anyList());
+
+        assertThatThrownBy(() -> service.process(bet))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        then(outcomes).shouldHaveNoInteractions();
+    }
+
+    private Jackpot jackpot(JackpotId jackpotId) {
+        return new Jackpot(jackpotId, CycleNumber.of(3), Money.of("100.00", "EUR"), Money.of("150.00", "EUR"), contributionCalculator, rewardEvaluator);
+    }
+
+    private static Bet bet(JackpotId jackpotId) {
+        return new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                jackpotId,
+                Money.of("105.00", "EUR")
+        );
+    }
+}
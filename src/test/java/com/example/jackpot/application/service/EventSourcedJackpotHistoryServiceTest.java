@@ -0,0 +1,55 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.JackpotState;
+import com.example.jackpot.application.service.JackpotEventSourcing.ReplayedJackpot;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class EventSourcedJackpotHistoryServiceTest {
+
+    private static final Instant AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private JackpotEventSourcing eventSourcing;
+
+    @Mock
+    private ContributionCalculator contributionCalculator;
+
+    @Mock
+    private RewardEvaluator rewardEvaluator;
+
+    private final JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+    private EventSourcedJackpotHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        historyService = new EventSourcedJackpotHistoryService(eventSourcing);
+    }
+
+    @Test
+    void whenStateAt_thenStateOfJackpotReplayedUpToThatTime() {
+        Jackpot jackpot = new Jackpot(jackpotId, CycleNumber.of(3), Money.of("100.00", "EUR"), Money.of("142.75", "EUR"), contributionCalculator, rewardEvaluator);
+        given(eventSourcing.loadAt(jackpotId, AT)).willReturn(new ReplayedJackpot(jackpot, 57));
+
+        JackpotState result = historyService.stateAt(jackpotId, AT);
+
+        assertThat(result).isEqualTo(new JackpotState(jackpotId, AT, 57, CycleNumber.of(3), Money.of("142.75", "EUR")));
+    }
+}
@@ -0,0 +1,507 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.in.BetBatchResult;
+import com.example.jackpot.application.port.in.JackpotEngine;
+import com.example.jackpot.application.port.out.BetJournal;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryJackpotEngineTest {
+
+    private static final int PARTITION = 3;
+    private static final long OFFSET = 41L;
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotStateWriter stateWriter;
+
+    @Mock
+    private JackpotMetrics metrics;
+
+    @Mock
+    private BetJournal journal;
+
+    @Mock
+    private ContributionCalculator contributionCalculator;
+
+    @Mock
+    private RewardEvaluator rewardEvaluator;
+
+    private JackpotEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.empty());
+    }
+
+    @Test
+    void givenNullBets_whenApply_thenThrowException() {
+        assertThatThrownBy(() -> engine.apply(PARTITION, null, OFFSET))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("bets must not be null");
+    }
+
+    @Test
+    void givenAssignedPartition_whenApply_thenResidentJackpotUsedWithoutReload() {
+        Jackpot owned = jackpot();
+        Jackpot foreign = jackpot();
+        Bet first = bet(owned.jackpotId());
+        Bet second = bet(owned.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(owned, foreign));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+
+        engine.assign(PARTITION, owned.jackpotId()::equals, OFFSET);
+        BetBatchResult firstResult = engine.apply(PARTITION, List.of(first), OFFSET);
+        BetBatchResult secondResult = engine.apply(PARTITION, List.of(second), OFFSET);
+
+        assertThat(firstResult.hasFailures()).isFalse();
+        assertThat(secondResult.hasFailures()).isFalse();
+        assertThat(owned.currentPool()).isEqualTo(Money.of("110.00", "EUR"));
+
+        then(jackpotRepository).should(never()).findById(any());
+        then(jackpotRepository).should(never()).save(any());
+    }
+
+    @Test
+    void givenAppliedBets_whenApply_thenSnapshotSubmittedToWriter() {
+        Jackpot jackpot = jackpot();
+        Bet bet = bet(jackpot.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+
+        engine.assign(PARTITION, id -> true, OFFSET);
+        engine.apply(PARTITION, List.of(bet), OFFSET);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotContribution>> contributions = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotReward>> rewards = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Jackpot>> snapshots = ArgumentCaptor.forClass(List.class);
+        then(stateWriter).should().submit(contributions.capture(), rewards.capture(), snapshots.capture());
+
+        assertThat(contributions.getValue()).extracting(JackpotContribution::betId).containsExactly(bet.betId());
+        assertThat(rewards.getValue()).isEmpty();
+        assertThat(snapshots.getValue())
+                .singleElement()
+                .satisfies(s -> {
+                    assertThat(s).isNotSameAs(jackpot);
+                    assertThat(s.currentPool()).isEqualTo(Money.of("105.00", "EUR"));
+                    assertThat(s.version()).isZero();
+                });
+        assertThat(jackpot.version()).isEqualTo(1L);
+    }
+
+    @Test
+    void givenWinningBet_whenApply_thenRewardSubmittedAndNextCycleStarted() {
+        Jackpot jackpot = jackpot();
+        Bet bet = bet(jackpot.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(true);
+
+        engine.assign(PARTITION, id -> true, OFFSET);
+        engine.apply(PARTITION, List.of(bet), OFFSET);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotReward>> rewards = ArgumentCaptor.forClass(List.class);
+        then(stateWriter).should().submit(anyList(), rewards.capture(), anyList());
+
+        assertThat(rewards.getValue())
+                .singleElement()
+                .satisfies(r -> assertThat(r.rewardAmount()).isEqualTo(Money.of("105.00", "EUR")));
+        assertThat(jackpot.currentCycle()).isEqualTo(CycleNumber.of(2));
+        assertThat(jackpot.currentPool()).isEqualTo(Money.of("100.00", "EUR"));
+
+        then(metrics).should().betApplied(any(), eq(true));
+        then(metrics).should().poolChanged(jackpot.jackpotId(), Money.of("100.00", "EUR"));
+    }
+
+    @Test
+    void givenNonResidentJackpot_whenApply_thenLoadedAfterPendingWritesFlushed() {
+        Jackpot jackpot = jackpot();
+        Bet bet = bet(jackpot.jackpotId());
+
+        given(jackpotRepository.findById(jackpot.jackpotId())).willReturn(Optional.of(jackpot));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+
+        engine.apply(PARTITION, List.of(bet), OFFSET);
+        engine.apply(PARTITION, List.of(bet(jackpot.jackpotId())), OFFSET);
+
+        then(stateWriter).should().flush();
+        then(jackpotRepository).should().findById(jackpot.jackpotId());
+    }
+
+    @Test
+    void givenAlreadyProcessedBet_whenApply_thenSkipped() {
+        Jackpot jackpot = jackpot();
+        Bet bet = bet(jackpot.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(contributionRepository.findExistingBetIds(List.of(bet.betId()))).willReturn(Set.of(bet.betId()));
+
+        engine.assign(PARTITION, id -> true, OFFSET);
+        BetBatchResult result = engine.apply(PARTITION, List.of(bet), OFFSET);
+
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(jackpot.currentPool()).isEqualTo(Money.of("100.00", "EUR"));
+
+        then(stateWriter).should(never()).submit(anyList(), anyList(), anyList());
+    }
+
+    @Test
+    void givenBetPendingInWriter_whenApply_thenSkipped() {
+        Jackpot jackpot = jackpot();
+        Bet pending = bet(jackpot.jackpotId());
+        Bet fresh = bet(jackpot.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(stateWriter.pendingAmong(List.of(pending.betId(), fresh.betId()))).willReturn(Set.of(pending.betId()));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+
+        engine.assign(PARTITION, id -> true, OFFSET);
+        engine.apply(PARTITION, List.of(pending, fresh), OFFSET);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotContribution>> captor = ArgumentCaptor.forClass(List.class);
+        then(stateWriter).should().submit(captor.capture(), anyList(), anyList());
+
+        assertThat(captor.getValue()).extracting(JackpotContribution::betId).containsExactly(fresh.betId());
+    }
+
+    @Test
+    void givenUnknownJackpot_whenApply_thenBetReportedAsFailed() {
+        Bet bet = bet(JackpotId.of(UUID.randomUUID()));
+
+        given(jackpotRepository.findById(bet.jackpotId())).willReturn(Optional.empty());
+
+        BetBatchResult result = engine.apply(PARTITION, List.of(bet), OFFSET);
+
+        assertThat(result.failures())
+                .hasSize(1)
+                .hasEntrySatisfying(bet.betId(), ex -> assertThat(ex).isInstanceOf(JackpotNotFoundException.class));
+
+        then(stateWriter).should(never()).submit(anyList(), anyList(), anyList());
+    }
+
+    @Test
+    void givenEvaluationFails_whenApply_thenJackpotStateRestored() {
+        Jackpot jackpot = jackpot();
+        Bet failing = bet(jackpot.jackpotId());
+        Bet ok = bet(jackpot.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any()))
+                .willThrow(new IllegalStateException("boom"))
+                .willReturn(false);
+
+        engine.assign(PARTITION, id -> true, OFFSET);
+        BetBatchResult result = engine.apply(PARTITION, List.of(failing, ok), OFFSET);
+
+        assertThat(result.failures()).containsOnlyKeys(failing.betId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Jackpot>> snapshots = ArgumentCaptor.forClass(List.class);
+        then(stateWriter).should().submit(anyList(), anyList(), snapshots.capture());
+
+        assertThat(snapshots.getValue())
+                .singleElement()
+                .satisfies(s -> assertThat(s.currentPool()).isEqualTo(Money.of("105.00", "EUR")));
+    }
+
+    @Test
+    void givenWritesGivenUp_whenApply_thenJackpotReloaded() {
+        Jackpot resident = jackpot();
+        Jackpot persisted = jackpot(resident.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(resident));
+        given(stateWriter.hasFailedJackpots()).willReturn(true);
+        given(stateWriter.drainFailedJackpots()).willReturn(Set.of(resident.jackpotId()));
+        given(jackpotRepository.findById(resident.jackpotId())).willReturn(Optional.of(persisted));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+
+        engine.assign(PARTITION, id -> true, OFFSET);
+        engine.apply(PARTITION, List.of(bet(resident.jackpotId())), OFFSET);
+
+        assertThat(resident.currentPool()).isEqualTo(Money.of("100.00", "EUR"));
+        assertThat(persisted.currentPool()).isEqualTo(Money.of("105.00", "EUR"));
+    }
+
+    @Test
+    void whenRevoke_thenPendingWritesFlushedAndJackpotsReleased() {
+        Jackpot jackpot = jackpot();
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(jackpotRepository.findById(jackpot.jackpotId())).willReturn(Optional.of(jackpot));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+
+        engine.assign(PARTITION, id -> true, OFFSET);
+        engine.revoke(PARTITION);
+        engine.apply(PARTITION, List.of(bet(jackpot.jackpotId())), OFFSET);
+
+        then(stateWriter).should().flushOrGiveUp();
+        then(jackpotRepository).should().findById(jackpot.jackpotId());
+    }
+
+    @Test
+    void givenJournal_whenApply_thenJournaledDurablyBeforeSubmittedAndReleasedOnceWritten() {
+        JackpotEngine journaled = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.of(journal));
+        Jackpot jackpot = jackpot();
+        Bet bet = bet(jackpot.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(journal.recover(PARTITION, OFFSET)).willReturn(new BetJournal.Recovered(List.of(), List.of()));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+        given(journal.append(eq(PARTITION), eq(OFFSET), anyList(), anyList())).willReturn(7L);
+
+        journaled.assign(PARTITION, id -> true, OFFSET);
+        journaled.apply(PARTITION, List.of(bet), OFFSET);
+
+        ArgumentCaptor<Runnable> written = ArgumentCaptor.forClass(Runnable.class);
+        InOrder inOrder = inOrder(journal, stateWriter);
+        inOrder.verify(journal).append(eq(PARTITION), eq(OFFSET), anyList(), anyList());
+        inOrder.verify(journal).awaitDurable(7L);
+        inOrder.verify(stateWriter).submit(anyList(), anyList(), anyList(), written.capture());
+
+        then(journal).should(never()).release(7L);
+        written.getValue().run();
+        then(journal).should().release(7L);
+    }
+
+    @Test
+    void givenEarlierPollNotWritten_whenLaterPollWritten_thenJournalReleasedOnlyUpToEarlierPoll() {
+        JackpotEngine journaled = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.of(journal));
+        Jackpot jackpot = jackpot();
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(journal.recover(PARTITION, OFFSET)).willReturn(new BetJournal.Recovered(List.of(), List.of()));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+        given(journal.append(eq(PARTITION), anyLong(), anyList(), anyList())).willReturn(1L, 2L);
+
+        journaled.assign(PARTITION, id -> true, OFFSET);
+        journaled.apply(PARTITION, List.of(bet(jackpot.jackpotId())), OFFSET);
+        journaled.apply(PARTITION, List.of(bet(jackpot.jackpotId())), OFFSET + 1);
+
+        ArgumentCaptor<Runnable> written = ArgumentCaptor.forClass(Runnable.class);
+        then(stateWriter).should(times(2)).submit(anyList(), anyList(), anyList(), written.capture());
+
+        written.getAllValues().get(1).run();
+        then(journal).should(never()).release(2L);
+
+        written.getAllValues().get(0).run();
+        then(journal).should().release(2L);
+    }
+
+    @Test
+    void givenJournaledWritesGivenUp_whenApply_thenJournaledBetsRecoveredBeforePoll() {
+        JackpotEngine journaled = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.of(journal));
+        Jackpot resident = jackpot();
+        Jackpot persisted = jackpot(resident.jackpotId());
+        JackpotContribution lost = contribution(resident.jackpotId(), 1, "105.00");
+
+        given(jackpotRepository.findAll()).willReturn(List.of(resident));
+        given(journal.recover(PARTITION, OFFSET)).willReturn(new BetJournal.Recovered(List.of(), List.of()));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+        given(journal.append(eq(PARTITION), anyLong(), anyList(), anyList())).willReturn(1L, 2L);
+        given(stateWriter.hasFailedJackpots()).willReturn(false, true);
+        given(stateWriter.drainFailedJackpots()).willReturn(Set.of(resident.jackpotId()));
+        given(jackpotRepository.findById(resident.jackpotId())).willReturn(Optional.of(persisted));
+        given(journal.recover(PARTITION, Long.MAX_VALUE)).willReturn(new BetJournal.Recovered(List.of(lost), List.of()));
+        given(contributionRepository.findExistingBetIds(anyList())).willReturn(Set.of());
+
+        journaled.assign(PARTITION, id -> true, OFFSET);
+        journaled.apply(PARTITION, List.of(bet(resident.jackpotId())), OFFSET);
+        journaled.apply(PARTITION, List.of(bet(resident.jackpotId())), OFFSET + 1);
+
+        assertThat(persisted.currentPool()).isEqualTo(Money.of("110.00", "EUR"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotContribution>> contributions = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Runnable> written = ArgumentCaptor.forClass(Runnable.class);
+        then(stateWriter).should(times(3)).submit(contributions.capture(), anyList(), anyList(), written.capture());
+        assertThat(contributions.getAllValues().get(1)).containsExactly(lost);
+
+        then(journal).should(never()).release(1L);
+        written.getAllValues().get(1).run();
+        then(journal).should().release(1L);
+    }
+
+    @Test
+    void givenJournalFails_whenApply_thenExceptionThrownAndJackpotReloaded() {
+        JackpotEngine journaled = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.of(journal));
+        Jackpot resident = jackpot();
+        Jackpot persisted = jackpot(resident.jackpotId());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(resident));
+        given(journal.recover(PARTITION, OFFSET)).willReturn(new BetJournal.Recovered(List.of(), List.of()));
+        given(jackpotRepository.findById(resident.jackpotId())).willReturn(Optional.of(persisted));
+        given(contributionCalculator.calculate(any())).willReturn(Money.of("5.00", "EUR"));
+        given(rewardEvaluator.evaluate(any())).willReturn(false);
+        given(journal.append(eq(PARTITION), anyLong(), anyList(), anyList())).willReturn(1L, 2L);
+        willThrow(new UncheckedIOException(new IOException("disk full"))).given(journal).awaitDurable(1L);
+
+        journaled.assign(PARTITION, id -> true, OFFSET);
+
+        assertThatThrownBy(() -> journaled.apply(PARTITION, List.of(bet(resident.jackpotId())), OFFSET))
+                .isInstanceOf(UncheckedIOException.class);
+        then(stateWriter).should(never()).submit(anyList(), anyList(), anyList(), any());
+
+        journaled.apply(PARTITION, List.of(bet(resident.jackpotId())), OFFSET);
+
+        then(jackpotRepository).should().findById(resident.jackpotId());
+        assertThat(persisted.currentPool()).isEqualTo(Money.of("105.00", "EUR"));
+    }
+
+    @Test
+    void givenJournaledBetsNotPersisted_whenAssign_thenReappliedAndSubmitted() {
+        JackpotEngine journaled = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.of(journal));
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Jackpot jackpot = new Jackpot(jackpotId, CycleNumber.of(1), Money.of("100.00", "EUR"), Money.of("105.00", "EUR"), contributionCalculator, rewardEvaluator);
+
+        JackpotContribution persisted = contribution(jackpotId, 1, "105.00");
+        JackpotContribution winning = contribution(jackpotId, 1, "110.00");
+        JackpotContribution next = contribution(jackpotId, 2, "105.00");
+        JackpotReward reward = new JackpotReward(winning.betId(), winning.userId(), JackpotCycle.of(jackpotId, CycleNumber.of(1)), Money.of("110.00", "EUR"), Instant.now());
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(journal.recover(PARTITION, OFFSET)).willReturn(new BetJournal.Recovered(List.of(persisted, winning, next), List.of(reward)));
+        given(contributionRepository.findExistingBetIds(List.of(persisted.betId(), winning.betId(), next.betId()))).willReturn(Set.of(persisted.betId()));
+
+        journaled.assign(PARTITION, id -> true, OFFSET);
+
+        assertThat(jackpot.currentCycle()).isEqualTo(CycleNumber.of(2));
+        assertThat(jackpot.currentPool()).isEqualTo(Money.of("105.00", "EUR"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotContribution>> contributions = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<JackpotReward>> rewards = ArgumentCaptor.forClass(List.class);
+        then(stateWriter).should().submit(contributions.capture(), rewards.capture(), anyList(), any());
+
+        assertThat(contributions.getValue()).containsExactly(winning, next);
+        assertThat(rewards.getValue()).containsExactly(reward);
+        then(metrics).should().poolChanged(jackpotId, Money.of("105.00", "EUR"));
+    }
+
+    @Test
+    void givenJournaledPoolOlderThanLoadedPool_whenAssign_thenContributionAddedToLoadedPool() {
+        JackpotEngine journaled = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.of(journal));
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Jackpot jackpot = new Jackpot(jackpotId, CycleNumber.of(1), Money.of("100.00", "EUR"), Money.of("120.00", "EUR"), contributionCalculator, rewardEvaluator);
+        JackpotContribution lost = contribution(jackpotId, 1, "105.00");
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(journal.recover(PARTITION, OFFSET)).willReturn(new BetJournal.Recovered(List.of(lost), List.of()));
+        given(contributionRepository.findExistingBetIds(List.of(lost.betId()))).willReturn(Set.of());
+
+        journaled.assign(PARTITION, id -> true, OFFSET);
+
+        assertThat(jackpot.currentPool()).isEqualTo(Money.of("125.00", "EUR"));
+    }
+
+    @Test
+    void givenJournaledBetOfOtherCycle_whenAssign_thenSkipped() {
+        JackpotEngine journaled = new InMemoryJackpotEngine(jackpotRepository, contributionRepository, stateWriter, metrics, Optional.of(journal));
+        Jackpot jackpot = jackpot();
+        JackpotContribution stale = contribution(jackpot.jackpotId(), 5, "120.00");
+
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+        given(journal.recover(PARTITION, OFFSET)).willReturn(new BetJournal.Recovered(List.of(stale), List.of()));
+        given(contributionRepository.findExistingBetIds(List.of(stale.betId()))).willReturn(Set.of());
+
+        journaled.assign(PARTITION, id -> true, OFFSET);
+
+        assertThat(jackpot.currentPool()).isEqualTo(Money.of("100.00", "EUR"));
+        then(stateWriter).should(never()).submit(anyList(), anyList(), anyList(), any());
+    }
+
+    private Jackpot jackpot() {
+        return jackpot(JackpotId.of(UUID.randomUUID()));
+    }
+
+    private Jackpot jackpot(JackpotId jackpotId) {
+        return new Jackpot(jackpotId, CycleNumber.of(1), Money.of("100.00", "EUR"), contributionCalculator, rewardEvaluator);
+    }
+
+    private Bet bet(JackpotId jackpotId) {
+        return new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                jackpotId,
+                Money.of("105.00", "EUR")
+        );
+    }
+
+    private static JackpotContribution contribution(JackpotId jackpotId, int cycle, String pool) {
+        return new JackpotContribution(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                JackpotCycle.of(jackpotId, CycleNumber.of(cycle)),
+                Money.of("50.00", "EUR"),
+                Money.of("5.00", "EUR"),
+                Money.of(pool, "EUR"),
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.out.JackpotEventStore;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.service.JackpotEventSourcing.ReplayedJackpot;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotSnapshot;
+import com.example.jackpot.domain.model.event.ContributionApplied;
+import com.example.jackpot.domain.model.event.CycleStarted;
+import com.example.jackpot.domain.model.event.JackpotEvent;
+import com.example.jackpot.domain.model.event.RewardGranted;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class JackpotEventSourcingTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private JackpotEventStore eventStore;
+
+    @Mock
+    private ContributionCalculator contributionCalculator;
+
+    @Mock
+    private RewardEvaluator rewardEvaluator;
+
+    private final JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+    private JackpotEventSourcing eventSourcing;
+
+    @BeforeEach
+    void setUp() {
+        eventSourcing = new JackpotEventSourcing(jackpotRepository, eventStore, 10);
+    }
+
+    @Test
+    void givenNonPositiveSnapshotInterval_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new JackpotEventSourcing(jackpotRepository, eventStore, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("snapshotInterval must be positive");
+    }
+
+    @Test
+    void givenJackpotDoesNotExist_whenLoad_thenThrowException() {
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventSourcing.load(jackpotId))
+                .isInstanceOf(JackpotNotFoundException.class)
+                .hasMessage("Jackpot not found: %s".formatted(jackpotId.value()));
+
+        then(eventStore).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void givenNoSnapshot_whenLoad_thenAllEventsReplayedOntoJackpotRow() {
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot()));
+        given(eventStore.findLatestSnapshot(jackpotId)).willReturn(Optional.empty());
+        given(eventStore.findAfter(jackpotId, 0)).willReturn(List.of(
+                contribution(1, "2.50"),
+                contribution(2, "3.00")
+        ));
+
+        ReplayedJackpot result = eventSourcing.load(jackpotId);
+
+        assertThat(result.sequence()).isEqualTo(2);
+        assertThat(result.jackpot().currentPool()).isEqualTo(eur("105.50"));
+        assertThat(result.jackpot().currentCycle()).isEqualTo(CycleNumber.of(1));
+    }
+
+    @Test
+    void givenSnapshot_whenLoad_thenEventsAfterSnapshotReplayed() {
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot()));
+        given(eventStore.findLatestSnapshot(jackpotId)).willReturn(Optional.of(new JackpotSnapshot(jackpotId, 20, CycleNumber.of(3), eur("130.00"), T0)));
+        given(eventStore.findAfter(jackpotId, 20)).willReturn(List.of(
+                contribution(21, "5.00"),
+                new RewardGranted(jackpotId, 22, CycleNumber.of(3), BetId.of(UUID.randomUUID()), eur("135.00"), T0),
+                new CycleStarted(jackpotId, 23, CycleNumber.of(4), eur("100.00"), T0)
+        ));
+
+        ReplayedJackpot result = eventSourcing.load(jackpotId);
+
+        assertThat(result.sequence()).isEqualTo(23);
+        assertThat(result.jackpot().currentPool()).isEqualTo(eur("100.00"));
+        assertThat(result.jackpot().currentCycle()).isEqualTo(CycleNumber.of(4));
+    }
+
+    @Test
+    void whenLoadAt_thenReplayedFromSnapshotUpToThatSequence() {
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot()));
+        given(eventStore.findLatestSnapshot(jackpotId, 11)).willReturn(Optional.of(new JackpotSnapshot(jackpotId, 10, CycleNumber.of(2), eur("120.00"), T0)));
+        given(eventStore.findAfter(jackpotId, 10, 11)).willReturn(List.of(contribution(11, "1.25")));
+
+        ReplayedJackpot result = eventSourcing.loadAt(jackpotId, 11);
+
+        assertThat(result.sequence()).isEqualTo(11);
+        assertThat(result.jackpot().currentPool()).isEqualTo(eur("121.25"));
+        assertThat(result.jackpot().currentCycle()).isEqualTo(CycleNumber.of(2));
+    }
+
+    @Test
+    void whenLoadAtTime_thenReplayedUpToLastSequenceAppendedByThen() {
+        Instant at = T0.plusSeconds(60);
+        given(eventStore.findLastSequenceAppendedUntil(jackpotId, at)).willReturn(2L);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot()));
+        given(eventStore.findLatestSnapshot(jackpotId, 2)).willReturn(Optional.empty());
+        given(eventStore.findAfter(jackpotId, 0, 2)).willReturn(List.of(
+                contribution(1, "2.50"),
+                contribution(2, "3.00")
+        ));
+
+        ReplayedJackpot result = eventSourcing.loadAt(jackpotId, at);
+
+        assertThat(result.sequence()).isEqualTo(2);
+        assertThat(result.jackpot().currentPool()).isEqualTo(eur("105.50"));
+    }
+
+    @Test
+    void givenNoEventAppendedByThen_whenLoadAtTime_thenInitialState() {
+        given(eventStore.findLastSequenceAppendedUntil(jackpotId, T0)).willReturn(0L);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot()));
+        given(eventStore.findLatestSnapshot(jackpotId, 0)).willReturn(Optional.empty());
+        given(eventStore.findAfter(jackpotId, 0, 0)).willReturn(List.of());
+
+        ReplayedJackpot result = eventSourcing.loadAt(jackpotId, T0);
+
+        assertThat(result.sequence()).isZero();
+        assertThat(result.jackpot().currentPool()).isEqualTo(eur("100.00"));
+        assertThat(result.jackpot().currentCycle()).isEqualTo(CycleNumber.of(1));
+    }
+
+    @Test
+    void givenEventsWithinSnapshotInterval_whenAppend_thenNoSnapshot() {
+        List<JackpotEvent> events = List.of(contribution(8, "1.00"), contribution(9, "1.00"));
+
+        eventSourcing.append(jackpot(), 7, events);
+
+        then(eventStore).should().append(events);
+        then(eventStore).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void givenEventsCrossingSnapshotInterval_whenAppend_thenSnapshotOfJackpotTaken() {
+        Jackpot jackpot = jackpot();
+        List<JackpotEvent> events = List.of(
+                contribution(9, "1.00"),
+                new RewardGranted(jackpotId, 10, CycleNumber.of(1), BetId.of(UUID.randomUUID()), eur("101.00"), T0),
+                new CycleStarted(jackpotId, 11, CycleNumber.of(2), eur("100.00"), T0.plusSeconds(1))
+        );
+
+        eventSourcing.append(jackpot, 8, events);
+
+        ArgumentCaptor<JackpotSnapshot> captor = ArgumentCaptor.forClass(JackpotSnapshot.class);
+        then(eventStore).should().append(events);
+        then(eventStore).should().saveSnapshot(captor.capture());
+
+        assertThat(captor.getValue()).isEqualTo(new JackpotSnapshot(jackpotId, 11, jackpot.currentCycle(), jackpot.currentPool(), T0.plusSeconds(1)));
+    }
+
+    @Test
+    void givenNoEvents_whenAppend_thenNothingAppended() {
+        eventSourcing.append(jackpot(), 8, List.of());
+
+        then(eventStore).shouldHaveNoInteractions();
+    }
+
+    private Jackpot jackpot() {
+        return new Jackpot(jackpotId, CycleNumber.of(1), eur("100.00"), contributionCalculator, rewardEvaluator);
+    }
+
+    private ContributionApplied contribution(long sequence, String amount) {
+        return new ContributionApplied(jackpotId, sequence, CycleNumber.of(1), BetId.of(UUID.randomUUID()), eur(amount), T0);
+    }
+
+    private static Money eur(String amount) {
+        return Money.of(amount, "EUR");
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class JackpotStateWriterTest {
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BetOutcomeRepository outcomeRepository;
+
+    @Mock
+    private BetOutcomeRegistry outcomes;
+
+    private JackpotStateWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new JackpotStateWriter(jackpotRepository, contributionRepository, rewardRepository, outcomeRepository, new TransactionTemplate(transactionManager), outcomes, 3, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    @Test
+    void givenSubmittedState_whenFlush_thenEverythingPersisted() {
+        BetId betId = BetId.of(UUID.randomUUID());
+        JackpotContribution contribution = contribution(betId);
+        JackpotReward reward = mock(JackpotReward.class);
+        given(reward.betId()).willReturn(betId);
+        given(reward.rewardAmount()).willReturn(Money.of("500.00", "EUR"));
+        Jackpot snapshot = mock(Jackpot.class);
+
+        writer.submit(List.of(contribution), List.of(reward), List.of(snapshot));
+        writer.flush();
+
+        then(contributionRepository).should().saveAll(List.of(contribution));
+        then(rewardRepository).should().saveAll(List.of(reward));
+        then(jackpotRepository).should().save(snapshot);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BetOutcome>> outcomeCaptor = ArgumentCaptor.forClass(List.class);
+        then(outcomeRepository).should().saveAll(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue())
+                .singleElement()
+                .satisfies(o -> assertThat(o.rewardAmount()).hasValue(Money.of("500.00", "EUR")));
+
+        assertThat(writer.drainFailedJackpots()).isEmpty();
+    }
+
+    @Test
+    void givenNoRewards_whenFlush_thenRewardsNotWritten() {
+        writer.submit(List.of(contribution(BetId.of(UUID.randomUUID()))), List.of(), List.of(mock(Jackpot.class)));
+        writer.flush();
+
+        then(rewardRepository).shouldHaveNoInteractions();
+        then(outcomeRepository).should().saveAll(anyList());
+    }
+
+    @Test
+    void givenFailedWrite_whenFlush_thenRetainedAndWrittenOnRetry() {
+        Jackpot snapshot = mock(Jackpot.class);
+        Runnable written = mock(Runnable.class);
+        willThrow(new IllegalStateException("db down")).willDoNothing().given(contributionRepository).saveAll(anyList());
+
+        writer.submit(List.of(contribution(BetId.of(UUID.randomUUID()))), List.of(), List.of(snapshot), written);
+        writer.flush();
+
+        then(contributionRepository).should(times(2)).saveAll(anyList());
+        then(jackpotRepository).should().save(snapshot);
+        then(written).should().run();
+        assertThat(writer.hasFailedJackpots()).isFalse();
+    }
+
+    @Test
+    void givenFailedWriteAndLaterWrite_whenRetried_thenWrittenInSubmissionOrder() {
+        Jackpot first = mock(Jackpot.class);
+        Jackpot second = mock(Jackpot.class);
+        willThrow(new IllegalStateException("db down")).willDoNothing().given(jackpotRepository).save(first);
+
+        writer.submit(List.of(contribution(BetId.of(UUID.randomUUID()))), List.of(), List.of(first));
+        writer.submit(List.of(contribution(BetId.of(UUID.randomUUID()))), List.of(), List.of(second));
+        writer.flush();
+
+        InOrder inOrder = inOrder(jackpotRepository);
+        inOrder.verify(jackpotRepository, times(2)).save(first);
+        inOrder.verify(jackpotRepository).save(second);
+    }
+
+    @Test
+    void givenWriteFailingEveryAttempt_whenFlush_thenGivenUpAndJackpotsReportedOnce() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Jackpot snapshot = mock(Jackpot.class);
+        given(snapshot.jackpotId()).willReturn(jackpotId);
+        willThrow(new IllegalStateException("db down")).given(contributionRepository).saveAll(anyList());
+
+        JackpotContribution contribution = unwritten(BetId.of(UUID.randomUUID()));
+
+        writer.submit(List.of(contribution), List.of(), List.of(snapshot));
+        writer.flush();
+        writer.flush();
+
+        then(contributionRepository).should(times(3)).saveAll(anyList());
+        assertThat(writer.drainFailedJackpots()).containsExactly(jackpotId);
+        assertThat(writer.drainFailedJackpots()).isEmpty();
+        then(jackpotRepository).shouldHaveNoInteractions();
+        then(outcomeRepository).shouldHaveNoInteractions();
+        then(outcomes).shouldHaveNoInteractions();
+        assertThat(writer.pendingAmong(List.of(contribution.betId()))).isEmpty();
+    }
+
+    @Test
+    void givenConflictingWrite_whenFlush_thenGivenUpAtOnceWithLaterWritesOfSameJackpot() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Jackpot snapshot = mock(Jackpot.class);
+        given(snapshot.jackpotId()).willReturn(jackpotId);
+        willThrow(new OptimisticLockingFailureException("version moved")).given(jackpotRepository).save(snapshot);
+
+        writer.submit(List.of(contribution(BetId.of(UUID.randomUUID()))), List.of(), List.of(snapshot));
+        writer.submit(List.of(unwritten(BetId.of(UUID.randomUUID()))), List.of(), List.of(snapshot));
+        writer.flush();
+
+        then(jackpotRepository).should().save(snapshot);
+        assertThat(writer.drainFailedJackpots()).containsExactly(jackpotId);
+    }
+
+    @Test
+    void givenFailedWrite_whenFlushOrGiveUp_thenGivenUpWithoutRunningWritten() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Jackpot snapshot = mock(Jackpot.class);
+        given(snapshot.jackpotId()).willReturn(jackpotId);
+        Runnable written = mock(Runnable.class);
+        willThrow(new IllegalStateException("db down")).given(contributionRepository).saveAll(anyList());
+
+        writer.submit(List.of(unwritten(BetId.of(UUID.randomUUID()))), List.of(), List.of(snapshot), written);
+        writer.flushOrGiveUp();
+
+        assertThat(writer.hasFailedJackpots()).isTrue();
+        assertThat(writer.drainFailedJackpots()).containsExactly(jackpotId);
+        then(written).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void givenSubmittedBet_whenWritten_thenPendingUntilCommitted() {
+        BetId betId = BetId.of(UUID.randomUUID());
+        BetId other = BetId.of(UUID.randomUUID());
+        List<Set<BetId>> pendingDuringWrite = new ArrayList<>();
+        willAnswer(invocation -> {
+            pendingDuringWrite.add(writer.pendingAmong(List.of(betId, other)));
+            return null;
+        }).given(contributionRepository).saveAll(anyList());
+
+        writer.submit(List.of(contribution(betId)), List.of(), List.of(mock(Jackpot.class)));
+        writer.flush();
+
+        assertThat(pendingDuringWrite).containsExactly(Set.of(betId));
+        assertThat(writer.pendingAmong(List.of(betId, other))).isEmpty();
+    }
+
+    private static JackpotContribution unwritten(BetId betId) {
+        JackpotContribution contribution = mock(JackpotContribution.class);
+        given(contribution.betId()).willReturn(betId);
+
+        return contribution;
+    }
+
+    private static JackpotContribution contribution(BetId betId) {
+        JackpotContribution contribution = mock(JackpotContribution.class);
+        given(contribution.betId()).willReturn(betId);
+        given(contribution.jackpotId()).willReturn(JackpotId.of(UUID.randomUUID()));
+        given(contribution.createdAt()).willReturn(Instant.now());
+
+        return contribution;
+    }
+}
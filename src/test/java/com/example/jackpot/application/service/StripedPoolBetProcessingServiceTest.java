@@ -0,0 +1,241 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.application.port.out.BetOutcomeRepository;
+import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.application.port.out.JackpotMetrics;
+import com.example.jackpot.application.port.out.JackpotPoolStripeRepository;
+import com.example.jackpot.application.port.out.JackpotRepository;
+import com.example.jackpot.application.port.out.JackpotRewardRepository;
+import com.example.jackpot.application.service.idempotency.BetIdempotencyGuard;
+import com.example.jackpot.domain.contribution.ContributionCalculator;
+import com.example.jackpot.domain.contribution.ContributionContext;
+import com.example.jackpot.domain.exception.JackpotNotFoundException;
+import com.example.jackpot.domain.model.Bet;
+import com.example.jackpot.domain.model.BetOutcome;
+import com.example.jackpot.domain.model.Jackpot;
+import com.example.jackpot.domain.model.JackpotContribution;
+import com.example.jackpot.domain.model.JackpotReward;
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import com.example.jackpot.domain.reward.RewardContext;
+import com.example.jackpot.domain.reward.RewardEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class StripedPoolBetProcessingServiceTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Mock
+    private JackpotRepository jackpotRepository;
+
+    @Mock
+    private JackpotPoolStripeRepository stripeRepository;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    @Mock
+    private JackpotRewardRepository rewardRepository;
+
+    @Mock
+    private JackpotMetrics metrics;
+
+    @Mock
+    private BetRepository betRepository;
+
+    @Mock
+    private BetOutcomeRepository outcomeRepository;
+
+    @Mock
+    private BetOutcomeRegistry outcomes;
+
+    @Mock
+    private ContributionCalculator contributionCalculator;
+
+    @Mock
+    private RewardEvaluator rewardEvaluator;
+
+    private StripedPoolBetProcessingService service;
+
+    @BeforeEach
+    void setUp() {
+        BetIdempotencyGuard idempotencyGuard = new BetIdempotencyGuard(betRepository, contributionRepository, 1_000, 0.01, 100, Duration.ofHours(1));
+        StripedPoolTracker tracker = new StripedPoolTracker(Duration.ofSeconds(1), Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+        service = new StripedPoolBetProcessingService(jackpotRepository, stripeRepository, contributionRepository, rewardRepository, outcomeRepository, metrics, idempotencyGuard, outcomes, 4, tracker);
+    }
+
+    @Test
+    void givenNonPositiveStripes_whenNewInstance_thenThrowException() {
+        BetIdempotencyGuard idempotencyGuard = new BetIdempotencyGuard(betRepository, contributionRepository, 1_000, 0.01, 100, Duration.ofHours(1));
+
+        assertThatThrownBy(() -> new StripedPoolBetProcessingService(jackpotRepository, stripeRepository, contributionRepository, rewardRepository, outcomeRepository, metrics, idempotencyGuard, outcomes, 0, Duration.ofMillis(100)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("stripes must be positive");
+    }
+
+    @Test
+    void givenJackpots_whenCreateStripes_thenMissingStripesCreatedPerJackpot() {
+        Jackpot jackpot = jackpot(JackpotId.of(UUID.randomUUID()));
+        given(jackpotRepository.findAll()).willReturn(List.of(jackpot));
+
+        service.createStripes();
+
+        then(stripeRepository).should().createMissing(jackpot.jackpotId(), CycleNumber.of(3), 4);
+        then(stripeRepository).should().realign(jackpot.jackpotId(), CycleNumber.of(3));
+    }
+
+    @Test
+    void givenContributionAlreadyExists_whenProcess_thenDoNothing() {
+        Bet bet = bet(JackpotId.of(UUID.randomUUID()));
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(true);
+
+        service.process(bet);
+
+        then(jackpotRepository).shouldHaveNoInteractions();
+        then(stripeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void givenJackpotDoesNotExist_whenProcess_thenThrowException() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.process(bet))
+                .isInstanceOf(JackpotNotFoundException.class)
+                .hasMessageContaining("Jackpot not found: %s".formatted(jackpotId.value()));
+
+        then(stripeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void whenProcess_thenContributionAddedToStripeAndEvaluatedAgainstStripedPool() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot(jackpotId)));
+        given(stripeRepository.sum(jackpotId, CycleNumber.of(3), EUR)).willReturn(eur("30.00"));
+        given(contributionCalculator.calculate(new ContributionContext(bet.betAmount(), eur("130.00"), eur("100.00")))).willReturn(eur("5.00"));
+        given(rewardEvaluator.evaluate(new RewardContext(eur("135.00")))).willReturn(false);
+
+        service.process(bet);
+
+        then(stripeRepository).should().add(eq(jackpotId), eq(CycleNumber.of(3)), anyInt(), eq(eur("5.00")));
+        then(stripeRepository).shouldHaveNoMoreInteractions();
+        then(jackpotRepository).shouldHaveNoMoreInteractions();
+        then(rewardRepository).shouldHaveNoInteractions();
+        then(metrics).should().poolChanged(jackpotId, eur("135.00"));
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue().betId()).isEqualTo(bet.betId());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.LOSS);
+    }
+
+    @Test
+    void givenEarlierContributionOfThisInstance_whenProcess_thenIncludedWithoutSummingStripesAgain() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet first = bet(jackpotId);
+        Bet second = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(first.betId())).willReturn(false);
+        given(contributionRepository.existsByBetId(second.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot(jackpotId)), Optional.of(jackpot(jackpotId)));
+        given(stripeRepository.sum(jackpotId, CycleNumber.of(3), EUR)).willReturn(eur("30.00"));
+        given(contributionCalculator.calculate(new ContributionContext(first.betAmount(), eur("130.00"), eur("100.00")))).willReturn(eur("5.00"));
+        given(contributionCalculator.calculate(new ContributionContext(second.betAmount(), eur("135.00"), eur("100.00")))).willReturn(eur("5.00"));
+        given(rewardEvaluator.evaluate(new RewardContext(eur("135.00")))).willReturn(false);
+        given(rewardEvaluator.evaluate(new RewardContext(eur("140.00")))).willReturn(false);
+
+        service.process(first);
+        service.process(second);
+
+        then(stripeRepository).should().sum(jackpotId, CycleNumber.of(3), EUR);
+        then(metrics).should().poolChanged(jackpotId, eur("140.00"));
+    }
+
+    @Test
+    void givenRewarded_whenProcess_thenExactPoolPaidAndStripesReset() {
+        JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+        Bet bet = bet(jackpotId);
+
+        given(contributionRepository.existsByBetId(bet.betId())).willReturn(false);
+        given(jackpotRepository.findById(jackpotId)).willReturn(Optional.of(jackpot(jackpotId)));
+        given(stripeRepository.sum(jackpotId, CycleNumber.of(3), EUR)).willReturn(eur("30.00"));
+        given(contributionCalculator.calculate(new ContributionContext(bet.betAmount(), eur("130.00"), eur("100.00")))).willReturn(eur("5.00"));
+        given(rewardEvaluator.evaluate(new RewardContext(eur("135.00")))).willReturn(true);
+        given(stripeRepository.lockAndSum(jackpotId, CycleNumber.of(3), EUR)).willReturn(eur("32.50"));
+
+        service.process(bet);
+
+        then(jackpotRepository).should().startNextCycle(jackpotId, CycleNumber.of(3));
+        then(stripeRepository).should().startNextCycle(jackpotId, CycleNumber.of(3));
+        then(stripeRepository).should().sum(jackpotId, CycleNumber.of(3), EUR);
+        then(stripeRepository).should().lockAndSum(jackpotId, CycleNumber.of(3), EUR);
+        then(stripeRepository).shouldHaveNoMoreInteractions();
+
+        ArgumentCaptor<JackpotReward> rewardCaptor = ArgumentCaptor.forClass(JackpotReward.class);
+        then(rewardRepository).should().save(rewardCaptor.capture());
+        assertThat(rewardCaptor.getValue().rewardAmount()).isEqualTo(eur("137.50"));
+
+        ArgumentCaptor<BetOutcome> outcomeCaptor = ArgumentCaptor.forClass(BetOutcome.class);
+        then(outcomeRepository).should().save(outcomeCaptor.capture());
+        then(outcomes).should().processed(outcomeCaptor.getValue());
+        assertThat(outcomeCaptor.getValue().result()).isEqualTo(BetOutcome.Result.WIN);
+        assertThat(outcomeCaptor.getValue().rewardAmount()).hasValue(eur("137.50"));
+
+        ArgumentCaptor<JackpotContribution> contributionCaptor = ArgumentCaptor.forClass(JackpotContribution.class);
+        then(contributionRepository).should().save(contributionCaptor.capture());
+        assertThat(contributionCaptor.getValue().currentJackpotAmount()).isEqualTo(eur("137.50"));
+
+        then(metrics).should().poolChanged(jackpotId, eur("100.00"));
+    }
+
+    private Jackpot jackpot(JackpotId jackpotId) {
+        return new Jackpot(jackpotId, CycleNumber.of(3), eur("100.00"), eur("100.00"), contributionCalculator, rewardEvaluator);
+    }
+
+    private static Bet bet(JackpotId jackpotId) {
+        return new Bet(
+                BetId.of(UUID.randomUUID()),
+                UserId.of(UUID.randomUUID()),
+                jackpotId,
+                eur("105.00")
+        );
+    }
+
+    private static Money eur(String amount) {
+        return Money.of(amount, "EUR");
+    }
+}
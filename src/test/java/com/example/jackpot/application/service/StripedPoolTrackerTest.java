@@ -0,0 +1,134 @@
+package com.example.jackpot.application.service;
+
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedPoolTrackerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private final StripedPoolTracker tracker = new StripedPoolTracker(Duration.ofMillis(100), clock);
+
+    private final JackpotId jackpotId = JackpotId.of(UUID.randomUUID());
+
+    @Test
+    void givenNegativeMaxStaleness_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new StripedPoolTracker(Duration.ofMillis(-1), clock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxStaleness must not be negative");
+    }
+
+    @Test
+    void givenFreshRead_whenStripeTotal_thenLocalContributionsAddedWithoutReadingAgain() {
+        CountingSupplier persisted = new CountingSupplier(eur("10.00"));
+
+        assertThat(tracker.stripeTotal(jackpotId, CycleNumber.of(1), persisted)).isEqualTo(eur("10.00"));
+
+        tracker.added(jackpotId, eur("0.50"));
+        tracker.added(jackpotId, eur("0.25"));
+        clock.advance(Duration.ofMillis(100));
+
+        assertThat(tracker.stripeTotal(jackpotId, CycleNumber.of(1), persisted)).isEqualTo(eur("10.75"));
+        assertThat(persisted.reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void givenReadOlderThanMaxStaleness_whenStripeTotal_thenReadAgainAndLocalContributionsRebased() {
+        CountingSupplier persisted = new CountingSupplier(eur("10.00"));
+        tracker.stripeTotal(jackpotId, CycleNumber.of(1), persisted);
+
+        tracker.added(jackpotId, eur("0.50"));
+        clock.advance(Duration.ofMillis(101));
+        persisted.value = eur("12.50");
+
+        assertThat(tracker.stripeTotal(jackpotId, CycleNumber.of(1), persisted)).isEqualTo(eur("12.50"));
+        assertThat(persisted.reads.get()).isEqualTo(2);
+
+        tracker.added(jackpotId, eur("1.00"));
+
+        assertThat(tracker.stripeTotal(jackpotId, CycleNumber.of(1), persisted)).isEqualTo(eur("13.50"));
+    }
+
+    @Test
+    void givenNextCycle_whenStripeTotal_thenReadAgain() {
+        CountingSupplier persisted = new CountingSupplier(eur("10.00"));
+        tracker.stripeTotal(jackpotId, CycleNumber.of(1), persisted);
+        tracker.added(jackpotId, eur("0.50"));
+
+        persisted.value = eur("0.00");
+
+        assertThat(tracker.stripeTotal(jackpotId, CycleNumber.of(2), persisted)).isEqualTo(eur("0.00"));
+        assertThat(persisted.reads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void givenOtherJackpot_whenStripeTotal_thenTrackedSeparately() {
+        JackpotId otherJackpotId = JackpotId.of(UUID.randomUUID());
+        tracker.stripeTotal(jackpotId, CycleNumber.of(1), new CountingSupplier(eur("10.00")));
+        tracker.stripeTotal(otherJackpotId, CycleNumber.of(1), new CountingSupplier(eur("3.00")));
+
+        tracker.added(jackpotId, eur("0.50"));
+
+        assertThat(tracker.stripeTotal(otherJackpotId, CycleNumber.of(1), new CountingSupplier(eur("99.00")))).isEqualTo(eur("3.00"));
+    }
+
+    private static Money eur(String amount) {
+        return Money.of(amount, "EUR");
+    }
+
+    private static final class CountingSupplier implements Supplier<Money> {
+        private final AtomicInteger reads = new AtomicInteger();
+        private Money value;
+
+        private CountingSupplier(Money value) {
+            this.value = value;
+        }
+
+        @Override
+        public Money get() {
+            reads.incrementAndGet();
+            return value;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
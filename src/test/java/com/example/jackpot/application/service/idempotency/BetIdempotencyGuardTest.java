@@ -0,0 +1,69 @@
+package com.example.jackpot.application.service.idempotency;
+
+import com.example.jackpot.application.port.out.BetRepository;
+import com.example.jackpot.application.port.out.JackpotContributionRepository;
+import com.example.jackpot.domain.model.id.BetId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class BetIdempotencyGuardTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private BetRepository betRepository;
+
+    @Mock
+    private JackpotContributionRepository contributionRepository;
+
+    private BetIdempotencyGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new BetIdempotencyGuard(betRepository, contributionRepository, 1_000, 0.01, 100, Duration.ofHours(6), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void whenRebuild_thenRecentIdsLoadedIntoBothSets() {
+        BetId placed = BetId.of(UUID.randomUUID());
+        BetId processed = BetId.of(UUID.randomUUID());
+        Instant since = NOW.minus(Duration.ofHours(6));
+
+        given(betRepository.findIdsCreatedSince(since)).willReturn(List.of(placed));
+        given(contributionRepository.findBetIdsCreatedSince(since)).willReturn(List.of(processed));
+
+        guard.rebuild();
+
+        assertThat(guard.placedBets().isLoaded()).isTrue();
+        assertThat(guard.processedBets().isLoaded()).isTrue();
+        assertThat(guard.placedBets().isDuplicate(placed, id -> true)).isTrue();
+        assertThat(guard.processedBets().isDuplicate(processed, id -> true)).isTrue();
+        assertThat(guard.placedBets().isDuplicate(processed, id -> true)).isFalse();
+    }
+
+    @Test
+    void givenRebuildFails_whenRebuild_thenBetsStillLookedUp() {
+        willThrow(new IllegalStateException("db down")).given(betRepository).findIdsCreatedSince(NOW.minus(Duration.ofHours(6)));
+
+        guard.rebuild();
+
+        assertThat(guard.placedBets().isLoaded()).isFalse();
+        assertThat(guard.processedBets().isLoaded()).isFalse();
+        assertThat(guard.placedBets().isDuplicate(BetId.of(UUID.randomUUID()), id -> true)).isTrue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jackpot.application.service.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void givenNonPositiveCapacity_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new ScalableBloomFilter(0, 0.01, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("initialCapacity must be positive");
+    }
+
+    @Test
+    void givenInvalidFalsePositiveRate_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new ScalableBloomFilter(100, 1.0, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("falsePositiveRate must be between 0 and 1");
+    }
+
+    @Test
+    void givenInsertedKeys_whenMightContain_thenNoFalseNegatives() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01, 10);
+        List<UUID> inserted = randomIds(5_000);
+
+        inserted.forEach(id -> filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+
+        assertThat(inserted).allMatch(id -> filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+    }
+
+    @Test
+    void givenMoreKeysThanCapacity_whenPut_thenSlicesAdded() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01, 10);
+
+        randomIds(3_500).forEach(id -> filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+
+        // capacities 1000 + 2000 + 4000
+        assertThat(filter.sliceCount()).isEqualTo(3);
+    }
+
+    @Test
+    void givenMaxSlicesReached_whenPut_thenNoSliceAddedAndExhausted() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01, 2);
+
+        randomIds(2_999).forEach(id -> filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+        assertThat(filter.isExhausted()).isFalse();
+
+        long bits = filter.bitCount();
+        randomIds(5_000).forEach(id -> filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+
+        assertThat(filter.sliceCount()).isEqualTo(2);
+        assertThat(filter.bitCount()).isEqualTo(bits);
+        assertThat(filter.isExhausted()).isTrue();
+    }
+
+    @Test
+    void givenGrownFilter_whenMightContainUnknownKeys_thenFalsePositiveRateWithinBound() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01, 10);
+        randomIds(10_000).forEach(id -> filter.put(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+
+        long falsePositives = randomIds(100_000).stream()
+                .filter(id -> filter.mightContain(id.getMostSignificantBits(), id.getLeastSignificantBits()))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.015);
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.jackpot.application.service.idempotency;
+
+import com.example.jackpot.domain.model.id.BetId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SeenBetIdsTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private SeenBetIds seenBetIds;
+
+    private AtomicInteger lookups;
+
+    @BeforeEach
+    void setUp() {
+        seenBetIds = new SeenBetIds(1_000, 0.01, 10, RETENTION, Clock.fixed(T0, ZoneOffset.UTC));
+        lookups = new AtomicInteger();
+    }
+
+    @Test
+    void givenNotLoaded_whenIsDuplicate_thenAlwaysLookedUp() {
+        BetId betId = betId();
+
+        boolean result = seenBetIds.isDuplicate(betId, id -> {
+            lookups.incrementAndGet();
+            return false;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void givenLoadedAndUnseenBet_whenIsDuplicate_thenNewWithoutLookup() {
+        seenBetIds.markLoaded();
+
+        boolean result = seenBetIds.isDuplicate(betId(), id -> {
+            lookups.incrementAndGet();
+            return true;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void givenSeenBet_whenIsDuplicateAgain_thenLookedUp() {
+        seenBetIds.markLoaded();
+        BetId betId = betId();
+        seenBetIds.isDuplicate(betId, id -> true);
+
+        // e.g. the first insert was rolled back, so the filter hit must be verified
+        boolean result = seenBetIds.isDuplicate(betId, id -> {
+            lookups.incrementAndGet();
+            return false;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void givenConfirmedBet_whenIsDuplicate_thenDuplicateWithoutLookup() {
+        seenBetIds.markLoaded();
+        BetId betId = betId();
+        seenBetIds.load(List.of(betId));
+        seenBetIds.isDuplicate(betId, id -> true);
+
+        boolean result = seenBetIds.isDuplicate(betId, id -> {
+            lookups.incrementAndGet();
+            return false;
+        });
+
+        assertThat(result).isTrue();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void givenLoadedBets_whenFindDuplicates_thenOnlyFilterHitsLookedUp() {
+        BetId stored = betId();
+        BetId fresh = betId();
+        seenBetIds.load(List.of(stored));
+        seenBetIds.markLoaded();
+
+        List<Collection<BetId>> lookedUp = new ArrayList<>();
+        Set<BetId> result = seenBetIds.findDuplicates(List.of(stored, fresh), ids -> {
+            lookedUp.add(List.copyOf(ids));
+            return Set.of(stored);
+        });
+
+        assertThat(result).containsExactly(stored);
+        assertThat(lookedUp).containsExactly(List.of(stored));
+    }
+
+    @Test
+    void givenOnlyUnseenBets_whenFindDuplicates_thenNoLookup() {
+        seenBetIds.markLoaded();
+
+        Set<BetId> result = seenBetIds.findDuplicates(List.of(betId(), betId()), ids -> {
+            lookups.incrementAndGet();
+            return Set.of();
+        });
+
+        assertThat(result).isEmpty();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void givenNotLoaded_whenFindDuplicates_thenAllLookedUp() {
+        List<BetId> betIds = List.of(betId(), betId());
+
+        List<Collection<BetId>> lookedUp = new ArrayList<>();
+        seenBetIds.findDuplicates(betIds, ids -> {
+            lookedUp.add(ids);
+            return Set.of();
+        });
+
+        assertThat(lookedUp).containsExactly(betIds);
+    }
+
+    @Test
+    void givenBetSeenOneRetentionAgo_whenIsDuplicate_thenStillLookedUp() {
+        Clock clock = mock(Clock.class);
+        given(clock.instant()).willReturn(T0, T0, T0.plus(RETENTION));
+        SeenBetIds seen = new SeenBetIds(1_000, 0.01, 10, RETENTION, clock);
+        seen.markLoaded();
+        BetId betId = betId();
+        seen.load(List.of(betId));
+
+        seen.isDuplicate(betId, id -> {
+            lookups.incrementAndGet();
+            return true;
+        });
+
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    void givenBetSeenTwoRetentionsAgo_whenIsDuplicate_thenForgottenAndNewWithoutLookup() {
+        Clock clock = mock(Clock.class);
+        given(clock.instant()).willReturn(T0, T0, T0.plus(RETENTION), T0.plus(RETENTION), T0.plus(RETENTION.multipliedBy(2)));
+        SeenBetIds seen = new SeenBetIds(1_000, 0.01, 10, RETENTION, clock);
+        seen.markLoaded();
+        BetId betId = betId();
+        seen.load(List.of(betId));
+        seen.load(List.of(betId()));
+
+        boolean result = seen.isDuplicate(betId, id -> {
+            lookups.incrementAndGet();
+            return true;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(lookups).hasValue(0);
+    }
+
+    @Test
+    void givenFarMoreIdsThanAGenerationHolds_whenLoaded_thenFootprintBoundedByTwoGenerations() {
+        SeenBetIds seen = new SeenBetIds(100, 0.01, 10, RETENTION, Clock.fixed(T0, ZoneOffset.UTC));
+        // slices of 100, 200, 400 and 800 ids
+        seen.load(betIds(1_500));
+        long generation = seen.footprintBits();
+
+        seen.load(betIds(100_000));
+
+        assertThat(seen.footprintBits()).isLessThanOrEqualTo(2 * generation);
+    }
+
+    private static List<BetId> betIds(int count) {
+        List<BetId> betIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            betIds.add(betId());
+        }
+        return betIds;
+    }
+
+    private static BetId betId() {
+        return BetId.of(UUID.randomUUID());
+    }
+}
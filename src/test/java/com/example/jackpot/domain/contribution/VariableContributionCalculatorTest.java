@@ -7,6 +7,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.SplittableRandom;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
@@ -169,6 +173,84 @@ class VariableContributionCalculatorTest {
         assertThat(result).isEqualTo(Money.of("2.00", "EUR"));
     }
 
+    // ----------------------------------
+    // Precompiled Form Tests
+    // ----------------------------------
+
+    @Test
+    void givenRandomConfigsAndContexts_whenCalculate_thenSameAsDecimalForm() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            Percentage startingRate = randomRate(random);
+            Percentage minimumRate = randomRate(random);
+            if (!startingRate.isGreaterThan(minimumRate)) {
+                continue;
+            }
+            DecayFactor decayFactor = DecayFactor.of(BigDecimal.valueOf(1 + random.nextLong(pow10(random.nextInt(9))), random.nextInt(11)));
+
+            long initialPool = random.nextLong(10_000_000_000L);
+            long delta = random.nextLong(pow10(random.nextInt(13)));
+            long bet = 1 + random.nextLong(pow10(random.nextInt(10)));
+
+            assertSameContribution(startingRate, minimumRate, decayFactor, bet, initialPool + delta, initialPool);
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] start={0}% min={1}% decay={2} Δ={3} on bet={4}")
+    @CsvSource(
+            useHeadersInDisplayName = true,
+            textBlock = """
+                    START_RATE,  MIN_RATE,   DECAY,                        DELTA,      BET
+                    # --- minimum rate reached at Δ=40.00 ---
+                    8.00,        2.00,       0.15,                         39.99,      105.55
+                    8.00,        2.00,       0.15,                         40.00,      105.55
+                    8.00,        2.00,       0.15,                         40.01,      105.55
+                    # --- rate truncated to 10^-8 (1/3 decay) ---
+                    8.00,        2.00,       0.3333333,                    0.01,       99999.99
+                    # --- starting rate with more than 6 decimals: decimal form ---
+                    7.1234567,   2.00,       0.15,                         10.00,      105.55
+                    # --- decay with more than 18 decimals at 10^-4: decimal form ---
+                    8.00,        2.00,       0.0000000000000000000000123,  10.00,      105.55
+                    # --- decay × Δ overflowing a long: decimal form ---
+                    8.00,        2.00,       0.0000123456789012345678,     10000.00,   105.55
+                    # --- bet × rate overflowing a long: exact share ---
+                    8.00,        2.00,       0.15,                         10.00,      90000000000000000.00
+                    """
+    )
+    void givenEdgeCase_whenCalculate_thenSameAsDecimalForm(String start, String min, String decay, String delta, String bet) {
+        Money initial = Money.of("100.00", "EUR");
+        Money current = initial.plus(Money.of(delta, "EUR"));
+
+        assertSameContribution(Percentage.of(start), Percentage.of(min), DecayFactor.of(decay),
+                Money.of(bet, "EUR").minorUnits(), current.minorUnits(), initial.minorUnits());
+    }
+
+    private static void assertSameContribution(Percentage startingRate, Percentage minimumRate, DecayFactor decayFactor, long bet, long currentPool, long initialPool) {
+        Currency eur = Currency.getInstance("EUR");
+        VariableContributionCalculator calculator = new VariableContributionCalculator(startingRate, minimumRate, decayFactor);
+        ContributionContext ctx = new ContributionContext(Money.ofMinor(bet, eur), Money.ofMinor(currentPool, eur), Money.ofMinor(initialPool, eur));
+
+        assertThat(calculator.calculate(ctx))
+                .as("start=%s, min=%s, decay=%s, bet=%d, current=%d, initial=%d", startingRate.value(), minimumRate.value(),
+                        decayFactor.value(), bet, currentPool, initialPool)
+                .isEqualTo(calculator.decimalCalculate(ctx));
+    }
+
+    private static Percentage randomRate(SplittableRandom random) {
+        int scale = random.nextInt(9);
+
+        return Percentage.of(BigDecimal.valueOf(1 + random.nextLong(100 * pow10(scale) - 1), scale));
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
     // ----------------------------------
     // Fixtures
     // ----------------------------------
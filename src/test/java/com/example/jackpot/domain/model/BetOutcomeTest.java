@@ -0,0 +1,114 @@
+package com.example.jackpot.domain.model;
+
+import com.example.jackpot.domain.model.id.BetId;
+import com.example.jackpot.domain.model.id.JackpotId;
+import com.example.jackpot.domain.model.id.UserId;
+import com.example.jackpot.domain.model.vo.CycleNumber;
+import com.example.jackpot.domain.model.vo.JackpotCycle;
+import com.example.jackpot.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BetOutcomeTest {
+
+    @Test
+    void givenNullBetId_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new BetOutcome(null, jackpotId(), BetOutcome.Result.LOSS, null, Instant.now()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("betId must not be null");
+    }
+
+    @Test
+    void givenNullResult_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new BetOutcome(betId(), jackpotId(), null, null, Instant.now()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("result must not be null");
+    }
+
+    @Test
+    void givenWinWithoutRewardAmount_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new BetOutcome(betId(), jackpotId(), BetOutcome.Result.WIN, null, Instant.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("rewardAmount must be given for a win only");
+    }
+
+    @Test
+    void givenLossWithRewardAmount_whenNewInstance_thenThrowException() {
+        assertThatThrownBy(() -> new BetOutcome(betId(), jackpotId(), BetOutcome.Result.LOSS, eur("1.00"), Instant.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("rewardAmount must be given for a win only");
+    }
+
+    @Test
+    void givenReward_whenOf_thenWinWithRewardAmount() {
+        JackpotContribution contribution = contribution(betId());
+        JackpotReward reward = reward(contribution);
+
+        BetOutcome outcome = BetOutcome.of(contribution, Optional.of(reward));
+
+        assertThat(outcome.betId()).isEqualTo(contribution.betId());
+        assertThat(outcome.jackpotId()).isEqualTo(contribution.jackpotId());
+        assertThat(outcome.won()).isTrue();
+        assertThat(outcome.rewardAmount()).hasValue(reward.rewardAmount());
+        assertThat(outcome.createdAt()).isEqualTo(contribution.createdAt());
+    }
+
+    @Test
+    void givenNoReward_whenOf_thenLoss() {
+        BetOutcome outcome = BetOutcome.of(contribution(betId()), Optional.empty());
+
+        assertThat(outcome.result()).isEqualTo(BetOutcome.Result.LOSS);
+        assertThat(outcome.won()).isFalse();
+        assertThat(outcome.rewardAmount()).isEmpty();
+    }
+
+    @Test
+    void givenContributionsAndRewards_whenOf_thenRewardsMatchedByBet() {
+        JackpotContribution winning = contribution(betId());
+        JackpotContribution losing = contribution(betId());
+
+        List<BetOutcome> outcomes = BetOutcome.of(List.of(winning, losing), List.of(reward(winning)));
+
+        assertThat(outcomes)
+                .extracting(BetOutcome::betId, BetOutcome::result)
+                .containsExactly(
+                        tuple(winning.betId(), BetOutcome.Result.WIN),
+                        tuple(losing.betId(), BetOutcome.Result.LOSS)
+                );
+    }
+
+    private static JackpotContribution contribution(BetId betId) {
+        return new JackpotContribution(
+                betId,
+                UserId.of(UUID.randomUUID()),
+                JackpotCycle.of(JackpotId.of(UUID.randomUUID()), CycleNumber.of(1)),
+                eur("100.00"),
+                eur("5.00"),
+                eur("150.00")
+        );
+    }
+
+    private static JackpotReward reward(JackpotContribution contribution) {
+        return new JackpotReward(contribution.betId(), contribution.userId(), JackpotCycle.of(contribution.jackpotId(), CycleNumber.of(1)), eur("150.00"));
+    }
+
+    private static BetId betId() {
+        return BetId.of(UUID.randomUUID());
+    }
+
+    private static JackpotId jackpotId() {
+        return JackpotId.of(UUID.randomUUID());
+    }
+
+    private static Money eur(String amount) {
+        return Money.of(amount, "EUR");
+    }
+}
@@ -258,6 +258,24 @@ class JackpotContributionTest {
                 });
     }
 
+    @Test
+    void whenWithCurrentJackpotAmount_thenOnlyCurrentJackpotAmountReplaced() {
+        JackpotCycle jackpotCycle = jackpotCycle();
+        Instant createdAt = Instant.parse("2025-02-02T03:04:05Z");
+        JackpotContribution contribution = new JackpotContribution(betId(), userId(), jackpotCycle, eur("10.00"), eur("1.00"), eur("11.00"), createdAt);
+
+        JackpotContribution result = contribution.withCurrentJackpotAmount(eur("42.00"));
+
+        assertThat(result.currentJackpotAmount()).isEqualTo(eur("42.00"));
+        assertThat(result.betId()).isEqualTo(contribution.betId());
+        assertThat(result.userId()).isEqualTo(contribution.userId());
+        assertThat(result.jackpotId()).isEqualTo(jackpotCycle.jackpotId());
+        assertThat(result.jackpotCycle()).isEqualTo(jackpotCycle.cycle());
+        assertThat(result.stakeAmount()).isEqualTo(eur("10.00"));
+        assertThat(result.contributionAmount()).isEqualTo(eur("1.00"));
+        assertThat(result.createdAt()).isEqualTo(createdAt);
+    }
+
     // ----------------------------------
     // Fixtures / Helpers
     // ----------------------------------
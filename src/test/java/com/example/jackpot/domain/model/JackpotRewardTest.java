@@ -121,6 +121,22 @@ class JackpotRewardTest {
                 });
     }
 
+    @Test
+    void whenWithRewardAmount_thenOnlyRewardAmountReplaced() {
+        JackpotCycle jackpotCycle = jackpotCycle();
+        Instant createdAt = Instant.parse("2025-02-02T03:04:05Z");
+        JackpotReward reward = new JackpotReward(betId(), userId(), jackpotCycle, eur("123.45"), createdAt);
+
+        JackpotReward result = reward.withRewardAmount(eur("130.00"));
+
+        assertThat(result.rewardAmount()).isEqualTo(eur("130.00"));
+        assertThat(result.betId()).isEqualTo(reward.betId());
+        assertThat(result.userId()).isEqualTo(reward.userId());
+        assertThat(result.jackpotId()).isEqualTo(jackpotCycle.jackpotId());
+        assertThat(result.jackpotCycle()).isEqualTo(jackpotCycle.cycle());
+        assertThat(result.createdAt()).isEqualTo(createdAt);
+    }
+
     // ----------------------------------
     // Fixtures / Helpers
     // ----------------------------------
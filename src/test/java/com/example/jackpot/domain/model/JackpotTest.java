@@ -2,6 +2,9 @@ package com.example.jackpot.domain.model;
 
 import com.example.jackpot.domain.contribution.ContributionCalculator;
 import com.example.jackpot.domain.contribution.ContributionContext;
+import com.example.jackpot.domain.model.event.ContributionApplied;
+import com.example.jackpot.domain.model.event.CycleStarted;
+import com.example.jackpot.domain.model.event.RewardGranted;
 import com.example.jackpot.domain.model.id.BetId;
 import com.example.jackpot.domain.model.id.JackpotId;
 import com.example.jackpot.domain.model.id.UserId;
@@ -16,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -381,6 +385,134 @@ class JackpotTest {
         assertThat(jackpot.currentCycle().value()).isEqualTo(currentCycle.value() + 1);
     }
 
+    @Test
+    void whenSnapshot_thenDetachedCopyOfCurrentState() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        Jackpot jackpot = new Jackpot(jackpotId(), currentCycle(), eur("50.00"), eur("120.00"), calc, evaluator);
+
+        Jackpot snapshot = jackpot.snapshot();
+        jackpot.startNextCycle();
+
+        assertThat(snapshot).isNotSameAs(jackpot);
+        assertThat(snapshot.jackpotId()).isEqualTo(jackpot.jackpotId());
+        assertThat(snapshot.initialPool()).isEqualTo(jackpot.initialPool());
+        assertThat(snapshot.currentPool()).isEqualTo(eur("120.00"));
+        assertThat(snapshot.currentCycle()).isEqualTo(currentCycle());
+        assertThat(snapshot.version()).isEqualTo(jackpot.version());
+    }
+
+    @Test
+    void whenRefreshPool_thenCurrentPoolReplaced() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        Jackpot jackpot = new Jackpot(jackpotId(), currentCycle(), eur("50.00"), eur("120.00"), calc, evaluator);
+
+        jackpot.refreshPool(eur("135.25"));
+
+        assertThat(jackpot.currentPool()).isEqualTo(eur("135.25"));
+        assertThat(jackpot.currentCycle()).isEqualTo(currentCycle());
+    }
+
+    @Test
+    void givenCurrencyMismatch_whenRefreshPool_thenThrowException() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        Jackpot jackpot = new Jackpot(jackpotId(), currentCycle(), eur("50.00"), eur("120.00"), calc, evaluator);
+
+        assertThatThrownBy(() -> jackpot.refreshPool(Money.of("135.25", "USD")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("persistedPool currency must equal jackpot currency");
+
+        assertThat(jackpot.currentPool()).isEqualTo(eur("120.00"));
+    }
+
+    @Test
+    void givenNegativeVersion_whenNewInstance_thenThrowException() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        assertThatThrownBy(() -> new Jackpot(jackpotId(), currentCycle(), eur("50.00"), eur("50.00"), calc, evaluator, -1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("version must not be negative");
+    }
+
+    @Test
+    void whenIncrementVersion_thenVersionAdvanced() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        Jackpot jackpot = new Jackpot(jackpotId(), currentCycle(), eur("50.00"), eur("50.00"), calc, evaluator, 7L);
+
+        jackpot.incrementVersion();
+
+        assertThat(jackpot.version()).isEqualTo(8L);
+    }
+
+    @Test
+    void whenApplyEvents_thenCycleAndPoolReplayed() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        JackpotId id = jackpotId();
+        Instant now = Instant.now();
+        Jackpot jackpot = new Jackpot(id, currentCycle(), eur("50.00"), eur("50.00"), calc, evaluator);
+
+        jackpot.apply(new ContributionApplied(id, 1, currentCycle(), betId(), eur("2.50"), now));
+        jackpot.apply(new ContributionApplied(id, 2, currentCycle(), betId(), eur("3.00"), now));
+        assertThat(jackpot.currentPool()).isEqualTo(eur("55.50"));
+
+        jackpot.apply(new RewardGranted(id, 3, currentCycle(), betId(), eur("55.50"), now));
+        assertThat(jackpot.currentPool()).isEqualTo(eur("55.50"));
+
+        jackpot.apply(new CycleStarted(id, 4, CycleNumber.of(2), eur("50.00"), now));
+        assertThat(jackpot.currentPool()).isEqualTo(eur("50.00"));
+        assertThat(jackpot.currentCycle()).isEqualTo(CycleNumber.of(2));
+    }
+
+    @Test
+    void givenEventOfOtherJackpot_whenApply_thenThrowException() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        Jackpot jackpot = new Jackpot(jackpotId(), currentCycle(), eur("50.00"), eur("50.00"), calc, evaluator);
+
+        assertThatThrownBy(() -> jackpot.apply(new ContributionApplied(jackpotId(), 1, currentCycle(), betId(), eur("2.50"), Instant.now())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("event belongs to another jackpot");
+    }
+
+    @Test
+    void whenRestore_thenCycleAndPoolOfSnapshot() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        JackpotId id = jackpotId();
+        Jackpot jackpot = new Jackpot(id, currentCycle(), eur("50.00"), eur("50.00"), calc, evaluator);
+
+        jackpot.restore(new JackpotSnapshot(id, 100, CycleNumber.of(3), eur("78.40"), Instant.now()));
+
+        assertThat(jackpot.currentCycle()).isEqualTo(CycleNumber.of(3));
+        assertThat(jackpot.currentPool()).isEqualTo(eur("78.40"));
+        assertThat(jackpot.initialPool()).isEqualTo(eur("50.00"));
+    }
+
+    @Test
+    void givenCurrencyMismatch_whenRestore_thenThrowException() {
+        ContributionCalculator calc = mock(ContributionCalculator.class);
+        RewardEvaluator evaluator = mock(RewardEvaluator.class);
+
+        JackpotId id = jackpotId();
+        Jackpot jackpot = new Jackpot(id, currentCycle(), eur("50.00"), eur("50.00"), calc, evaluator);
+
+        assertThatThrownBy(() -> jackpot.restore(new JackpotSnapshot(id, 100, CycleNumber.of(3), usd("78.40"), Instant.now())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("snapshot pool currency must equal jackpot currency");
+    }
+
     // ------------------------------------------------------------------
     // Fixtures / Helpers
     // ------------------------------------------------------------------
@@ -6,6 +6,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 
 import java.math.BigDecimal;
 import java.util.Currency;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -336,4 +337,100 @@ class MoneyTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Currencies must be equal");
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "[{index}] given {0} × {1}% → {2}")
+    @CsvSource(
+            useHeadersInDisplayName = true,
+            textBlock = """
+                    AMOUNT,   PERCENT,   EXPECTED
+                    10.00,    5,         0.50
+                    0.10,     5,         0.01
+                    0.09,     5,         0.00
+                    105.00,   7.5,       7.88
+                    33.33,    33.333333, 11.11
+                    1.00,     0.000001,  0.00
+                    -0.10,    5,         -0.01
+                    -105.00,  7.5,       -7.88
+                    """
+    )
+    void givenPercentage_whenShare_thenSameAsTimesFractionalValue(String amount, String percent, String expected) {
+        Money m = Money.of(amount, "EUR");
+        Percentage p = Percentage.of(percent);
+
+        assertThat(m.share(p))
+                .isEqualTo(Money.of(expected, "EUR"))
+                .isEqualTo(m.times(p.fractionalValue()));
+    }
+
+    @Test
+    void givenRandomAmountsAndPercentages_whenShare_thenSameAsTimesFractionalValue() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            Money m = Money.ofMinor(random.nextLong(-10_000_000_000L, 10_000_000_000L), Currency.getInstance("EUR"));
+            Percentage p = Percentage.of(BigDecimal.valueOf(random.nextLong(0, 10_000_000_001L), 8));
+
+            assertThat(m.share(p)).isEqualTo(m.times(p.fractionalValue()));
+        }
+    }
+
+    @Test
+    void givenAmountOverflowingMinorUnitProduct_whenShare_thenFallsBackToExactResult() {
+        Money m = Money.ofMinor(Long.MAX_VALUE / 2, Currency.getInstance("EUR"));
+        Percentage p = Percentage.of("12.5");
+
+        assertThat(m.share(p)).isEqualTo(m.times(p.fractionalValue()));
+    }
+
+    @Test
+    void givenFractionalUnits_whenShare_thenSameAsShareOfPercentage() {
+        Money m = Money.of("105.00", "EUR");
+
+        assertThat(m.share(7_500_000L)).isEqualTo(m.share(Percentage.of("7.5")));
+        assertThat(Money.ofMinor(Long.MAX_VALUE / 2, Currency.getInstance("EUR")).share(12_500_000L))
+                .isEqualTo(Money.ofMinor(Long.MAX_VALUE / 2, Currency.getInstance("EUR")).share(Percentage.of("12.5")));
+    }
+
+    @ParameterizedTest(name = "[{index}] fractionalUnits={0} → IllegalArgumentException")
+    @CsvSource({"-1", "100000001"})
+    void givenFractionalUnitsOutOfRange_whenShare_thenThrowException(long fractionalUnits) {
+        Money m = Money.of("1.00", "EUR");
+
+        assertThatThrownBy(() -> m.share(fractionalUnits))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fractionalUnits must be in [0,100000000]");
+    }
+
+    @Test
+    void givenNullPercentage_whenShare_thenThrowException() {
+        Money m = Money.of("1.00", "EUR");
+
+        assertThatThrownBy(() -> m.share(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("percentage must not be null");
+    }
+
+    @Test
+    void givenAmount_whenMinorUnits_thenHundredths() {
+        Money m = Money.of("10.505", "EUR");
+
+        assertThat(m.minorUnits()).isEqualTo(1051L);
+        assertThat(Money.ofMinor(1051L, Currency.getInstance("EUR"))).isEqualTo(m);
+    }
+
+    @Test
+    void givenAmountBeyondMinorUnitRange_whenOf_thenThrowException() {
+        BigDecimal amount = new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE);
+
+        assertThatThrownBy(() -> Money.of(amount, Currency.getInstance("EUR")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("amount out of range");
+    }
+
+    @Test
+    void whenToString_thenAmountAndCurrency() {
+        Money m = Money.of("10.5", "EUR");
+
+        assertThat(m).hasToString("Money(amount=10.50, currency=EUR)");
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.jackpot.domain.reward;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleSupplier;
+import java.util.stream.DoubleStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomNumberGeneratorsTest {
+
+    @Test
+    void whenThreadLocal_thenValuesInUnitInterval() {
+        assertInUnitInterval(RandomNumberGenerators.threadLocal());
+    }
+
+    @Test
+    void whenSecurePool_thenValuesInUnitInterval() {
+        assertInUnitInterval(RandomNumberGenerators.securePool());
+    }
+
+    @Test
+    void whenSeeded_thenValuesInUnitInterval() {
+        assertInUnitInterval(RandomNumberGenerators.seeded(42L));
+    }
+
+    @Test
+    void whenThreadLocal_thenSameSupplierReturned() {
+        assertThat(RandomNumberGenerators.threadLocal()).isSameAs(RandomNumberGenerators.threadLocal());
+    }
+
+    @Test
+    void givenSameSeed_whenSeeded_thenSameSequence() {
+        DoubleSupplier first = RandomNumberGenerators.seeded(42L);
+        DoubleSupplier second = RandomNumberGenerators.seeded(42L);
+
+        assertThat(draw(first, 100)).containsExactlyElementsOf(draw(second, 100));
+    }
+
+    @Test
+    void givenDifferentSeeds_whenSeeded_thenDifferentSequences() {
+        assertThat(draw(RandomNumberGenerators.seeded(1L), 10)).isNotEqualTo(draw(RandomNumberGenerators.seeded(2L), 10));
+    }
+
+    @Test
+    void givenSeveralThreads_whenThreadLocal_thenEachThreadDraws() {
+        DoubleSupplier rng = RandomNumberGenerators.threadLocal();
+
+        List<CompletableFuture<List<Double>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> draw(rng, 1_000)));
+        }
+
+        futures.forEach(f -> assertThat(f.join()).hasSize(1_000).allSatisfy(v -> assertThat(v).isGreaterThanOrEqualTo(0.0).isLessThan(1.0)));
+    }
+
+    private static void assertInUnitInterval(DoubleSupplier rng) {
+        assertThat(DoubleStream.generate(rng).limit(10_000))
+                .allSatisfy(v -> assertThat(v).isGreaterThanOrEqualTo(0.0).isLessThan(1.0));
+    }
+
+    private static List<Double> draw(DoubleSupplier rng, int count) {
+        return DoubleStream.generate(rng).limit(count).boxed().toList();
+    }
+}
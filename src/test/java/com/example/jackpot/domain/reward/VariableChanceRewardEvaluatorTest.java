@@ -6,6 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.SplittableRandom;
 import java.util.function.DoubleSupplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -297,6 +300,84 @@ class VariableChanceRewardEvaluatorTest {
         assertThat(result).isFalse();
     }
 
+    // ----------------------------------
+    // Precompiled Form Tests
+    // ----------------------------------
+
+    @Test
+    void givenRandomConfigsAndPools_whenChanceThreshold_thenSameAsDecimalForm() {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            Percentage minPercent = randomPercentage(random, 6);
+            Percentage maxPercent = randomPercentage(random, 6);
+            if (!minPercent.isLessThan(maxPercent)) {
+                continue;
+            }
+
+            long minPoolUnits = 1 + random.nextLong(1_000_000_000_000L);
+            long poolRange = 2 + random.nextLong(pow10(random.nextInt(13)));
+            long currentPoolUnits = minPoolUnits + 1 + random.nextLong(poolRange - 1);
+
+            assertSameThreshold(minPercent, maxPercent, minPoolUnits, minPoolUnits + poolRange, currentPoolUnits);
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] min%={0}, max%={1}, minPool={2}, maxPool={3}, current={4}")
+    @CsvSource(
+            useHeadersInDisplayName = true,
+            textBlock = """
+                    MIN_PERCENT,    MAX_PERCENT,    MIN_POOL,       MAX_POOL,               CURRENT_POOL
+                    # --- one minor unit above min and below max ---
+                    0,              100,            0.01,           0.03,                   0.02
+                    0,              100,            50.00,          100.00,                 50.01
+                    0,              100,            50.00,          100.00,                 99.99
+                    0.000001,       99.999999,      1.00,           10000000.00,            9999999.99
+                    # --- ratio truncated to 10 decimals (1/3, 2/3) ---
+                    1,              2,              0.01,           0.04,                   0.02
+                    1,              2,              0.01,           0.04,                   0.03
+                    # --- percentages with more than 6 decimals: decimal form ---
+                    0.0000001,      33.3333333,     50.00,          100.00,                 66.66
+                    # --- pool offset just below and above the one whose scaled value overflows a long ---
+                    2,              100,            0.01,           90000000000000000.00,   9223372.04
+                    2,              100,            0.01,           90000000000000000.00,   9223372.05
+                    2,              100,            0.01,           90000000000000000.00,   89999999999999999.99
+                    """
+    )
+    void givenEdgeCase_whenChanceThreshold_thenSameAsDecimalForm(String minPercentValue, String maxPercentValue, String minPoolAmount, String maxPoolAmount, String currentPoolAmount) {
+        Percentage minPercent = Percentage.of(minPercentValue);
+        Percentage maxPercent = Percentage.of(maxPercentValue);
+
+        assertSameThreshold(minPercent, maxPercent, Money.of(minPoolAmount, "EUR").minorUnits(),
+                Money.of(maxPoolAmount, "EUR").minorUnits(), Money.of(currentPoolAmount, "EUR").minorUnits());
+    }
+
+    private static void assertSameThreshold(Percentage minPercent, Percentage maxPercent, long minPoolUnits, long maxPoolUnits, long currentPoolUnits) {
+        Currency eur = Currency.getInstance("EUR");
+        VariableChanceRewardEvaluator evaluator = new VariableChanceRewardEvaluator(minPercent, maxPercent,
+                Money.ofMinor(minPoolUnits, eur), Money.ofMinor(maxPoolUnits, eur), () -> 0.5);
+        Money currentPool = Money.ofMinor(currentPoolUnits, eur);
+
+        assertThat(evaluator.chanceThreshold(currentPool))
+                .as("min%%=%s, max%%=%s, minPool=%d, maxPool=%d, current=%d", minPercent.value(), maxPercent.value(),
+                        minPoolUnits, maxPoolUnits, currentPoolUnits)
+                .isEqualTo(evaluator.decimalChanceThreshold(currentPool));
+    }
+
+    private static Percentage randomPercentage(SplittableRandom random, int maxScale) {
+        int scale = random.nextInt(maxScale + 1);
+
+        return Percentage.of(BigDecimal.valueOf(random.nextLong(100 * pow10(scale) + 1), scale));
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
     // ----------------------------------
     // Fixtures
     // ----------------------------------